@@ -0,0 +1,191 @@
+package org.telegram.telegrambots.client.jdk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.media.InputMedia;
+import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMedia;
+import org.telegram.telegrambots.meta.api.objects.stickers.InputSticker;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Builds multipart/form-data bodies for {@link java.net.http.HttpClient}, which has no support for them.
+ * Files are streamed from disk when the body is sent, and input streams are read only once, so requests with them
+ * can't be sent again.
+ */
+public class JdkMultipartBuilder {
+    private static final String CRLF = "\r\n";
+
+    private final String boundary = UUID.randomUUID().toString();
+    private final List<HttpRequest.BodyPublisher> publishers = new ArrayList<>();
+    private final ObjectMapper mapper;
+    private boolean streams = false;
+
+    public JdkMultipartBuilder(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public HttpRequest.BodyPublisher build() {
+        List<HttpRequest.BodyPublisher> body = new ArrayList<>(publishers);
+        body.add(HttpRequest.BodyPublishers.ofString("--" + boundary + "--" + CRLF, StandardCharsets.UTF_8));
+        return HttpRequest.BodyPublishers.concat(body.toArray(new HttpRequest.BodyPublisher[0]));
+    }
+
+    /**
+     * @return True if the body includes input streams, so it can only be sent once
+     */
+    public boolean hasStreams() {
+        return streams;
+    }
+
+    /**
+     * @return Value of the Content-Type header of the body
+     */
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * Add field to the builder if value is not null
+     * @param fieldName the field name to add to the multipart
+     * @param value the nullable value to add
+     * @return the builder
+     */
+    public JdkMultipartBuilder addPart(String fieldName, String value) {
+        if (value != null) {
+            addPart(fieldName, null, null, HttpRequest.BodyPublishers.ofString(value, StandardCharsets.UTF_8));
+        }
+        return this;
+    }
+
+    /**
+     * Add field to the builder if value is not null. The value is converted using toString()
+     * @param fieldName the field name to add to the multipart
+     * @param value the nullable value to add
+     * @return the builder
+     */
+    public JdkMultipartBuilder addPart(String fieldName, Object value) {
+        if (value != null) {
+            this.addPart(fieldName, value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Add field to the builder if value is not null. The value is serialized as json
+     * @param fieldName the field name to add to the multipart
+     * @param value the nullable value to add
+     * @return the builder
+     */
+    public JdkMultipartBuilder addJsonPart(String fieldName, Object value) throws JsonProcessingException {
+        if (value != null) {
+            addPart(fieldName, null, null, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(value)));
+        }
+        return this;
+    }
+
+    public JdkMultipartBuilder addInputFile(String fileField, InputFile file, boolean addField) throws IOException {
+        if (file == null) {
+            return this;
+        }
+
+        if (file.isNew()) {
+            addMediaPart(file.getMediaName(), file.getNewMediaFile(), file.getNewMediaStream());
+        }
+
+        if (addField) {
+            addPart(fileField, file.getAttachName());
+        }
+
+        return this;
+    }
+
+    public JdkMultipartBuilder addMedia(InputMedia media) throws IOException {
+        if (media == null) {
+            return this;
+        }
+
+        if (media.isNewMedia()) {
+            addMediaPart(media.getMediaName(), media.getNewMediaFile(), media.getNewMediaStream());
+        }
+
+        return this;
+    }
+
+    public JdkMultipartBuilder addMedia(InputPaidMedia media) throws IOException {
+        if (media == null) {
+            return this;
+        }
+
+        if (media.isNewMedia()) {
+            addMediaPart(media.getMediaName(), media.getNewMediaFile(), media.getNewMediaStream());
+        }
+
+        return this;
+    }
+
+    public JdkMultipartBuilder addInputStickers(String stickersField, List<InputSticker> stickers) throws IOException {
+        for (InputSticker sticker : stickers) {
+            addInputFile(null, sticker.getSticker(), false);
+        }
+
+        addJsonPart(stickersField, stickers);
+
+        return this;
+    }
+
+    /**
+     * Add the content of a new media, streamed from the file or stream when the body is sent
+     */
+    private void addMediaPart(String mediaName, File mediaFile, InputStream mediaStream) throws FileNotFoundException {
+        HttpRequest.BodyPublisher content = null;
+        if (mediaFile != null) {
+            content = HttpRequest.BodyPublishers.ofFile(mediaFile.toPath());
+        } else if (mediaStream != null) {
+            AtomicBoolean read = new AtomicBoolean(false);
+            streams = true;
+            content = HttpRequest.BodyPublishers.ofInputStream(() -> {
+                if (read.getAndSet(true)) {
+                    throw new IllegalStateException("Stream of " + mediaName + " can't be sent again");
+                }
+                return mediaStream;
+            });
+        }
+        if (content != null) {
+            addPart(mediaName, mediaName, "application/octet-stream", content);
+        }
+    }
+
+    private void addPart(String name, String fileName, String contentType, HttpRequest.BodyPublisher content) {
+        StringBuilder headers = new StringBuilder("--").append(boundary).append(CRLF)
+                .append("Content-Disposition: form-data; name=").append(quote(name));
+        if (fileName != null) {
+            headers.append("; filename=").append(quote(fileName));
+        }
+        headers.append(CRLF);
+        if (contentType != null) {
+            headers.append("Content-Type: ").append(contentType).append(CRLF);
+        }
+        headers.append(CRLF);
+        publishers.add(HttpRequest.BodyPublishers.ofString(headers.toString(), StandardCharsets.UTF_8));
+        publishers.add(content);
+        publishers.add(HttpRequest.BodyPublishers.ofString(CRLF, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Same escaping as browsers and OkHttp do for the names in Content-Disposition
+     */
+    private static String quote(String value) {
+        return '"' + value.replace("\n", "%0A").replace("\r", "%0D").replace("\"", "%22") + '"';
+    }
+}
@@ -0,0 +1,60 @@
+package org.telegram.telegrambots.client.jdk;
+
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+
+import java.net.http.HttpRequest;
+
+/**
+ * Reports the events of a JDK http request to {@link TelegramClientMetrics}.
+ * The JDK client doesn't expose its dispatching nor its connections, so only queueing and completion are reported.
+ */
+final class JdkRequestMetrics {
+    private final TelegramClientMetrics metrics;
+    private final String method;
+    private final long bytesSent;
+    private final long queuedNanos;
+
+    private JdkRequestMetrics(TelegramClientMetrics metrics, String method, long bytesSent) {
+        this.metrics = metrics;
+        this.method = method;
+        this.bytesSent = bytesSent;
+        this.queuedNanos = System.nanoTime();
+    }
+
+    /**
+     * Must be called right before sending the request
+     * @param metrics Metrics to report to, null to not report anything
+     */
+    static JdkRequestMetrics queued(TelegramClientMetrics metrics, HttpRequest request) {
+        if (metrics == null) {
+            return new JdkRequestMetrics(null, null, 0);
+        }
+        // Bodies streamed from an input stream have an unknown length
+        long bytesSent = request.bodyPublisher()
+                .map(HttpRequest.BodyPublisher::contentLength)
+                .filter(length -> length > 0)
+                .orElse(0L);
+        JdkRequestMetrics requestMetrics = new JdkRequestMetrics(metrics, getMethod(request.uri().getPath()), bytesSent);
+        metrics.onRequestQueued(requestMetrics.method);
+        return requestMetrics;
+    }
+
+    /**
+     * @param statusCode Http status of the response, or -1 if the request failed without one
+     */
+    void completed(int statusCode, long bytesReceived) {
+        if (metrics != null) {
+            metrics.onRequestCompleted(method, statusCode, System.nanoTime() - queuedNanos, bytesSent, bytesReceived);
+        }
+    }
+
+    /**
+     * Downloads are reported together, so each file doesn't get its own metrics
+     */
+    private static String getMethod(String path) {
+        if (path.startsWith("/file/")) {
+            return "downloadFile";
+        }
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,890 @@
+package org.telegram.telegrambots.client.jdk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.apache.commons.io.FileUtils;
+import org.telegram.telegrambots.client.AbstractTelegramClient;
+import org.telegram.telegrambots.client.ThrowingConsumer;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.ApiResponseReaders;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto;
+import org.telegram.telegrambots.meta.api.methods.send.SendAnimation;
+import org.telegram.telegrambots.meta.api.methods.send.SendAudio;
+import org.telegram.telegrambots.meta.api.methods.send.SendDocument;
+import org.telegram.telegrambots.meta.api.methods.send.SendMediaBotMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMediaGroup;
+import org.telegram.telegrambots.meta.api.methods.send.SendPaidMedia;
+import org.telegram.telegrambots.meta.api.methods.send.SendPhoto;
+import org.telegram.telegrambots.meta.api.methods.send.SendSticker;
+import org.telegram.telegrambots.meta.api.methods.send.SendVideo;
+import org.telegram.telegrambots.meta.api.methods.send.SendVideoNote;
+import org.telegram.telegrambots.meta.api.methods.send.SendVoice;
+import org.telegram.telegrambots.meta.api.methods.stickers.AddStickerToSet;
+import org.telegram.telegrambots.meta.api.methods.stickers.CreateNewStickerSet;
+import org.telegram.telegrambots.meta.api.methods.stickers.ReplaceStickerInSet;
+import org.telegram.telegrambots.meta.api.methods.stickers.SetStickerSetThumbnail;
+import org.telegram.telegrambots.meta.api.methods.stickers.UploadStickerFile;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageMedia;
+import org.telegram.telegrambots.meta.api.objects.File;
+import org.telegram.telegrambots.meta.api.objects.media.InputMedia;
+import org.telegram.telegrambots.meta.api.objects.media.InputMediaAnimation;
+import org.telegram.telegrambots.meta.api.objects.media.InputMediaAudio;
+import org.telegram.telegrambots.meta.api.objects.media.InputMediaDocument;
+import org.telegram.telegrambots.meta.api.objects.media.InputMediaVideo;
+import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMedia;
+import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMediaVideo;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.client.TelegramUploadCache;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Client based on the {@link HttpClient} of the JDK, using HTTP/2 so all the requests share a single connection.
+ * <p>
+ * Synchronous {@link #execute(BotApiMethod)} sends the request on the calling thread, so bots blocking on it from
+ * virtual threads only park them while waiting for Telegram, without any dispatcher limiting how many requests are
+ * in flight nor threads of the client being held.
+ */
+public class JdkTelegramClient extends AbstractTelegramClient {
+    private final HttpClient client;
+    private final String botToken;
+    private final TelegramUrl telegramUrl;
+    private final ObjectMapper objectMapper;
+    private final ApiResponseReaders responseReaders;
+    private final TelegramClientMetrics metrics;
+    /**
+     * Requests can only skip the async path when no policy has to schedule them
+     */
+    private final boolean sendSynchronously;
+
+    /**
+     * @param options Policies applied to the requests of this client
+     */
+    public JdkTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                             @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                             @NonNull TelegramClientOptions options) {
+        super(options);
+        this.objectMapper = objectMapper;
+        this.responseReaders = new ApiResponseReaders(objectMapper);
+        this.metrics = options.getMetrics();
+        this.client = client;
+        this.botToken = botToken;
+        this.telegramUrl = telegramUrl;
+        this.sendSynchronously = options.getRateLimiter() == null && options.getRetryPolicy() == null &&
+                options.getConcurrencyLimiter() == null;
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     * @param retryPolicy Policy retrying requests rejected with "Too Many Requests", null to not retry them
+     */
+    public JdkTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                             @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                             TelegramRateLimiter rateLimiter, TelegramRetryPolicy retryPolicy) {
+        this(objectMapper, client, botToken, telegramUrl,
+                TelegramClientOptions.builder().rateLimiter(rateLimiter).retryPolicy(retryPolicy).build());
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     */
+    public JdkTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                             @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                             TelegramRateLimiter rateLimiter) {
+        this(objectMapper, client, botToken, telegramUrl, rateLimiter, null);
+    }
+
+    public JdkTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                             @NonNull String botToken, @NonNull TelegramUrl telegramUrl) {
+        this(objectMapper, client, botToken, telegramUrl, TelegramClientOptions.builder().build());
+    }
+
+    public JdkTelegramClient(HttpClient client, String botToken, TelegramUrl telegramUrl) {
+        this(new ObjectMapper(), client, botToken, telegramUrl);
+    }
+
+    public JdkTelegramClient(HttpClient client, String botToken) {
+        this(client, botToken, TelegramUrl.DEFAULT_URL);
+    }
+
+    public JdkTelegramClient(String botToken, TelegramUrl telegramUrl) {
+        this(createHttpClient(), botToken, telegramUrl);
+    }
+
+    public JdkTelegramClient(String botToken) {
+        this(createHttpClient(), botToken);
+    }
+
+    /**
+     * Http/2 client completing async requests on virtual threads when they are available.
+     * Virtual threads are only available from Java 21 while this library targets Java 17,
+     * so the executor is looked up reflectively, keeping the default one of the JDK on older versions.
+     */
+    public static HttpClient createHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2);
+        try {
+            builder.executor((Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException ignored) {
+            // Before Java 21
+        }
+        return builder.build();
+    }
+
+    /**
+     * Sends the request on the calling thread when the client has no rate limiter, retry policy nor concurrency
+     * limiter, waits for the async request otherwise
+     */
+    @Override
+    public <T extends Serializable, Method extends BotApiMethod<T>> T execute(Method method) throws TelegramApiException {
+        if (!sendSynchronously) {
+            return super.execute(method);
+        }
+        if (method == null) {
+            throw new TelegramApiException("Parameter method can not be null");
+        }
+        method.validate();
+
+        return sendRequestSync(method, buildJsonRequest(method));
+    }
+
+    @Override
+    public <T extends Serializable, Method extends BotApiMethod<T>> CompletableFuture<T> executeAsync(Method method) throws TelegramApiException {
+        if (method == null) {
+            throw new TelegramApiException("Parameter method can not be null");
+        }
+        method.validate();
+
+        return sendRequest(method, buildJsonRequest(method));
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendDocument sendDocument) {
+        return executeMediaMethod(sendDocument, builder -> {
+            builder.addPart(SendDocument.CAPTION_FIELD, sendDocument.getCaption())
+                    .addPart(SendDocument.PARSEMODE_FIELD, sendDocument.getParseMode())
+                    .addPart(SendDocument.DISABLECONTENTTYPEDETECTION_FIELD, sendDocument.getDisableContentTypeDetection())
+                    .addPart(SendDocument.BUSINESS_CONNECTION_ID_FIELD, sendDocument.getBusinessConnectionId())
+                    .addJsonPart(SendDocument.CAPTION_ENTITIES_FIELD, sendDocument.getCaptionEntities());
+
+            if (sendDocument.getThumbnail() != null) {
+                builder.addInputFile(SendDocument.THUMBNAIL_FIELD, sendDocument.getThumbnail(), false);
+                builder.addPart(SendDocument.THUMBNAIL_FIELD, sendDocument.getThumbnail().getAttachName());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendPhoto sendPhoto) {
+        return executeMediaMethod(sendPhoto, builder -> builder
+                .addPart(SendPhoto.CAPTION_FIELD, sendPhoto.getCaption())
+                .addPart(SendPhoto.PARSE_MODE_FIELD, sendPhoto.getParseMode())
+                .addPart(SendPhoto.HAS_SPOILER_FIELD, sendPhoto.getHasSpoiler())
+                .addPart(SendPhoto.BUSINESS_CONNECTION_ID_FIELD, sendPhoto.getBusinessConnectionId())
+                .addPart(SendPhoto.SHOW_CAPTION_ABOVE_MEDIA_FIELD, sendPhoto.getShowCaptionAboveMedia())
+                .addJsonPart(SendPhoto.CAPTION_ENTITIES_FIELD, sendPhoto.getCaptionEntities()));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> executeAsync(SetWebhook setWebhook) {
+        try {
+            assertParamNotNull(setWebhook, "method");
+
+            setWebhook.validate();
+
+            URI url = buildUrl(setWebhook.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(SetWebhook.URL_FIELD, setWebhook.getUrl())
+                    .addPart(SetWebhook.MAX_CONNECTIONS_FIELD, setWebhook.getMaxConnections())
+                    .addJsonPart(SetWebhook.ALLOWED_UPDATES_FIELD, setWebhook.getAllowedUpdates())
+                    .addPart(SetWebhook.IP_ADDRESS_FIELD, setWebhook.getIpAddress())
+                    .addPart(SetWebhook.DROP_PENDING_UPDATES_FIELD, setWebhook.getDropPendingUpdates())
+                    .addPart(SetWebhook.SECRET_TOKEN_FIELD, setWebhook.getSecretToken());
+
+            builder.addInputFile(SetWebhook.CERTIFICATE_FIELD, setWebhook.getCertificate(), true);
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+
+            return sendRequest(setWebhook, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + setWebhook.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendVideo sendVideo) {
+        return executeMediaMethod(sendVideo, builder -> {
+            builder
+                    .addPart(SendVideo.CAPTION_FIELD, sendVideo.getCaption())
+                    .addPart(SendVideo.PARSE_MODE_FIELD, sendVideo.getParseMode())
+                    .addPart(SendVideo.SUPPORTS_STREAMING_FIELD, sendVideo.getSupportsStreaming())
+                    .addPart(SendVideo.DURATION_FIELD, sendVideo.getDuration())
+                    .addPart(SendVideo.WIDTH_FIELD, sendVideo.getWidth())
+                    .addPart(SendVideo.HEIGHT_FIELD, sendVideo.getHeight())
+                    .addPart(SendVideo.HAS_SPOILER_FIELD, sendVideo.getHasSpoiler())
+                    .addPart(SendVideo.BUSINESS_CONNECTION_ID_FIELD, sendVideo.getBusinessConnectionId())
+                    .addPart(SendVideo.SHOW_CAPTION_ABOVE_MEDIA_FIELD, sendVideo.getShowCaptionAboveMedia())
+                    .addJsonPart(SendVideo.CAPTION_ENTITIES_FIELD, sendVideo.getCaptionEntities());
+
+            if (sendVideo.getThumbnail() != null) {
+                builder.addInputFile(SendVideo.THUMBNAIL_FIELD, sendVideo.getThumbnail(), false);
+                builder.addPart(SendVideo.THUMBNAIL_FIELD, sendVideo.getThumbnail().getAttachName());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendVideoNote sendVideoNote) {
+        return executeMediaMethod(sendVideoNote, builder -> {
+            builder
+                    .addPart(SendVideoNote.DURATION_FIELD, sendVideoNote.getDuration())
+                    .addPart(SendVideoNote.LENGTH_FIELD, sendVideoNote.getLength())
+                    .addPart(SendVideoNote.BUSINESS_CONNECTION_ID_FIELD, sendVideoNote.getBusinessConnectionId());
+
+            if (sendVideoNote.getThumbnail() != null) {
+                builder.addInputFile(SendVideoNote.THUMBNAIL_FIELD, sendVideoNote.getThumbnail(), false);
+                builder.addPart(SendVideoNote.THUMBNAIL_FIELD, sendVideoNote.getThumbnail().getAttachName());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendSticker sendSticker) {
+        return executeMediaMethod(
+                sendSticker,
+                builder -> builder
+                        .addPart(SendSticker.EMOJI_FIELD, sendSticker.getEmoji())
+                        .addPart(SendSticker.BUSINESS_CONNECTION_ID_FIELD, sendSticker.getBusinessConnectionId())
+        );
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendAudio sendAudio) {
+        return executeMediaMethod(sendAudio, builder -> {
+            builder
+                    .addPart(SendAudio.PERFORMER_FIELD, sendAudio.getPerformer())
+                    .addPart(SendAudio.TITLE_FIELD, sendAudio.getTitle())
+                    .addPart(SendAudio.DURATION_FIELD, sendAudio.getDuration())
+                    .addPart(SendAudio.CAPTION_FIELD, sendAudio.getCaption())
+                    .addPart(SendAudio.PARSE_MODE_FIELD, sendAudio.getParseMode())
+                    .addPart(SendAudio.BUSINESS_CONNECTION_ID_FIELD, sendAudio.getBusinessConnectionId())
+                    .addJsonPart(SendAudio.CAPTION_ENTITIES_FIELD, sendAudio.getCaptionEntities());
+
+            if (sendAudio.getThumbnail() != null) {
+                builder.addInputFile(SendAudio.THUMBNAIL_FIELD, sendAudio.getThumbnail(), false);
+                builder.addPart(SendAudio.THUMBNAIL_FIELD, sendAudio.getThumbnail().getAttachName());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendVoice sendVoice) {
+        return executeMediaMethod(sendVoice, builder -> builder
+                .addPart(SendVoice.DURATION_FIELD, sendVoice.getDuration())
+                .addPart(SendVoice.CAPTION_FIELD, sendVoice.getCaption())
+                .addPart(SendVoice.PARSE_MODE_FIELD, sendVoice.getParseMode())
+                .addPart(SendVoice.BUSINESS_CONNECTION_ID_FIELD, sendVoice.getBusinessConnectionId())
+                .addPart(SendVoice.SHOW_CAPTION_ABOVE_MEDIA_FIELD, sendVoice.getShowCaptionAboveMedia())
+                .addJsonPart(SendVoice.CAPTION_ENTITIES_FIELD, sendVoice.getCaptionEntities()));
+    }
+
+    @Override
+    public CompletableFuture<List<Message>> executeAsync(SendPaidMedia sendPaidMedia) {
+        try {
+            assertParamNotNull(sendPaidMedia, "sendPaidMedia");
+            sendPaidMedia.validate();
+
+            URI url = buildUrl(sendPaidMedia.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            addPaidInputData(builder, SendPaidMedia.MEDIA_FIELD, sendPaidMedia.getMedia());
+
+            builder.addPart(SendPaidMedia.CHAT_ID_FIELD, sendPaidMedia.getChatId())
+                    .addPart(SendPaidMedia.STAR_COUNT_FIELD, sendPaidMedia.getStarCount())
+                    .addPart(SendPaidMedia.CAPTION_FIELD, sendPaidMedia.getCaption())
+                    .addPart(SendPaidMedia.PARSE_MODE_FIELD, sendPaidMedia.getParseMode())
+                    .addPart(SendPaidMedia.SHOW_CAPTION_ABOVE_MEDIA_FIELD, sendPaidMedia.getShowCaptionAboveMedia())
+                    .addPart(SendPaidMedia.DISABLE_NOTIFICATION_FIELD, sendPaidMedia.getDisableNotification())
+                    .addPart(SendPaidMedia.PROTECT_CONTENT_FIELD, sendPaidMedia.getProtectContent())
+                    .addPart(SendPaidMedia.BUSINESS_CONNECTION_ID_FIELD, sendPaidMedia.getBusinessConnectionId())
+                    .addPart(SendPaidMedia.PAYLOAD_FIELD, sendPaidMedia.getPayload())
+                    .addPart(SendPaidMedia.ALLOW_PAID_BROADCAST_FIELD, sendPaidMedia.getAllowPaidBroadcast())
+                    .addJsonPart(SendPaidMedia.CAPTION_ENTITIES_FIELD, sendPaidMedia.getCaptionEntities())
+                    .addJsonPart(SendPaidMedia.REPLY_MARKUP_FIELD, sendPaidMedia.getReplyMarkup())
+                    .addJsonPart(SendPaidMedia.REPLY_PARAMETERS_FIELD, sendPaidMedia.getReplyParameters());
+
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+
+            //For some reason java is having problem with casting ArrayList to List here
+            return sendRequest(sendPaidMedia, httpPost, !builder.hasStreams()).thenApply(list -> list);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + sendPaidMedia.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<Message>> executeAsync(SendMediaGroup sendMediaGroup) {
+        List<String> uploadKeys = new ArrayList<>();
+        if (sendMediaGroup != null && sendMediaGroup.getMedias() != null) {
+            for (InputMedia media : sendMediaGroup.getMedias()) {
+                uploadKeys.add(getUploadKey(botToken, media));
+            }
+        }
+        return executeWithUploadCache(
+                uploadKeys,
+                cachedFileIds -> executeMediaGroup(sendMediaGroup, cachedFileIds),
+                messages -> messages.stream().map(TelegramUploadCache::getSentFileId).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * @param cachedFileIds File_id to send instead of uploading every media, null for the ones to upload
+     */
+    private CompletableFuture<List<Message>> executeMediaGroup(SendMediaGroup sendMediaGroup, List<String> cachedFileIds) {
+        try {
+            assertParamNotNull(sendMediaGroup, "sendMediaGroup");
+            sendMediaGroup.validate();
+
+            URI url = buildUrl(sendMediaGroup.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            addInputData(builder, SendMediaGroup.MEDIA_FIELD, sendMediaGroup.getMedias(), cachedFileIds);
+
+            builder.addPart(SendMediaGroup.CHAT_ID_FIELD, sendMediaGroup.getChatId())
+                    .addPart(SendMediaGroup.DISABLE_NOTIFICATION_FIELD, sendMediaGroup.getDisableNotification())
+                    .addPart(SendMediaGroup.REPLY_TO_MESSAGE_ID_FIELD, sendMediaGroup.getReplyToMessageId())
+                    .addPart(SendMediaGroup.MESSAGE_THREAD_ID_FIELD, sendMediaGroup.getMessageThreadId())
+                    .addPart(SendMediaGroup.ALLOW_SENDING_WITHOUT_REPLY_FIELD, sendMediaGroup.getAllowSendingWithoutReply())
+                    .addPart(SendMediaGroup.PROTECT_CONTENT_FIELD, sendMediaGroup.getProtectContent())
+                    .addPart(SendMediaGroup.BUSINESS_CONNECTION_ID_FIELD, sendMediaGroup.getBusinessConnectionId())
+                    .addPart(SendMediaGroup.MESSAGE_EFFECT_ID_FIELD, sendMediaGroup.getMessageEffectId())
+                    .addPart(SendMediaGroup.ALLOW_PAID_BROADCAST_FIELD, sendMediaGroup.getAllowSendingWithoutReply())
+                    .addJsonPart(SendMediaGroup.REPLY_MARKUP_FIELD, sendMediaGroup.getReplyMarkup())
+                    .addJsonPart(SendMediaGroup.REPLY_PARAMETERS_FIELD, sendMediaGroup.getReplyParameters());
+
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+
+            //For some reason java is having problem with casting ArrayList to List here
+            return sendRequest(sendMediaGroup, httpPost, !builder.hasStreams()).thenApply(list -> list);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + sendMediaGroup.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Message> executeAsync(SendAnimation sendAnimation) {
+        return executeMediaMethod(sendAnimation, builder -> {
+                    builder.addPart(SendAnimation.DURATION_FIELD, sendAnimation.getDuration())
+                            .addPart(SendAnimation.WIDTH_FIELD, sendAnimation.getWidth())
+                            .addPart(SendAnimation.HEIGHT_FIELD, sendAnimation.getHeight())
+                            .addPart(SendAnimation.CAPTION_FIELD, sendAnimation.getCaption())
+                            .addJsonPart(SendAnimation.CAPTION_ENTITIES_FIELD, sendAnimation.getCaptionEntities())
+                            .addPart(SendAnimation.PARSE_MODE_FIELD, sendAnimation.getParseMode())
+                            .addPart(SendAnimation.HAS_SPOILER_FIELD, sendAnimation.getHasSpoiler())
+                            .addPart(SendAnimation.BUSINESS_CONNECTION_ID_FIELD, sendAnimation.getBusinessConnectionId())
+                            .addPart(SendAnimation.SHOW_CAPTION_ABOVE_MEDIA_FIELD, sendAnimation.getShowCaptionAboveMedia())
+                            .addJsonPart(SendAnimation.REPLY_MARKUP_FIELD, sendAnimation.getReplyMarkup());
+
+                    if (sendAnimation.getThumbnail() != null) {
+                        builder.addInputFile(SendAnimation.THUMBNAIL_FIELD, sendAnimation.getThumbnail(), false);
+                        builder.addPart(SendAnimation.THUMBNAIL_FIELD, sendAnimation.getThumbnail().getAttachName());
+                    }
+                }
+
+        );
+    }
+
+    @Override
+    public CompletableFuture<Boolean> executeAsync(SetChatPhoto setChatPhoto) {
+        try {
+            assertParamNotNull(setChatPhoto, "setChatPhoto");
+            setChatPhoto.validate();
+
+            URI url = buildUrl(setChatPhoto.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(SetChatPhoto.CHATID_FIELD, setChatPhoto.getChatId());
+
+            builder.addInputFile(SetChatPhoto.PHOTO_FIELD, setChatPhoto.getPhoto(), false);
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(setChatPhoto, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + setChatPhoto.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> executeAsync(AddStickerToSet addStickerToSet) {
+        try {
+            assertParamNotNull(addStickerToSet, "addStickerToSet");
+            addStickerToSet.validate();
+
+            URI url = buildUrl(addStickerToSet.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(AddStickerToSet.USERID_FIELD, addStickerToSet.getUserId())
+                    .addPart(AddStickerToSet.NAME_FIELD, addStickerToSet.getName());
+
+            builder.addInputStickers(AddStickerToSet.STICKER_FIELD, Collections.singletonList(addStickerToSet.getSticker()));
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(addStickerToSet, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + addStickerToSet.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> executeAsync(ReplaceStickerInSet replaceStickerInSet) {
+        try {
+            assertParamNotNull(replaceStickerInSet, "replaceStickerInSet");
+            replaceStickerInSet.validate();
+
+            URI url = buildUrl(replaceStickerInSet.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(ReplaceStickerInSet.USERID_FIELD, replaceStickerInSet.getUserId())
+                    .addPart(ReplaceStickerInSet.OLD_STICKER_FIELD, replaceStickerInSet.getOldSticker())
+                    .addPart(ReplaceStickerInSet.NAME_FIELD, replaceStickerInSet.getName());
+
+            builder.addInputStickers(ReplaceStickerInSet.STICKER_FIELD, Collections.singletonList(replaceStickerInSet.getSticker()));
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(replaceStickerInSet, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + replaceStickerInSet.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> executeAsync(SetStickerSetThumbnail setStickerSetThumbnail) {
+        try {
+            assertParamNotNull(setStickerSetThumbnail, "setStickerSetThumbail");
+            setStickerSetThumbnail.validate();
+
+            URI url = buildUrl(setStickerSetThumbnail.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(SetStickerSetThumbnail.USER_ID_FIELD, setStickerSetThumbnail.getUserId())
+                    .addPart(SetStickerSetThumbnail.NAME_FIELD, setStickerSetThumbnail.getName())
+                    .addPart(SetStickerSetThumbnail.FORMAT_FIELD, setStickerSetThumbnail.getFormat())
+                    .addPart(SetStickerSetThumbnail.THUMBNAIL_FIELD, setStickerSetThumbnail.getThumbnail());
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(setStickerSetThumbnail, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> executeAsync(CreateNewStickerSet createNewStickerSet) {
+        try {
+            assertParamNotNull(createNewStickerSet, "createNewStickerSet");
+            createNewStickerSet.validate();
+
+            URI url = buildUrl(createNewStickerSet.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(CreateNewStickerSet.USER_ID_FIELD, createNewStickerSet.getUserId())
+                    .addPart(CreateNewStickerSet.NAME_FIELD, createNewStickerSet.getName())
+                    .addPart(CreateNewStickerSet.TITLE_FIELD, createNewStickerSet.getTitle())
+                    .addPart(CreateNewStickerSet.STICKER_TYPE_FIELD, createNewStickerSet.getStickerType())
+                    .addPart(CreateNewStickerSet.NEEDS_REPAINTING_FIELD, createNewStickerSet.getNeedsRepainting())
+                    .addInputStickers(CreateNewStickerSet.STICKERS_FIELD, createNewStickerSet.getStickers());
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(createNewStickerSet, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + createNewStickerSet.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<File> executeAsync(UploadStickerFile uploadStickerFile) {
+        try {
+            assertParamNotNull(uploadStickerFile, "uploadStickerFile");
+            uploadStickerFile.validate();
+
+            URI url = buildUrl(uploadStickerFile.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder
+                    .addPart(UploadStickerFile.USERID_FIELD, uploadStickerFile.getUserId())
+                    .addPart(UploadStickerFile.STICKER_FORMAT_FIELD, uploadStickerFile.getStickerFormat())
+                    .addInputFile(UploadStickerFile.STICKER_FIELD, uploadStickerFile.getSticker(), true);
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(uploadStickerFile, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + uploadStickerFile.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Serializable> executeAsync(EditMessageMedia editMessageMedia) {
+        try {
+            assertParamNotNull(editMessageMedia, "editMessageMedia");
+            editMessageMedia.validate();
+
+            URI url = buildUrl(editMessageMedia.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            builder.addPart(EditMessageMedia.CHAT_ID_FIELD, editMessageMedia.getChatId())
+                    .addPart(EditMessageMedia.MESSAGE_ID_FIELD, editMessageMedia.getMessageId())
+                    .addPart(EditMessageMedia.INLINE_MESSAGE_ID_FIELD, editMessageMedia.getInlineMessageId())
+                    .addPart(EditMessageMedia.BUSINESS_CONNECTION_ID_FIELD, editMessageMedia.getBusinessConnectionId())
+                    .addJsonPart(EditMessageMedia.REPLY_MARKUP_FIELD, editMessageMedia.getReplyMarkup());
+
+            addInputData(builder, EditMessageMedia.MEDIA_FIELD, editMessageMedia.getMedia(), true);
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+            return sendRequest(editMessageMedia, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + editMessageMedia.getMethod(), e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<java.io.File> downloadFileAsync(File file) {
+        try {
+            java.io.File outputFile = getTempFile();
+            return downloadFileToAsync(file, outputFile.toPath())
+                    .whenComplete((path, exception) -> {
+                        if (exception != null) {
+                            FileUtils.deleteQuietly(outputFile);
+                        }
+                    })
+                    .thenApply(Path::toFile);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadFileAsStreamAsync(File file) {
+        try {
+            if (file == null) {
+                throw new TelegramApiException("Parameter file can not be null");
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(file.getFileUrl(botToken))).GET().build();
+
+            // The live stream of the body is returned, so the download is measured until its headers
+            JdkRequestMetrics requestMetrics = JdkRequestMetrics.queued(metrics, request);
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                    .whenComplete((response, exception) -> requestMetrics.completed(
+                            response == null ? -1 : response.statusCode(),
+                            response == null ? 0 : response.headers().firstValueAsLong("content-length").orElse(0)))
+                    .thenApply(HttpResponse::body);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private HttpRequest buildJsonRequest(BotApiMethod<?> method) throws TelegramApiException {
+        try {
+            // Serialized straight to UTF-8 bytes, without an intermediate string
+            byte[] body = objectMapper.writeValueAsBytes(method);
+            return HttpRequest.newBuilder(buildUrl(method.getMethod()))
+                    .header("charset", StandardCharsets.UTF_8.name())
+                    .header("content-type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new TelegramApiException("Unable to serialize " + method.getMethod() + " method", e);
+        }
+    }
+
+    private HttpRequest buildMultipartRequest(URI url, JdkMultipartBuilder builder) {
+        return HttpRequest.newBuilder(url)
+                .header("content-type", builder.getContentType())
+                .POST(builder.build())
+                .build();
+    }
+
+    private <T extends Serializable, Method extends PartialBotApiMethod<T>> CompletableFuture<T> sendRequest(
+            Method method, HttpRequest request
+    ) {
+        return sendRequest(method, request, true);
+    }
+
+    /**
+     * @param retryable False if the body can't be sent again, like multipart requests uploading streams
+     */
+    private <T extends Serializable, Method extends PartialBotApiMethod<T>> CompletableFuture<T> sendRequest(
+            Method method, HttpRequest request, boolean retryable
+    ) {
+        // Requests are immutable, so the same one is sent again on every retry
+        return executeRequest(method, () -> {
+            JdkRequestMetrics requestMetrics = JdkRequestMetrics.queued(metrics, request);
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, exception) -> requestMetrics.completed(
+                            response == null ? -1 : response.statusCode(),
+                            response == null ? 0 : response.body().length))
+                    .thenApply(response -> {
+                        try {
+                            return method.deserializeResponse(new ByteArrayInputStream(response.body()), responseReaders);
+                        } catch (TelegramApiRequestException e) {
+                            throw new CompletionException(e);
+                        }
+                    });
+        }, retryable);
+    }
+
+    private <T extends Serializable, Method extends PartialBotApiMethod<T>> T sendRequestSync(
+            Method method, HttpRequest request
+    ) throws TelegramApiException {
+        JdkRequestMetrics requestMetrics = JdkRequestMetrics.queued(metrics, request);
+        HttpResponse<byte[]> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            return method.deserializeResponse(new ByteArrayInputStream(response.body()), responseReaders);
+        } catch (IOException e) {
+            throw new TelegramApiException("Unable to execute " + method.getMethod() + " method", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TelegramApiException("Unable to execute " + method.getMethod() + " method", e);
+        } finally {
+            requestMetrics.completed(response == null ? -1 : response.statusCode(), response == null ? 0 : response.body().length);
+        }
+    }
+
+    /**
+     * execute a SendMediaBotMethod and adds the following fields:
+     * <ul>
+     *     <li>chat_id</li>
+     *     <li>chat_id</li>
+     *     <li>message_thread_id</li>
+     *     <li>reply_to_message_id</li>
+     *     <li>disable_notification</li>
+     *     <li>protect_content</li>
+     *     <li>allow_sending_without_reply</li>
+     * </ul>
+     *
+     * @param method the method so execute
+     * @param setup  a lambda to add additional fields to the multipart request
+     */
+    private <T extends Serializable, Method extends SendMediaBotMethod<T>> CompletableFuture<T> executeMediaMethod(
+            Method method,
+            ThrowingConsumer<JdkMultipartBuilder, IOException> setup
+    ) {
+        String uploadKey = method == null ? null : getUploadKey(botToken, method.getFileField(), method.getFile());
+        return executeWithUploadCache(
+                Collections.singletonList(uploadKey),
+                cachedFileIds -> executeMediaMethod(method, setup, cachedFileIds.get(0)),
+                result -> Collections.singletonList(result instanceof Message message ? TelegramUploadCache.getSentFileId(message) : null)
+        );
+    }
+
+    /**
+     * @param cachedFileId File_id to send instead of uploading the file of the method, null to upload it
+     */
+    private <T extends Serializable, Method extends SendMediaBotMethod<T>> CompletableFuture<T> executeMediaMethod(
+            Method method,
+            ThrowingConsumer<JdkMultipartBuilder, IOException> setup,
+            String cachedFileId
+    ) {
+        try {
+            assertParamNotNull(method, "method");
+            assertParamNotNull(setup, "setup");
+
+            method.validate();
+
+            URI url = buildUrl(method.getMethod());
+
+            JdkMultipartBuilder builder = new JdkMultipartBuilder(objectMapper);
+
+            if (cachedFileId == null) {
+                builder.addInputFile(method.getFileField(), method.getFile(), true);
+            } else {
+                builder.addPart(method.getFileField(), cachedFileId);
+            }
+
+            builder.addPart(SendMediaBotMethod.CHAT_ID_FIELD, method.getChatId())
+                    .addPart(SendMediaBotMethod.MESSAGE_THREAD_ID_FIELD, method.getMessageThreadId())
+                    .addPart(SendMediaBotMethod.REPLY_TO_MESSAGE_ID_FIELD, method.getReplyToMessageId())
+                    .addPart(SendMediaBotMethod.DISABLE_NOTIFICATION_FIELD, method.getDisableNotification())
+                    .addPart(SendMediaBotMethod.PROTECT_CONTENT_FIELD, method.getProtectContent())
+                    .addPart(SendMediaBotMethod.ALLOW_SENDING_WITHOUT_REPLY_FIELD, method.getAllowSendingWithoutReply())
+                    .addPart(SendMediaBotMethod.MESSAGE_EFFECT_ID_FIELD, method.getMessageEffectId())
+                    .addPart(SendMediaBotMethod.ALLOW_PAID_BROADCAST_FIELD, method.getAllowPaidBroadcast())
+                    .addJsonPart(SendMediaBotMethod.REPLY_PARAMETERS_FIELD, method.getReplyParameters())
+                    .addJsonPart(SendMediaBotMethod.REPLY_MARKUP_FIELD, method.getReplyMarkup());
+
+            setup.accept(builder);
+
+            HttpRequest httpPost = buildMultipartRequest(url, builder);
+
+            return sendRequest(method, httpPost, !builder.hasStreams());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to execute " + method.getMethod(), e));
+        }
+    }
+
+    @SneakyThrows(URISyntaxException.class)
+    private URI buildUrl(String methodPath) {
+        String path = "/bot" + botToken;
+        if (telegramUrl.isTestServer()) {
+            path += "/test";
+        }
+        path += "/" + methodPath;
+
+        return new URI(telegramUrl.getSchema(), null, telegramUrl.getHost(), telegramUrl.getPort(),
+                path, null, null);
+    }
+
+    private void addInputData(JdkMultipartBuilder builder, String mediaField, InputMedia media, boolean addField) throws IOException {
+        if (media.isNewMedia()) {
+            builder.addMedia(media);
+        }
+
+        if (media instanceof InputMediaAudio audio) {
+            if (audio.getThumbnail() != null) {
+                builder.addInputFile(InputMediaAudio.THUMBNAIL_FIELD,audio.getThumbnail(),  false);
+            }
+        } else if (media instanceof InputMediaDocument document) {
+            if (document.getThumbnail() != null) {
+                builder.addInputFile(InputMediaDocument.THUMBNAIL_FIELD, document.getThumbnail(), false);
+            }
+        } else if (media instanceof InputMediaVideo video) {
+            if (video.getThumbnail() != null) {
+                builder.addInputFile(InputMediaVideo.THUMBNAIL_FIELD, video.getThumbnail(), false);
+            }
+        } else if (media instanceof InputMediaAnimation animation) {
+            if (animation.getThumbnail() != null) {
+                builder.addInputFile(InputMediaAnimation.THUMBNAIL_FIELD, animation.getThumbnail(), false);
+            }
+        }
+
+        if (addField) {
+            builder.addJsonPart(mediaField, media);
+        }
+    }
+
+    private void addInputData(JdkMultipartBuilder builder, String mediaField, InputPaidMedia media, boolean addField) throws IOException {
+        if (media.isNewMedia()) {
+            builder.addMedia(media);
+        }
+
+        if (media instanceof InputPaidMediaVideo document) {
+            if (document.getThumbnail() != null) {
+                builder.addInputFile(InputMediaDocument.THUMBNAIL_FIELD, document.getThumbnail(), false);
+            }
+        }
+
+        if (addField) {
+            builder.addJsonPart(mediaField, media);
+        }
+    }
+
+    private void addPaidInputData(JdkMultipartBuilder builder, String mediaField, List<InputPaidMedia> media) throws IOException {
+        for (InputPaidMedia inputMedia : media) {
+            addInputData(builder, null, inputMedia, false);
+        }
+
+        builder.addJsonPart(mediaField, media);
+    }
+
+    private void addInputData(JdkMultipartBuilder builder, String mediaField, List<InputMedia> media, List<String> cachedFileIds) throws IOException {
+        if (cachedFileIds.stream().allMatch(Objects::isNull)) {
+            for (InputMedia inputMedia : media) {
+                addInputData(builder, null, inputMedia, false);
+            }
+            builder.addJsonPart(mediaField, media);
+            return;
+        }
+
+        // Media sent by file_id is not uploaded, neither its thumbnail which is ignored by Telegram
+        ArrayNode mediaJson = objectMapper.valueToTree(media);
+        for (int i = 0; i < media.size(); i++) {
+            String cachedFileId = i < cachedFileIds.size() ? cachedFileIds.get(i) : null;
+            if (cachedFileId == null) {
+                addInputData(builder, null, media.get(i), false);
+            } else {
+                ObjectNode inputMediaJson = (ObjectNode) mediaJson.get(i);
+                inputMediaJson.put(InputMedia.MEDIA_FIELD, cachedFileId);
+                inputMediaJson.remove(InputMediaDocument.THUMBNAIL_FIELD);
+            }
+        }
+        builder.addJsonPart(mediaField, mediaJson);
+    }
+
+    private void assertParamNotNull(Object param, String paramName) throws TelegramApiException {
+        if (param == null) {
+            throw new TelegramApiException("Parameter " + paramName + " can not be null");
+        }
+    }
+
+    private java.io.File getTempFile() throws TelegramApiException {
+        try {
+            return java.io.File.createTempFile(Long.toString(System.currentTimeMillis()), ".tmp");
+        } catch (IOException e) {
+            throw new TelegramApiException("Error downloading file", e);
+        }
+    }
+}
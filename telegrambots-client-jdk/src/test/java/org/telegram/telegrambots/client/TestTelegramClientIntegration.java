@@ -0,0 +1,281 @@
+package org.telegram.telegrambots.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.client.jdk.JdkTelegramClient;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendAnimation;
+import org.telegram.telegrambots.meta.api.methods.send.SendAudio;
+import org.telegram.telegrambots.meta.api.methods.send.SendDocument;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.send.SendPhoto;
+import org.telegram.telegrambots.meta.api.methods.send.SendVideo;
+import org.telegram.telegrambots.meta.api.methods.send.SendVoice;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestTelegramClientIntegration {
+    private static final String TOKEN = "testToken";
+
+    private MockWebServer webServer;
+    private TelegramUrl telegramUrl;
+
+    JdkTelegramClient client;
+
+    @BeforeEach
+    void setUp() {
+        webServer = new MockWebServer();
+        HttpUrl mockUrl = webServer.url("");
+        telegramUrl = TelegramUrl.builder().schema(mockUrl.scheme()).host(mockUrl.host()).port(mockUrl.port()).build();
+        client = new JdkTelegramClient(TOKEN, telegramUrl);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        webServer.shutdown();
+    }
+
+    @Test
+    void testSendMessage() throws Exception {
+        SendMessage method = new SendMessage("someChatId", "someText");
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+        RecordedRequest request = webServer.takeRequest();
+        assertEquals("/bot" + TOKEN + "/sendmessage", request.getPath());
+        assertTrue(request.getHeader("content-type").startsWith("application/json"));
+        assertTrue(request.getBody().readUtf8().contains("\"text\":\"someText\""));
+    }
+
+    @Test
+    void testSendMessageAsync() throws Exception {
+        SendMessage method = new SendMessage("someChatId", "someText");
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.executeAsync(method).get());
+    }
+
+    @Test
+    void testSendPhoto() throws Exception {
+        SendPhoto method = SendPhoto.builder()
+                .chatId("someChatId")
+                .photo(new InputFile(getTestFile()))
+                .caption("someCaption")
+                .build();
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+        RecordedRequest request = webServer.takeRequest();
+        assertTrue(request.getHeader("content-type").startsWith("multipart/form-data; boundary="));
+        String body = request.getBody().readUtf8();
+        assertTrue(body.contains("name=\"chat_id\"\r\n\r\nsomeChatId\r\n"));
+        assertTrue(body.contains("name=\"caption\"\r\n\r\nsomeCaption\r\n"));
+        assertTrue(body.contains("filename=\"test_file.txt\""));
+    }
+
+    @Test
+    void testSendDocumentFromStream() throws Exception {
+        InputFile document = new InputFile(new ByteArrayInputStream("streamed content".getBytes(StandardCharsets.UTF_8)), "document.txt");
+        SendDocument method = new SendDocument("someChatId", document);
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+        String body = webServer.takeRequest().getBody().readUtf8();
+        assertTrue(body.contains("filename=\"document.txt\"\r\nContent-Type: application/octet-stream\r\n\r\nstreamed content\r\n"));
+        assertTrue(body.contains("name=\"document\"\r\n\r\nattach://document.txt\r\n"));
+    }
+
+    @Test
+    void testStreamUploadsAreNotRetried() {
+        try (TelegramRetryPolicy retryPolicy = new TelegramRetryPolicy()) {
+            JdkTelegramClient retryingClient = new JdkTelegramClient(new ObjectMapper(), HttpClient.newHttpClient(), TOKEN,
+                    telegramUrl, null, retryPolicy);
+            InputFile document = new InputFile(new ByteArrayInputStream("streamed content".getBytes(StandardCharsets.UTF_8)), "document.txt");
+            SendDocument method = new SendDocument("someChatId", document);
+
+            webServer.enqueue(new MockResponse().setResponseCode(429).setBody(
+                    "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 0\",\"parameters\":{\"retry_after\":0}}"));
+
+            // The stream was consumed by the first attempt, so the original error is returned
+            TelegramApiRequestException exception = Assertions.assertThrows(TelegramApiRequestException.class, () -> retryingClient.execute(method));
+            assertEquals(429, exception.getErrorCode());
+            assertEquals(1, webServer.getRequestCount());
+        }
+    }
+
+    @Test
+    void testSendVideo() throws TelegramApiException {
+        SendVideo method = new SendVideo("someChatId", new InputFile(getTestFile()));
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+    }
+
+    @Test
+    void testSendAudio() throws TelegramApiException {
+        SendAudio method = new SendAudio("someChatId", new InputFile(getTestFile()));
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+    }
+
+    @Test
+    void testSendVoice() throws TelegramApiException {
+        SendVoice method = new SendVoice("someChatId", new InputFile(getTestFile()));
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+    }
+
+    @Test
+    void testSendAnimation() throws TelegramApiException {
+        SendAnimation method = new SendAnimation("someChatId", new InputFile(getTestFile()));
+        Message responseMessage = createResponseMessage();
+
+        mockMethod(method, responseMessage);
+
+        assertEquals(responseMessage, client.execute(method));
+    }
+
+    @Test
+    void testSendMessageException() {
+        SendMessage method = new SendMessage("someChatId", "someText");
+
+        mockErrorMethod(method);
+
+        TelegramApiRequestException exception = Assertions.assertThrows(TelegramApiRequestException.class, () -> client.execute(method));
+        assertEquals(404, exception.getErrorCode());
+    }
+
+    @Test
+    void testSendMessageAsyncException() {
+        SendMessage method = new SendMessage("someChatId", "someText");
+
+        mockErrorMethod(method);
+
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> client.executeAsync(method).get());
+        TelegramApiRequestException requestException = assertInstanceOf(TelegramApiRequestException.class, exception.getCause());
+        assertEquals(404, requestException.getErrorCode());
+    }
+
+    @Test
+    void testSendPhotoException() {
+        SendPhoto method = new SendPhoto("someChatId", new InputFile(getTestFile()));
+
+        mockErrorMethod(method);
+
+        TelegramApiRequestException exception = Assertions.assertThrows(TelegramApiRequestException.class, () -> client.execute(method));
+        assertEquals(404, exception.getErrorCode());
+    }
+
+    @Test
+    void testMetricsAreReported() throws TelegramApiException {
+        List<String> events = new CopyOnWriteArrayList<>();
+        TelegramClientMetrics metrics = new TelegramClientMetrics() {
+            @Override
+            public void onRequestQueued(String method) {
+                events.add("queued " + method);
+            }
+
+            @Override
+            public void onRequestCompleted(String method, int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+                events.add("completed " + method + " " + statusCode + " " + (bytesSent > 0) + " " + (bytesReceived > 0));
+            }
+        };
+        client = new JdkTelegramClient(new ObjectMapper(), JdkTelegramClient.createHttpClient(),
+                TOKEN, telegramUrl, TelegramClientOptions.builder().metrics(metrics).build());
+        SendMessage method = new SendMessage("someChatId", "someText");
+
+        mockMethod(method, createResponseMessage());
+
+        client.execute(method);
+        assertEquals(List.of("queued sendmessage", "completed sendmessage 200 true true"), events);
+    }
+
+    private static Message createResponseMessage() {
+        Message responseMessage = new Message();
+        responseMessage.setChat(TestData.GROUP_CHAT);
+        responseMessage.setFrom(TestData.TEST_USER);
+        responseMessage.setText("someText");
+        return responseMessage;
+    }
+
+    @NotNull
+    private File getTestFile() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        return new File(classLoader.getResource("test_file.txt").getFile());
+    }
+
+    <T extends Serializable, Method extends PartialBotApiMethod<T>> void mockMethod(Method method, T result) {
+        webServer.setDispatcher(getDispatcher(method, true, result));
+    }
+
+    private <T extends Serializable, Method extends PartialBotApiMethod<T>> void mockErrorMethod(Method method) {
+        webServer.setDispatcher(getDispatcher(method, false, null));
+    }
+
+    private <T extends Serializable, Method extends PartialBotApiMethod<T>> Dispatcher getDispatcher(Method method, boolean success, T result) {
+        return new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String path = request.getPath();
+                if (path != null && path.endsWith(method.getMethod())) {
+                    String response;
+                    if (success) {
+                        response = new ApiResponseTestBuilder<T>().setOk(true).setResult(result).buildJson();
+                    } else {
+                        response = new ApiResponseTestBuilder<>().setOk(false).setErrorCode(404).setErrorDescription("Method not found").buildJson();
+                    }
+                    return new MockResponse()
+                            .addHeader("Content-Type", "application/json; charset=utf-8")
+                            .setBody(response);
+                }
+                return new MockResponse().setResponseCode(404).setBody(new ApiResponseTestBuilder<>().setOk(false).setErrorCode(404).setErrorDescription("Method not found").buildJson());
+            }
+        };
+    }
+}
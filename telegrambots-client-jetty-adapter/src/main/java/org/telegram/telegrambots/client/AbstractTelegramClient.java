@@ -1,6 +1,8 @@
 package org.telegram.telegrambots.client;
 
+import lombok.NonNull;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto;
 import org.telegram.telegrambots.meta.api.methods.send.SendAnimation;
 import org.telegram.telegrambots.meta.api.methods.send.SendAudio;
@@ -20,19 +22,68 @@ import org.telegram.telegrambots.meta.api.methods.stickers.UploadStickerFile;
 import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
 import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageMedia;
 import org.telegram.telegrambots.meta.api.objects.File;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.media.InputMedia;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramConcurrencyLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.client.TelegramUploadCache;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.generics.TelegramClient;
 
 import java.io.InputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Abstract client implementation which delegates all synchronous methods to the async methods. Preferable for implementations
  */
 public abstract class AbstractTelegramClient implements TelegramClient {
+    private final TelegramRateLimiter rateLimiter;
+    private final TelegramRetryPolicy retryPolicy;
+    private final TelegramConcurrencyLimiter concurrencyLimiter;
+    private final TelegramUploadCache uploadCache;
+
+    protected AbstractTelegramClient() {
+        this(TelegramClientOptions.builder().build());
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     */
+    protected AbstractTelegramClient(TelegramRateLimiter rateLimiter) {
+        this(rateLimiter, null);
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     * @param retryPolicy Policy retrying requests rejected with "Too Many Requests", null to not retry them
+     */
+    protected AbstractTelegramClient(TelegramRateLimiter rateLimiter, TelegramRetryPolicy retryPolicy) {
+        this(TelegramClientOptions.builder().rateLimiter(rateLimiter).retryPolicy(retryPolicy).build());
+    }
+
+    /**
+     * @param options Policies applied to the requests of this client
+     */
+    protected AbstractTelegramClient(@NonNull TelegramClientOptions options) {
+        this.rateLimiter = options.getRateLimiter();
+        this.retryPolicy = options.getRetryPolicy();
+        this.concurrencyLimiter = options.getConcurrencyLimiter();
+        this.uploadCache = options.getUploadCache();
+        if (options.getMetrics() != null) {
+            options.getMetrics().onClientCreated(options);
+        }
+    }
+
     @Override
     public <T extends Serializable, Method extends BotApiMethod<T>> T execute(Method method) throws TelegramApiException {
         try {
@@ -222,6 +273,98 @@ public abstract class AbstractTelegramClient implements TelegramClient {
         }
     }
 
+    /**
+     * Sends a request through the retry policy, the rate limiter and the concurrency limiter of this client, if any.
+     * Every retry goes through the limiters again.
+     *
+     * @param request Sends the request, called again for every retry
+     */
+    protected <T> CompletableFuture<T> executeRequest(PartialBotApiMethod<?> method, Supplier<CompletableFuture<T>> request) {
+        return executeRequest(method, request, true);
+    }
+
+    /**
+     * @param request Sends the request, called again for every retry if it is retryable
+     * @param retryable False if the request can't be sent again, e.g. it uploads a stream, so its first failure is
+     *                  returned instead of going through the retry policy
+     */
+    protected <T> CompletableFuture<T> executeRequest(PartialBotApiMethod<?> method, Supplier<CompletableFuture<T>> request,
+                                                      boolean retryable) {
+        Supplier<CompletableFuture<T>> limitedRequest = concurrencyLimiter == null ?
+                request : () -> concurrencyLimiter.execute(method.getMethod(), request);
+        if (retryPolicy == null || !retryable) {
+            return executeRateLimited(method, limitedRequest);
+        }
+        return retryPolicy.execute(() -> executeRateLimited(method, limitedRequest));
+    }
+
+    /**
+     * Sends a request through the rate limiter of this client, if any
+     */
+    protected <T> CompletableFuture<T> executeRateLimited(PartialBotApiMethod<?> method, Supplier<CompletableFuture<T>> request) {
+        if (rateLimiter == null) {
+            return request.get();
+        }
+        return rateLimiter.execute(method, request);
+    }
+
+    /**
+     * @return Key of the content of a new file in the upload cache of this client, null if there is no cache
+     * or the file can't be cached
+     */
+    protected String getUploadKey(String botToken, String mediaType, InputFile file) {
+        return uploadCache == null ? null : uploadCache.getKey(botToken, mediaType, file);
+    }
+
+    /**
+     * @return Key of the content of a new media in the upload cache of this client, null if there is no cache
+     * or the media can't be cached
+     */
+    protected String getUploadKey(String botToken, InputMedia media) {
+        return uploadCache == null ? null : uploadCache.getKey(botToken, media);
+    }
+
+    /**
+     * Sends a request with new media through the upload cache of this client: media uploaded before is sent by the
+     * file_id Telegram returned for it, and the file_ids of new uploads are remembered.
+     * If Telegram rejects a cached file_id, it is forgotten and the media is uploaded again.
+     *
+     * @param uploadKeys Key of every media of the request, null for the ones that can't be cached
+     * @param request Sends the request given the cached file_id of every media, null for the ones to upload
+     * @param sentFileIds File_ids of the sent media, in the same order
+     */
+    protected <T> CompletableFuture<T> executeWithUploadCache(List<String> uploadKeys,
+                                                             Function<List<String>, CompletableFuture<T>> request,
+                                                             Function<T, List<String>> sentFileIds) {
+        List<String> cachedFileIds = new ArrayList<>(uploadKeys.size());
+        for (String uploadKey : uploadKeys) {
+            cachedFileIds.add(uploadKey == null ? null : uploadCache.getFileId(uploadKey));
+        }
+        if (uploadKeys.stream().allMatch(Objects::isNull)) {
+            return request.apply(cachedFileIds);
+        }
+        return request.apply(cachedFileIds).handle((result, exception) -> {
+            if (exception == null) {
+                List<String> fileIds = sentFileIds.apply(result);
+                for (int i = 0; i < uploadKeys.size() && i < fileIds.size(); i++) {
+                    if (uploadKeys.get(i) != null && cachedFileIds.get(i) == null && fileIds.get(i) != null) {
+                        uploadCache.put(uploadKeys.get(i), fileIds.get(i));
+                    }
+                }
+                return CompletableFuture.completedFuture(result);
+            }
+            if (cachedFileIds.stream().anyMatch(Objects::nonNull) && TelegramUploadCache.isRejectedFileId(exception)) {
+                for (int i = 0; i < uploadKeys.size(); i++) {
+                    if (cachedFileIds.get(i) != null) {
+                        uploadCache.remove(uploadKeys.get(i));
+                    }
+                }
+                return executeWithUploadCache(uploadKeys, request, sentFileIds);
+            }
+            return CompletableFuture.<T>failedFuture(exception);
+        }).thenCompose(Function.identity());
+    }
+
     private TelegramApiException mapException(Exception e, String method) {
         if (e instanceof ExecutionException) {
             if (e.getCause() instanceof TelegramApiException) {
@@ -2,6 +2,7 @@ package org.telegram.telegrambots.client.jetty;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.jetty.client.BytesRequestContent;
 import org.eclipse.jetty.client.InputStreamRequestContent;
 import org.eclipse.jetty.client.MultiPartRequestContent;
 import org.eclipse.jetty.client.PathRequestContent;
@@ -61,14 +62,15 @@ public class JettyMultipartBuilder {
     }
 
     /**
-     * Add field to the builder if value is not null. The value is converted using ObjectMapper.writeValueAsString()
+     * Add field to the builder if value is not null. The value is serialized as json bytes
      * @param fieldName the field name to add to the multipart
      * @param value the nullable value to add
      * @return the builder
      */
     public JettyMultipartBuilder addJsonPart(String fieldName, Object value) throws JsonProcessingException {
         if (value != null) {
-            this.addPart(fieldName, mapper.writeValueAsString(value));
+            multiPart.addPart(new MultiPart.ContentSourcePart(fieldName, null, HttpFields.EMPTY,
+                    new BytesRequestContent("application/json", mapper.writeValueAsBytes(value))));
         }
         return this;
     }
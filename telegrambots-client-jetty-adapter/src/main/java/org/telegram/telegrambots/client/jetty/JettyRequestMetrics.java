@@ -0,0 +1,49 @@
+package org.telegram.telegrambots.client.jetty;
+
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.Response;
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports the events of Jetty requests to {@link TelegramClientMetrics}.
+ * Jetty doesn't tell the connection phases to request listeners, so they are not reported.
+ */
+final class JettyRequestMetrics {
+    private JettyRequestMetrics() {
+    }
+
+    /**
+     * Must be called right before sending the request
+     */
+    static Request listen(Request request, TelegramClientMetrics metrics) {
+        if (metrics == null) {
+            return request;
+        }
+        String method = getMethod(request.getPath());
+        long queuedNanos = System.nanoTime();
+        AtomicLong bytesSent = new AtomicLong();
+        AtomicLong bytesReceived = new AtomicLong();
+        metrics.onRequestQueued(method);
+        return request
+                .onRequestBegin(begun -> metrics.onRequestStarted(method, System.nanoTime() - queuedNanos))
+                .onRequestContent((sent, content) -> bytesSent.addAndGet(content.remaining()))
+                .onResponseContent((response, content) -> bytesReceived.addAndGet(content.remaining()))
+                .onComplete(result -> {
+                    Response response = result.getResponse();
+                    int statusCode = response == null || response.getStatus() <= 0 ? -1 : response.getStatus();
+                    metrics.onRequestCompleted(method, statusCode, System.nanoTime() - queuedNanos, bytesSent.get(), bytesReceived.get());
+                });
+    }
+
+    /**
+     * Downloads are reported together, so each file doesn't get its own metrics
+     */
+    private static String getMethod(String path) {
+        if (path.startsWith("/file/")) {
+            return "downloadFile";
+        }
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -1,17 +1,20 @@
 package org.telegram.telegrambots.client.jetty;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.jetty.client.BytesRequestContent;
 import org.eclipse.jetty.client.CompletableResponseListener;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.InputStreamResponseListener;
 import org.eclipse.jetty.client.Request;
-import org.eclipse.jetty.client.StringRequestContent;
 import org.telegram.telegrambots.client.AbstractTelegramClient;
 import org.telegram.telegrambots.client.ThrowingConsumer;
 import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.ApiResponseReaders;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto;
@@ -42,19 +45,30 @@ import org.telegram.telegrambots.meta.api.objects.media.InputMediaVideo;
 import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMedia;
 import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMediaVideo;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.client.TelegramUploadCache;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * @author Valeriy Kucherenko
@@ -65,15 +79,49 @@ public class JettyTelegramClient extends AbstractTelegramClient {
     private final String botToken;
     private final TelegramUrl telegramUrl;
     private final ObjectMapper objectMapper;
+    private final ApiResponseReaders responseReaders;
+    private final TelegramClientMetrics metrics;
 
+    /**
+     * @param options Policies applied to the requests of this client
+     */
     public JettyTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
-                               @NonNull String botToken, @NonNull TelegramUrl telegramUrl) {
+                               @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                               @NonNull TelegramClientOptions options) {
+        super(options);
         this.objectMapper = objectMapper;
+        this.responseReaders = new ApiResponseReaders(objectMapper);
+        this.metrics = options.getMetrics();
         this.client = client;
         this.botToken = botToken;
         this.telegramUrl = telegramUrl;
     }
 
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     * @param retryPolicy Policy retrying requests rejected with "Too Many Requests", null to not retry them
+     */
+    public JettyTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                               @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                               TelegramRateLimiter rateLimiter, TelegramRetryPolicy retryPolicy) {
+        this(objectMapper, client, botToken, telegramUrl,
+                TelegramClientOptions.builder().rateLimiter(rateLimiter).retryPolicy(retryPolicy).build());
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     */
+    public JettyTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                               @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                               TelegramRateLimiter rateLimiter) {
+        this(objectMapper, client, botToken, telegramUrl, rateLimiter, null);
+    }
+
+    public JettyTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull HttpClient client,
+                               @NonNull String botToken, @NonNull TelegramUrl telegramUrl) {
+        this(objectMapper, client, botToken, telegramUrl, TelegramClientOptions.builder().build());
+    }
+
     public JettyTelegramClient(HttpClient client, String botToken, TelegramUrl telegramUrl) {
         this(new ObjectMapper(), client, botToken, telegramUrl);
     }
@@ -99,14 +147,15 @@ public class JettyTelegramClient extends AbstractTelegramClient {
 
         try {
             URI url = buildUrl(method.getMethod());
-            String body = objectMapper.writeValueAsString(method);
+            // Serialized straight to UTF-8 bytes, without an intermediate string
+            byte[] body = objectMapper.writeValueAsBytes(method);
 
             Request request = client.POST(url)
                     .headers(httpFields -> {
                         httpFields.add("charset", StandardCharsets.UTF_8.name());
                         httpFields.add("content-type", "application/json");
                     })
-                    .body(new StringRequestContent("application/json", body));
+                    .body(new BytesRequestContent("application/json", body));
 
             return sendRequest(method, request);
         } catch (IOException e) {
@@ -288,6 +337,23 @@ public class JettyTelegramClient extends AbstractTelegramClient {
 
     @Override
     public CompletableFuture<List<Message>> executeAsync(SendMediaGroup sendMediaGroup) {
+        List<String> uploadKeys = new ArrayList<>();
+        if (sendMediaGroup != null && sendMediaGroup.getMedias() != null) {
+            for (InputMedia media : sendMediaGroup.getMedias()) {
+                uploadKeys.add(getUploadKey(botToken, media));
+            }
+        }
+        return executeWithUploadCache(
+                uploadKeys,
+                cachedFileIds -> executeMediaGroup(sendMediaGroup, cachedFileIds),
+                messages -> messages.stream().map(TelegramUploadCache::getSentFileId).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * @param cachedFileIds File_id to send instead of uploading every media, null for the ones to upload
+     */
+    private CompletableFuture<List<Message>> executeMediaGroup(SendMediaGroup sendMediaGroup, List<String> cachedFileIds) {
         try {
             assertParamNotNull(sendMediaGroup, "sendMediaGroup");
             sendMediaGroup.validate();
@@ -296,7 +362,7 @@ public class JettyTelegramClient extends AbstractTelegramClient {
 
             JettyMultipartBuilder builder = new JettyMultipartBuilder(objectMapper);
 
-            addInputData(builder, SendMediaGroup.MEDIA_FIELD, sendMediaGroup.getMedias());
+            addInputData(builder, SendMediaGroup.MEDIA_FIELD, sendMediaGroup.getMedias(), cachedFileIds);
 
             builder.addPart(SendMediaGroup.CHAT_ID_FIELD, sendMediaGroup.getChatId())
                     .addPart(SendMediaGroup.DISABLE_NOTIFICATION_FIELD, sendMediaGroup.getDisableNotification())
@@ -518,17 +584,18 @@ public class JettyTelegramClient extends AbstractTelegramClient {
 
     @Override
     public CompletableFuture<java.io.File> downloadFileAsync(File file) {
-        return downloadFileAsStreamAsync(file).thenApply(stream -> {
-            try {
-                java.io.File outputFile = getTempFile();
-                FileUtils.copyInputStreamToFile(stream, outputFile);
-                return outputFile;
-            } catch (IOException e) {
-                throw new RuntimeException("Unable to write file to disk", e);
-            } catch (TelegramApiException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        try {
+            java.io.File outputFile = getTempFile();
+            return downloadFileToAsync(file, outputFile.toPath())
+                    .whenComplete((path, exception) -> {
+                        if (exception != null) {
+                            FileUtils.deleteQuietly(outputFile);
+                        }
+                    })
+                    .thenApply(Path::toFile);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     @Override
@@ -539,7 +606,7 @@ public class JettyTelegramClient extends AbstractTelegramClient {
             }
 
             InputStreamResponseListener listener = new InputStreamResponseListener();
-            client.newRequest(file.getFileUrl(botToken)).send(listener);
+            JettyRequestMetrics.listen(client.newRequest(file.getFileUrl(botToken)), metrics).send(listener);
             return CompletableFuture.completedFuture(listener.getInputStream());
         } catch (TelegramApiException e) {
             return CompletableFuture.failedFuture(e);
@@ -549,16 +616,37 @@ public class JettyTelegramClient extends AbstractTelegramClient {
     private <T extends Serializable, Method extends PartialBotApiMethod<T>> CompletableFuture<T> sendRequest(
             Method method, Request request
     ) {
-        var future = new CompletableResponseListener(request).send();
-        return future.thenApply(response -> {
-            try {
-                return method.deserializeResponse(response.getContentAsString());
-            } catch (TelegramApiRequestException e) {
-                throw new CompletionException(e);
-            }
+        AtomicBoolean sent = new AtomicBoolean(false);
+        return executeRequest(method, () -> {
+            // Jetty requests can't be sent twice, retries send a copy
+            Request attempt = JettyRequestMetrics.listen(sent.getAndSet(true) ? copyRequest(request) : request, metrics);
+            return new CompletableResponseListener(attempt).send().thenApply(response -> {
+                try {
+                    return method.deserializeResponse(new ByteArrayInputStream(response.getContent()), responseReaders);
+                } catch (TelegramApiRequestException e) {
+                    throw new CompletionException(e);
+                }
+            });
         });
     }
 
+    /**
+     * @throws IllegalStateException If the body of the request can't be sent again
+     */
+    private Request copyRequest(Request request) {
+        Request copy = client.newRequest(request.getURI())
+                .method(request.getMethod())
+                .headers(httpFields -> httpFields.add(request.getHeaders()));
+        Request.Content body = request.getBody();
+        if (body != null) {
+            if (!body.rewind()) {
+                throw new IllegalStateException("Body of " + request.getURI() + " can't be sent again");
+            }
+            copy.body(body);
+        }
+        return copy;
+    }
+
     /**
      * execute a SendMediaBotMethod and adds the following fields:
      * <ul>
@@ -577,6 +665,22 @@ public class JettyTelegramClient extends AbstractTelegramClient {
     private <T extends Serializable, Method extends SendMediaBotMethod<T>> CompletableFuture<T> executeMediaMethod(
             Method method,
             ThrowingConsumer<JettyMultipartBuilder, IOException> setup
+    ) {
+        String uploadKey = method == null ? null : getUploadKey(botToken, method.getFileField(), method.getFile());
+        return executeWithUploadCache(
+                Collections.singletonList(uploadKey),
+                cachedFileIds -> executeMediaMethod(method, setup, cachedFileIds.get(0)),
+                result -> Collections.singletonList(result instanceof Message message ? TelegramUploadCache.getSentFileId(message) : null)
+        );
+    }
+
+    /**
+     * @param cachedFileId File_id to send instead of uploading the file of the method, null to upload it
+     */
+    private <T extends Serializable, Method extends SendMediaBotMethod<T>> CompletableFuture<T> executeMediaMethod(
+            Method method,
+            ThrowingConsumer<JettyMultipartBuilder, IOException> setup,
+            String cachedFileId
     ) {
         try {
             assertParamNotNull(method, "method");
@@ -588,7 +692,11 @@ public class JettyTelegramClient extends AbstractTelegramClient {
 
             JettyMultipartBuilder builder = new JettyMultipartBuilder(objectMapper);
 
-            builder.addInputFile(method.getFileField(), method.getFile(), true);
+            if (cachedFileId == null) {
+                builder.addInputFile(method.getFileField(), method.getFile(), true);
+            } else {
+                builder.addPart(method.getFileField(), cachedFileId);
+            }
 
             builder.addPart(SendMediaBotMethod.CHAT_ID_FIELD, method.getChatId())
                     .addPart(SendMediaBotMethod.MESSAGE_THREAD_ID_FIELD, method.getMessageThreadId())
@@ -677,12 +785,28 @@ public class JettyTelegramClient extends AbstractTelegramClient {
         builder.addJsonPart(mediaField, media);
     }
 
-    private void addInputData(JettyMultipartBuilder builder, String mediaField, List<InputMedia> media) throws IOException {
-        for (InputMedia inputMedia : media) {
-            addInputData(builder, null, inputMedia, false);
+    private void addInputData(JettyMultipartBuilder builder, String mediaField, List<InputMedia> media, List<String> cachedFileIds) throws IOException {
+        if (cachedFileIds.stream().allMatch(Objects::isNull)) {
+            for (InputMedia inputMedia : media) {
+                addInputData(builder, null, inputMedia, false);
+            }
+            builder.addJsonPart(mediaField, media);
+            return;
         }
 
-        builder.addJsonPart(mediaField, media);
+        // Media sent by file_id is not uploaded, neither its thumbnail which is ignored by Telegram
+        ArrayNode mediaJson = objectMapper.valueToTree(media);
+        for (int i = 0; i < media.size(); i++) {
+            String cachedFileId = i < cachedFileIds.size() ? cachedFileIds.get(i) : null;
+            if (cachedFileId == null) {
+                addInputData(builder, null, media.get(i), false);
+            } else {
+                ObjectNode inputMediaJson = (ObjectNode) mediaJson.get(i);
+                inputMediaJson.put(InputMedia.MEDIA_FIELD, cachedFileId);
+                inputMediaJson.remove(InputMediaDocument.THUMBNAIL_FIELD);
+            }
+        }
+        builder.addJsonPart(mediaField, mediaJson);
     }
 
     private void assertParamNotNull(Object param, String paramName) throws TelegramApiException {
@@ -0,0 +1,77 @@
+package org.telegram.telegrambots.client;
+
+import lombok.NonNull;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Request body piping a stream straight into the request sink, without buffering it on the heap.
+ * The stream is closed once it is sent.
+ * <p>
+ * The length is known in advance for file and byte array streams, any other stream is sent chunked over HTTP/1.1.
+ * A stream can only be read once, so the body can't be sent again, e.g. on retries.
+ */
+public class InputStreamRequestBody extends RequestBody {
+    private final InputStream stream;
+    private final MediaType mediaType;
+    private final long contentLength;
+    private final AtomicBoolean sent = new AtomicBoolean(false);
+
+    public InputStreamRequestBody(@NonNull InputStream stream, MediaType mediaType) {
+        this.stream = stream;
+        this.mediaType = mediaType;
+        this.contentLength = getRemainingLength(stream);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return mediaType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    @Override
+    public void writeTo(@NonNull BufferedSink sink) throws IOException {
+        if (!sent.compareAndSet(false, true)) {
+            throw new IOException("Stream of the request body was already sent, it can't be sent again");
+        }
+        try (Source source = Okio.source(stream)) {
+            sink.writeAll(source);
+        }
+    }
+
+    /**
+     * @return Bytes left in the stream or -1 if unknown
+     */
+    private static long getRemainingLength(InputStream stream) {
+        try {
+            if (stream instanceof FileInputStream) {
+                FileChannel channel = ((FileInputStream) stream).getChannel();
+                return channel.size() - channel.position();
+            } else if (stream instanceof ByteArrayInputStream) {
+                return stream.available();
+            }
+        } catch (IOException e) {
+            // Send it chunked
+        }
+        return -1;
+    }
+}
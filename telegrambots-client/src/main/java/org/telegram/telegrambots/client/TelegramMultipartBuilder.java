@@ -10,10 +10,14 @@ import org.telegram.telegrambots.meta.api.objects.media.InputMedia;
 import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMedia;
 import org.telegram.telegrambots.meta.api.objects.stickers.InputSticker;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public class TelegramMultipartBuilder {
+    private static final MediaType OCTET_STREAM_MEDIA_TYPE = MediaType.get("application/octet-stream");
+
     public final MultipartBody.Builder internalBuilder = new MultipartBody.Builder().setType(MultipartBody.FORM);
     private final ObjectMapper mapper;
 
@@ -52,14 +56,14 @@ public class TelegramMultipartBuilder {
     }
 
     /**
-     * Add field to the builder if value is not null. The value is converted using ObjectMapper.writeValueAsString()
+     * Add field to the builder if value is not null. The value is serialized as json
      * @param fieldName the field name to add to the multipart
      * @param value the nullable value to add
      * @return the builder
      */
     public TelegramMultipartBuilder addJsonPart(String fieldName, Object value) throws JsonProcessingException {
         if (value != null) {
-            internalBuilder.addFormDataPart(fieldName, mapper.writeValueAsString(value));
+            internalBuilder.addFormDataPart(fieldName, null, RequestBody.create(mapper.writeValueAsBytes(value), (MediaType) null));
         }
         return this;
     }
@@ -70,16 +74,7 @@ public class TelegramMultipartBuilder {
         }
 
         if (file.isNew()) {
-            RequestBody body = null;
-            if (file.getNewMediaFile() != null) {
-                body = RequestBody.create(file.getNewMediaFile(), MediaType.parse("application/octet-stream"));
-            } else if (file.getNewMediaStream() != null) {
-                body = RequestBody.create(file.getNewMediaStream().readAllBytes(), MediaType.parse("application/octet-stream")
-                );
-            }
-            if (body != null) {
-                internalBuilder.addFormDataPart(file.getMediaName(), file.getMediaName(), body);
-            }
+            addMediaPart(file.getMediaName(), file.getNewMediaFile(), file.getNewMediaStream());
         }
 
         if (addField) {
@@ -95,16 +90,7 @@ public class TelegramMultipartBuilder {
         }
 
         if (media.isNewMedia()) {
-            RequestBody body = null;
-            if (media.getNewMediaFile() != null) {
-                body = RequestBody.create(media.getNewMediaFile(), MediaType.parse("application/octet-stream"));
-            } else if (media.getNewMediaStream() != null) {
-                body = RequestBody.create(media.getNewMediaStream().readAllBytes(), MediaType.parse("application/octet-stream")
-                );
-            }
-            if (body != null) {
-                internalBuilder.addFormDataPart(media.getMediaName(), media.getMediaName(), body);
-            }
+            addMediaPart(media.getMediaName(), media.getNewMediaFile(), media.getNewMediaStream());
         }
 
         return this;
@@ -116,16 +102,7 @@ public class TelegramMultipartBuilder {
         }
 
         if (media.isNewMedia()) {
-            RequestBody body = null;
-            if (media.getNewMediaFile() != null) {
-                body = RequestBody.create(media.getNewMediaFile(), MediaType.parse("application/octet-stream"));
-            } else if (media.getNewMediaStream() != null) {
-                body = RequestBody.create(media.getNewMediaStream().readAllBytes(), MediaType.parse("application/octet-stream")
-                );
-            }
-            if (body != null) {
-                internalBuilder.addFormDataPart(media.getMediaName(), media.getMediaName(), body);
-            }
+            addMediaPart(media.getMediaName(), media.getNewMediaFile(), media.getNewMediaStream());
         }
 
         return this;
@@ -140,4 +117,19 @@ public class TelegramMultipartBuilder {
 
         return this;
     }
+
+    /**
+     * Add the content of a new media, streamed from the file or stream when the body is written
+     */
+    private void addMediaPart(String mediaName, File mediaFile, InputStream mediaStream) {
+        RequestBody body = null;
+        if (mediaFile != null) {
+            body = RequestBody.create(mediaFile, OCTET_STREAM_MEDIA_TYPE);
+        } else if (mediaStream != null) {
+            body = new InputStreamRequestBody(mediaStream, OCTET_STREAM_MEDIA_TYPE);
+        }
+        if (body != null) {
+            internalBuilder.addFormDataPart(mediaName, mediaName, body);
+        }
+    }
 }
@@ -0,0 +1,279 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.client.TelegramEndpointPool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Routes the requests sent to any endpoint of a {@link TelegramEndpointPool} across all of them, failing over to
+ * another endpoint when one can't be reached, and hedging slow idempotent requests if enabled in the pool.
+ * <p>
+ * Requests are failed over after a connection failure, and idempotent ones after a timeout or a server error too.
+ * Requests with a one shot body (e.g. uploads streamed from an input stream) are never sent twice.
+ * Requests to hosts outside the pool are left untouched.
+ * <p>
+ * Hedged requests are sent asynchronously on the executor of the client dispatcher, skipping the application
+ * interceptors and event listener, which only see the original request.
+ * <p>
+ * The interceptor must be installed with {@link #install(OkHttpClient, TelegramEndpointPool)}, and the resulting
+ * client shared by the bot client and the long polling session:
+ * <pre>{@code
+ * TelegramEndpointPool pool = new TelegramEndpointPool(List.of(firstLocalServer, secondLocalServer));
+ * OkHttpClient client = OkHttpEndpointPoolInterceptor.install(new OkHttpClient(), pool);
+ * TelegramClient telegramClient = new OkHttpTelegramClient(client, botToken, pool.getEndpoints().get(0));
+ * new TelegramBotsLongPollingApplication(ObjectMapper::new, () -> client)
+ *         .registerBot(botToken, () -> pool.getEndpoints().get(0), new DefaultGetUpdatesGenerator(), updatesConsumer);
+ * }</pre>
+ */
+@Slf4j
+public class OkHttpEndpointPoolInterceptor implements Interceptor {
+    private static final int SERVER_ERROR = 500;
+    private static final long CANCEL_CHECK_MILLIS = 100;
+
+    private final TelegramEndpointPool pool;
+    /**
+     * Client hedged requests are sent with
+     */
+    private volatile OkHttpClient hedgeClient;
+
+    private OkHttpEndpointPoolInterceptor(TelegramEndpointPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return Client sharing the connection pool and dispatcher of the given one, with the interceptor installed
+     */
+    public static OkHttpClient install(@NonNull OkHttpClient client, @NonNull TelegramEndpointPool pool) {
+        OkHttpEndpointPoolInterceptor interceptor = new OkHttpEndpointPoolInterceptor(pool);
+        OkHttpClient.Builder hedgeClient = client.newBuilder()
+                .dispatcher(createHedgeDispatcher(client.dispatcher()))
+                .eventListener(EventListener.NONE);
+        hedgeClient.interceptors().clear();
+        interceptor.hedgeClient = hedgeClient.build();
+        return client.newBuilder().addInterceptor(interceptor).build();
+    }
+
+    /**
+     * Original requests wait for their hedged requests while holding a slot of the client dispatcher,
+     * so these can't be limited by the same dispatcher without risking a deadlock
+     */
+    private static Dispatcher createHedgeDispatcher(Dispatcher dispatcher) {
+        Dispatcher hedgeDispatcher = new Dispatcher(dispatcher.executorService());
+        hedgeDispatcher.setMaxRequests(dispatcher.getMaxRequests());
+        hedgeDispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequestsPerHost());
+        return hedgeDispatcher;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String method = getMethod(request);
+        HttpUrl url = request.url();
+        if (pool.find(url.scheme(), url.host(), url.port()) == null) {
+            return chain.proceed(request);
+        }
+
+        boolean idempotent = "GET".equals(request.method()) || "HEAD".equals(request.method()) || pool.isIdempotent(method);
+        boolean replayable = request.body() == null || !request.body().isOneShot();
+        long hedgeDelayMillis = idempotent && replayable ? pool.getHedgeDelayMillis(method) : -1;
+        Set<TelegramUrl> tried = ConcurrentHashMap.newKeySet();
+        IOException failure = null;
+        TelegramUrl endpoint;
+        while ((endpoint = pool.select(tried)) != null) {
+            tried.add(endpoint);
+            try {
+                Response response = hedgeDelayMillis >= 0 ?
+                        new HedgedRequest(request, method, tried).execute(chain.call(), endpoint, hedgeDelayMillis) :
+                        proceed(chain, request, method, endpoint);
+                if (response.code() < SERVER_ERROR || !idempotent || !replayable || pool.select(tried) == null) {
+                    return response;
+                }
+                log.warn("Telegram endpoint {}:{} returned {} for {}, failing over", endpoint.getHost(), endpoint.getPort(), response.code(), method);
+                response.close();
+            } catch (IOException e) {
+                if (chain.call().isCanceled() || !replayable || !(idempotent || isConnectFailure(e))) {
+                    throw e;
+                }
+                log.warn("Telegram endpoint {}:{} failed for {}, failing over", endpoint.getHost(), endpoint.getPort(), method, e);
+                failure = e;
+            }
+        }
+        throw failure != null ? failure : new IOException("No Telegram endpoint available");
+    }
+
+    private Response proceed(Chain chain, Request request, String method, TelegramUrl endpoint) throws IOException {
+        pool.onRequestStart(endpoint);
+        long start = System.nanoTime();
+        boolean ended = false;
+        try {
+            Response response = chain.proceed(routeTo(request, endpoint));
+            ended = true;
+            pool.onRequestEnd(endpoint, method, System.nanoTime() - start, response.code() < SERVER_ERROR);
+            return response;
+        } catch (IOException e) {
+            if (!chain.call().isCanceled()) {
+                ended = true;
+                pool.onRequestEnd(endpoint, method, System.nanoTime() - start, false);
+            }
+            throw e;
+        } finally {
+            if (!ended) {
+                pool.onRequestCancelled(endpoint);
+            }
+        }
+    }
+
+    private static Request routeTo(Request request, TelegramUrl endpoint) {
+        HttpUrl url = request.url().newBuilder()
+                .scheme(endpoint.getSchema())
+                .host(endpoint.getHost())
+                .port(endpoint.getPort())
+                .build();
+        return request.newBuilder().url(url).build();
+    }
+
+    private static String getMethod(Request request) {
+        List<String> segments = request.url().pathSegments();
+        return segments.get(segments.size() - 1);
+    }
+
+    /**
+     * The request was not sent, so it is safe to send it again even if it is not idempotent
+     */
+    private static boolean isConnectFailure(IOException e) {
+        return e instanceof ConnectException || e instanceof UnknownHostException || e instanceof NoRouteToHostException;
+    }
+
+    /**
+     * Request sent to an endpoint, and to a second one if it takes longer than the hedge delay or fails.
+     * The first response wins and the other request is cancelled.
+     */
+    private class HedgedRequest {
+        private final Request request;
+        private final String method;
+        private final Set<TelegramUrl> tried;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private final List<Call> calls = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Call> winner = new AtomicReference<>();
+        private final AtomicBoolean hedgeStarted = new AtomicBoolean(false);
+        // Primary request and hedge, which may end up not being sent
+        private final AtomicInteger remaining = new AtomicInteger(2);
+        private volatile IOException failure;
+
+        private HedgedRequest(Request request, String method, Set<TelegramUrl> tried) {
+            this.request = request;
+            this.method = method;
+            this.tried = tried;
+        }
+
+        private Response execute(Call call, TelegramUrl endpoint, long hedgeDelayMillis) throws IOException {
+            start(endpoint);
+            CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS).execute(this::startHedge);
+            try {
+                while (true) {
+                    try {
+                        return result.get(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        if (call.isCanceled()) {
+                            cancel();
+                            throw new IOException("Canceled");
+                        }
+                    }
+                }
+            } catch (ExecutionException e) {
+                throw (IOException) e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new InterruptedIOException("Interrupted while waiting for hedged request");
+            } finally {
+                for (Call attempt : calls) {
+                    if (attempt != winner.get()) {
+                        attempt.cancel();
+                    }
+                }
+            }
+        }
+
+        private void start(TelegramUrl endpoint) {
+            Call call = hedgeClient.newCall(routeTo(request, endpoint));
+            calls.add(call);
+            pool.onRequestStart(endpoint);
+            long start = System.nanoTime();
+            call.enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    pool.onRequestEnd(endpoint, method, System.nanoTime() - start, response.code() < SERVER_ERROR);
+                    if (!winner.compareAndSet(null, call) || !result.complete(response)) {
+                        response.close();
+                    }
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    if (call.isCanceled()) {
+                        pool.onRequestCancelled(endpoint);
+                    } else {
+                        pool.onRequestEnd(endpoint, method, System.nanoTime() - start, false);
+                    }
+                    failure = e;
+                    // Don't wait for the hedge delay to try another endpoint
+                    startHedge();
+                    attemptEnded();
+                }
+            });
+        }
+
+        private void startHedge() {
+            if (!hedgeStarted.compareAndSet(false, true)) {
+                return;
+            }
+            TelegramUrl endpoint = result.isDone() ? null : pool.select(tried);
+            if (endpoint == null) {
+                attemptEnded();
+                return;
+            }
+            tried.add(endpoint);
+            start(endpoint);
+        }
+
+        private void attemptEnded() {
+            if (remaining.decrementAndGet() == 0) {
+                result.completeExceptionally(failure != null ? failure : new IOException("No Telegram endpoint available"));
+            }
+        }
+
+        private void cancel() {
+            if (!result.cancel(false) && !result.isCompletedExceptionally()) {
+                result.join().close();
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.ApiResponseReaders;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
@@ -15,9 +16,11 @@ import java.util.concurrent.CompletableFuture;
 
 class OkHttpFutureCallback<T extends Serializable, Method extends PartialBotApiMethod<T>> extends CompletableFuture<T> implements Callback {
     private final Method method;
+    private final ApiResponseReaders responseReaders;
 
-    OkHttpFutureCallback(Method method) {
+    OkHttpFutureCallback(Method method, ApiResponseReaders responseReaders) {
         this.method = method;
+        this.responseReaders = responseReaders;
     }
 
     @Override
@@ -32,7 +35,7 @@ class OkHttpFutureCallback<T extends Serializable, Method extends PartialBotApiM
                 completeExceptionally(new TelegramApiException("Telegram api returned empty response"));
             } else {
                 try {
-                    complete(method.deserializeResponse(body.string()));
+                    complete(method.deserializeResponse(body.byteStream(), responseReaders));
                 } catch (TelegramApiRequestException e) {
                     completeExceptionally(e);
                 }
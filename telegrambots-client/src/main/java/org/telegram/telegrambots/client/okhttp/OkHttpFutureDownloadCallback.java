@@ -5,14 +5,16 @@ import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
-import org.apache.commons.io.IOUtils;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Completes with the live stream of the response body, read from the socket as it is consumed.
+ * Closing the stream releases the connection.
+ */
 class OkHttpFutureDownloadCallback extends CompletableFuture<InputStream> implements Callback {
     @Override
     public void onFailure(@NonNull Call call, @NonNull IOException exception) {
@@ -21,14 +23,13 @@ class OkHttpFutureDownloadCallback extends CompletableFuture<InputStream> implem
 
     @Override
     public void onResponse(@NonNull Call call, @NonNull Response response) {
-        try(ResponseBody body = response.body()) {
-            if (body == null) {
-                completeExceptionally(new TelegramApiException("Telegram api returned empty response"));
-            } else {
-                complete(new ByteArrayInputStream(IOUtils.toByteArray(body.byteStream())));
-            }
-        } catch (Exception e) {
-            completeExceptionally(e);
+        ResponseBody body = response.body();
+        if (body == null) {
+            response.close();
+            completeExceptionally(new TelegramApiException("Telegram api returned empty response"));
+        } else if (!complete(body.byteStream())) {
+            // Nobody will read the stream of a cancelled download
+            body.close();
         }
     }
-}
\ No newline at end of file
+}
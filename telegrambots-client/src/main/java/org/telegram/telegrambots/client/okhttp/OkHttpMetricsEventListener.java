@@ -0,0 +1,237 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * Reports the events of OkHttp calls to {@link TelegramClientMetrics}, forwarding them to the event listener
+ * the client had before
+ */
+class OkHttpMetricsEventListener extends EventListener {
+    private final TelegramClientMetrics metrics;
+    private final EventListener delegate;
+    private final String method;
+
+    private long callStartNanos;
+    private boolean started = false;
+    private long connectStartNanos;
+    private long secureConnectStartNanos;
+    private long secureConnectNanos;
+    private int statusCode = -1;
+    private long bytesSent = 0;
+    private long bytesReceived = 0;
+
+    private OkHttpMetricsEventListener(TelegramClientMetrics metrics, EventListener delegate, Call call) {
+        this.metrics = metrics;
+        this.delegate = delegate;
+        this.method = getMethod(call.request().url());
+    }
+
+    /**
+     * @return Client sharing the connection pool and dispatcher of the given one, reporting to the metrics
+     */
+    static OkHttpClient install(OkHttpClient client, TelegramClientMetrics metrics) {
+        EventListener.Factory delegateFactory = client.eventListenerFactory();
+        return client.newBuilder()
+                .eventListenerFactory(call -> new OkHttpMetricsEventListener(metrics, delegateFactory.create(call), call))
+                .build();
+    }
+
+    /**
+     * Downloads are reported together, so each file doesn't get its own metrics
+     */
+    static String getMethod(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        if (segments.size() > 1 && "file".equals(segments.get(0))) {
+            return "downloadFile";
+        }
+        return segments.get(segments.size() - 1);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStartNanos = System.nanoTime();
+        metrics.onRequestQueued(method);
+        delegate.callStart(call);
+    }
+
+    @Override
+    public void proxySelectStart(Call call, HttpUrl url) {
+        onStarted();
+        delegate.proxySelectStart(call, url);
+    }
+
+    @Override
+    public void proxySelectEnd(Call call, HttpUrl url, List<Proxy> proxies) {
+        delegate.proxySelectEnd(call, url, proxies);
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        delegate.dnsStart(call, domainName);
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        delegate.dnsEnd(call, domainName, inetAddressList);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStartNanos = System.nanoTime();
+        secureConnectNanos = 0;
+        delegate.connectStart(call, inetSocketAddress, proxy);
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStartNanos = System.nanoTime();
+        delegate.secureConnectStart(call);
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        secureConnectNanos = System.nanoTime() - secureConnectStartNanos;
+        delegate.secureConnectEnd(call, handshake);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        metrics.onConnectionOpened(System.nanoTime() - connectStartNanos, secureConnectNanos);
+        delegate.connectEnd(call, inetSocketAddress, proxy, protocol);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        delegate.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        onStarted();
+        delegate.connectionAcquired(call, connection);
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        delegate.connectionReleased(call, connection);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        delegate.requestHeadersStart(call);
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        delegate.requestHeadersEnd(call, request);
+    }
+
+    @Override
+    public void requestBodyStart(Call call) {
+        delegate.requestBodyStart(call);
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        bytesSent += byteCount;
+        delegate.requestBodyEnd(call, byteCount);
+    }
+
+    @Override
+    public void requestFailed(Call call, IOException ioe) {
+        delegate.requestFailed(call, ioe);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        delegate.responseHeadersStart(call);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        statusCode = response.code();
+        delegate.responseHeadersEnd(call, response);
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        delegate.responseBodyStart(call);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        bytesReceived += byteCount;
+        delegate.responseBodyEnd(call, byteCount);
+    }
+
+    @Override
+    public void responseFailed(Call call, IOException ioe) {
+        delegate.responseFailed(call, ioe);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        onCompleted();
+        delegate.callEnd(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        onCompleted();
+        delegate.callFailed(call, ioe);
+    }
+
+    @Override
+    public void canceled(Call call) {
+        delegate.canceled(call);
+    }
+
+    @Override
+    public void satisfactionFailure(Call call, Response response) {
+        delegate.satisfactionFailure(call, response);
+    }
+
+    @Override
+    public void cacheHit(Call call, Response response) {
+        delegate.cacheHit(call, response);
+    }
+
+    @Override
+    public void cacheMiss(Call call) {
+        delegate.cacheMiss(call);
+    }
+
+    @Override
+    public void cacheConditionalHit(Call call, Response cachedResponse) {
+        delegate.cacheConditionalHit(call, cachedResponse);
+    }
+
+    /**
+     * First event once the dispatcher runs the call, either looking for a new connection or reusing one
+     */
+    private void onStarted() {
+        if (!started) {
+            started = true;
+            metrics.onRequestStarted(method, System.nanoTime() - callStartNanos);
+        }
+    }
+
+    private void onCompleted() {
+        metrics.onRequestCompleted(method, statusCode, System.nanoTime() - callStartNanos, bytesSent, bytesReceived);
+    }
+}
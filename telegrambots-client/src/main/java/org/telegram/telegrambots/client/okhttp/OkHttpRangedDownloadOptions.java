@@ -0,0 +1,52 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Chunking of the downloads done by {@link OkHttpRangedDownloader}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OkHttpRangedDownloadOptions {
+    /**
+     * Bytes requested in every range
+     */
+    @Builder.Default
+    private int chunkSize = 8 * 1024 * 1024;
+    /**
+     * Ranges downloaded at the same time.
+     * Requests to the same host are also capped by the dispatcher of the client, 5 by default.
+     */
+    @Builder.Default
+    private int parallelism = 4;
+    /**
+     * Attempts of every range, including the first one
+     */
+    @Builder.Default
+    private int maxAttemptsPerChunk = 3;
+    /**
+     * Delay before the first retry of a range, doubled on every following one
+     */
+    @Builder.Default
+    private long retryDelayMillis = 500;
+
+    public void validate() {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (maxAttemptsPerChunk <= 0) {
+            throw new IllegalArgumentException("Max attempts per chunk must be positive");
+        }
+        if (retryDelayMillis < 0) {
+            throw new IllegalArgumentException("Retry delay can not be negative");
+        }
+    }
+}
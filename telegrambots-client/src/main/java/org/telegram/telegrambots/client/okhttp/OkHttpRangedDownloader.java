@@ -0,0 +1,286 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.telegram.telegrambots.meta.api.objects.File;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Downloads large files with parallel {@code Range} requests over the connection pool of a client, writing every
+ * range straight at its position of a preallocated file. Meant for local Bot API servers, which serve files up to 2 GB,
+ * so the throughput is not capped by a single connection.
+ * <p>
+ * The file is written next to the destination with a {@code .part} suffix and moved once complete.
+ * Ranges are retried independently with an exponential delay, and the completed ones are recorded next to the partial file,
+ * so a download interrupted by a crash resumes with the missing ranges only.
+ */
+@Slf4j
+public class OkHttpRangedDownloader {
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OkHttpTelegramClient telegramClient;
+    private final OkHttpClient client;
+    private final OkHttpRangedDownloadOptions options;
+
+    public OkHttpRangedDownloader(@NonNull OkHttpTelegramClient telegramClient, @NonNull OkHttpRangedDownloadOptions options) {
+        options.validate();
+        this.telegramClient = telegramClient;
+        this.client = telegramClient.client;
+        this.options = options;
+    }
+
+    public OkHttpRangedDownloader(OkHttpTelegramClient telegramClient) {
+        this(telegramClient, OkHttpRangedDownloadOptions.builder().build());
+    }
+
+    public Path download(File file, Path destination) throws TelegramApiException {
+        try {
+            return downloadAsync(file, destination).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TelegramApiException) {
+                throw (TelegramApiException) e.getCause();
+            }
+            throw new TelegramApiException("Unable to download file", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TelegramApiException("Interrupted while downloading file", e);
+        }
+    }
+
+    /**
+     * @param file File to download, its size is requested to the server if unknown
+     * @param destination Path to write the file to, replaced if it already exists
+     * @return The destination path, once the whole file is there
+     */
+    public CompletableFuture<Path> downloadAsync(File file, @NonNull Path destination) {
+        if (file == null || file.getFilePath() == null) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Parameter file can not be null"));
+        }
+        HttpUrl url = telegramClient.buildFileUrl(file.getFilePath());
+        CompletableFuture<Long> fileSize = file.getFileSize() == null ?
+                fetchFileSize(url) : CompletableFuture.completedFuture(file.getFileSize());
+        return fileSize.thenCompose(size -> download(url, size, destination));
+    }
+
+    private CompletableFuture<Path> download(HttpUrl url, long fileSize, Path destination) {
+        Path partialFile = destination.resolveSibling(destination.getFileName() + PARTIAL_SUFFIX);
+        RangedDownload download;
+        try {
+            download = new RangedDownload(url, fileSize, partialFile);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new TelegramApiException("Unable to prepare file " + partialFile, e));
+        }
+        return download.start().thenApply(ignored -> {
+            try {
+                Files.move(partialFile, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                download.state.delete();
+                return destination;
+            } catch (IOException e) {
+                try {
+                    // Kept to move it again on the next attempt
+                    download.state.close();
+                } catch (IOException closeException) {
+                    e.addSuppressed(closeException);
+                }
+                throw new CompletionException(new TelegramApiException("Unable to move downloaded file to " + destination, e));
+            }
+        });
+    }
+
+    private CompletableFuture<Long> fetchFileSize(HttpUrl url) {
+        CompletableFuture<Long> fileSize = new CompletableFuture<>();
+        client.newCall(new Request.Builder().url(url).head().build()).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                fileSize.completeExceptionally(new TelegramApiException("Unable to get size of file", e));
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                try (response) {
+                    String contentLength = response.header("Content-Length");
+                    if (response.isSuccessful() && contentLength != null) {
+                        fileSize.complete(Long.parseLong(contentLength));
+                    } else {
+                        fileSize.completeExceptionally(new TelegramApiException("Unable to get size of file, response code " + response.code()));
+                    }
+                } catch (NumberFormatException e) {
+                    fileSize.completeExceptionally(new TelegramApiException("Unable to get size of file", e));
+                }
+            }
+        });
+        return fileSize;
+    }
+
+    private class RangedDownload {
+        private final HttpUrl url;
+        private final long fileSize;
+        private final FileChannel channel;
+        private final RangedDownloadState state;
+        private final Queue<Integer> pendingChunks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger remainingChunks = new AtomicInteger();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        RangedDownload(HttpUrl url, long fileSize, Path partialFile) throws IOException {
+            this.url = url;
+            this.fileSize = fileSize;
+            this.channel = FileChannel.open(partialFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                this.state = RangedDownloadState.open(partialFile, fileSize, options.getChunkSize(), channel.size() == fileSize);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        CompletableFuture<Void> start() {
+            int chunks = RangedDownloadState.getChunks(fileSize, options.getChunkSize());
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                if (!state.isDone(chunk)) {
+                    pendingChunks.add(chunk);
+                }
+            }
+            remainingChunks.set(pendingChunks.size());
+            try {
+                if (pendingChunks.size() == chunks && channel.size() != fileSize) {
+                    // Preallocate the whole file, ranges are written at their position as they arrive
+                    channel.truncate(0);
+                    if (fileSize > 0) {
+                        channel.write(ByteBuffer.allocate(1), fileSize - 1);
+                    }
+                }
+            } catch (IOException e) {
+                result.completeExceptionally(new TelegramApiException("Unable to preallocate file", e));
+            }
+            if (remainingChunks.get() == 0) {
+                result.complete(null);
+            } else if (chunks > pendingChunks.size()) {
+                log.info("Resuming download of {} with {} of {} ranges missing", url.encodedPath(), pendingChunks.size(), chunks);
+            }
+            for (int i = 0; i < options.getParallelism(); i++) {
+                fetchNextChunk();
+            }
+            return result.whenComplete((ignored, exception) -> {
+                try {
+                    channel.close();
+                    if (exception != null) {
+                        // Kept to resume the download
+                        state.close();
+                    }
+                } catch (IOException e) {
+                    log.warn("Unable to close partial download of {}", url.encodedPath(), e);
+                }
+            });
+        }
+
+        private void fetchNextChunk() {
+            Integer chunk = result.isDone() ? null : pendingChunks.poll();
+            if (chunk != null) {
+                fetchChunk(chunk, 1);
+            }
+        }
+
+        private void fetchChunk(int chunk, int attempt) {
+            long start = (long) chunk * options.getChunkSize();
+            long end = Math.min(start + options.getChunkSize(), fileSize) - 1;
+            Request request = new Request.Builder()
+                    .url(url)
+                    .header("Range", "bytes=" + start + "-" + end)
+                    .get()
+                    .build();
+            client.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                    chunkFailed(chunk, attempt, e);
+                }
+
+                @Override
+                public void onResponse(@NonNull Call call, @NonNull Response response) {
+                    try (response) {
+                        writeChunk(response, start, end);
+                        state.markDone(chunk);
+                    } catch (IOException e) {
+                        chunkFailed(chunk, attempt, e);
+                        return;
+                    }
+                    if (remainingChunks.decrementAndGet() == 0) {
+                        result.complete(null);
+                    } else {
+                        fetchNextChunk();
+                    }
+                }
+            });
+        }
+
+        private void chunkFailed(int chunk, int attempt, IOException exception) {
+            if (result.isDone()) {
+                return;
+            }
+            if (attempt < options.getMaxAttemptsPerChunk()) {
+                long delayMillis = options.getRetryDelayMillis() << Math.min(attempt - 1, 20);
+                log.debug("Retrying range {} of {} in {} millis after attempt {}", chunk, url.encodedPath(), delayMillis, attempt, exception);
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                    if (!result.isDone()) {
+                        fetchChunk(chunk, attempt + 1);
+                    }
+                });
+            } else {
+                result.completeExceptionally(new TelegramApiException("Unable to download range " + chunk + " after " + attempt + " attempts", exception));
+            }
+        }
+
+        private void writeChunk(Response response, long start, long end) throws IOException {
+            // A server ignoring ranges is only fine if the file fits in a single one
+            boolean wholeFile = response.code() == 200 && start == 0 && end == fileSize - 1;
+            if (response.code() != 206 && !wholeFile) {
+                throw new IOException("Unexpected response " + response.code() + " for range " + start + "-" + end);
+            }
+            ResponseBody body = response.body();
+            if (body == null) {
+                throw new IOException("Empty response for range " + start + "-" + end);
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long position = start;
+            try (InputStream input = body.byteStream()) {
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    if (position + read > end + 1) {
+                        throw new IOException("Range " + start + "-" + end + " is longer than requested");
+                    }
+                    ByteBuffer data = ByteBuffer.wrap(buffer, 0, read);
+                    while (data.hasRemaining()) {
+                        position += channel.write(data, position);
+                    }
+                }
+            }
+            if (position != end + 1) {
+                throw new IOException("Range " + start + "-" + end + " ended at " + position);
+            }
+            channel.force(false);
+        }
+    }
+}
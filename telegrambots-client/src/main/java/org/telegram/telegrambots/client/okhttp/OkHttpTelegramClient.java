@@ -1,10 +1,14 @@
 package org.telegram.telegrambots.client.okhttp;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.NonNull;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
+import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -13,6 +17,7 @@ import org.telegram.telegrambots.client.AbstractTelegramClient;
 import org.telegram.telegrambots.client.TelegramMultipartBuilder;
 import org.telegram.telegrambots.client.ThrowingConsumer;
 import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.ApiResponseReaders;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto;
@@ -43,29 +48,78 @@ import org.telegram.telegrambots.meta.api.objects.media.InputMediaVideo;
 import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMedia;
 import org.telegram.telegrambots.meta.api.objects.media.paid.InputPaidMediaVideo;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramEndpointPool;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.client.TelegramUploadCache;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 public class OkHttpTelegramClient extends AbstractTelegramClient {
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
     final OkHttpClient client;
     private final String botToken;
     private final TelegramUrl telegramUrl;
     private final ObjectMapper objectMapper;
+    private final ApiResponseReaders responseReaders;
 
-    public OkHttpTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull OkHttpClient client, @NonNull String botToken, @NonNull TelegramUrl telegramUrl) {
+    /**
+     * @param options Policies applied to the requests of this client
+     */
+    public OkHttpTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull OkHttpClient client, @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                                @NonNull TelegramClientOptions options) {
+        super(options);
         this.objectMapper = objectMapper;
-        this.client = client;
+        this.responseReaders = new ApiResponseReaders(objectMapper);
+        this.client = options.getMetrics() == null ? client : OkHttpMetricsEventListener.install(client, options.getMetrics());
         this.botToken = botToken;
         this.telegramUrl = telegramUrl;
     }
 
+    /**
+     * @param endpointPool Servers the requests are spread over, by an {@link OkHttpEndpointPoolInterceptor}
+     *                     installed in the client
+     * @param options Policies applied to the requests of this client
+     */
+    public OkHttpTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull OkHttpClient client, @NonNull String botToken,
+                                @NonNull TelegramEndpointPool endpointPool, @NonNull TelegramClientOptions options) {
+        this(objectMapper, OkHttpEndpointPoolInterceptor.install(client, endpointPool), botToken, endpointPool.getEndpoints().get(0), options);
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     * @param retryPolicy Policy retrying requests rejected with "Too Many Requests", null to not retry them
+     */
+    public OkHttpTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull OkHttpClient client, @NonNull String botToken, @NonNull TelegramUrl telegramUrl,
+                                TelegramRateLimiter rateLimiter, TelegramRetryPolicy retryPolicy) {
+        this(objectMapper, client, botToken, telegramUrl,
+                TelegramClientOptions.builder().rateLimiter(rateLimiter).retryPolicy(retryPolicy).build());
+    }
+
+    /**
+     * @param rateLimiter Limiter scheduling the requests of this client, null to send them right away
+     */
+    public OkHttpTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull OkHttpClient client, @NonNull String botToken, @NonNull TelegramUrl telegramUrl, TelegramRateLimiter rateLimiter) {
+        this(objectMapper, client, botToken, telegramUrl, rateLimiter, null);
+    }
+
+    public OkHttpTelegramClient(@NonNull ObjectMapper objectMapper, @NonNull OkHttpClient client, @NonNull String botToken, @NonNull TelegramUrl telegramUrl) {
+        this(objectMapper, client, botToken, telegramUrl, TelegramClientOptions.builder().build());
+    }
+
     public OkHttpTelegramClient(OkHttpClient client, String botToken, TelegramUrl telegramUrl) {
         this(new ObjectMapper(), client, botToken, telegramUrl);
     }
@@ -78,6 +132,10 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
         this(new OkHttpClient.Builder().build(), botToken, telegramUrl);
     }
 
+    public OkHttpTelegramClient(String botToken, TelegramEndpointPool endpointPool) {
+        this(new ObjectMapper(), new OkHttpClient.Builder().build(), botToken, endpointPool, TelegramClientOptions.builder().build());
+    }
+
     public OkHttpTelegramClient(String botToken) {
         this(new OkHttpClient.Builder().build(), botToken);
     }
@@ -89,21 +147,21 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
         }
         method.validate();
 
-        try {
-            HttpUrl url = buildUrl(method.getMethod());
-            String body = objectMapper.writeValueAsString(method);
-            Headers headers = new Headers.Builder()
-                    .add("charset", StandardCharsets.UTF_8.name())
-                    .add("content-type", "application/json").build();
+        HttpUrl url = buildUrl(method.getMethod());
+        Headers headers = new Headers.Builder()
+                .add("charset", StandardCharsets.UTF_8.name())
+                .add("content-type", "application/json").build();
 
+        try {
+            // Serialized now, so changes to the method while the request waits in the policies are not sent
             Request request = new Request.Builder()
                     .url(url)
                     .headers(headers)
-                    .post(RequestBody.create(body, MediaType.parse("application/json")))
+                    .post(RequestBody.create(objectMapper.writeValueAsBytes(method), JSON_MEDIA_TYPE))
                     .build();
 
             return sendRequest(method, request);
-        } catch (IOException e) {
+        } catch (JsonProcessingException e) {
             throw new TelegramApiException("Unable to execute " + method.getMethod() + " method", e);
         }
     }
@@ -282,6 +340,23 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
 
     @Override
     public CompletableFuture<List<Message>> executeAsync(SendMediaGroup sendMediaGroup) {
+        List<String> uploadKeys = new ArrayList<>();
+        if (sendMediaGroup != null && sendMediaGroup.getMedias() != null) {
+            for (InputMedia media : sendMediaGroup.getMedias()) {
+                uploadKeys.add(getUploadKey(botToken, media));
+            }
+        }
+        return executeWithUploadCache(
+                uploadKeys,
+                cachedFileIds -> executeMediaGroup(sendMediaGroup, cachedFileIds),
+                messages -> messages.stream().map(TelegramUploadCache::getSentFileId).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * @param cachedFileIds File_id to send instead of uploading every media, null for the ones to upload
+     */
+    private CompletableFuture<List<Message>> executeMediaGroup(SendMediaGroup sendMediaGroup, List<String> cachedFileIds) {
         try {
             assertParamNotNull(sendMediaGroup, "sendMediaGroup");
             sendMediaGroup.validate();
@@ -290,7 +365,7 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
 
             TelegramMultipartBuilder builder = new TelegramMultipartBuilder(objectMapper);
 
-            addInputData(builder, SendMediaGroup.MEDIA_FIELD, sendMediaGroup.getMedias());
+            addInputData(builder, SendMediaGroup.MEDIA_FIELD, sendMediaGroup.getMedias(), cachedFileIds);
 
             builder.addPart(SendMediaGroup.CHAT_ID_FIELD, sendMediaGroup.getChatId())
                     .addPart(SendMediaGroup.DISABLE_NOTIFICATION_FIELD, sendMediaGroup.getDisableNotification())
@@ -512,17 +587,18 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
 
     @Override
     public CompletableFuture<java.io.File> downloadFileAsync(File file) {
-        return downloadFileAsStreamAsync(file).thenApply(stream -> {
-            try {
-                java.io.File outputFile = getTempFile();
-                FileUtils.copyInputStreamToFile(stream, outputFile);
-                return outputFile;
-            } catch (IOException e) {
-                throw new RuntimeException("Unable to write file to disk", e);
-            } catch (TelegramApiException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        try {
+            java.io.File outputFile = getTempFile();
+            return downloadFileToAsync(file, outputFile.toPath())
+                    .whenComplete((path, exception) -> {
+                        if (exception != null) {
+                            FileUtils.deleteQuietly(outputFile);
+                        }
+                    })
+                    .thenApply(Path::toFile);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     @Override
@@ -544,13 +620,29 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
         }
     }
 
-    private <T extends Serializable, Method extends PartialBotApiMethod<T>> OkHttpFutureCallback<T, Method> sendRequest(
+    private <T extends Serializable, Method extends PartialBotApiMethod<T>> CompletableFuture<T> sendRequest(
             Method method, Request request
     ) {
-        OkHttpFutureCallback<T, Method> callback = new OkHttpFutureCallback<>(method);
-        client.newCall(request).enqueue(callback);
+        // The same request is enqueued again on every retry, unless its body can only be sent once
+        return executeRequest(method, () -> {
+            OkHttpFutureCallback<T, Method> callback = new OkHttpFutureCallback<>(method, responseReaders);
+            client.newCall(request).enqueue(callback);
 
-        return callback;
+            return callback;
+        }, !isOneShot(request.body()));
+    }
+
+    /**
+     * @return True if the body, or any part of a multipart body, can only be written once, like streamed uploads
+     */
+    private static boolean isOneShot(RequestBody body) {
+        if (body == null) {
+            return false;
+        }
+        if (body instanceof MultipartBody multipartBody) {
+            return multipartBody.parts().stream().anyMatch(part -> part.body().isOneShot());
+        }
+        return body.isOneShot();
     }
 
     /**
@@ -571,6 +663,22 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
     private <T extends Serializable, Method extends SendMediaBotMethod<T>> CompletableFuture<T> executeMediaMethod(
             Method method,
             ThrowingConsumer<TelegramMultipartBuilder, IOException> setup
+    ) {
+        String uploadKey = method == null ? null : getUploadKey(botToken, method.getFileField(), method.getFile());
+        return executeWithUploadCache(
+                Collections.singletonList(uploadKey),
+                cachedFileIds -> executeMediaMethod(method, setup, cachedFileIds.get(0)),
+                result -> Collections.singletonList(result instanceof Message message ? TelegramUploadCache.getSentFileId(message) : null)
+        );
+    }
+
+    /**
+     * @param cachedFileId File_id to send instead of uploading the file of the method, null to upload it
+     */
+    private <T extends Serializable, Method extends SendMediaBotMethod<T>> CompletableFuture<T> executeMediaMethod(
+            Method method,
+            ThrowingConsumer<TelegramMultipartBuilder, IOException> setup,
+            String cachedFileId
     ) {
         try {
             assertParamNotNull(method, "method");
@@ -582,7 +690,11 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
 
             TelegramMultipartBuilder builder = new TelegramMultipartBuilder(objectMapper);
 
-            builder.addInputFile(method.getFileField(), method.getFile(), true);
+            if (cachedFileId == null) {
+                builder.addInputFile(method.getFileField(), method.getFile(), true);
+            } else {
+                builder.addPart(method.getFileField(), cachedFileId);
+            }
 
             builder.addPart(SendMediaBotMethod.CHAT_ID_FIELD, method.getChatId())
                     .addPart(SendMediaBotMethod.MESSAGE_THREAD_ID_FIELD, method.getMessageThreadId())
@@ -607,6 +719,28 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
         }
     }
 
+    /**
+     * Url of a file in the configured server, local Bot API servers serve them too
+     */
+    HttpUrl buildFileUrl(String filePath) {
+        HttpUrl.Builder builder = new HttpUrl
+                .Builder()
+                .scheme(telegramUrl.getSchema())
+                .host(telegramUrl.getHost())
+                .port(telegramUrl.getPort())
+                .addPathSegment("file")
+                .addPathSegment("bot" + botToken);
+
+        if (telegramUrl.isTestServer()) {
+            builder.addPathSegment("test");
+        }
+
+        // Local servers return absolute paths
+        builder.addPathSegments(filePath.startsWith("/") ? filePath.substring(1) : filePath);
+
+        return builder.build();
+    }
+
     private HttpUrl buildUrl(String methodPath) {
         HttpUrl.Builder builder = new HttpUrl
                 .Builder()
@@ -676,12 +810,28 @@ public class OkHttpTelegramClient extends AbstractTelegramClient {
         builder.addJsonPart(mediaField, media);
     }
 
-    private void addInputData(TelegramMultipartBuilder builder, String mediaField, List<InputMedia> media) throws IOException {
-        for (InputMedia inputMedia : media) {
-            addInputData(builder, null, inputMedia, false);
+    private void addInputData(TelegramMultipartBuilder builder, String mediaField, List<InputMedia> media, List<String> cachedFileIds) throws IOException {
+        if (cachedFileIds.stream().allMatch(Objects::isNull)) {
+            for (InputMedia inputMedia : media) {
+                addInputData(builder, null, inputMedia, false);
+            }
+            builder.addJsonPart(mediaField, media);
+            return;
         }
 
-        builder.addJsonPart(mediaField, media);
+        // Media sent by file_id is not uploaded, neither its thumbnail which is ignored by Telegram
+        ArrayNode mediaJson = objectMapper.valueToTree(media);
+        for (int i = 0; i < media.size(); i++) {
+            String cachedFileId = i < cachedFileIds.size() ? cachedFileIds.get(i) : null;
+            if (cachedFileId == null) {
+                addInputData(builder, null, media.get(i), false);
+            } else {
+                ObjectNode inputMediaJson = (ObjectNode) mediaJson.get(i);
+                inputMediaJson.put(InputMedia.MEDIA_FIELD, cachedFileId);
+                inputMediaJson.remove(InputMediaDocument.THUMBNAIL_FIELD);
+            }
+        }
+        builder.addJsonPart(mediaField, mediaJson);
     }
 
     private void assertParamNotNull(Object param, String paramName) throws TelegramApiException {
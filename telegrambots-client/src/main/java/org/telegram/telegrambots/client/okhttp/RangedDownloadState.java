@@ -0,0 +1,88 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Chunks of a ranged download already written to the partial file, recorded in a file next to it:
+ * the file size and the chunk size followed by a byte per chunk, set once the chunk is on disk.
+ */
+class RangedDownloadState implements AutoCloseable {
+    private static final String STATE_SUFFIX = ".chunks";
+    private static final int HEADER_SIZE = 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final BitSet doneChunks;
+
+    private RangedDownloadState(Path path, FileChannel channel, BitSet doneChunks) {
+        this.path = path;
+        this.channel = channel;
+        this.doneChunks = doneChunks;
+    }
+
+    /**
+     * Opens the state of a download, starting from scratch unless it was recorded for the same file and chunk size
+     * @param resumable Whether the partial file is still there with the right size
+     */
+    static RangedDownloadState open(Path partialFile, long fileSize, int chunkSize, boolean resumable) throws IOException {
+        Path path = partialFile.resolveSibling(partialFile.getFileName() + STATE_SUFFIX);
+        int chunks = getChunks(fileSize, chunkSize);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        BitSet doneChunks = new BitSet(chunks);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (resumable && channel.size() == HEADER_SIZE + chunks && channel.read(header, 0) == HEADER_SIZE &&
+                    header.getLong(0) == fileSize && header.getLong(8) == chunkSize) {
+                ByteBuffer chunksDone = ByteBuffer.allocate(chunks);
+                channel.read(chunksDone, HEADER_SIZE);
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    if (chunksDone.get(chunk) != 0) {
+                        doneChunks.set(chunk);
+                    }
+                }
+            } else {
+                channel.truncate(0);
+                header.clear();
+                header.putLong(fileSize).putLong(chunkSize).flip();
+                channel.write(header, 0);
+                channel.write(ByteBuffer.allocate(chunks), HEADER_SIZE);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new RangedDownloadState(path, channel, doneChunks);
+    }
+
+    static int getChunks(long fileSize, int chunkSize) {
+        return (int) ((fileSize + chunkSize - 1) / chunkSize);
+    }
+
+    synchronized boolean isDone(int chunk) {
+        return doneChunks.get(chunk);
+    }
+
+    /**
+     * Must be called once the content of the chunk was forced to disk
+     */
+    synchronized void markDone(int chunk) throws IOException {
+        channel.write(ByteBuffer.wrap(new byte[]{1}), HEADER_SIZE + chunk);
+        doneChunks.set(chunk);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
@@ -3,6 +3,7 @@ package org.telegram.telegrambots.client;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
 
 import java.lang.reflect.Field;
 
@@ -61,6 +62,10 @@ public class ApiResponseTestBuilder<T> {
         return setField(errorDescriptionField, errorDescription);
     }
 
+    public ApiResponseTestBuilder<T> setParameters(ResponseParameters parameters) {
+        return setField(parametersField, parameters);
+    }
+
     private ApiResponseTestBuilder<T> setField(Field field, Object value) {
         try {
             field.set(response, value);
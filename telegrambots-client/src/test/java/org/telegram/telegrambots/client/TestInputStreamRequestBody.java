@@ -0,0 +1,50 @@
+package org.telegram.telegrambots.client;
+
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestInputStreamRequestBody {
+    private static final byte[] CONTENT = "Content of an uploaded file".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testStreamIsWrittenOnlyOnce() throws IOException {
+        InputStreamRequestBody body = new InputStreamRequestBody(new ByteArrayInputStream(CONTENT), null);
+        Buffer buffer = new Buffer();
+
+        body.writeTo(buffer);
+
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), buffer.readUtf8());
+        assertTrue(body.isOneShot());
+        assertThrows(IOException.class, () -> body.writeTo(new Buffer()));
+    }
+
+    @Test
+    public void testContentLengthIsKnownForFilesAndByteArrays() throws IOException {
+        Path file = Files.write(directory.resolve("upload.bin"), CONTENT);
+
+        try (FileInputStream fileStream = new FileInputStream(file.toFile())) {
+            fileStream.skip(8);
+            assertEquals(CONTENT.length - 8, new InputStreamRequestBody(fileStream, null).contentLength());
+        }
+        assertEquals(CONTENT.length, new InputStreamRequestBody(new ByteArrayInputStream(CONTENT), null).contentLength());
+        InputStream bufferedStream = new BufferedInputStream(new ByteArrayInputStream(CONTENT));
+        assertEquals(-1, new InputStreamRequestBody(bufferedStream, null).contentLength());
+    }
+}
@@ -1,15 +1,20 @@
 package org.telegram.telegrambots.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockitoAnnotations;
 import org.telegram.telegrambots.client.okhttp.OkHttpTelegramClient;
 import org.telegram.telegrambots.meta.TelegramUrl;
@@ -23,13 +28,27 @@ import org.telegram.telegrambots.meta.api.methods.send.SendSticker;
 import org.telegram.telegrambots.meta.api.methods.send.SendVideo;
 import org.telegram.telegrambots.meta.api.methods.send.SendVideoNote;
 import org.telegram.telegrambots.meta.api.methods.send.SendVoice;
+import org.telegram.telegrambots.meta.api.objects.Document;
 import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramRetryOptions;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.client.TelegramUploadCache;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -258,6 +277,134 @@ public class TestTelegramClientIntegration {
         assertEquals(404, exception.getErrorCode());
     }
 
+    @Test
+    void testTooManyRequestsIsRetried() throws TelegramApiException {
+        try (TelegramRetryPolicy retryPolicy = new TelegramRetryPolicy()) {
+            OkHttpTelegramClient retryingClient = new OkHttpTelegramClient(new ObjectMapper(), new OkHttpClient(), TOKEN,
+                    getTelegramUrl(), null, retryPolicy);
+            SendMessage method = new SendMessage("someChatId", "someText");
+            Message responseMessage = new Message();
+            responseMessage.setChat(TestData.GROUP_CHAT);
+            responseMessage.setText("someText");
+
+            webServer.enqueue(new MockResponse().setResponseCode(429).setBody(getTooManyRequestsResponse()));
+            webServer.enqueue(new MockResponse().setBody(new ApiResponseTestBuilder<Message>().setOk(true).setResult(responseMessage).buildJson()));
+
+            assertEquals(responseMessage, retryingClient.execute(method));
+            assertEquals(2, webServer.getRequestCount());
+        }
+    }
+
+    @Test
+    void testStreamUploadsAreNotRetried() {
+        try (TelegramRetryPolicy retryPolicy = new TelegramRetryPolicy()) {
+            OkHttpTelegramClient retryingClient = new OkHttpTelegramClient(new ObjectMapper(), new OkHttpClient(), TOKEN,
+                    getTelegramUrl(), null, retryPolicy);
+            SendDocument method = new SendDocument("someChatId",
+                    new InputFile(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)), "document.txt"));
+
+            webServer.enqueue(new MockResponse().setResponseCode(429).setBody(getTooManyRequestsResponse()));
+
+            // The stream was consumed by the first attempt, so the original error is returned
+            TelegramApiRequestException exception = Assertions.assertThrows(TelegramApiRequestException.class, () -> retryingClient.execute(method));
+            assertEquals(429, exception.getErrorCode());
+            assertEquals(1, webServer.getRequestCount());
+        }
+    }
+
+    @Test
+    void testTooManyRequestsFailsAfterMaxAttempts() {
+        try (TelegramRetryPolicy retryPolicy = new TelegramRetryPolicy(TelegramRetryOptions.builder().maxAttempts(2).build())) {
+            OkHttpTelegramClient retryingClient = new OkHttpTelegramClient(new ObjectMapper(), new OkHttpClient(), TOKEN,
+                    getTelegramUrl(), null, retryPolicy);
+            SendMessage method = new SendMessage("someChatId", "someText");
+
+            for (int i = 0; i < 3; i++) {
+                webServer.enqueue(new MockResponse().setResponseCode(429).setBody(getTooManyRequestsResponse()));
+            }
+
+            TelegramApiRequestException exception = Assertions.assertThrows(TelegramApiRequestException.class, () -> retryingClient.execute(method));
+            assertEquals(429, exception.getErrorCode());
+            assertEquals(2, webServer.getRequestCount());
+        }
+    }
+
+    @Test
+    void testDownloadFileToPath(@TempDir Path directory) throws TelegramApiException, IOException, InterruptedException {
+        // File urls always point to api.telegram.org, send them to the mock server instead
+        OkHttpClient redirectingClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                        .url(webServer.url(chain.request().url().encodedPath()))
+                        .build()))
+                .build();
+        OkHttpTelegramClient downloadingClient = new OkHttpTelegramClient(redirectingClient, TOKEN, getTelegramUrl());
+        byte[] content = new byte[1024 * 1024];
+        new Random(42).nextBytes(content);
+        webServer.enqueue(new MockResponse().setBody(new Buffer().write(content)));
+
+        Path destination = directory.resolve("document.bin");
+        assertEquals(destination, downloadingClient.downloadFileTo(
+                new org.telegram.telegrambots.meta.api.objects.File(null, null, null, "documents/file_1.bin"), destination));
+
+        Assertions.assertArrayEquals(content, Files.readAllBytes(destination));
+        assertEquals("/file/bot" + TOKEN + "/documents/file_1.bin", webServer.takeRequest().getPath());
+    }
+
+    @Test
+    void testFailedDownloadKeepsExistingFile(@TempDir Path directory) throws IOException {
+        OkHttpClient redirectingClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                        .url(webServer.url(chain.request().url().encodedPath()))
+                        .build()))
+                .build();
+        OkHttpTelegramClient downloadingClient = new OkHttpTelegramClient(redirectingClient, TOKEN, getTelegramUrl());
+        webServer.enqueue(new MockResponse().setBody(new Buffer().write(new byte[1024 * 1024]))
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+        Path destination = Files.write(directory.resolve("document.bin"), new byte[]{1, 2, 3});
+
+        Assertions.assertThrows(TelegramApiException.class, () -> downloadingClient.downloadFileTo(
+                new org.telegram.telegrambots.meta.api.objects.File(null, null, null, "documents/file_1.bin"), destination));
+
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(destination));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(destination), files.toList());
+        }
+    }
+
+    @Test
+    void testUploadCacheSendsFileIdOfPreviousUpload() throws Exception {
+        TelegramClientOptions options = TelegramClientOptions.builder().uploadCache(new TelegramUploadCache()).build();
+        OkHttpTelegramClient cachingClient = new OkHttpTelegramClient(new ObjectMapper(), new OkHttpClient(), TOKEN,
+                getTelegramUrl(), options);
+        Message responseMessage = new Message();
+        responseMessage.setChat(TestData.GROUP_CHAT);
+        responseMessage.setDocument(Document.builder().fileId("documentFileId").fileUniqueId("documentUniqueId").build());
+        for (int i = 0; i < 2; i++) {
+            webServer.enqueue(new MockResponse().setBody(new ApiResponseTestBuilder<Message>().setOk(true).setResult(responseMessage).buildJson()));
+        }
+
+        cachingClient.execute(new SendDocument("someChatId", new InputFile(getTestFile())));
+        cachingClient.execute(new SendDocument("someChatId", new InputFile(getTestFile())));
+
+        String firstBody = webServer.takeRequest().getBody().readUtf8();
+        String secondBody = webServer.takeRequest().getBody().readUtf8();
+        Assertions.assertTrue(firstBody.contains("filename=\"test_file.txt\""));
+        Assertions.assertFalse(secondBody.contains("filename=\"test_file.txt\""));
+        Assertions.assertTrue(secondBody.contains("documentFileId"));
+    }
+
+    private TelegramUrl getTelegramUrl() {
+        HttpUrl mockUrl = webServer.url("");
+        return TelegramUrl.builder().schema(mockUrl.scheme()).host(mockUrl.host()).port(mockUrl.port()).build();
+    }
+
+    private static String getTooManyRequestsResponse() {
+        ResponseParameters parameters = new ResponseParameters();
+        parameters.setRetryAfter(0);
+        return new ApiResponseTestBuilder<>().setOk(false).setErrorCode(429)
+                .setErrorDescription("Too Many Requests: retry after 0").setParameters(parameters).buildJson();
+    }
+
     @NotNull
     private File getTestFile() {
         ClassLoader classLoader = getClass().getClassLoader();
@@ -0,0 +1,119 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.GetMe;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+import org.telegram.telegrambots.meta.client.TelegramEndpointPool;
+import org.telegram.telegrambots.meta.client.TelegramEndpointPoolOptions;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestOkHttpEndpointPoolInterceptor {
+    private static final String GET_ME_RESPONSE = "{\"ok\":true,\"result\":{\"id\":1,\"is_bot\":true,\"first_name\":\"bot\"}}";
+
+    private MockWebServer firstServer;
+    private MockWebServer secondServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        firstServer = new MockWebServer();
+        firstServer.start();
+        secondServer = new MockWebServer();
+        secondServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        firstServer.shutdown();
+        secondServer.shutdown();
+    }
+
+    @Test
+    public void testUnreachableEndpointIsFailedOver() throws Exception {
+        TelegramEndpointPool pool = createPool(TelegramEndpointPoolOptions.builder().build());
+        firstServer.shutdown();
+        secondServer.enqueue(new MockResponse().setBody(GET_ME_RESPONSE));
+
+        User user = createClient(pool).execute(new GetMe());
+
+        assertEquals(1L, user.getId());
+        assertTrue(pool.isHealthy(pool.getEndpoints().get(1)));
+    }
+
+    @Test
+    public void testOnlyIdempotentMethodsAreFailedOverOnServerErrors() throws Exception {
+        TelegramEndpointPool pool = createPool(TelegramEndpointPoolOptions.builder().build());
+        OkHttpTelegramClient telegramClient = createClient(pool);
+        firstServer.enqueue(new MockResponse().setResponseCode(502));
+        secondServer.enqueue(new MockResponse().setBody(GET_ME_RESPONSE));
+        firstServer.enqueue(new MockResponse().setResponseCode(502));
+
+        assertEquals(1L, telegramClient.execute(new GetMe()).getId());
+        assertThrows(TelegramApiException.class, () -> telegramClient.execute(new SendMessage("1", "text")));
+
+        assertEquals(2, firstServer.getRequestCount());
+        assertEquals(1, secondServer.getRequestCount());
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+        TelegramEndpointPool pool = createPool(TelegramEndpointPoolOptions
+                .builder()
+                .hedging(true)
+                .minLatencySamples(1)
+                .minHedgeDelayMillis(50)
+                .build());
+        AtomicInteger intercepted = new AtomicInteger();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    intercepted.incrementAndGet();
+                    return chain.proceed(chain.request());
+                })
+                .build();
+        OkHttpTelegramClient telegramClient = createClient(client, pool);
+        firstServer.enqueue(new MockResponse().setBody(GET_ME_RESPONSE));
+        assertEquals(1L, telegramClient.execute(new GetMe()).getId());
+
+        firstServer.enqueue(new MockResponse().setBody(GET_ME_RESPONSE).setHeadersDelay(5, TimeUnit.SECONDS));
+        secondServer.enqueue(new MockResponse().setBody(GET_ME_RESPONSE));
+        long start = System.nanoTime();
+        assertEquals(1L, telegramClient.execute(new GetMe()).getId());
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(1, secondServer.getRequestCount());
+        assertEquals(2, intercepted.get());
+    }
+
+    private TelegramEndpointPool createPool(TelegramEndpointPoolOptions options) {
+        return new TelegramEndpointPool(List.of(toTelegramUrl(firstServer), toTelegramUrl(secondServer)), options);
+    }
+
+    private static TelegramUrl toTelegramUrl(MockWebServer server) {
+        return new TelegramUrl("http", server.getHostName(), server.getPort(), false);
+    }
+
+    private static OkHttpTelegramClient createClient(TelegramEndpointPool pool) {
+        return createClient(new OkHttpClient(), pool);
+    }
+
+    private static OkHttpTelegramClient createClient(OkHttpClient client, TelegramEndpointPool pool) {
+        return new OkHttpTelegramClient(new ObjectMapper(), client, "1234567890:token", pool, TelegramClientOptions.builder().build());
+    }
+}
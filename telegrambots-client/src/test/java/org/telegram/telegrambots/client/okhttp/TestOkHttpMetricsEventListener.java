@@ -0,0 +1,80 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.GetMe;
+import org.telegram.telegrambots.meta.client.TelegramClientMetrics;
+import org.telegram.telegrambots.meta.client.TelegramClientOptions;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestOkHttpMetricsEventListener {
+    private static final String GET_ME_RESPONSE = "{\"ok\":true,\"result\":{\"id\":1,\"is_bot\":true,\"first_name\":\"bot\"}}";
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private MockWebServer webServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        webServer = new MockWebServer();
+        webServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        webServer.shutdown();
+    }
+
+    @Test
+    public void testRequestEventsAreReported() throws Exception {
+        OkHttpTelegramClient telegramClient = new OkHttpTelegramClient(new ObjectMapper(), new OkHttpClient(), "1234567890:token",
+                new TelegramUrl("http", webServer.getHostName(), webServer.getPort(), false),
+                TelegramClientOptions.builder().metrics(new RecordingMetrics()).build());
+        webServer.enqueue(new MockResponse().setBody(GET_ME_RESPONSE));
+
+        assertEquals(1L, telegramClient.execute(new GetMe()).getId());
+
+        await().atMost(1, TimeUnit.SECONDS).until(() -> events.size() == 5);
+        assertEquals(List.of("created", "queued getme", "started getme", "connected"), events.subList(0, 4));
+        assertEquals("completed getme 200 " + GET_ME_RESPONSE.length(), events.get(4));
+    }
+
+    private class RecordingMetrics implements TelegramClientMetrics {
+        @Override
+        public void onClientCreated(TelegramClientOptions options) {
+            events.add("created");
+        }
+
+        @Override
+        public void onRequestQueued(String method) {
+            events.add("queued " + method);
+        }
+
+        @Override
+        public void onRequestStarted(String method, long queueNanos) {
+            events.add("started " + method);
+        }
+
+        @Override
+        public void onConnectionOpened(long connectNanos, long secureConnectNanos) {
+            events.add("connected");
+        }
+
+        @Override
+        public void onRequestCompleted(String method, int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+            events.add("completed " + method + " " + statusCode + " " + bytesReceived);
+        }
+    }
+}
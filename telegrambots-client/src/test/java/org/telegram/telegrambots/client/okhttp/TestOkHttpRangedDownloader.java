@@ -0,0 +1,185 @@
+package org.telegram.telegrambots.client.okhttp;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.objects.File;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestOkHttpRangedDownloader {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final byte[] content = new byte[10 * CHUNK_SIZE + 123];
+    private final AtomicInteger rangeRequests = new AtomicInteger();
+    private final Set<Long> failingRanges = ConcurrentHashMap.newKeySet();
+    private final Set<Long> failingOnceRanges = ConcurrentHashMap.newKeySet();
+    private final List<Long> rangeRequestTimes = new CopyOnWriteArrayList<>();
+
+    @TempDir
+    private Path directory;
+
+    private MockWebServer webServer;
+    private OkHttpTelegramClient telegramClient;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        new Random(42).nextBytes(content);
+        webServer = new MockWebServer();
+        webServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String range = request.getHeader("Range");
+                if (range == null) {
+                    return new MockResponse().setBody(new Buffer().write(content));
+                }
+                rangeRequests.incrementAndGet();
+                String[] bounds = range.substring("bytes=".length()).split("-");
+                long start = Long.parseLong(bounds[0]);
+                int end = Integer.parseInt(bounds[1]);
+                if (start == 0) {
+                    rangeRequestTimes.add(System.nanoTime());
+                }
+                if (failingOnceRanges.remove(start)) {
+                    return new MockResponse().setResponseCode(500);
+                }
+                if (failingRanges.contains(start)) {
+                    // Fails after the other ranges in flight were written
+                    return new MockResponse().setResponseCode(500).setHeadersDelay(200, TimeUnit.MILLISECONDS);
+                }
+                return new MockResponse()
+                        .setResponseCode(206)
+                        .addHeader("Content-Range", "bytes " + start + "-" + end + "/" + content.length)
+                        .setBody(new Buffer().write(Arrays.copyOfRange(content, (int) start, end + 1)));
+            }
+        });
+        webServer.start();
+        HttpUrl mockUrl = webServer.url("");
+        TelegramUrl telegramUrl = TelegramUrl.builder().schema(mockUrl.scheme()).host(mockUrl.host()).port(mockUrl.port()).build();
+        telegramClient = new OkHttpTelegramClient(new OkHttpClient(), "testToken", telegramUrl);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        webServer.shutdown();
+    }
+
+    @Test
+    public void testFileIsDownloadedInRanges() throws Exception {
+        Path destination = directory.resolve("video.mp4");
+
+        createDownloader(3).download(createFile((long) content.length), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination));
+        assertEquals(11, rangeRequests.get());
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void testFileSizeIsRequestedIfUnknown() throws Exception {
+        Path destination = directory.resolve("video.mp4");
+
+        createDownloader(3).download(createFile(null), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination));
+        assertEquals("HEAD", webServer.takeRequest().getMethod());
+    }
+
+    @Test
+    public void testDownloadResumesWithMissingRanges() throws Exception {
+        Path destination = directory.resolve("video.mp4");
+        failingRanges.add(3L * CHUNK_SIZE);
+        failingRanges.add(7L * CHUNK_SIZE);
+
+        assertThrows(TelegramApiException.class, () -> createDownloader(2).download(createFile((long) content.length), destination));
+        assertFalse(Files.exists(destination));
+
+        failingRanges.clear();
+        rangeRequests.set(0);
+        createDownloader(2).download(createFile((long) content.length), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination));
+        // Only the failed ranges and the ones that were not started yet are downloaded again
+        assertTrue(rangeRequests.get() < 11);
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void testFailedRangeIsRetriedAfterDelay() throws Exception {
+        Path destination = directory.resolve("video.mp4");
+        failingOnceRanges.add(0L);
+
+        createDownloader(3, 300).download(createFile((long) content.length), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination));
+        assertEquals(2, rangeRequestTimes.size());
+        assertTrue(rangeRequestTimes.get(1) - rangeRequestTimes.get(0) >= TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    @Test
+    public void testDownloadIsKeptWhenItCanNotBeMoved() throws Exception {
+        Path destination = directory.resolve("video.mp4");
+        Files.createDirectories(destination.resolve("occupied"));
+
+        assertThrows(TelegramApiException.class, () -> createDownloader(1).download(createFile((long) content.length), destination));
+
+        Files.delete(destination.resolve("occupied"));
+        Files.delete(destination);
+        rangeRequests.set(0);
+        createDownloader(1).download(createFile((long) content.length), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination));
+        assertEquals(0, rangeRequests.get());
+        assertEquals(1, countFiles());
+    }
+
+    private OkHttpRangedDownloader createDownloader(int maxAttemptsPerChunk) {
+        return createDownloader(maxAttemptsPerChunk, 10);
+    }
+
+    private OkHttpRangedDownloader createDownloader(int maxAttemptsPerChunk, long retryDelayMillis) {
+        return new OkHttpRangedDownloader(telegramClient, OkHttpRangedDownloadOptions
+                .builder()
+                .chunkSize(CHUNK_SIZE)
+                .parallelism(4)
+                .maxAttemptsPerChunk(maxAttemptsPerChunk)
+                .retryDelayMillis(retryDelayMillis)
+                .build());
+    }
+
+    private static File createFile(Long fileSize) {
+        return new File("fileId", "fileUniqueId", fileSize, "/var/lib/telegram-bot-api/videos/file_1.mp4");
+    }
+
+    private long countFiles() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.telegram.telegrambots.longpolling.jetty;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.eclipse.jetty.client.CompletableResponseListener;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.InputStreamResponseListener;
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.StringRequestContent;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.transport.HttpClientTransportOverHTTP2;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingTransport;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transport that polls for updates using a Jetty HttpClient.
+ * <p>
+ * A single instance can be shared by all the bot sessions of an application. When the client is created
+ * with {@link #createHttp2Client(int)}, the long polls of all the bots are multiplexed as HTTP/2 streams
+ * over a few connections, instead of keeping one connection and one thread per pending poll.
+ *
+ * @implNote The HttpClient must be started before registering any bot, and it is not stopped by this class
+ */
+public class JettyLongPollingTransport implements LongPollingTransport {
+    public static final long DEFAULT_REQUEST_TIMEOUT_SECONDS = 100;
+    public static final int DEFAULT_MAX_ASYNC_RESPONSE_LENGTH = 16 * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final HttpClient httpClient;
+    private final long requestTimeoutSeconds;
+    private final int maxAsyncResponseLength;
+
+    public JettyLongPollingTransport(ObjectMapper objectMapper, HttpClient httpClient) {
+        this(objectMapper, httpClient, DEFAULT_REQUEST_TIMEOUT_SECONDS, DEFAULT_MAX_ASYNC_RESPONSE_LENGTH);
+    }
+
+    /**
+     * @param requestTimeoutSeconds Max time to wait for a response, must be longer than the timeout of the GetUpdates requests
+     * @param maxAsyncResponseLength Max size of the responses received asynchronously, as they are buffered before being parsed
+     */
+    public JettyLongPollingTransport(@NonNull ObjectMapper objectMapper, @NonNull HttpClient httpClient,
+                                     long requestTimeoutSeconds, int maxAsyncResponseLength) {
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.requestTimeoutSeconds = requestTimeoutSeconds;
+        this.maxAsyncResponseLength = maxAsyncResponseLength;
+    }
+
+    /**
+     * Create a client that talks HTTP/2 without TLS (h2c with prior knowledge), as usually exposed by
+     * a self-hosted Bot API server or by the reverse proxy in front of it.
+     * <p>
+     * Requests to the same server are multiplexed over the same connection, a new one is only opened
+     * when the server limit of concurrent streams is reached.
+     * @param maxConnectionsPerServer Max number of connections opened to each server
+     * @return A new client, not started yet
+     */
+    public static HttpClient createHttp2Client(int maxConnectionsPerServer) {
+        HTTP2Client http2Client = new HTTP2Client();
+        HttpClient httpClient = new HttpClient(new HttpClientTransportOverHTTP2(http2Client));
+        httpClient.setMaxConnectionsPerDestination(maxConnectionsPerServer);
+        // Every bot keeps a long poll pending, don't limit the number of them waiting for a stream
+        httpClient.setMaxRequestsQueuedPerDestination(Integer.MAX_VALUE);
+        httpClient.setConnectTimeout(TimeUnit.SECONDS.toMillis(75));
+        httpClient.setIdleTimeout(TimeUnit.SECONDS.toMillis(DEFAULT_REQUEST_TIMEOUT_SECONDS));
+        return httpClient;
+    }
+
+    @Override
+    public Response execute(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method) throws IOException {
+        InputStreamResponseListener listener = new InputStreamResponseListener();
+        Request request = createRequest(telegramUrl, botToken, method);
+        request.send(listener);
+        try {
+            org.eclipse.jetty.client.Response response = listener.get(requestTimeoutSeconds, TimeUnit.SECONDS);
+            return new Response(response.getStatus(), getMessage(response), listener.getInputStream());
+        } catch (InterruptedException e) {
+            request.abort(e);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + method.getMethod() + " response");
+        } catch (TimeoutException e) {
+            request.abort(e);
+            throw new IOException("Timeout waiting for " + method.getMethod() + " response", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to execute " + method.getMethod() + " method", e.getCause());
+        }
+    }
+
+    /**
+     * @implNote The response is buffered before completing the future, so parsing it never blocks a Jetty thread
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method) {
+        Request request;
+        try {
+            request = createRequest(telegramUrl, botToken, method);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // Cancelling the future returned by the listener aborts the request
+        CompletableFuture<ContentResponse> future =
+                new CompletableResponseListener(request, maxAsyncResponseLength).send();
+        CompletableFuture<Response> result = future.thenApply(response -> new Response(
+                response.getStatus(), getMessage(response), new ByteArrayInputStream(response.getContent())));
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private Request createRequest(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method) throws JsonProcessingException {
+        String body = objectMapper.writeValueAsString(method);
+        return httpClient.POST(buildUrl(telegramUrl, botToken, method.getMethod()))
+                .headers(httpFields -> {
+                    httpFields.add("charset", StandardCharsets.UTF_8.name());
+                    httpFields.add("content-type", "application/json");
+                })
+                .body(new StringRequestContent("application/json", body))
+                .timeout(requestTimeoutSeconds, TimeUnit.SECONDS)
+                .idleTimeout(requestTimeoutSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * HTTP/2 responses don't include a reason phrase
+     */
+    private static String getMessage(org.eclipse.jetty.client.Response response) {
+        return response.getReason() != null ? response.getReason() : HttpStatus.getMessage(response.getStatus());
+    }
+
+    @SneakyThrows(URISyntaxException.class)
+    private static URI buildUrl(TelegramUrl telegramUrl, String botToken, String methodPath) {
+        String path = "/bot" + botToken;
+        if (telegramUrl.isTestServer()) {
+            path += "/test";
+        }
+        path += "/" + methodPath;
+
+        return new URI(telegramUrl.getSchema(), null, telegramUrl.getHost(), telegramUrl.getPort(),
+                path, null, null);
+    }
+}
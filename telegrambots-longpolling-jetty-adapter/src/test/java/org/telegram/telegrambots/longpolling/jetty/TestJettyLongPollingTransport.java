@@ -0,0 +1,129 @@
+package org.telegram.telegrambots.longpolling.jetty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.longpolling.BotSessionOptions;
+import org.telegram.telegrambots.longpolling.TelegramBotsLongPollingApplication;
+import org.telegram.telegrambots.longpolling.util.DefaultGetUpdatesGenerator;
+import org.telegram.telegrambots.longpolling.util.ExponentialBackOff;
+import org.telegram.telegrambots.longpolling.util.LongPollingSingleThreadUpdateConsumer;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestJettyLongPollingTransport {
+    private static final String UPDATES = "{\"ok\":true,\"result\":[{\"update_id\":259939677},{\"update_id\":259939678}]}";
+    private static final String NO_UPDATES = "{\"ok\":true,\"result\":[]}";
+
+    private MockWebServer webServer;
+    private TelegramUrl telegramUrl;
+    private HttpClient httpClient;
+    private TelegramBotsLongPollingApplication application;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        webServer = new MockWebServer();
+        webServer.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        HttpUrl mockUrl = webServer.url("");
+        telegramUrl = TelegramUrl.builder().schema(mockUrl.scheme()).host(mockUrl.host()).port(mockUrl.port()).build();
+
+        httpClient = JettyLongPollingTransport.createHttp2Client(1);
+        httpClient.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        application.close();
+        httpClient.stop();
+        webServer.shutdown();
+    }
+
+    @Test
+    public void testUpdatesAreReceivedOverHttp2() throws Exception {
+        List<Update> updatesReceived = new CopyOnWriteArrayList<>();
+        webServer.setDispatcher(getDispatcher());
+        application = createApplication(false);
+
+        application.registerBot("TOKEN", () -> telegramUrl, new DefaultGetUpdatesGenerator(),
+                (LongPollingSingleThreadUpdateConsumer) updatesReceived::add);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> updatesReceived.size() == 2);
+        assertEquals(259939677, updatesReceived.get(0).getUpdateId());
+        assertEquals(259939678, updatesReceived.get(1).getUpdateId());
+    }
+
+    @Test
+    public void testBotsShareConnectionWhenPollingAsynchronously() throws Exception {
+        List<Update> updatesReceived = new CopyOnWriteArrayList<>();
+        webServer.setDispatcher(getDispatcher());
+        application = createApplication(true);
+
+        for (String token : List.of("TOKEN1", "TOKEN2", "TOKEN3")) {
+            application.registerBot(token, () -> telegramUrl, new DefaultGetUpdatesGenerator(),
+                    (LongPollingSingleThreadUpdateConsumer) updatesReceived::add);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> updatesReceived.size() == 6);
+
+        // Requests are numbered per connection, so if all of them share it, numbers are never repeated
+        int requestCount = webServer.getRequestCount();
+        assertTrue(requestCount >= 6);
+        Set<Integer> sequenceNumbers = new HashSet<>();
+        for (int i = 0; i < requestCount; i++) {
+            assertTrue(sequenceNumbers.add(webServer.takeRequest().getSequenceNumber()));
+        }
+    }
+
+    private TelegramBotsLongPollingApplication createApplication(boolean asyncPolling) {
+        return new TelegramBotsLongPollingApplication(
+                ObjectMapper::new,
+                objectMapper -> new JettyLongPollingTransport(objectMapper, httpClient),
+                Executors::newSingleThreadScheduledExecutor,
+                ExponentialBackOff::new,
+                BotSessionOptions.builder().asyncPolling(asyncPolling).build()
+        );
+    }
+
+    /**
+     * Every bot receives its updates once, and then empty responses
+     */
+    private Dispatcher getDispatcher() {
+        CopyOnWriteArrayList<String> botsWithUpdates = new CopyOnWriteArrayList<>();
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path != null && path.endsWith("/deleteWebhook")) {
+                    return new MockResponse().setResponseCode(200).setBody("{\"ok\":true,\"result\":true}");
+                }
+                if (path != null && path.endsWith("/getupdates")) {
+                    String bot = path.split("/")[1];
+                    if (botsWithUpdates.addIfAbsent(bot)) {
+                        return new MockResponse().setResponseCode(200).setBody(UPDATES);
+                    }
+                    return new MockResponse().setResponseCode(200).setBody(NO_UPDATES).setBodyDelay(100, TimeUnit.MILLISECONDS);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        };
+    }
+}
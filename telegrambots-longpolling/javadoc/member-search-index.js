@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.telegram.telegrambots.longpolling.util","c":"AdaptiveGetUpdatesGenerator","l":"AdaptiveGetUpdatesGenerator()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"AdaptiveGetUpdatesGenerator","l":"AdaptiveGetUpdatesGenerator(List<String>)","u":"%3Cinit%3E(java.util.List)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"AdaptiveGetUpdatesGenerator","l":"AdaptiveGetUpdatesGenerator(List<String>, int, int, int, int, double)","u":"%3Cinit%3E(java.util.List,int,int,int,int,double)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"AdaptiveGetUpdatesGenerator","l":"apply(Integer)","u":"apply(java.lang.Integer)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"DefaultGetUpdatesGenerator","l":"apply(Integer)","u":"apply(java.lang.Integer)"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"BotSession(ObjectMapper, LongPollingTransport, ScheduledExecutorService, String, Supplier<TelegramUrl>, Function<Integer, GetUpdates>, Supplier<BackOff>, LongPollingUpdateConsumer, BotSessionOptions)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper,org.telegram.telegrambots.longpolling.interfaces.LongPollingTransport,java.util.concurrent.ScheduledExecutorService,java.lang.String,java.util.function.Supplier,java.util.function.Function,java.util.function.Supplier,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer,org.telegram.telegrambots.longpolling.BotSessionOptions)"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"BotSession(ObjectMapper, OkHttpClient, ScheduledExecutorService, String, Supplier<TelegramUrl>, Function<Integer, GetUpdates>, Supplier<BackOff>, LongPollingUpdateConsumer)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper,okhttp3.OkHttpClient,java.util.concurrent.ScheduledExecutorService,java.lang.String,java.util.function.Supplier,java.util.function.Function,java.util.function.Supplier,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer)"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"BotSession(ObjectMapper, OkHttpClient, ScheduledExecutorService, String, Supplier<TelegramUrl>, Function<Integer, GetUpdates>, Supplier<BackOff>, LongPollingUpdateConsumer, BotSessionOptions)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper,okhttp3.OkHttpClient,java.util.concurrent.ScheduledExecutorService,java.lang.String,java.util.function.Supplier,java.util.function.Function,java.util.function.Supplier,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer,org.telegram.telegrambots.longpolling.BotSessionOptions)"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSessionOptions","l":"BotSessionOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"build()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"Builder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"close()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"LongPollingTransport.Response","l":"close()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"UpdatesOffsetStore","l":"close()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalReader","l":"close()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"close()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"close()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"close()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"LongPollingUpdateConsumer","l":"consume(List<Update>)","u":"consume(java.util.List)"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"consume(List<Update>)","u":"consume(java.util.List)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"consume(List<Update>)","u":"consume(java.util.List)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingSingleThreadUpdateConsumer","l":"consume(List<Update>)","u":"consume(java.util.List)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"consume(Update)","u":"consume(org.telegram.telegrambots.meta.api.objects.Update)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingSingleThreadUpdateConsumer","l":"consume(Update)","u":"consume(org.telegram.telegrambots.meta.api.objects.Update)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"GetUpdatesBodyTemplate","l":"contentLength(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"GetUpdatesBodyTemplate","l":"create(ObjectMapper, GetUpdates)","u":"create(com.fasterxml.jackson.databind.ObjectMapper,org.telegram.telegrambots.meta.api.methods.updates.GetUpdates)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"FileUpdatesOffsetStore","l":"DEFAULT_COMMIT_INTERVAL_MILLIS"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"DEFAULT_QUEUE_CAPACITY"},{"p":"org.telegram.telegrambots.longpolling.util","c":"DefaultGetUpdatesGenerator","l":"DefaultGetUpdatesGenerator()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.DefaultOkHttpClientCreator","l":"DefaultOkHttpClientCreator()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"LongPollingTransport","l":"execute(TelegramUrl, String, BotApiMethod<?>)","u":"execute(org.telegram.telegrambots.meta.TelegramUrl,java.lang.String,org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"OkHttpLongPollingTransport","l":"execute(TelegramUrl, String, BotApiMethod<?>)","u":"execute(org.telegram.telegrambots.meta.TelegramUrl,java.lang.String,org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"LongPollingTransport","l":"executeAsync(TelegramUrl, String, BotApiMethod<?>)","u":"executeAsync(org.telegram.telegrambots.meta.TelegramUrl,java.lang.String,org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"OkHttpLongPollingTransport","l":"executeAsync(TelegramUrl, String, BotApiMethod<?>)","u":"executeAsync(org.telegram.telegrambots.meta.TelegramUrl,java.lang.String,org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff","l":"ExponentialBackOff()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"FileUpdatesOffsetStore","l":"FileUpdatesOffsetStore(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"FileUpdatesOffsetStore","l":"FileUpdatesOffsetStore(Path, long)","u":"%3Cinit%3E(java.nio.file.Path,long)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"UpdatesOffsetStore","l":"flush()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"flush()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"FileUpdatesOffsetStore","l":"flush()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.DefaultOkHttpClientCreator","l":"get()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.HttpProxyOkHttpClientCreator","l":"get()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.SocksProxyOkHttpClientCreator","l":"get()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.DefaultOkHttpClientCreator","l":"getBaseClient()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdateChatIdExtractor","l":"getChatId(Update)","u":"getChatId(org.telegram.telegrambots.meta.api.objects.Update)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"UpdatesOffsetStore","l":"getLastProcessedUpdateId()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"getLastProcessedUpdateId()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"FileUpdatesOffsetStore","l":"getLastProcessedUpdateId()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdatesPrefetchQueue","l":"getPendingBytes()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"getPendingUpdates()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdatesPrefetchQueue","l":"getPendingUpdates()"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"getRetryAfter()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"getShard(Update, int)","u":"getShard(org.telegram.telegrambots.meta.api.objects.Update,int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"getWorkerIndex(Update)","u":"getWorkerIndex(org.telegram.telegrambots.meta.api.objects.Update)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.HttpProxyOkHttpClientCreator","l":"HttpProxyOkHttpClientCreator()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"isRunning()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"isRunning()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"LongPollingTransport.Response","l":"isSuccessful()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"LongPollingMultiThreadUpdateConsumer()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"LongPollingMultiThreadUpdateConsumer(int)","u":"%3Cinit%3E(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"LongPollingMultiThreadUpdateConsumer(int, int, boolean)","u":"%3Cinit%3E(int,int,boolean)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingMultiThreadUpdateConsumer","l":"LongPollingMultiThreadUpdateConsumer(int, int, ThreadFactory)","u":"%3Cinit%3E(int,int,java.util.concurrent.ThreadFactory)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"GetUpdatesBodyTemplate","l":"matches(GetUpdates)","u":"matches(org.telegram.telegrambots.meta.api.methods.updates.GetUpdates)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"BackOff","l":"nextBackOffMillis()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff","l":"nextBackOffMillis()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdateChatIdExtractor","l":"NO_CHAT_ID"},{"p":"org.telegram.telegrambots.longpolling.util","c":"OkHttpLongPollingTransport","l":"OkHttpLongPollingTransport(ObjectMapper)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"OkHttpLongPollingTransport","l":"OkHttpLongPollingTransport(ObjectMapper, OkHttpClient)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper,okhttp3.OkHttpClient)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"GetUpdatesObserver","l":"onGetUpdatesCompleted(int, int)","u":"onGetUpdatesCompleted(int,int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"AdaptiveGetUpdatesGenerator","l":"onGetUpdatesCompleted(int, int)","u":"onGetUpdatesCompleted(int,int)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"GetUpdatesObserver","l":"onGetUpdatesFailed(Exception)","u":"onGetUpdatesFailed(java.lang.Exception)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"AdaptiveGetUpdatesGenerator","l":"onGetUpdatesFailed(Exception)","u":"onGetUpdatesFailed(java.lang.Exception)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdatesPrefetchQueue","l":"poll(long, TimeUnit)","u":"poll(long,java.util.concurrent.TimeUnit)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdatesPrefetchQueue","l":"put(List<Update>, long)","u":"put(java.util.List,long)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"registerBot(String, LongPollingUpdateConsumer)","u":"registerBot(java.lang.String,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"registerBot(String, Supplier<TelegramUrl>, Function<Integer, GetUpdates>, LongPollingUpdateConsumer)","u":"registerBot(java.lang.String,java.util.function.Supplier,java.util.function.Function,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"registerBot(String, Supplier<TelegramUrl>, Function<Integer, GetUpdates>, LongPollingUpdateConsumer, BotSessionOptions)","u":"registerBot(java.lang.String,java.util.function.Supplier,java.util.function.Function,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer,org.telegram.telegrambots.longpolling.BotSessionOptions)"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"BackOff","l":"reset()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff","l":"reset()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"LongPollingTransport.Response","l":"Response()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"setDecorrelatedJitter(boolean)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"setInitialIntervalMillis(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"setMaxElapsedTimeMillis(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"setMaxIntervalMillis(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"setMultiplier(double)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"ExponentialBackOff.Builder","l":"setRandomizationFactor(double)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory.SocksProxyOkHttpClientCreator","l":"SocksProxyOkHttpClientCreator()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"start()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalReader","l":"start()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"start()"},{"p":"org.telegram.telegrambots.longpolling","c":"BotSession","l":"stop()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"stop()"},{"p":"org.telegram.telegrambots.longpolling.interfaces","c":"UpdatesOffsetStore","l":"storeLastProcessedUpdateId(int)"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"storeLastProcessedUpdateId(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"FileUpdatesOffsetStore","l":"storeLastProcessedUpdateId(int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdatesPrefetchQueue","l":"take()"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"TelegramApiErrorResponseException(int, String)","u":"%3Cinit%3E(int,java.lang.String)"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"TelegramApiErrorResponseException(int, String, ResponseParameters)","u":"%3Cinit%3E(int,java.lang.String,org.telegram.telegrambots.meta.api.objects.ResponseParameters)"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"TelegramApiErrorResponseException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"TelegramApiErrorResponseException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"TelegramApiErrorResponseException(Throwable)","u":"%3Cinit%3E(java.lang.Throwable)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication(Supplier<ObjectMapper>)","u":"%3Cinit%3E(java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication(Supplier<ObjectMapper>, Function<ObjectMapper, LongPollingTransport>, Supplier<ScheduledExecutorService>, Supplier<BackOff>, BotSessionOptions)","u":"%3Cinit%3E(java.util.function.Supplier,java.util.function.Function,java.util.function.Supplier,java.util.function.Supplier,org.telegram.telegrambots.longpolling.BotSessionOptions)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication(Supplier<ObjectMapper>, Supplier<OkHttpClient>)","u":"%3Cinit%3E(java.util.function.Supplier,java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication(Supplier<ObjectMapper>, Supplier<OkHttpClient>, Supplier<ScheduledExecutorService>)","u":"%3Cinit%3E(java.util.function.Supplier,java.util.function.Supplier,java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication(Supplier<ObjectMapper>, Supplier<OkHttpClient>, Supplier<ScheduledExecutorService>, Supplier<BackOff>)","u":"%3Cinit%3E(java.util.function.Supplier,java.util.function.Supplier,java.util.function.Supplier,java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"TelegramBotsLongPollingApplication(Supplier<ObjectMapper>, Supplier<OkHttpClient>, Supplier<ScheduledExecutorService>, Supplier<BackOff>, BotSessionOptions)","u":"%3Cinit%3E(java.util.function.Supplier,java.util.function.Supplier,java.util.function.Supplier,java.util.function.Supplier,org.telegram.telegrambots.longpolling.BotSessionOptions)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"TelegramOkHttpClientFactory","l":"TelegramOkHttpClientFactory()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.exceptions","c":"TelegramApiErrorResponseException","l":"toString()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"unregisterBot(String)","u":"unregisterBot(java.lang.String)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdateChatIdExtractor","l":"UpdateChatIdExtractor()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalOptions","l":"UpdatesJournalOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalReader","l":"UpdatesJournalReader(ObjectMapper, UpdatesJournalOptions, Collection<Integer>, LongPollingUpdateConsumer)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper,org.telegram.telegrambots.longpolling.journal.UpdatesJournalOptions,java.util.Collection,org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer)"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalWriter","l":"UpdatesJournalWriter(ObjectMapper, UpdatesJournalOptions)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper,org.telegram.telegrambots.longpolling.journal.UpdatesJournalOptions)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"UpdatesPrefetchQueue","l":"UpdatesPrefetchQueue(int, long)","u":"%3Cinit%3E(int,long)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"LongPollingSingleThreadUpdateConsumer","l":"updatesProcessorExecutor"},{"p":"org.telegram.telegrambots.longpolling.journal","c":"UpdatesJournalOptions","l":"validate()"},{"p":"org.telegram.telegrambots.longpolling","c":"TelegramBotsLongPollingApplication","l":"withSharedExecutor(int, int)","u":"withSharedExecutor(int,int)"},{"p":"org.telegram.telegrambots.longpolling.util","c":"GetUpdatesBodyTemplate","l":"writeTo(BufferedSink, int)","u":"writeTo(okio.BufferedSink,int)"}];updateSearchResults();
\ No newline at end of file
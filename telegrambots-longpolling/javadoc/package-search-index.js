@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.telegram.telegrambots.longpolling"},{"l":"org.telegram.telegrambots.longpolling.exceptions"},{"l":"org.telegram.telegrambots.longpolling.interfaces"},{"l":"org.telegram.telegrambots.longpolling.journal"},{"l":"org.telegram.telegrambots.longpolling.util"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"org.telegram.telegrambots.longpolling.util","l":"AdaptiveGetUpdatesGenerator"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.telegram.telegrambots.longpolling.interfaces","l":"BackOff"},{"p":"org.telegram.telegrambots.longpolling","l":"BotSession"},{"p":"org.telegram.telegrambots.longpolling","l":"BotSessionOptions"},{"p":"org.telegram.telegrambots.longpolling.util","l":"ExponentialBackOff.Builder"},{"p":"org.telegram.telegrambots.longpolling.util","l":"DefaultGetUpdatesGenerator"},{"p":"org.telegram.telegrambots.longpolling.util","l":"TelegramOkHttpClientFactory.DefaultOkHttpClientCreator"},{"p":"org.telegram.telegrambots.longpolling.util","l":"ExponentialBackOff"},{"p":"org.telegram.telegrambots.longpolling.util","l":"FileUpdatesOffsetStore"},{"p":"org.telegram.telegrambots.longpolling.util","l":"GetUpdatesBodyTemplate"},{"p":"org.telegram.telegrambots.longpolling.interfaces","l":"GetUpdatesObserver"},{"p":"org.telegram.telegrambots.longpolling.util","l":"TelegramOkHttpClientFactory.HttpProxyOkHttpClientCreator"},{"p":"org.telegram.telegrambots.longpolling.util","l":"LongPollingMultiThreadUpdateConsumer"},{"p":"org.telegram.telegrambots.longpolling.util","l":"LongPollingSingleThreadUpdateConsumer"},{"p":"org.telegram.telegrambots.longpolling.interfaces","l":"LongPollingTransport"},{"p":"org.telegram.telegrambots.longpolling.interfaces","l":"LongPollingUpdateConsumer"},{"p":"org.telegram.telegrambots.longpolling.util","l":"OkHttpLongPollingTransport"},{"p":"org.telegram.telegrambots.longpolling.interfaces","l":"LongPollingTransport.Response"},{"p":"org.telegram.telegrambots.longpolling.util","l":"TelegramOkHttpClientFactory.SocksProxyOkHttpClientCreator"},{"p":"org.telegram.telegrambots.longpolling.exceptions","l":"TelegramApiErrorResponseException"},{"p":"org.telegram.telegrambots.longpolling","l":"TelegramBotsLongPollingApplication"},{"p":"org.telegram.telegrambots.longpolling.util","l":"TelegramOkHttpClientFactory"},{"p":"org.telegram.telegrambots.longpolling.util","l":"UpdateChatIdExtractor"},{"p":"org.telegram.telegrambots.longpolling.journal","l":"UpdatesJournalOptions"},{"p":"org.telegram.telegrambots.longpolling.journal","l":"UpdatesJournalReader"},{"p":"org.telegram.telegrambots.longpolling.journal","l":"UpdatesJournalWriter"},{"p":"org.telegram.telegrambots.longpolling.interfaces","l":"UpdatesOffsetStore"},{"p":"org.telegram.telegrambots.longpolling.util","l":"UpdatesPrefetchQueue"}];updateSearchResults();
\ No newline at end of file
@@ -1,37 +1,48 @@
 package org.telegram.telegrambots.longpolling;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.HttpUrl;
-import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
-import okhttp3.ResponseBody;
 import org.telegram.telegrambots.longpolling.exceptions.TelegramApiErrorResponseException;
+import org.telegram.telegrambots.longpolling.interfaces.GetUpdatesObserver;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingTransport;
 import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
+import org.telegram.telegrambots.longpolling.util.ExponentialBackOff;
+import org.telegram.telegrambots.longpolling.util.OkHttpLongPollingTransport;
+import org.telegram.telegrambots.longpolling.util.UpdatesPrefetchQueue;
 import org.telegram.telegrambots.meta.TelegramUrl;
-import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
 import org.telegram.telegrambots.meta.api.methods.updates.DeleteWebhook;
 import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 import org.telegram.telegrambots.longpolling.interfaces.BackOff;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -40,19 +51,46 @@ import static java.util.Optional.ofNullable;
 @Data
 @Slf4j
 public class BotSession implements AutoCloseable {
+    private static final long PREFETCH_POLL_MILLIS = 100;
+    /**
+     * Delay before polling again when Telegram only returned updates not consumed yet, so the session doesn't
+     * spin receiving them again while the consumer catches up
+     */
+    private static final long UNCONSUMED_POLL_DELAY_MILLIS = 100;
+
     private AtomicBoolean running = new AtomicBoolean(false);
     private AtomicInteger lastReceivedUpdate = new AtomicInteger(0);
+    private AtomicInteger lastProcessedUpdate = new AtomicInteger(0);
 
     private final ObjectMapper objectMapper;
-    private final OkHttpClient okHttpClient;
+    private final LongPollingTransport transport;
     private final ScheduledExecutorService executor;
     private final String botToken;
     private final LongPollingUpdateConsumer updatesConsumer;
     private final Supplier<TelegramUrl> telegramUrlSupplier;
     private final Function<Integer, GetUpdates> getUpdatesGenerator;
     private final BackOff backOff;
+    private final BotSessionOptions options;
+
+    private final AtomicInteger consecutiveEmptyPolls = new AtomicInteger(0);
+    /**
+     * Set by the prefetch consumer when it fails to consume a batch, so polling receives again the updates
+     * after the last processed one
+     */
+    private final AtomicBoolean rewindRequested = new AtomicBoolean(false);
+    @Getter(AccessLevel.NONE)
+    private final Object rewindLock = new Object();
 
+    /**
+     * Guards checking whether the session is running and scheduling the next poll, so stopping can't happen in
+     * between and leave a poll scheduled
+     */
+    @Getter(AccessLevel.NONE)
+    private final Object pollingLock = new Object();
     private volatile ScheduledFuture<?> runningPolling = null;
+    private volatile CompletableFuture<LongPollingTransport.Response> runningCall = null;
+    private volatile UpdatesPrefetchQueue prefetchQueue = null;
+    private volatile ExecutorService prefetchConsumerExecutor = null;
 
     public BotSession(ObjectMapper objectMapper,
                       OkHttpClient okHttpClient,
@@ -62,26 +100,78 @@ public class BotSession implements AutoCloseable {
                       Function<Integer, GetUpdates> getUpdatesGenerator,
                       Supplier<BackOff> backOffSupplier,
                       LongPollingUpdateConsumer updatesConsumer) {
+        this(objectMapper, okHttpClient, executor, botToken, telegramUrlSupplier, getUpdatesGenerator,
+                backOffSupplier, updatesConsumer, BotSessionOptions.builder().build());
+    }
+
+    public BotSession(ObjectMapper objectMapper,
+                      OkHttpClient okHttpClient,
+                      ScheduledExecutorService executor,
+                      String botToken,
+                      Supplier<TelegramUrl> telegramUrlSupplier,
+                      Function<Integer, GetUpdates> getUpdatesGenerator,
+                      Supplier<BackOff> backOffSupplier,
+                      LongPollingUpdateConsumer updatesConsumer,
+                      BotSessionOptions options) {
+        this(objectMapper, new OkHttpLongPollingTransport(objectMapper, okHttpClient), executor, botToken,
+                telegramUrlSupplier, getUpdatesGenerator, backOffSupplier, updatesConsumer, options);
+    }
+
+    public BotSession(ObjectMapper objectMapper,
+                      LongPollingTransport transport,
+                      ScheduledExecutorService executor,
+                      String botToken,
+                      Supplier<TelegramUrl> telegramUrlSupplier,
+                      Function<Integer, GetUpdates> getUpdatesGenerator,
+                      Supplier<BackOff> backOffSupplier,
+                      LongPollingUpdateConsumer updatesConsumer,
+                      BotSessionOptions options) {
+        options.validate();
         this.executor = executor;
-        this.okHttpClient = okHttpClient;
+        this.transport = transport;
         this.updatesConsumer = updatesConsumer;
         this.botToken = botToken;
         this.telegramUrlSupplier = telegramUrlSupplier;
         this.getUpdatesGenerator = getUpdatesGenerator;
         this.objectMapper = objectMapper;
         this.backOff = backOffSupplier.get();
+        this.options = options;
+        if (options.getOffsetStore() != null) {
+            int storedUpdateId = options.getOffsetStore().getLastProcessedUpdateId();
+            log.info("Resuming updates after last processed update {}", storedUpdateId);
+            lastReceivedUpdate.set(storedUpdateId);
+            lastProcessedUpdate.set(storedUpdateId);
+        }
     }
 
     public void start() throws TelegramApiException {
         if (runningPolling == null) {
-                runningPolling = createPollerTask();
+            if (options.isAsyncPolling()) {
+                startAsyncPolling();
+            } else {
+                startPolling();
+            }
         }
     }
 
     public void stop() {
-        if (runningPolling != null) {
-            runningPolling.cancel(false);
-            runningPolling = null;
+        synchronized (pollingLock) {
+            running.set(false);
+            if (runningPolling != null) {
+                runningPolling.cancel(false);
+                runningPolling = null;
+            }
+        }
+        CompletableFuture<LongPollingTransport.Response> call = runningCall;
+        if (call != null) {
+            call.cancel(true);
+            runningCall = null;
+        }
+        if (prefetchConsumerExecutor != null) {
+            stopPrefetchConsumer();
+        }
+        if (options.getOffsetStore() != null) {
+            options.getOffsetStore().flush();
         }
     }
 
@@ -94,122 +184,481 @@ public class BotSession implements AutoCloseable {
         stop();
     }
 
-    @NonNull
-    private ScheduledFuture<?> createPollerTask() throws TelegramApiException {
+    private void startPolling() throws TelegramApiException {
         executeDeleteWebhook();
-        return executor.scheduleAtFixedRate(() -> {
-            try {
-                log.debug("Getting updates");
-                List<Update> updates = getUpdatesFromTelegram();
-                log.debug("Received {} updates.", updates.size());
-                // Reset backup with every successful request
-                backOff.reset();
-                // Handle updates
-                if (!updates.isEmpty()) {
-                    updates.removeIf(x -> x.getUpdateId() <= lastReceivedUpdate.get());
-                    log.debug("{} updates left after filter by last received {}", updates.size(), lastReceivedUpdate.get());
-                    lastReceivedUpdate.set(updates.parallelStream()
-                            .mapToInt(Update::getUpdateId)
-                            .max()
-                            .orElse( lastReceivedUpdate.get()));
-                    log.debug("New value for last received: {}", lastReceivedUpdate.get());
-                    updatesConsumer.consume(updates);
-                }
-            } catch (TelegramApiErrorResponseException e) {
-                long backOffMillis = backOff.nextBackOffMillis();
-                log.error("Error received from Telegram GetUpdates Request, retrying in {} millis...", backOffMillis, e);
+        if (options.isPrefetchUpdates()) {
+            startPrefetchConsumer();
+        }
+        running.set(true);
+        scheduleNextPoll(0);
+    }
+
+    /**
+     * Every poll schedules the next one once it is done, so waiting for a back off never blocks an executor thread
+     */
+    private void scheduleNextPoll(long delayMillis) {
+        synchronized (pollingLock) {
+            if (running.get()) {
                 try {
-                    Thread.sleep(backOffMillis);
-                } catch (InterruptedException ex) {
-                    // Ignore this
-                    log.warn("GetUpdates got interrupted while sleeping in backoff mode.", ex);
+                    runningPolling = executor.schedule(options.isAsyncPolling() ? this::pollAsync : this::poll,
+                            delayMillis, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    log.warn("Unable to continue polling, executor is not accepting new tasks", e);
                 }
-            } catch (TelegramApiException  e) {
-                log.error(e.getLocalizedMessage(), e);
             }
-        }, 1, 1, TimeUnit.MICROSECONDS);
+        }
     }
 
-    private List<Update> getUpdatesFromTelegram() throws TelegramApiRequestException, TelegramApiErrorResponseException {
+    private void poll() {
+        if (!running.get()) {
+            return;
+        }
+        long delayMillis = 0;
         try {
-            TelegramUrl telegramUrl = telegramUrlSupplier.get();
-            GetUpdates getUpdates = getUpdatesGenerator.apply(lastReceivedUpdate.get());
-            Request request = createRequest(telegramUrl, getUpdates);
-
-            try (Response response = okHttpClient.newCall(request).execute()) {
-                if (response.isSuccessful()) {
-                    try (ResponseBody body = response.body()) {
-                        if (body != null) {
-                            List<Update> updates = getUpdates.deserializeResponse(body.string());
-                            // Reset backup with every successful request
-                            backOff.reset();
-                            return updates;
-                        } else {
-                            log.info("Received empty body when calling getUpdates");
+            log.debug("Getting updates");
+            int previousReceivedUpdate = lastReceivedUpdate.get();
+            UpdatesBatch batch = getUpdatesFromTelegram();
+            log.debug("Received {} updates.", batch.receivedUpdates);
+            // Reset backup with every successful request
+            backOff.reset();
+            notifyGetUpdatesCompleted(batch);
+            handleUpdates(batch);
+            if (batch.receivedUpdates > 0 && lastReceivedUpdate.get() == previousReceivedUpdate) {
+                delayMillis = UNCONSUMED_POLL_DELAY_MILLIS;
+            }
+        } catch (TelegramApiErrorResponseException e) {
+            notifyGetUpdatesFailed(e);
+            delayMillis = getRetryDelayMillis(e);
+            log.error("Error received from Telegram GetUpdates Request, retrying in {} millis...", delayMillis, e);
+        } catch (InterruptedException e) {
+            log.warn("GetUpdates got interrupted while waiting for the consumer to catch up.", e);
+        } catch (TelegramApiException  e) {
+            log.error(e.getLocalizedMessage(), e);
+        } catch (RuntimeException e) {
+            // The batch is not confirmed, polling goes on after a back off instead of stopping silently
+            delayMillis = backOff.nextBackOffMillis();
+            log.error("Error consuming updates, retrying in {} millis...", delayMillis, e);
+        }
+        scheduleNextPoll(delayMillis);
+    }
+
+    /**
+     * @return Time requested by Telegram in retry_after if present, otherwise the next back off
+     */
+    private long getRetryDelayMillis(Exception e) {
+        Integer retryAfter = null;
+        if (e instanceof TelegramApiErrorResponseException errorResponseException) {
+            retryAfter = errorResponseException.getRetryAfter();
+        } else if (e instanceof TelegramApiRequestException requestException && requestException.getParameters() != null) {
+            retryAfter = requestException.getParameters().getRetryAfter();
+        }
+        if (retryAfter != null && retryAfter > 0) {
+            return TimeUnit.SECONDS.toMillis(retryAfter);
+        }
+        return backOff.nextBackOffMillis();
+    }
+
+    private void handleUpdates(UpdatesBatch batch) throws InterruptedException {
+        if (rewindRequested.get()) {
+            rewindToLastProcessed();
+        }
+        List<Update> updates = batch.updates;
+        if (!updates.isEmpty()) {
+            updates.removeIf(x -> x.getUpdateId() <= lastReceivedUpdate.get());
+            log.debug("{} updates left after filter by last received {}", updates.size(), lastReceivedUpdate.get());
+            lastReceivedUpdate.set(updates.parallelStream()
+                    .mapToInt(Update::getUpdateId)
+                    .max()
+                    .orElse( lastReceivedUpdate.get()));
+            log.debug("New value for last received: {}", lastReceivedUpdate.get());
+            if (!options.isCommitAfterConsume()) {
+                markProcessed(lastReceivedUpdate.get());
+            }
+            UpdatesPrefetchQueue queue = prefetchQueue;
+            if (queue != null) {
+                // Blocks polling while the consumer is behind by more than the configured limits
+                queue.put(updates, batch.bytes);
+            } else {
+                int maxUpdateId = lastReceivedUpdate.get();
+                try {
+                    updatesConsumer.consume(updates);
+                } catch (RuntimeException e) {
+                    if (options.isCommitAfterConsume()) {
+                        // Not confirmed to Telegram, they must not be ignored as duplicates when received again
+                        lastReceivedUpdate.set(lastProcessedUpdate.get());
+                    }
+                    throw e;
+                }
+                markProcessed(maxUpdateId);
+            }
+        } else if (batch.receivedUpdates == 0 && options.getOffsetStore() != null) {
+            // Nothing else to do, good time to persist pending offsets
+            options.getOffsetStore().flush();
+        }
+    }
+
+    /**
+     * Updates prefetched after a batch that failed to be consumed are dropped, all of them are received again from
+     * Telegram as none was confirmed. Only called from the polling thread, the only one receiving updates.
+     */
+    private void rewindToLastProcessed() {
+        synchronized (rewindLock) {
+            lastReceivedUpdate.set(lastProcessedUpdate.get());
+            UpdatesPrefetchQueue queue = prefetchQueue;
+            if (queue != null) {
+                int droppedUpdates = queue.clear();
+                log.debug("Dropped {} prefetched updates to receive them again after {}", droppedUpdates, lastProcessedUpdate.get());
+            }
+            rewindRequested.set(false);
+        }
+    }
+
+    /**
+     * Drops the updates prefetched before polling rewinds, they come after the batch that failed
+     * @return False if polling stopped before rewinding
+     */
+    private boolean awaitRewind(UpdatesPrefetchQueue queue) throws InterruptedException {
+        while (rewindRequested.get()) {
+            synchronized (rewindLock) {
+                if (rewindRequested.get()) {
+                    queue.clear();
+                }
+            }
+            if (!running.get()) {
+                return false;
+            }
+            Thread.sleep(PREFETCH_POLL_MILLIS);
+        }
+        return true;
+    }
+
+    /**
+     * Telegram forgets the updates before the offset of a poll. When committing after consume, updates received
+     * but not consumed yet (e.g. prefetched) are not confirmed until the consumer is done with them, so they are
+     * received again after a crash, and the duplicates received meanwhile are ignored.
+     */
+    private int getPollOffset() {
+        return options.isCommitAfterConsume() ? lastProcessedUpdate.get() : lastReceivedUpdate.get();
+    }
+
+    private void notifyGetUpdatesCompleted(UpdatesBatch batch) {
+        if (getUpdatesGenerator instanceof GetUpdatesObserver observer) {
+            UpdatesPrefetchQueue queue = prefetchQueue;
+            observer.onGetUpdatesCompleted(batch.receivedUpdates, queue != null ? queue.getPendingUpdates() : 0);
+        }
+    }
+
+    private void notifyGetUpdatesFailed(Exception e) {
+        if (getUpdatesGenerator instanceof GetUpdatesObserver observer) {
+            observer.onGetUpdatesFailed(e);
+        }
+    }
+
+    private void markProcessed(int updateId) {
+        lastProcessedUpdate.accumulateAndGet(updateId, Math::max);
+        if (options.getOffsetStore() != null) {
+            options.getOffsetStore().storeLastProcessedUpdateId(updateId);
+        }
+    }
+
+    /**
+     * The consumer keeps going after polling stops, until the queue is empty.
+     * <p>
+     * When committing after consume, a batch that fails to be consumed is received again. Batches prefetched after it
+     * are dropped meanwhile, so they are never confirmed past the failed one.
+     */
+    private void startPrefetchConsumer() {
+        UpdatesPrefetchQueue queue = new UpdatesPrefetchQueue(options.getMaxPrefetchedUpdates(), options.getMaxPrefetchedBytes());
+        ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+        consumerExecutor.execute(() -> {
+            BackOff consumeBackOff = new ExponentialBackOff();
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    List<Update> updates = queue.poll(PREFETCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (updates == null) {
+                        if (!running.get()) {
+                            break;
                         }
+                        continue;
                     }
-                } else {
-                    throw new TelegramApiErrorResponseException(response.code(), response.message());
+                    int maxUpdateId = updates.stream().mapToInt(Update::getUpdateId).max().orElse(0);
+                    try {
+                        updatesConsumer.consume(updates);
+                    } catch (RuntimeException e) {
+                        if (!options.isCommitAfterConsume()) {
+                            throw e;
+                        }
+                        long delayMillis = consumeBackOff.nextBackOffMillis();
+                        log.error("Error consuming prefetched updates, receiving them again in {} millis", delayMillis, e);
+                        Thread.sleep(delayMillis);
+                        rewindRequested.set(true);
+                        if (!awaitRewind(queue)) {
+                            break;
+                        }
+                        continue;
+                    }
+                    consumeBackOff.reset();
+                    if (options.isCommitAfterConsume()) {
+                        markProcessed(maxUpdateId);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.error("Error consuming prefetched updates", e);
+                }
+            }
+        });
+        prefetchQueue = queue;
+        prefetchConsumerExecutor = consumerExecutor;
+    }
+
+    /**
+     * Prefetched updates were already confirmed to Telegram, so the consumer gets a bounded time to handle them
+     * before being interrupted
+     */
+    private void stopPrefetchConsumer() {
+        ExecutorService consumerExecutor = prefetchConsumerExecutor;
+        UpdatesPrefetchQueue queue = prefetchQueue;
+        prefetchConsumerExecutor = null;
+        prefetchQueue = null;
+        consumerExecutor.shutdown();
+        try {
+            if (!consumerExecutor.awaitTermination(options.getPrefetchDrainTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Consumer didn't handle prefetched updates in time, {} updates are lost", queue.getPendingUpdates());
+                consumerExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for prefetched updates, {} updates are lost", queue.getPendingUpdates());
+            consumerExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Async polling never blocks executor threads: every GetUpdates is sent asynchronously by the transport and its
+     * result is handled in a new task in the executor, that also schedules the next poll.
+     * As tasks from all the sessions sharing the executor are queued in order, sessions get their turn
+     * in a round-robin fashion.
+     */
+    private void startAsyncPolling() throws TelegramApiException {
+        executeDeleteWebhook();
+        running.set(true);
+        scheduleNextPoll(0);
+    }
+
+    private void pollAsync() {
+        if (!running.get()) {
+            return;
+        }
+        GetUpdates getUpdates = getUpdatesGenerator.apply(getPollOffset());
+        int previousReceivedUpdate = lastReceivedUpdate.get();
+
+        log.debug("Getting updates");
+        CompletableFuture<LongPollingTransport.Response> call = transport.executeAsync(telegramUrlSupplier.get(), botToken, getUpdates);
+        runningCall = call;
+        call.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                if (!(throwable instanceof CancellationException)) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                    executeAsyncStep(() -> onAsyncPollFailed(new TelegramApiErrorResponseException(cause)));
                 }
+                return;
+            }
+            try (response) {
+                UpdatesBatch batch = parseUpdatesResponse(response, getUpdates);
+                executeAsyncStep(() -> onAsyncPollSucceeded(batch, previousReceivedUpdate));
+            } catch (Exception e) {
+                executeAsyncStep(() -> onAsyncPollFailed(e));
+            }
+        });
+    }
+
+    private void executeAsyncStep(Runnable step) {
+        if (running.get()) {
+            try {
+                executor.execute(step);
+            } catch (RejectedExecutionException e) {
+                log.warn("Unable to continue polling, executor is not accepting new tasks", e);
+            }
+        }
+    }
+
+    /**
+     * @param previousReceivedUpdate Last received update before the poll, streamed updates are handled before this
+     */
+    private void onAsyncPollSucceeded(UpdatesBatch batch, int previousReceivedUpdate) {
+        log.debug("Received {} updates.", batch.receivedUpdates);
+        backOff.reset();
+        notifyGetUpdatesCompleted(batch);
+        long delayMillis;
+        try {
+            handleUpdates(batch);
+            delayMillis = getAsyncPollDelayMillis(batch, previousReceivedUpdate);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("GetUpdates got interrupted while waiting for the consumer to catch up.", e);
+            delayMillis = 0;
+        } catch (Exception e) {
+            // The batch is not confirmed, polling goes on after a back off
+            delayMillis = backOff.nextBackOffMillis();
+            log.error("Error consuming updates, retrying in {} millis...", delayMillis, e);
+        }
+        scheduleNextPoll(delayMillis);
+    }
+
+    private long getAsyncPollDelayMillis(UpdatesBatch batch, int previousReceivedUpdate) {
+        if (batch.receivedUpdates == 0) {
+            if (consecutiveEmptyPolls.incrementAndGet() >= options.getEmptyPollsBeforeIdle()) {
+                return options.getIdlePollingDelayMillis();
+            }
+            return 0;
+        }
+        consecutiveEmptyPolls.set(0);
+        return lastReceivedUpdate.get() == previousReceivedUpdate ? UNCONSUMED_POLL_DELAY_MILLIS : 0;
+    }
+
+    private void onAsyncPollFailed(Exception e) {
+        notifyGetUpdatesFailed(e);
+        long delayMillis = getRetryDelayMillis(e);
+        log.error("Error received from Telegram GetUpdates Request, retrying in {} millis...", delayMillis, e);
+        scheduleNextPoll(delayMillis);
+    }
+
+    private UpdatesBatch getUpdatesFromTelegram() throws TelegramApiRequestException, TelegramApiErrorResponseException {
+        try {
+            TelegramUrl telegramUrl = telegramUrlSupplier.get();
+            GetUpdates getUpdates = getUpdatesGenerator.apply(getPollOffset());
+
+            try (LongPollingTransport.Response response = transport.execute(telegramUrl, botToken, getUpdates)) {
+                return parseUpdatesResponse(response, getUpdates);
             }
+        } catch (TelegramApiErrorResponseException e) {
+            throw e;
         } catch (Exception e) {
             throw new TelegramApiErrorResponseException(e);
         }
+    }
+
+    private UpdatesBatch parseUpdatesResponse(LongPollingTransport.Response response, GetUpdates getUpdates) throws TelegramApiException {
+        if (response.isSuccessful()) {
+            if (response.getBody() != null) {
+                CountingInputStream inputStream = new CountingInputStream(response.getBody());
+                UpdatesBatch batch;
+                if (options.isStreamUpdates()) {
+                    batch = streamUpdates(getUpdates, inputStream);
+                } else {
+                    List<Update> updates = getUpdates.deserializeResponse(inputStream);
+                    batch = new UpdatesBatch(updates, inputStream.getBytesRead(), updates.size());
+                }
+                // Reset backup with every successful request
+                backOff.reset();
+                return batch;
+            } else {
+                log.info("Received empty body when calling getUpdates");
+            }
+        } else {
+            throw new TelegramApiErrorResponseException(response.getCode(), response.getMessage(), parseErrorParameters(response));
+        }
 
-        return Collections.emptyList();
+        return new UpdatesBatch(Collections.emptyList(), 0, 0);
+    }
+
+    /**
+     * Telegram includes the parameters of the error, like retry_after, in the body of error responses
+     */
+    private ResponseParameters parseErrorParameters(LongPollingTransport.Response response) {
+        try {
+            if (response.getBody() != null) {
+                ApiResponse<?> apiResponse = objectMapper.readValue(response.getBody(), ApiResponse.class);
+                return apiResponse.getParameters();
+            }
+        } catch (IOException e) {
+            log.debug("Unable to parse error response", e);
+        }
+        return null;
+    }
+
+    /**
+     * Hands every update to the consumer as soon as it is parsed
+     * @return An empty batch, as all the updates have already been handled
+     */
+    private UpdatesBatch streamUpdates(GetUpdates getUpdates, CountingInputStream inputStream) throws TelegramApiException {
+        AtomicInteger receivedUpdates = new AtomicInteger(0);
+        AtomicLong handledBytes = new AtomicLong(0);
+        getUpdates.deserializeResponse(inputStream, update -> {
+            receivedUpdates.incrementAndGet();
+            long updateBytes = inputStream.getBytesRead() - handledBytes.getAndSet(inputStream.getBytesRead());
+            List<Update> updates = new ArrayList<>(1);
+            updates.add(update);
+            try {
+                handleUpdates(new UpdatesBatch(updates, updateBytes, 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("GetUpdates got interrupted while waiting for the consumer to catch up.", e);
+            }
+        });
+        return new UpdatesBatch(Collections.emptyList(), inputStream.getBytesRead(), receivedUpdates.get());
     }
 
     private void executeDeleteWebhook() throws TelegramApiRequestException, TelegramApiErrorResponseException {
         DeleteWebhook deleteWebhook = new DeleteWebhook();
-        try {
-            Request request = createRequest(telegramUrlSupplier.get(), deleteWebhook);
-            try (Response response = okHttpClient.newCall(request).execute()) {
-                if (response.isSuccessful()) {
-                    try (ResponseBody body = response.body()) {
-                        if (body != null) {
-                            Boolean result = deleteWebhook.deserializeResponse(body.string());
-                            log.info("Result when calling deleteWebhook: {}", result);
-                            if (!ofNullable(result).orElse(false)) {
-                                throw new TelegramApiErrorResponseException("Unable to delete Webhook");
-                            }
-                        } else {
-                            log.info("Received empty result when calling deleteWebhook");
-                        }
+        try (LongPollingTransport.Response response = transport.execute(telegramUrlSupplier.get(), botToken, deleteWebhook)) {
+            if (response.isSuccessful()) {
+                if (response.getBody() != null) {
+                    Boolean result = deleteWebhook.deserializeResponse(response.getBody());
+                    log.info("Result when calling deleteWebhook: {}", result);
+                    if (!ofNullable(result).orElse(false)) {
+                        throw new TelegramApiErrorResponseException("Unable to delete Webhook");
                     }
                 } else {
-                    throw new TelegramApiErrorResponseException(response.code(), response.message());
+                    log.info("Received empty result when calling deleteWebhook");
                 }
+            } else {
+                throw new TelegramApiErrorResponseException(response.getCode(), response.getMessage());
             }
         } catch (IOException e) {
             throw new TelegramApiErrorResponseException("Unable to execute " + deleteWebhook.getMethod() + " method", e);
         }
     }
 
-    @NonNull
-    private Request createRequest(TelegramUrl telegramUrl, BotApiMethod<?> apiMethod) throws JsonProcessingException {
-        return new Request.Builder()
-                .url(buildUrl(telegramUrl, apiMethod.getMethod()))
-                .header("charset", StandardCharsets.UTF_8.name())
-                .header("content-type", "application/json")
-                .post(RequestBody.create(objectMapper.writeValueAsString(apiMethod), MediaType.parse("application/json")))
-                .build();
+    @RequiredArgsConstructor
+    private static class UpdatesBatch {
+        private final List<Update> updates;
+        private final long bytes;
+        private final int receivedUpdates;
     }
 
-    @NonNull
-    private HttpUrl buildUrl(TelegramUrl telegramUrl, String methodPath) {
-        HttpUrl.Builder builder = new HttpUrl
-                .Builder()
-                .scheme(telegramUrl.getSchema())
-                .host(telegramUrl.getHost())
-                .port(telegramUrl.getPort())
-                .addPathSegment("bot" + botToken);
+    private static class CountingInputStream extends FilterInputStream {
+        @Getter
+        private long bytesRead = 0;
 
-        if (telegramUrl.isTestServer()) {
-            builder.addPathSegment("test");
+        CountingInputStream(InputStream delegate) {
+            super(delegate);
         }
 
-        builder.addPathSegment(methodPath);
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                bytesRead++;
+            }
+            return read;
+        }
 
-        return builder.build();
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                bytesRead += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            bytesRead += skipped;
+            return skipped;
+        }
     }
 }
@@ -0,0 +1,88 @@
+package org.telegram.telegrambots.longpolling;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.telegram.telegrambots.longpolling.interfaces.UpdatesOffsetStore;
+
+/**
+ * Per bot options to tune how a {@link BotSession} polls and hands updates over to its consumer
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BotSessionOptions {
+    /**
+     * If true, next GetUpdates request is sent while the previous batch is still being consumed
+     */
+    @Builder.Default
+    private boolean prefetchUpdates = false;
+
+    /**
+     * Max number of updates received and not yet consumed when prefetching is enabled
+     */
+    @Builder.Default
+    private int maxPrefetchedUpdates = 1000;
+
+    /**
+     * Max size, in bytes of the raw responses, of updates received and not yet consumed when prefetching is enabled
+     */
+    @Builder.Default
+    private long maxPrefetchedBytes = 16 * 1024 * 1024;
+
+    /**
+     * Max time to wait, when the session is stopped, for the consumer to handle the updates already prefetched.
+     * They were confirmed to Telegram by the following polls, so any update left after it is lost.
+     */
+    @Builder.Default
+    private long prefetchDrainTimeoutMillis = 30000;
+
+    /**
+     * If true, updates are handed to the consumer one by one as soon as they are parsed from the response,
+     * instead of waiting for the full response to be parsed
+     */
+    @Builder.Default
+    private boolean streamUpdates = false;
+
+    /**
+     * If true, GetUpdates requests are sent asynchronously and no executor thread is blocked while waiting
+     * for Telegram, allowing many sessions to share a small executor.
+     * Prefetching can't be enabled in this mode, consumers should hand over heavy work to their own threads.
+     */
+    @Builder.Default
+    private boolean asyncPolling = false;
+
+    /**
+     * Number of consecutive polls without updates before the session is considered idle (only for async polling)
+     */
+    @Builder.Default
+    private int emptyPollsBeforeIdle = 3;
+
+    /**
+     * Extra delay between polls of an idle session (only for async polling)
+     */
+    @Builder.Default
+    private long idlePollingDelayMillis = 5000;
+
+    /**
+     * Optional store to persist the last processed update, polling is resumed from it when the session is created.
+     */
+    private UpdatesOffsetStore offsetStore;
+
+    /**
+     * If true, an update is only considered processed once the consumer returns after receiving it (at least once):
+     * polls only confirm to Telegram the updates processed, so updates prefetched and not consumed yet are received
+     * again after a crash. Consumers handing updates over to their own threads return before processing them.
+     * If false, it is considered processed as soon as it is received (at most once).
+     */
+    @Builder.Default
+    private boolean commitAfterConsume = true;
+
+    public void validate() {
+        if (asyncPolling && prefetchUpdates) {
+            throw new IllegalArgumentException("Prefetching updates is not supported with async polling");
+        }
+    }
+}
@@ -3,9 +3,11 @@ package org.telegram.telegrambots.longpolling;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingTransport;
 import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
 import org.telegram.telegrambots.longpolling.util.DefaultGetUpdatesGenerator;
 import org.telegram.telegrambots.longpolling.util.ExponentialBackOff;
+import org.telegram.telegrambots.longpolling.util.OkHttpLongPollingTransport;
 import org.telegram.telegrambots.longpolling.util.TelegramOkHttpClientFactory;
 import org.telegram.telegrambots.meta.TelegramUrl;
 import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
@@ -24,10 +26,11 @@ public class TelegramBotsLongPollingApplication implements AutoCloseable {
     private final AtomicBoolean isAppRunning = new AtomicBoolean(true);
 
     private final Supplier<ObjectMapper> objectMapperSupplier;
-    private final Supplier<OkHttpClient> okHttpClientCreator;
+    private final Function<ObjectMapper, LongPollingTransport> transportCreator;
     private final Supplier<ScheduledExecutorService> executorSupplier;
     private final Supplier<BackOff> backOffSupplier;
-
+    private final BotSessionOptions defaultBotSessionOptions;
+    private final ScheduledExecutorService sharedExecutor;
 
     private final ConcurrentHashMap<String, BotSession> botSessions = new ConcurrentHashMap<>();
 
@@ -53,10 +56,65 @@ public class TelegramBotsLongPollingApplication implements AutoCloseable {
                                               Supplier<OkHttpClient> okHttpClientCreator,
                                               Supplier<ScheduledExecutorService> executorSupplier,
                                               Supplier<BackOff> backOffSupplier) {
+        this(objectMapperSupplier, okHttpClientCreator, executorSupplier, backOffSupplier, BotSessionOptions.builder().build());
+    }
+
+    public TelegramBotsLongPollingApplication(Supplier<ObjectMapper> objectMapperSupplier,
+                                              Supplier<OkHttpClient> okHttpClientCreator,
+                                              Supplier<ScheduledExecutorService> executorSupplier,
+                                              Supplier<BackOff> backOffSupplier,
+                                              BotSessionOptions defaultBotSessionOptions) {
+        this(objectMapperSupplier, objectMapper -> new OkHttpLongPollingTransport(objectMapper, okHttpClientCreator.get()),
+                executorSupplier, backOffSupplier, defaultBotSessionOptions);
+    }
+
+    /**
+     * @param transportCreator Creates the transport used by every new bot session to poll for updates,
+     *                         it receives the object mapper of the session
+     */
+    public TelegramBotsLongPollingApplication(Supplier<ObjectMapper> objectMapperSupplier,
+                                              Function<ObjectMapper, LongPollingTransport> transportCreator,
+                                              Supplier<ScheduledExecutorService> executorSupplier,
+                                              Supplier<BackOff> backOffSupplier,
+                                              BotSessionOptions defaultBotSessionOptions) {
+        this(objectMapperSupplier, transportCreator, executorSupplier, backOffSupplier, defaultBotSessionOptions, null);
+    }
+
+    private TelegramBotsLongPollingApplication(Supplier<ObjectMapper> objectMapperSupplier,
+                                               Function<ObjectMapper, LongPollingTransport> transportCreator,
+                                               Supplier<ScheduledExecutorService> executorSupplier,
+                                               Supplier<BackOff> backOffSupplier,
+                                               BotSessionOptions defaultBotSessionOptions,
+                                               ScheduledExecutorService sharedExecutor) {
         this.objectMapperSupplier = objectMapperSupplier;
-        this.okHttpClientCreator = okHttpClientCreator;
+        this.transportCreator = transportCreator;
         this.executorSupplier = executorSupplier;
         this.backOffSupplier = backOffSupplier;
+        this.defaultBotSessionOptions = defaultBotSessionOptions;
+        this.sharedExecutor = sharedExecutor;
+    }
+
+    /**
+     * Create an application where all the bots poll asynchronously through a single OkHttp client and
+     * a single executor, so the number of threads doesn't grow with the number of registered bots.
+     * @param executorThreads Number of threads shared by all the bots to process updates
+     * @param maxConcurrentPolls Max number of GetUpdates requests in flight at the same time
+     *
+     * @implNote The shared executor is shutdown when the application is closed
+     */
+    public static TelegramBotsLongPollingApplication withSharedExecutor(int executorThreads, int maxConcurrentPolls) {
+        OkHttpClient okHttpClient = new TelegramOkHttpClientFactory.DefaultOkHttpClientCreator().get();
+        okHttpClient.dispatcher().setMaxRequests(maxConcurrentPolls);
+        okHttpClient.dispatcher().setMaxRequestsPerHost(maxConcurrentPolls);
+        ScheduledExecutorService sharedExecutor = Executors.newScheduledThreadPool(executorThreads);
+        return new TelegramBotsLongPollingApplication(
+                ObjectMapper::new,
+                objectMapper -> new OkHttpLongPollingTransport(objectMapper, okHttpClient),
+                () -> sharedExecutor,
+                ExponentialBackOff::new,
+                BotSessionOptions.builder().asyncPolling(true).build(),
+                sharedExecutor
+        );
     }
 
     public BotSession registerBot(String botToken, LongPollingUpdateConsumer updatesConsumer) throws TelegramApiException {
@@ -67,18 +125,30 @@ public class TelegramBotsLongPollingApplication implements AutoCloseable {
                                   Supplier<TelegramUrl> telegramUrlSupplier,
                                   Function<Integer, GetUpdates> getUpdatesGenerator,
                                   LongPollingUpdateConsumer updatesConsumer) throws TelegramApiException {
+        return registerBot(botToken, telegramUrlSupplier, getUpdatesGenerator, updatesConsumer, defaultBotSessionOptions);
+    }
+
+    public BotSession registerBot(String botToken,
+                                  Supplier<TelegramUrl> telegramUrlSupplier,
+                                  Function<Integer, GetUpdates> getUpdatesGenerator,
+                                  LongPollingUpdateConsumer updatesConsumer,
+                                  BotSessionOptions options) throws TelegramApiException {
         if (botSessions.containsKey(botToken)) {
             throw new TelegramApiException("Bot is already registered");
         } else {
+            // Before creating the executor of the session, so it isn't leaked
+            options.validate();
+            ObjectMapper objectMapper = objectMapperSupplier.get();
             BotSession botSession = new BotSession(
-                    objectMapperSupplier.get(),
-                    okHttpClientCreator.get(),
+                    objectMapper,
+                    transportCreator.apply(objectMapper),
                     executorSupplier.get(),
                     botToken,
                     telegramUrlSupplier,
                     getUpdatesGenerator,
                     backOffSupplier,
-                    updatesConsumer
+                    updatesConsumer,
+                    options
                     );
             botSessions.put(botToken, botSession);
             if (isAppRunning.get()) {
@@ -139,5 +209,8 @@ public class TelegramBotsLongPollingApplication implements AutoCloseable {
                 botSession.close();
             }
         }
+        if (sharedExecutor != null) {
+            sharedExecutor.shutdownNow();
+        }
     }
 }
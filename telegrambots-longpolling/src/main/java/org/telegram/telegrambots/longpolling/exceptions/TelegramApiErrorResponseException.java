@@ -1,9 +1,14 @@
 package org.telegram.telegrambots.longpolling.exceptions;
 
+import lombok.Getter;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+@Getter
 public class TelegramApiErrorResponseException extends TelegramApiException {
     private final int code;
+    private final ResponseParameters parameters;
 
     public TelegramApiErrorResponseException(String message) {
         this(message, null);
@@ -16,11 +21,24 @@ public class TelegramApiErrorResponseException extends TelegramApiException {
     public TelegramApiErrorResponseException(String message, Throwable cause) {
         super(message, cause);
         this.code = -1;
+        this.parameters = cause instanceof TelegramApiRequestException requestException ? requestException.getParameters() : null;
     }
 
     public TelegramApiErrorResponseException(int code, String message) {
+        this(code, message, null);
+    }
+
+    public TelegramApiErrorResponseException(int code, String message, ResponseParameters parameters) {
         super(message);
         this.code = code;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @return Seconds to wait before retrying as requested by Telegram or null if not present
+     */
+    public Integer getRetryAfter() {
+        return parameters == null ? null : parameters.getRetryAfter();
     }
 
     @Override
@@ -0,0 +1,20 @@
+package org.telegram.telegrambots.longpolling.interfaces;
+
+/**
+ * Can be implemented by GetUpdates generators to be notified about the result of every poll,
+ * for example to adapt following requests to the observed traffic
+ */
+public interface GetUpdatesObserver {
+    /**
+     * Called after a successful GetUpdates request
+     * @param receivedUpdates Number of updates received
+     * @param pendingUpdates Number of updates received in previous polls that are still waiting to be consumed
+     */
+    void onGetUpdatesCompleted(int receivedUpdates, int pendingUpdates);
+
+    /**
+     * Called after a failed GetUpdates request
+     * @param exception Error received
+     */
+    void onGetUpdatesFailed(Exception exception);
+}
@@ -0,0 +1,59 @@
+package org.telegram.telegrambots.longpolling.interfaces;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP transport used by bot sessions to send GetUpdates and DeleteWebhook requests.
+ * <p>
+ * A single instance may be shared by many sessions, so implementations must be thread safe.
+ */
+public interface LongPollingTransport {
+    /**
+     * Send the method and wait for the response
+     * @param telegramUrl Server to send the request to
+     * @param botToken Token of the bot sending the request
+     * @param method Method to send
+     * @return Response received, it must be closed by the caller
+     */
+    Response execute(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method) throws IOException;
+
+    /**
+     * Send the method without blocking the calling thread
+     * @param telegramUrl Server to send the request to
+     * @param botToken Token of the bot sending the request
+     * @param method Method to send
+     * @return Future completed with the response, it must be closed by the caller.
+     * Cancelling the future aborts the request.
+     */
+    CompletableFuture<Response> executeAsync(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method);
+
+    @Getter
+    @RequiredArgsConstructor
+    class Response implements Closeable {
+        private final int code;
+        private final String message;
+        /**
+         * Body of the response or null if it didn't have one
+         */
+        private final InputStream body;
+
+        public boolean isSuccessful() {
+            return code >= 200 && code < 300;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (body != null) {
+                body.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.telegram.telegrambots.longpolling.interfaces;
+
+/**
+ * Storage for the id of the last update processed by a bot, so polling can be resumed from it after a restart
+ */
+public interface UpdatesOffsetStore extends AutoCloseable {
+    /**
+     * @return Id of the last processed update or 0 if none was stored
+     */
+    int getLastProcessedUpdateId();
+
+    /**
+     * Record a new last processed update id, implementations may delay persisting it until next {@link #flush()}
+     * @param updateId Id of the last processed update
+     */
+    void storeLastProcessedUpdateId(int updateId);
+
+    /**
+     * Persist the last recorded update id
+     */
+    void flush();
+
+    @Override
+    default void close() {
+        flush();
+    }
+}
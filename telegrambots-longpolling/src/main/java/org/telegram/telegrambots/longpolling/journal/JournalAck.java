@@ -0,0 +1,72 @@
+package org.telegram.telegrambots.longpolling.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory mapped position of the journal up to which a shard has been consumed.
+ * Positions are global to the journal: segment index * segment size + position in the segment.
+ */
+class JournalAck implements AutoCloseable {
+    private static final int ACK_SIZE = 8;
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalAck(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalAck open(Path directory, int shard) throws IOException {
+        FileChannel channel = FileChannel.open(getPath(directory, shard),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalAck(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, ACK_SIZE));
+    }
+
+    /**
+     * @return Lowest position acknowledged by any of the shards, 0 if any of them never acknowledged
+     */
+    static long readMinPosition(Path directory, int shards) throws IOException {
+        long minPosition = Long.MAX_VALUE;
+        for (int shard = 0; shard < shards; shard++) {
+            Path path = getPath(directory, shard);
+            if (!Files.exists(path)) {
+                return 0;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (channel.size() < ACK_SIZE) {
+                    return 0;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, ACK_SIZE);
+                minPosition = Math.min(minPosition, (long) LONG.getAcquire(buffer, 0));
+            }
+        }
+        return minPosition;
+    }
+
+    long getPosition() {
+        return (long) LONG.getAcquire(buffer, 0);
+    }
+
+    void setPosition(long position) {
+        LONG.setRelease(buffer, 0, position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static Path getPath(Path directory, int shard) {
+        return directory.resolve("shard-" + shard + ".ack");
+    }
+}
@@ -0,0 +1,156 @@
+package org.telegram.telegrambots.longpolling.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.Getter;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Memory mapped file of the journal.
+ * <p>
+ * A segment starts with a header (magic, shards, index) followed by records, each with a header
+ * (length, shard, update id, reserved) and the update as json, padded to 8 bytes.
+ * The length of a record is written last with release semantics, so once a reader sees it, the rest of the
+ * record is visible too. A length of 0 means no more records yet, and {@link #END_OF_SEGMENT} that they
+ * continue in the next segment.
+ */
+class JournalSegment implements AutoCloseable {
+    static final int SEGMENT_HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 16;
+    static final int END_OF_SEGMENT = -1;
+
+    private static final int MAGIC = 0x54474A4C;
+    private static final String FILE_PREFIX = "updates-";
+    private static final String FILE_SUFFIX = ".journal";
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    @Getter
+    private final long index;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(long index, FileChannel channel, MappedByteBuffer buffer) {
+        this.index = index;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long index, int segmentSize, int shards) throws IOException {
+        FileChannel channel = FileChannel.open(getPath(directory, index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.putInt(4, shards);
+        buffer.putLong(8, index);
+        INT.setRelease(buffer, 0, MAGIC);
+        return new JournalSegment(index, channel, buffer);
+    }
+
+    /**
+     * @return The segment or null if it doesn't exist or it is not completely created yet
+     */
+    static JournalSegment open(Path directory, long index, int segmentSize, int shards, boolean writable) throws IOException {
+        Path path = getPath(directory, index);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        FileChannel channel = writable ?
+                FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE) :
+                FileChannel.open(path, StandardOpenOption.READ);
+        if (channel.size() < segmentSize) {
+            channel.close();
+            return null;
+        }
+        MappedByteBuffer buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+        if ((int) INT.getAcquire(buffer, 0) != MAGIC) {
+            channel.close();
+            return null;
+        }
+        if (buffer.getInt(4) != shards) {
+            channel.close();
+            throw new IllegalStateException("Journal was created with " + buffer.getInt(4) + " shards, not " + shards);
+        }
+        return new JournalSegment(index, channel, buffer);
+    }
+
+    /**
+     * @return Indexes of the existing segments, sorted
+     */
+    static List<Long> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+                    .forEach(name -> indexes.add(Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()))));
+        }
+        Collections.sort(indexes);
+        return indexes;
+    }
+
+    static void delete(Path directory, long index) throws IOException {
+        Files.deleteIfExists(getPath(directory, index));
+    }
+
+    static int getRecordSize(int payloadLength) {
+        return (RECORD_HEADER_SIZE + payloadLength + 7) & ~7;
+    }
+
+    int getLength(int position) {
+        return (int) INT.getAcquire(buffer, position);
+    }
+
+    int getShard(int position) {
+        return buffer.getInt(position + 4);
+    }
+
+    int getUpdateId(int position) {
+        return buffer.getInt(position + 8);
+    }
+
+    Update readUpdate(int position, int length, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readValue(new ByteBufferBackedInputStream(buffer.slice(position + RECORD_HEADER_SIZE, length)), Update.class);
+    }
+
+    void write(int position, int shard, int updateId, byte[] payload) {
+        buffer.putInt(position + 4, shard);
+        buffer.putInt(position + 8, updateId);
+        buffer.put(position + RECORD_HEADER_SIZE, payload);
+        INT.setRelease(buffer, position, payload.length);
+    }
+
+    /**
+     * Marks that following records are in the next segment
+     */
+    void seal(int position) {
+        INT.setRelease(buffer, position, END_OF_SEGMENT);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static Path getPath(Path directory, long index) {
+        return directory.resolve(String.format("%s%019d%s", FILE_PREFIX, index, FILE_SUFFIX));
+    }
+}
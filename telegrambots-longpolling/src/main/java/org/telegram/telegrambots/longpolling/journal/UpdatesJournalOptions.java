@@ -0,0 +1,68 @@
+package org.telegram.telegrambots.longpolling.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * Options of an updates journal, the poller and all its workers must use the same values
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UpdatesJournalOptions {
+    /**
+     * Directory where the journal is stored, it must be on a local disk shared by the poller and the workers
+     */
+    private Path directory;
+
+    /**
+     * Number of shards updates are partitioned into by chat id, it can't change once the journal is created
+     */
+    @Builder.Default
+    private int shards = 16;
+
+    /**
+     * Size in bytes of every journal file, a multiple of 8 big enough for the largest update
+     */
+    @Builder.Default
+    private int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * Time workers wait before checking again for new updates when they reach the end of the journal
+     */
+    @Builder.Default
+    private long readerIdleMillis = 10;
+
+    /**
+     * Max number of updates handed to the worker consumer at once
+     */
+    @Builder.Default
+    private int maxBatchSize = 100;
+
+    /**
+     * If true, updates are forced to disk before the poller confirms them to Telegram.
+     * Otherwise, they can be lost if the machine, not just the process, crashes.
+     */
+    @Builder.Default
+    private boolean forceWrites = false;
+
+    public void validate() {
+        if (directory == null) {
+            throw new IllegalArgumentException("Journal directory is required");
+        }
+        if (shards < 1) {
+            throw new IllegalArgumentException("Shards must be at least 1");
+        }
+        if (segmentSize < 4096 || segmentSize % 8 != 0) {
+            throw new IllegalArgumentException("Segment size must be a multiple of 8 and at least 4096 bytes");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package org.telegram.telegrambots.longpolling.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.longpolling.interfaces.BackOff;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
+import org.telegram.telegrambots.longpolling.util.ExponentialBackOff;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.telegram.telegrambots.longpolling.journal.JournalSegment.END_OF_SEGMENT;
+import static org.telegram.telegrambots.longpolling.journal.JournalSegment.SEGMENT_HEADER_SIZE;
+
+/**
+ * Worker side of an updates journal: reads the updates of some shards appended by {@link UpdatesJournalWriter}
+ * and hands them to a consumer, in the same order they were polled.
+ * <p>
+ * After every batch, the position reached is acknowledged for each owned shard, so a restarted worker continues
+ * where it was. Each shard must be owned by a single worker, as updates from the same chat are always in the same
+ * shard, this keeps them in order while different workers process different chats in parallel.
+ * <p>
+ * A batch the consumer fails to process is handed to it again, after a back off, until it succeeds, so a consumer
+ * may receive some updates of a batch twice. Positions are never acknowledged past a batch that was not consumed.
+ * Records that can't be deserialized are skipped and counted in {@link #getSkippedUpdates()}.
+ */
+@Slf4j
+public class UpdatesJournalReader implements AutoCloseable {
+    private final ObjectMapper objectMapper;
+    private final UpdatesJournalOptions options;
+    private final LongPollingUpdateConsumer updatesConsumer;
+    private final JournalAck[] acks;
+
+    private volatile boolean running = false;
+    private Thread readerThread;
+    /**
+     * Position of the journal up to which updates have been consumed
+     */
+    @Getter
+    private volatile long position;
+    /**
+     * Updates skipped because their record couldn't be deserialized
+     */
+    @Getter
+    private volatile long skippedUpdates = 0;
+
+    /**
+     * @param shards Shards owned by this worker
+     * @param updatesConsumer Consumer receiving the updates of the owned shards
+     */
+    public UpdatesJournalReader(ObjectMapper objectMapper,
+                                UpdatesJournalOptions options,
+                                Collection<Integer> shards,
+                                LongPollingUpdateConsumer updatesConsumer) throws IOException {
+        options.validate();
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard must be owned by the reader");
+        }
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.updatesConsumer = updatesConsumer;
+        this.acks = new JournalAck[options.getShards()];
+        for (int shard : shards) {
+            if (shard < 0 || shard >= options.getShards()) {
+                throw new IllegalArgumentException("Shard " + shard + " doesn't exist");
+            }
+            acks[shard] = JournalAck.open(options.getDirectory(), shard);
+        }
+        this.position = getStartPosition();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        readerThread = new Thread(this::readJournal, "telegram-journal-reader");
+        readerThread.start();
+    }
+
+    /**
+     * Stops reading, waiting for the batch in progress to be consumed
+     */
+    @Override
+    public synchronized void close() throws InterruptedException {
+        running = false;
+        if (readerThread != null) {
+            readerThread.join();
+            readerThread = null;
+        }
+        for (JournalAck ack : acks) {
+            if (ack != null) {
+                try {
+                    ack.close();
+                } catch (IOException e) {
+                    log.warn("Unable to close journal ack", e);
+                }
+            }
+        }
+    }
+
+    private void readJournal() {
+        int segmentSize = options.getSegmentSize();
+        long readPosition = position;
+        JournalSegment segment = null;
+        List<Update> batch = new ArrayList<>();
+        while (running) {
+            try {
+                if (segment == null) {
+                    segment = JournalSegment.open(options.getDirectory(), readPosition / segmentSize,
+                            segmentSize, options.getShards(), false);
+                    if (segment == null) {
+                        idle();
+                        continue;
+                    }
+                }
+                int offset = (int) (readPosition % segmentSize);
+                int length = segment.getLength(offset);
+                if (length == 0) {
+                    if (!consumeBatch(batch, readPosition)) {
+                        break;
+                    }
+                    idle();
+                } else if (length == END_OF_SEGMENT) {
+                    segment.close();
+                    segment = null;
+                    readPosition = (readPosition / segmentSize + 1) * segmentSize + SEGMENT_HEADER_SIZE;
+                } else {
+                    int shard = segment.getShard(offset);
+                    JournalAck ack = shard >= 0 && shard < acks.length ? acks[shard] : null;
+                    if (ack != null && readPosition >= ack.getPosition()) {
+                        readUpdate(segment, offset, length, batch);
+                    }
+                    readPosition += JournalSegment.getRecordSize(length);
+                    if (batch.size() >= options.getMaxBatchSize() && !consumeBatch(batch, readPosition)) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Error reading updates journal", e);
+                try {
+                    idle();
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        consumeBatch(batch, readPosition);
+        if (segment != null) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Unable to close journal segment", e);
+            }
+        }
+    }
+
+    private void readUpdate(JournalSegment segment, int offset, int length, List<Update> batch) {
+        try {
+            batch.add(segment.readUpdate(offset, length, objectMapper));
+        } catch (IOException e) {
+            // Only the reader thread writes it
+            skippedUpdates++;
+            log.error("Skipping update {} that can't be read from the journal", segment.getUpdateId(offset), e);
+        }
+    }
+
+    /**
+     * Hands the batch to the consumer, retrying until it is consumed, then acknowledges the read position
+     *
+     * @return False if the reader was closed before the batch could be consumed, nothing is acknowledged then
+     */
+    private boolean consumeBatch(List<Update> batch, long readPosition) {
+        if (!batch.isEmpty()) {
+            BackOff backOff = null;
+            while (true) {
+                try {
+                    updatesConsumer.consume(new ArrayList<>(batch));
+                    break;
+                } catch (Exception e) {
+                    if (!running) {
+                        log.error("Error consuming updates from the journal, they will be consumed again after a restart", e);
+                        return false;
+                    }
+                    if (backOff == null) {
+                        backOff = new ExponentialBackOff();
+                    }
+                    long delayMillis = backOff.nextBackOffMillis();
+                    log.error("Error consuming updates from the journal, retrying in {} millis", delayMillis, e);
+                    if (!waitToRetry(delayMillis)) {
+                        return false;
+                    }
+                }
+            }
+            batch.clear();
+        }
+        if (readPosition > position) {
+            for (JournalAck ack : acks) {
+                if (ack != null && readPosition > ack.getPosition()) {
+                    ack.setPosition(readPosition);
+                }
+            }
+            position = readPosition;
+        }
+        return true;
+    }
+
+    /**
+     * @return False if the reader was closed or interrupted while waiting
+     */
+    private boolean waitToRetry(long delayMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        try {
+            while (running && deadline - System.nanoTime() > 0) {
+                idle();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return running;
+    }
+
+    private void idle() throws InterruptedException {
+        Thread.sleep(options.getReaderIdleMillis());
+    }
+
+    /**
+     * Restart from the lowest position acknowledged by the owned shards, updates of shards that were
+     * acknowledged further are skipped until their position
+     */
+    private long getStartPosition() throws IOException {
+        long startPosition = Long.MAX_VALUE;
+        for (JournalAck ack : acks) {
+            if (ack != null) {
+                startPosition = Math.min(startPosition, ack.getPosition());
+            }
+        }
+        List<Long> segments = JournalSegment.listSegments(options.getDirectory());
+        long oldestPosition = (segments.isEmpty() ? 0 : segments.get(0)) * options.getSegmentSize() + SEGMENT_HEADER_SIZE;
+        return Math.max(startPosition, oldestPosition);
+    }
+}
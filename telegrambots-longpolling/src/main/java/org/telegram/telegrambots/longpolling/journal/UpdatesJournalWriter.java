@@ -0,0 +1,186 @@
+package org.telegram.telegrambots.longpolling.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
+import org.telegram.telegrambots.longpolling.interfaces.UpdatesOffsetStore;
+import org.telegram.telegrambots.longpolling.util.UpdateChatIdExtractor;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.telegram.telegrambots.longpolling.journal.JournalSegment.END_OF_SEGMENT;
+import static org.telegram.telegrambots.longpolling.journal.JournalSegment.RECORD_HEADER_SIZE;
+import static org.telegram.telegrambots.longpolling.journal.JournalSegment.SEGMENT_HEADER_SIZE;
+
+/**
+ * Poller side of an updates journal: appends every polled update to a memory mapped journal on local disk,
+ * so they can be processed by several worker processes using {@link UpdatesJournalReader}.
+ * <p>
+ * It must be used both as the updates consumer and the offset store of the bot session, so updates are
+ * confirmed to Telegram once they are in the journal, and polling resumes after the last journaled update on restart:
+ * <pre>{@code
+ * UpdatesJournalWriter writer = new UpdatesJournalWriter(objectMapper, journalOptions);
+ * application.registerBot(token, () -> TelegramUrl.DEFAULT_URL, new DefaultGetUpdatesGenerator(), writer,
+ *         BotSessionOptions.builder().offsetStore(writer).build());
+ * }</pre>
+ *
+ * @implNote Files of the journal are deleted once all the shards acknowledged them,
+ * so every shard must be owned by some worker
+ */
+@Slf4j
+public class UpdatesJournalWriter implements LongPollingUpdateConsumer, UpdatesOffsetStore, AutoCloseable {
+    private final ObjectMapper objectMapper;
+    private final UpdatesJournalOptions options;
+
+    private JournalSegment segment;
+    private int position;
+    @Getter
+    private volatile int lastJournaledUpdateId = 0;
+
+    public UpdatesJournalWriter(ObjectMapper objectMapper, UpdatesJournalOptions options) throws IOException {
+        options.validate();
+        this.objectMapper = objectMapper;
+        this.options = options;
+        Files.createDirectories(options.getDirectory());
+
+        List<Long> segments = JournalSegment.listSegments(options.getDirectory());
+        if (segments.isEmpty()) {
+            segment = JournalSegment.create(options.getDirectory(), 0, options.getSegmentSize(), options.getShards());
+            position = SEGMENT_HEADER_SIZE;
+        } else {
+            resume(segments);
+        }
+    }
+
+    /**
+     * Shard an update belongs to, updates from the same chat are always in the same shard
+     */
+    public static int getShard(Update update, int shards) {
+        return Math.floorMod(Long.hashCode(UpdateChatIdExtractor.getChatId(update)), shards);
+    }
+
+    /**
+     * @throws UncheckedIOException If the journal can't be written, so updates are not confirmed to Telegram
+     */
+    @Override
+    public synchronized void consume(List<Update> updates) {
+        try {
+            for (Update update : updates) {
+                // After a restart, Telegram may send again updates that were journaled but not confirmed
+                if (update.getUpdateId() > lastJournaledUpdateId) {
+                    append(update);
+                }
+            }
+            if (options.isForceWrites()) {
+                segment.force();
+            }
+        } catch (IOException e) {
+            log.error("Unable to write updates to the journal", e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int getLastProcessedUpdateId() {
+        return lastJournaledUpdateId;
+    }
+
+    /**
+     * Nothing to store, the journal itself records the last update
+     */
+    @Override
+    public void storeLastProcessedUpdateId(int updateId) {
+    }
+
+    @Override
+    public synchronized void flush() {
+        segment.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            segment.force();
+            segment.close();
+        } catch (IOException e) {
+            log.error("Unable to close journal", e);
+        }
+    }
+
+    private void append(Update update) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(update);
+        int recordSize = JournalSegment.getRecordSize(payload.length);
+        if (recordSize > options.getSegmentSize() - SEGMENT_HEADER_SIZE - RECORD_HEADER_SIZE) {
+            throw new IOException("Update " + update.getUpdateId() + " doesn't fit in a journal segment");
+        }
+        // Always leave room for the end of segment mark
+        if (position + recordSize > options.getSegmentSize() - RECORD_HEADER_SIZE) {
+            roll();
+        }
+        segment.write(position, getShard(update, options.getShards()), update.getUpdateId(), payload);
+        position += recordSize;
+        lastJournaledUpdateId = update.getUpdateId();
+    }
+
+    /**
+     * Continue writing in a new segment, the next one is created before marking the end of the current one,
+     * so readers reaching the mark can always open it
+     */
+    private void roll() throws IOException {
+        JournalSegment next = JournalSegment.create(options.getDirectory(), segment.getIndex() + 1,
+                options.getSegmentSize(), options.getShards());
+        segment.seal(position);
+        segment.force();
+        segment.close();
+        segment = next;
+        position = SEGMENT_HEADER_SIZE;
+        deleteConsumedSegments();
+    }
+
+    private void deleteConsumedSegments() throws IOException {
+        long minPosition = JournalAck.readMinPosition(options.getDirectory(), options.getShards());
+        for (long index : JournalSegment.listSegments(options.getDirectory())) {
+            if (index < segment.getIndex() && (index + 1) * options.getSegmentSize() <= minPosition) {
+                log.debug("Deleting consumed journal segment {}", index);
+                JournalSegment.delete(options.getDirectory(), index);
+            }
+        }
+    }
+
+    private void resume(List<Long> segments) throws IOException {
+        for (int i = segments.size() - 1; i >= 0 && lastJournaledUpdateId == 0; i--) {
+            JournalSegment existing = JournalSegment.open(options.getDirectory(), segments.get(i),
+                    options.getSegmentSize(), options.getShards(), true);
+            if (existing == null) {
+                continue;
+            }
+            int end = SEGMENT_HEADER_SIZE;
+            int length;
+            while ((length = existing.getLength(end)) > 0) {
+                lastJournaledUpdateId = existing.getUpdateId(end);
+                end += JournalSegment.getRecordSize(length);
+            }
+            if (segment == null) {
+                segment = existing;
+                position = end;
+                if (length == END_OF_SEGMENT) {
+                    roll();
+                }
+            } else {
+                existing.close();
+            }
+        }
+        if (segment == null) {
+            segment = JournalSegment.create(options.getDirectory(), segments.get(segments.size() - 1) + 1,
+                    options.getSegmentSize(), options.getShards());
+            position = SEGMENT_HEADER_SIZE;
+        }
+        log.info("Resuming journal at segment {} after update {}", segment.getIndex(), lastJournaledUpdateId);
+    }
+}
@@ -0,0 +1,126 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import lombok.Getter;
+import org.telegram.telegrambots.longpolling.interfaces.GetUpdatesObserver;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * GetUpdates generator that tunes limit and timeout from the traffic observed in previous polls.
+ * <p>
+ * Batch sizes and error rate are tracked as exponentially weighted moving averages:
+ * <ul>
+ *     <li>When batches are full, the timeout goes down to the min one and the limit is kept at the max one.</li>
+ *     <li>When batches are empty, the timeout goes up to the max one so idle bots send as few requests as possible.</li>
+ *     <li>When the consumer lags behind, the limit is reduced by the number of pending updates.</li>
+ *     <li>When most of the requests fail, the max timeout and min limit are used.</li>
+ * </ul>
+ * Last decisions and the values they were based on are exposed through getters.
+ */
+@Getter
+public class AdaptiveGetUpdatesGenerator implements Function<Integer, GetUpdates>, GetUpdatesObserver {
+    private static final int DEFAULT_MIN_LIMIT = 10;
+    private static final int DEFAULT_MAX_LIMIT = 100;
+    private static final int DEFAULT_MIN_TIMEOUT = 1;
+    private static final int DEFAULT_MAX_TIMEOUT = 50;
+    private static final double DEFAULT_SMOOTHING_FACTOR = 0.3;
+    private static final double ERROR_RATE_THRESHOLD = 0.5;
+
+    private final List<String> allowedUpdates;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int minTimeout;
+    private final int maxTimeout;
+    private final double smoothingFactor;
+
+    private double averageBatchSize = 0;
+    private double errorRate = 0;
+    private int pendingUpdates = 0;
+    private int currentLimit;
+    private int currentTimeout;
+    private long completedPolls = 0;
+    private long failedPolls = 0;
+
+    public AdaptiveGetUpdatesGenerator() {
+        this(new ArrayList<>());
+    }
+
+    public AdaptiveGetUpdatesGenerator(List<String> allowedUpdates) {
+        this(allowedUpdates, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_MIN_TIMEOUT, DEFAULT_MAX_TIMEOUT, DEFAULT_SMOOTHING_FACTOR);
+    }
+
+    /**
+     * @param allowedUpdates Update types to receive
+     * @param minLimit Min number of updates to request (1-100)
+     * @param maxLimit Max number of updates to request (1-100)
+     * @param minTimeout Min long polling timeout in seconds
+     * @param maxTimeout Max long polling timeout in seconds
+     * @param smoothingFactor Weight (0-1] of the latest poll in the moving averages
+     */
+    public AdaptiveGetUpdatesGenerator(List<String> allowedUpdates, int minLimit, int maxLimit,
+                                       int minTimeout, int maxTimeout, double smoothingFactor) {
+        if (minLimit < 1 || maxLimit > 100 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must be between 1 and 100 and min limit can't be bigger than max limit");
+        }
+        if (minTimeout < 0 || minTimeout > maxTimeout) {
+            throw new IllegalArgumentException("Timeouts must be positive and min timeout can't be bigger than max timeout");
+        }
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("Smoothing factor must be in range (0, 1]");
+        }
+        this.allowedUpdates = allowedUpdates;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.minTimeout = minTimeout;
+        this.maxTimeout = maxTimeout;
+        this.smoothingFactor = smoothingFactor;
+        this.currentLimit = maxLimit;
+        this.currentTimeout = maxTimeout;
+    }
+
+    @Override
+    public synchronized GetUpdates apply(Integer lastReceivedUpdate) {
+        return GetUpdates
+                .builder()
+                .limit(currentLimit)
+                .timeout(currentTimeout)
+                .offset(lastReceivedUpdate + 1)
+                .allowedUpdates(allowedUpdates)
+                .build();
+    }
+
+    @Override
+    public synchronized void onGetUpdatesCompleted(int receivedUpdates, int pendingUpdates) {
+        completedPolls++;
+        this.pendingUpdates = pendingUpdates;
+        averageBatchSize = smooth(averageBatchSize, receivedUpdates);
+        errorRate = smooth(errorRate, 0);
+        updateDecisions();
+    }
+
+    @Override
+    public synchronized void onGetUpdatesFailed(Exception exception) {
+        failedPolls++;
+        errorRate = smooth(errorRate, 1);
+        updateDecisions();
+    }
+
+    private double smooth(double average, double value) {
+        return smoothingFactor * value + (1 - smoothingFactor) * average;
+    }
+
+    private void updateDecisions() {
+        if (errorRate >= ERROR_RATE_THRESHOLD) {
+            currentLimit = minLimit;
+            currentTimeout = maxTimeout;
+            return;
+        }
+
+        double load = Math.min(1.0, averageBatchSize / maxLimit);
+        currentTimeout = (int) Math.round(maxTimeout - (maxTimeout - minTimeout) * load);
+        currentLimit = Math.max(minLimit, maxLimit - pendingUpdates);
+    }
+}
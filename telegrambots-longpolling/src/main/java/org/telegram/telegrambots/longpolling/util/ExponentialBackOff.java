@@ -63,6 +63,16 @@ import org.telegram.telegrambots.longpolling.interfaces.BackOff;
  * </pre>
  *
  * <p>
+ * When decorrelated jitter is enabled, each back off period is instead a random value between the
+ * initial interval and three times the previous back off period (capped by max_interval), so many
+ * clients failing at the same time spread their retries instead of retrying in lockstep:
+ * </p>
+ *
+ * <pre>
+ backoff = min(max_interval, random value in range [initial_interval, previous_backoff * 3])
+ * </pre>
+ *
+ * <p>
  * Implementation is not thread-safe.
  * </p>
  *
@@ -89,6 +99,9 @@ public class ExponentialBackOff implements BackOff {
     /** The default maximum elapsed time in milliseconds (15 minutes). */
     private static final int DEFAULT_MAX_ELAPSED_TIME_MILLIS = 900000;
 
+    /** The factor applied to the previous back off to get the upper bound with decorrelated jitter. */
+    private static final int DECORRELATED_JITTER_FACTOR = 3;
+
     /** The current retry interval in milliseconds. */
     private int currentIntervalMillis;
 
@@ -126,6 +139,12 @@ public class ExponentialBackOff implements BackOff {
      */
     private final int maxElapsedTimeMillis;
 
+    /** Whether to use decorrelated jitter instead of a randomization around the retry interval. */
+    private final boolean decorrelatedJitter;
+
+    /** The previous back off period in milliseconds, only used with decorrelated jitter. */
+    private int previousBackOffMillis;
+
     /**
      * Creates an instance of ExponentialBackOffPolicy using default values.
      *
@@ -154,6 +173,7 @@ public class ExponentialBackOff implements BackOff {
         multiplier = builder.multiplier;
         maxIntervalMillis = builder.maxIntervalMillis;
         maxElapsedTimeMillis = builder.maxElapsedTimeMillis;
+        decorrelatedJitter = builder.decorrelatedJitter;
         if (initialIntervalMillis <= 0) {
             throw new IllegalArgumentException("InitialIntervalMillis must not be negative");
         }
@@ -176,6 +196,7 @@ public class ExponentialBackOff implements BackOff {
     @Override
     public void reset() {
         currentIntervalMillis = initialIntervalMillis;
+        previousBackOffMillis = initialIntervalMillis;
         startTimeNanos = nanoTime();
     }
 
@@ -197,6 +218,11 @@ public class ExponentialBackOff implements BackOff {
         if (getElapsedTimeMillis() > maxElapsedTimeMillis) {
             return maxElapsedTimeMillis;
         }
+        if (decorrelatedJitter) {
+            previousBackOffMillis = getDecorrelatedJitterValue(
+                    Math.random(), initialIntervalMillis, previousBackOffMillis, maxIntervalMillis);
+            return previousBackOffMillis;
+        }
         int randomizedInterval =
                 getRandomValueFromInterval(randomizationFactor, Math.random(), currentIntervalMillis);
         incrementCurrentInterval();
@@ -218,6 +244,16 @@ public class ExponentialBackOff implements BackOff {
         return (int) (minInterval + (random * (maxInterval - minInterval + 1)));
     }
 
+    /**
+     * Returns a random value from the interval [initialIntervalMillis, previousBackOffMillis * 3],
+     * capped by maxIntervalMillis.
+     */
+    static int getDecorrelatedJitterValue(
+            double random, int initialIntervalMillis, int previousBackOffMillis, int maxIntervalMillis) {
+        long maxInterval = Math.min((long) maxIntervalMillis, (long) previousBackOffMillis * DECORRELATED_JITTER_FACTOR);
+        return (int) Math.min(maxIntervalMillis, initialIntervalMillis + (long) (random * (maxInterval - initialIntervalMillis + 1)));
+    }
+
     /**
      * Returns the elapsed time in milliseconds since an {@link ExponentialBackOff} instance is
      * created and is reset when {@link #reset()} is called.
@@ -288,6 +324,11 @@ public class ExponentialBackOff implements BackOff {
          */
         int maxElapsedTimeMillis = DEFAULT_MAX_ELAPSED_TIME_MILLIS;
 
+        /**
+         * Whether to use decorrelated jitter instead of a randomization around the retry interval.
+         */
+        boolean decorrelatedJitter = false;
+
         public Builder() {
         }
 
@@ -316,6 +357,11 @@ public class ExponentialBackOff implements BackOff {
             return this;
         }
 
+        public Builder setDecorrelatedJitter(boolean decorrelatedJitter) {
+            this.decorrelatedJitter = decorrelatedJitter;
+            return this;
+        }
+
         /** Builds a new instance of {@link ExponentialBackOff}. */
         public ExponentialBackOff build() {
             return new ExponentialBackOff(this);
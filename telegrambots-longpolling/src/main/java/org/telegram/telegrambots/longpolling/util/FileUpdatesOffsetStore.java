@@ -0,0 +1,102 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.longpolling.interfaces.UpdatesOffsetStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores the last processed update id in a file.
+ * <p>
+ * To avoid a disk sync per update, new ids are kept in memory and written to disk at most once
+ * every commit interval (or when {@link #flush()} is called). Every write goes to a temporary file
+ * that is synced and atomically moved over the previous one, so a crash never leaves a corrupted file.
+ */
+@Slf4j
+public class FileUpdatesOffsetStore implements UpdatesOffsetStore {
+    public static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 1000;
+
+    @Getter
+    private final Path file;
+    @Getter
+    private final long commitIntervalMillis;
+    private final Path tempFile;
+
+    private int lastProcessedUpdateId;
+    private int lastCommittedUpdateId;
+    private long lastCommitTime = 0;
+
+    public FileUpdatesOffsetStore(Path file) {
+        this(file, DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * @param file File to store the last processed update id
+     * @param commitIntervalMillis Min time between writes to disk, 0 to write every new id
+     */
+    public FileUpdatesOffsetStore(Path file, long commitIntervalMillis) {
+        this.file = file;
+        this.commitIntervalMillis = commitIntervalMillis;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.lastProcessedUpdateId = readFile();
+        this.lastCommittedUpdateId = lastProcessedUpdateId;
+    }
+
+    @Override
+    public synchronized int getLastProcessedUpdateId() {
+        return lastProcessedUpdateId;
+    }
+
+    @Override
+    public synchronized void storeLastProcessedUpdateId(int updateId) {
+        if (updateId > lastProcessedUpdateId) {
+            lastProcessedUpdateId = updateId;
+            if (System.currentTimeMillis() - lastCommitTime >= commitIntervalMillis) {
+                flush();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (lastProcessedUpdateId == lastCommittedUpdateId) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(Integer.toString(lastProcessedUpdateId).getBytes(StandardCharsets.UTF_8)));
+                channel.force(false);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastCommittedUpdateId = lastProcessedUpdateId;
+            lastCommitTime = System.currentTimeMillis();
+        } catch (IOException e) {
+            log.error("Unable to store last processed update id {} in {}", lastProcessedUpdateId, file, e);
+        }
+    }
+
+    private int readFile() {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(Files.readString(file, StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            log.error("Unable to read last processed update id from {}, starting from scratch", file, e);
+            return 0;
+        }
+    }
+}
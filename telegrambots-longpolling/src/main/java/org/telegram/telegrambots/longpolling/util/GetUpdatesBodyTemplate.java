@@ -0,0 +1,90 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okio.BufferedSink;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Json body of a GetUpdates request encoded once and reused by following polls.
+ * <p>
+ * Between polls only the offset changes, so the body is kept as the bytes before and after the offset,
+ * and every request just writes the new offset between them.
+ */
+public class GetUpdatesBodyTemplate {
+    private static final int OFFSET_PLACEHOLDER = Integer.MIN_VALUE;
+    private static final String OFFSET_PLACEHOLDER_FIELD = "\"offset\":" + OFFSET_PLACEHOLDER;
+
+    private final Integer limit;
+    private final Integer timeout;
+    private final List<String> allowedUpdates;
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    private GetUpdatesBodyTemplate(GetUpdates getUpdates, byte[] prefix, byte[] suffix) {
+        this.limit = getUpdates.getLimit();
+        this.timeout = getUpdates.getTimeout();
+        this.allowedUpdates = getUpdates.getAllowedUpdates() == null ? null : new ArrayList<>(getUpdates.getAllowedUpdates());
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * @return A template for requests like the given one or null if its body can't be split around the offset,
+     * for example because the object mapper is configured to indent the output
+     */
+    public static GetUpdatesBodyTemplate create(ObjectMapper objectMapper, GetUpdates getUpdates) throws JsonProcessingException {
+        GetUpdates placeholder = new GetUpdates();
+        placeholder.setOffset(OFFSET_PLACEHOLDER);
+        placeholder.setLimit(getUpdates.getLimit());
+        placeholder.setTimeout(getUpdates.getTimeout());
+        placeholder.setAllowedUpdates(getUpdates.getAllowedUpdates());
+        String json = objectMapper.writeValueAsString(placeholder);
+        int fieldIndex = json.indexOf(OFFSET_PLACEHOLDER_FIELD);
+        if (fieldIndex < 0 || json.indexOf(OFFSET_PLACEHOLDER_FIELD, fieldIndex + 1) >= 0) {
+            return null;
+        }
+        int offsetIndex = fieldIndex + OFFSET_PLACEHOLDER_FIELD.length() - String.valueOf(OFFSET_PLACEHOLDER).length();
+        return new GetUpdatesBodyTemplate(
+                getUpdates,
+                json.substring(0, offsetIndex).getBytes(StandardCharsets.UTF_8),
+                json.substring(fieldIndex + OFFSET_PLACEHOLDER_FIELD.length()).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * @return True if the request only differs from the template in the offset
+     */
+    public boolean matches(GetUpdates getUpdates) {
+        return getUpdates.getOffset() != null &&
+                Objects.equals(limit, getUpdates.getLimit()) &&
+                Objects.equals(timeout, getUpdates.getTimeout()) &&
+                Objects.equals(allowedUpdates, getUpdates.getAllowedUpdates());
+    }
+
+    public long contentLength(int offset) {
+        return prefix.length + decimalLength(offset) + suffix.length;
+    }
+
+    public void writeTo(BufferedSink sink, int offset) throws IOException {
+        sink.write(prefix);
+        sink.writeDecimalLong(offset);
+        sink.write(suffix);
+    }
+
+    private static int decimalLength(int value) {
+        long absolute = Math.abs((long) value);
+        int length = value < 0 ? 2 : 1;
+        while (absolute >= 10) {
+            absolute /= 10;
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,160 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Update consumer that processes updates on a fixed set of workers, partitioned by chat id.
+ * <p>
+ * Every update is routed to a worker using the chat id derived by {@link UpdateChatIdExtractor},
+ * so updates from the same chat are always handled in order by the same worker, while updates
+ * from different chats are handled in parallel.
+ * <p>
+ * Each worker has a bounded queue, when it is full {@link #consume(List)} blocks, pausing the
+ * polling of new updates until the worker catches up.
+ * <p>
+ * Unlike {@link LongPollingSingleThreadUpdateConsumer}, workers are owned by each instance, so
+ * different bots don't share threads.
+ */
+@Slf4j
+public abstract class LongPollingMultiThreadUpdateConsumer implements LongPollingUpdateConsumer, AutoCloseable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private static final AtomicInteger consumerCounter = new AtomicInteger(0);
+
+    @Getter
+    private final int workersCount;
+    private final BlockingQueue<Update>[] queues;
+    private final Thread[] workers;
+    private volatile boolean running = true;
+
+    public LongPollingMultiThreadUpdateConsumer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public LongPollingMultiThreadUpdateConsumer(int workersCount) {
+        this(workersCount, DEFAULT_QUEUE_CAPACITY, false);
+    }
+
+    /**
+     * @param workersCount Number of workers updates are partitioned into
+     * @param queueCapacity Max number of pending updates per worker
+     * @param useVirtualThreads If true, workers run on virtual threads (requires Java 21+)
+     */
+    public LongPollingMultiThreadUpdateConsumer(int workersCount, int queueCapacity, boolean useVirtualThreads) {
+        this(workersCount, queueCapacity, useVirtualThreads ? virtualThreadFactory() : platformThreadFactory());
+    }
+
+    @SuppressWarnings("unchecked")
+    public LongPollingMultiThreadUpdateConsumer(int workersCount, int queueCapacity, ThreadFactory threadFactory) {
+        if (workersCount < 1) {
+            throw new IllegalArgumentException("Workers count must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        this.workersCount = workersCount;
+        this.queues = new BlockingQueue[workersCount];
+        this.workers = new Thread[workersCount];
+        for (int i = 0; i < workersCount; i++) {
+            BlockingQueue<Update> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues[i] = queue;
+            workers[i] = threadFactory.newThread(() -> processQueue(queue));
+            workers[i].start();
+        }
+    }
+
+    @Override
+    public void consume(List<Update> updates) {
+        for (Update update : updates) {
+            try {
+                queues[getWorkerIndex(update)].put(update);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while queueing update {}", update.getUpdateId(), e);
+                return;
+            }
+        }
+    }
+
+    public abstract void consume(Update update);
+
+    /**
+     * @return Number of updates waiting to be processed across all workers
+     */
+    public int getPendingUpdates() {
+        int pending = 0;
+        for (BlockingQueue<Update> queue : queues) {
+            pending += queue.size();
+        }
+        return pending;
+    }
+
+    /**
+     * Stops accepting work and waits for the workers to finish the updates already queued.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    protected int getWorkerIndex(Update update) {
+        return Math.floorMod(Long.hashCode(UpdateChatIdExtractor.getChatId(update)), workersCount);
+    }
+
+    private void processQueue(BlockingQueue<Update> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                Update update = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (update != null) {
+                    consume(update);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error processing update", e);
+            }
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        int consumerId = consumerCounter.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        return runnable -> {
+            Thread thread = defaultFactory.newThread(runnable);
+            thread.setName("telegram-updates-" + consumerId + "-worker-" + threadCounter.incrementAndGet());
+            return thread;
+        };
+    }
+
+    /**
+     * Virtual threads are only available from Java 21 while this library targets Java 17,
+     * so the factory is looked up reflectively.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, "telegram-updates-" + consumerCounter.incrementAndGet() + "-worker-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer", e);
+        }
+    }
+}
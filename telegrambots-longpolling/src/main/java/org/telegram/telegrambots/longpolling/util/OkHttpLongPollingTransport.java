@@ -0,0 +1,182 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingTransport;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default transport, sends the requests using an OkHttp client
+ * <p>
+ * As the same requests are sent over and over, urls are built once per bot and method, and GetUpdates bodies
+ * are written from a {@link GetUpdatesBodyTemplate}, so a poll barely allocates more than the OkHttp call.
+ */
+public class OkHttpLongPollingTransport implements LongPollingTransport {
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json");
+    private static final Headers JSON_HEADERS = Headers.of(
+            "charset", StandardCharsets.UTF_8.name(),
+            "content-type", "application/json"
+    );
+
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final OkHttpClient okHttpClient;
+
+    private final ConcurrentHashMap<UrlKey, HttpUrl> urls = new ConcurrentHashMap<>();
+    private volatile GetUpdatesBodyTemplate getUpdatesTemplate = null;
+    private volatile boolean useGetUpdatesTemplate = true;
+
+    public OkHttpLongPollingTransport(ObjectMapper objectMapper) {
+        this(objectMapper, new TelegramOkHttpClientFactory.DefaultOkHttpClientCreator().get());
+    }
+
+    public OkHttpLongPollingTransport(ObjectMapper objectMapper, OkHttpClient okHttpClient) {
+        this.objectMapper = objectMapper;
+        this.okHttpClient = okHttpClient;
+    }
+
+    @Override
+    public Response execute(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method) throws IOException {
+        Request request = createRequest(telegramUrl, botToken, method);
+        return toResponse(okHttpClient.newCall(request).execute());
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> method) {
+        Request request;
+        try {
+            request = createRequest(telegramUrl, botToken, method);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        Call call = okHttpClient.newCall(request);
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull okhttp3.Response response) {
+                if (!future.complete(toResponse(response))) {
+                    response.close();
+                }
+            }
+        });
+        return future;
+    }
+
+    private static Response toResponse(okhttp3.Response response) {
+        ResponseBody body = response.body();
+        return new Response(response.code(), response.message(), body != null ? body.byteStream() : null);
+    }
+
+    @NonNull
+    private Request createRequest(TelegramUrl telegramUrl, String botToken, BotApiMethod<?> apiMethod) throws JsonProcessingException {
+        return new Request.Builder()
+                .url(getUrl(telegramUrl, botToken, apiMethod.getMethod()))
+                .headers(JSON_HEADERS)
+                .post(createBody(apiMethod))
+                .build();
+    }
+
+    private RequestBody createBody(BotApiMethod<?> apiMethod) throws JsonProcessingException {
+        if (useGetUpdatesTemplate && apiMethod instanceof GetUpdates getUpdates && getUpdates.getOffset() != null) {
+            GetUpdatesBodyTemplate template = getUpdatesTemplate;
+            if (template == null || !template.matches(getUpdates)) {
+                template = GetUpdatesBodyTemplate.create(objectMapper, getUpdates);
+                getUpdatesTemplate = template;
+                // Don't try again if the object mapper output can't be used as a template
+                useGetUpdatesTemplate = template != null;
+            }
+            if (template != null) {
+                return new GetUpdatesRequestBody(template, getUpdates.getOffset());
+            }
+        }
+        return RequestBody.create(objectMapper.writeValueAsBytes(apiMethod), JSON_MEDIA_TYPE);
+    }
+
+    /**
+     * @return Url of the method, built only the first time it is requested for the same server and bot, as a
+     * transport can be shared by sessions of several bots
+     */
+    private HttpUrl getUrl(TelegramUrl telegramUrl, String botToken, String methodPath) {
+        return urls.computeIfAbsent(new UrlKey(telegramUrl, botToken, methodPath),
+                key -> buildUrl(telegramUrl, botToken, methodPath));
+    }
+
+    @NonNull
+    private HttpUrl buildUrl(TelegramUrl telegramUrl, String botToken, String methodPath) {
+        HttpUrl.Builder builder = new HttpUrl
+                .Builder()
+                .scheme(telegramUrl.getSchema())
+                .host(telegramUrl.getHost())
+                .port(telegramUrl.getPort())
+                .addPathSegment("bot" + botToken);
+
+        if (telegramUrl.isTestServer()) {
+            builder.addPathSegment("test");
+        }
+
+        builder.addPathSegment(methodPath);
+
+        return builder.build();
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class UrlKey {
+        private final TelegramUrl telegramUrl;
+        private final String botToken;
+        private final String methodPath;
+    }
+
+    @RequiredArgsConstructor
+    private static class GetUpdatesRequestBody extends RequestBody {
+        private final GetUpdatesBodyTemplate template;
+        private final int offset;
+
+        @Override
+        public MediaType contentType() {
+            return JSON_MEDIA_TYPE;
+        }
+
+        @Override
+        public long contentLength() {
+            return template.contentLength(offset);
+        }
+
+        @Override
+        public void writeTo(@NonNull BufferedSink sink) throws IOException {
+            template.writeTo(sink, offset);
+        }
+    }
+}
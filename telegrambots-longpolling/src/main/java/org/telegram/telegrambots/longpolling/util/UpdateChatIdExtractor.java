@@ -0,0 +1,60 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.telegram.telegrambots.meta.api.objects.CallbackQuery;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+/**
+ * Derives the originating chat id of an {@link Update}, following the same rules as
+ * AbilityUtils#getChatId from the abilities module.
+ * <p>
+ * Updates that are not bound to any chat (polls, deleted business messages and update types unknown
+ * to this class) resolve to {@link #NO_CHAT_ID} instead of failing, so they can still be routed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UpdateChatIdExtractor {
+    public static final long NO_CHAT_ID = 0L;
+
+    public static long getChatId(Update update) {
+        if (update.hasMessage()) {
+            return update.getMessage().getChatId();
+        } else if (update.hasCallbackQuery()) {
+            CallbackQuery callbackQuery = update.getCallbackQuery();
+            // Callback queries from inline messages have no message, only the user who pressed the button
+            return callbackQuery.getMessage() != null ? callbackQuery.getMessage().getChatId() : callbackQuery.getFrom().getId();
+        } else if (update.hasInlineQuery()) {
+            return update.getInlineQuery().getFrom().getId();
+        } else if (update.hasChannelPost()) {
+            return update.getChannelPost().getChatId();
+        } else if (update.hasEditedChannelPost()) {
+            return update.getEditedChannelPost().getChatId();
+        } else if (update.hasEditedMessage()) {
+            return update.getEditedMessage().getChatId();
+        } else if (update.hasChosenInlineQuery()) {
+            return update.getChosenInlineQuery().getFrom().getId();
+        } else if (update.hasShippingQuery()) {
+            return update.getShippingQuery().getFrom().getId();
+        } else if (update.hasPreCheckoutQuery()) {
+            return update.getPreCheckoutQuery().getFrom().getId();
+        } else if (update.hasPollAnswer()) {
+            return update.getPollAnswer().getUser().getId();
+        } else if (update.hasMyChatMember()) {
+            return update.getMyChatMember().getChat().getId();
+        } else if (update.hasChatMember()) {
+            return update.getChatMember().getChat().getId();
+        } else if (update.hasChatJoinRequest()) {
+            return update.getChatJoinRequest().getChat().getId();
+        } else if (update.hasBusinessConnection()) {
+            return update.getBusinessConnection().getUser().getId();
+        } else if (update.hasBusinessMessage()) {
+            return update.getBusinessMessage().getFrom().getId();
+        } else if (update.hasEditedBusinessMessage()) {
+            return update.getEditedBuinessMessage().getFrom().getId();
+        } else if (update.hasPaidMediaPurchased()) {
+            return update.getPaidMediaPurchased().getUser().getId();
+        } else {
+            return NO_CHAT_ID;
+        }
+    }
+}
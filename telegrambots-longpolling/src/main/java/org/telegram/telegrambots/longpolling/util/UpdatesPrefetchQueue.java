@@ -0,0 +1,151 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded hand-off queue between the thread polling updates and the thread consuming them.
+ * <p>
+ * Capacity is limited both by number of updates and by size in bytes of the responses they were
+ * parsed from, producers block when any of the limits is reached. A batch is always accepted
+ * when the queue is empty, so a single batch bigger than the limits can't block polling forever.
+ */
+public class UpdatesPrefetchQueue {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<Batch> batches = new ArrayDeque<>();
+
+    @Getter
+    private final int maxUpdates;
+    @Getter
+    private final long maxBytes;
+
+    private int pendingUpdates = 0;
+    private long pendingBytes = 0;
+
+    public UpdatesPrefetchQueue(int maxUpdates, long maxBytes) {
+        if (maxUpdates < 1) {
+            throw new IllegalArgumentException("Max updates must be at least 1");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Max bytes must be at least 1");
+        }
+        this.maxUpdates = maxUpdates;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Add a batch of updates, waiting if needed until there is room for it
+     * @param updates Updates to add
+     * @param bytes Size in bytes of the response the updates were parsed from
+     */
+    public void put(List<Update> updates, long bytes) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!batches.isEmpty() &&
+                    (pendingUpdates + updates.size() > maxUpdates || pendingBytes + bytes > maxBytes)) {
+                notFull.await();
+            }
+            batches.addLast(new Batch(updates, bytes));
+            pendingUpdates += updates.size();
+            pendingBytes += bytes;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve and remove the oldest batch of updates, waiting if needed until one is available
+     */
+    public List<Update> take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (batches.isEmpty()) {
+                notEmpty.await();
+            }
+            Batch batch = batches.removeFirst();
+            pendingUpdates -= batch.updates.size();
+            pendingBytes -= batch.bytes;
+            notFull.signalAll();
+            return batch.updates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve and remove the oldest batch of updates, waiting up to the given time until one is available
+     * @return The batch, or null if none was available in time
+     */
+    public List<Update> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (batches.isEmpty()) {
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            Batch batch = batches.removeFirst();
+            pendingUpdates -= batch.updates.size();
+            pendingBytes -= batch.bytes;
+            notFull.signalAll();
+            return batch.updates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the pending batches, waking up producers waiting for room
+     * @return Number of updates removed
+     */
+    public int clear() {
+        lock.lock();
+        try {
+            int removedUpdates = pendingUpdates;
+            batches.clear();
+            pendingUpdates = 0;
+            pendingBytes = 0;
+            notFull.signalAll();
+            return removedUpdates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingUpdates() {
+        lock.lock();
+        try {
+            return pendingUpdates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPendingBytes() {
+        lock.lock();
+        try {
+            return pendingBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Batch {
+        private final List<Update> updates;
+        private final long bytes;
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
 import org.telegram.telegrambots.longpolling.util.DefaultGetUpdatesGenerator;
 import org.telegram.telegrambots.longpolling.util.ExponentialBackOff;
 import org.telegram.telegrambots.longpolling.util.LongPollingSingleThreadUpdateConsumer;
@@ -24,12 +25,15 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.times;
@@ -271,6 +275,156 @@ public class TestTelegramBotsLongPollingApplicationIntegration {
         }
     }
 
+    @Test
+    public void testUpdatesAreReceivedWithPrefetching() {
+        try {
+            List<Update> updateReceived = new ArrayList<>();
+
+            Dispatcher dispatcher = getDispatcher(List.of(getFakeUpdates1(), getFakeUpdates2()));
+            webServer.setDispatcher(dispatcher);
+
+            application.registerBot("TOKEN",
+                    () -> telegramUrl,
+                    new DefaultGetUpdatesGenerator(),
+                    (LongPollingSingleThreadUpdateConsumer) update -> updateReceived.add(update),
+                    BotSessionOptions.builder().prefetchUpdates(true).maxPrefetchedUpdates(2).build());
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> updateReceived.size() == 4);
+
+            assertEquals(4, updateReceived.stream().map(Update::getUpdateId).distinct().count());
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    public void testPrefetchedUpdatesAreConsumedWhenStopping() {
+        try {
+            List<Update> updateReceived = new CopyOnWriteArrayList<>();
+
+            Dispatcher dispatcher = getDispatcher(List.of(getFakeUpdates1(), getFakeUpdates2()));
+            webServer.setDispatcher(dispatcher);
+
+            application.registerBot("TOKEN",
+                    () -> telegramUrl,
+                    new DefaultGetUpdatesGenerator(),
+                    (LongPollingUpdateConsumer) updates -> {
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        updateReceived.addAll(updates);
+                    },
+                    BotSessionOptions.builder().prefetchUpdates(true).build());
+
+            // DeleteWebhook, both batches of updates and the next poll
+            await().atMost(5, TimeUnit.SECONDS).until(() -> webServer.getRequestCount() >= 4);
+            assertTrue(updateReceived.size() < 4);
+
+            application.stop();
+
+            assertEquals(4, updateReceived.size());
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    public void testUpdatesAreReceivedWithAsyncPolling() {
+        try {
+            List<Update> updateReceived = new ArrayList<>();
+
+            Dispatcher dispatcher = getDispatcher(List.of(getFakeUpdates1(), getFakeUpdates1(), getFakeUpdates2()));
+            webServer.setDispatcher(dispatcher);
+
+            application.registerBot("TOKEN",
+                    () -> telegramUrl,
+                    new DefaultGetUpdatesGenerator(),
+                    (LongPollingSingleThreadUpdateConsumer) update -> updateReceived.add(update),
+                    BotSessionOptions.builder().asyncPolling(true).build());
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> updateReceived.size() == 4);
+
+            assertEquals(4, updateReceived.stream().map(Update::getUpdateId).distinct().count());
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    public void testPollingContinuesWhenConsumerFails() {
+        try {
+            List<Update> updateReceived = new CopyOnWriteArrayList<>();
+            AtomicBoolean failed = new AtomicBoolean(false);
+
+            Dispatcher dispatcher = getDispatcher(List.of(getFakeUpdates1(), getFakeUpdates2()));
+            webServer.setDispatcher(dispatcher);
+
+            application.registerBot("TOKEN",
+                    () -> telegramUrl,
+                    new DefaultGetUpdatesGenerator(),
+                    (LongPollingUpdateConsumer) updates -> {
+                        if (failed.compareAndSet(false, true)) {
+                            throw new IllegalStateException("Consumer failed");
+                        }
+                        updateReceived.addAll(updates);
+                    });
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> updateReceived.stream().anyMatch(update -> update.getUpdateId() == 4));
+
+            assertTrue(application.isRunning());
+            verify(exponentialBackOff, times(1)).nextBackOffMillis();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    public void testFailedBatchIsReceivedAgain() {
+        assertFailedBatchIsReceivedAgain(BotSessionOptions.builder().build());
+    }
+
+    @Test
+    public void testFailedPrefetchedBatchIsReceivedAgain() {
+        assertFailedBatchIsReceivedAgain(BotSessionOptions.builder().prefetchUpdates(true).build());
+    }
+
+    private void assertFailedBatchIsReceivedAgain(BotSessionOptions options) {
+        try {
+            List<Integer> updateIdsReceived = new CopyOnWriteArrayList<>();
+            AtomicBoolean failed = new AtomicBoolean(false);
+
+            webServer.setDispatcher(getOffsetDispatcher(4));
+
+            application.registerBot("TOKEN",
+                    () -> telegramUrl,
+                    new DefaultGetUpdatesGenerator(),
+                    (LongPollingUpdateConsumer) updates -> {
+                        if (failed.compareAndSet(false, true)) {
+                            throw new IllegalStateException("Consumer failed");
+                        }
+                        updates.forEach(update -> updateIdsReceived.add(update.getUpdateId()));
+                    },
+                    options);
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> updateIdsReceived.contains(4));
+
+            assertEquals(List.of(1, 2, 3, 4), updateIdsReceived);
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    public void testPrefetchingIsRejectedWithAsyncPolling() {
+        assertThrows(IllegalArgumentException.class, () -> application.registerBot("TOKEN",
+                () -> telegramUrl,
+                new DefaultGetUpdatesGenerator(),
+                (LongPollingSingleThreadUpdateConsumer) update -> {},
+                BotSessionOptions.builder().asyncPolling(true).prefetchUpdates(true).build()));
+    }
+
     @Test
     public void testWhenErrorResponseBackOffIsExecuted() {
         try {
@@ -293,6 +447,33 @@ public class TestTelegramBotsLongPollingApplicationIntegration {
         }
     }
 
+    @Test
+    public void testWhenTooManyRequestsRetryAfterIsUsedInsteadOfBackOff() {
+        try {
+            List<Update> updateReceived = new ArrayList<>();
+
+            MockResponse tooManyRequests = new MockResponse()
+                    .setResponseCode(429)
+                    .addHeader("Content-Type", "application/json; charset=utf-8")
+                    .setBody("{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 1\",\"parameters\":{\"retry_after\":1}}");
+            Dispatcher dispatcher = getDispatcher(List.of(tooManyRequests, getFakeUpdates1()));
+            webServer.setDispatcher(dispatcher);
+
+            long start = System.currentTimeMillis();
+            application.registerBot("TOKEN",
+                    () -> telegramUrl,
+                    new DefaultGetUpdatesGenerator(),
+                    (LongPollingSingleThreadUpdateConsumer) update -> updateReceived.add(update));
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> updateReceived.size() == 2);
+
+            assertTrue(System.currentTimeMillis() - start >= 1000);
+            verify(exponentialBackOff, times(0)).nextBackOffMillis();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
     @NonNull
     private Dispatcher getDispatcher(List<Object> responses) {
         return new Dispatcher() {
@@ -305,7 +486,11 @@ public class TestTelegramBotsLongPollingApplicationIntegration {
                             return mockResponse(ApiResponse.<Boolean>builder().ok(true).result(true).build());
                         case "/botTOKEN/getupdates":
                             if (responses.size() >= request.getSequenceNumber()) {
-                                return mockResponse(responses.get(request.getSequenceNumber() - 1));
+                                Object response = responses.get(request.getSequenceNumber() - 1);
+                                if (response instanceof MockResponse mockResponse) {
+                                    return mockResponse;
+                                }
+                                return mockResponse(response);
                             } else {
                                 return mockResponse(ApiResponse.<List<Update>>builder().ok(true).result(new ArrayList<>()).build());
                             }
@@ -318,6 +503,37 @@ public class TestTelegramBotsLongPollingApplicationIntegration {
         };
     }
 
+    /**
+     * Behaves like Telegram, answering GetUpdates with up to 2 of the updates from the requested offset
+     */
+    @NonNull
+    private Dispatcher getOffsetDispatcher(int totalUpdates) {
+        return new Dispatcher() {
+            @NonNull
+            @Override
+            public MockResponse dispatch(@NonNull RecordedRequest request) {
+                try {
+                    switch (request.getPath()) {
+                        case "/botTOKEN/deleteWebhook":
+                            return mockResponse(ApiResponse.<Boolean>builder().ok(true).result(true).build());
+                        case "/botTOKEN/getupdates":
+                            int offset = objectMapper.readTree(request.getBody().readUtf8()).path("offset").asInt();
+                            List<Update> updates = new ArrayList<>();
+                            for (int updateId = Math.max(offset, 1); updateId <= totalUpdates && updates.size() < 2; updateId++) {
+                                Update update = new Update();
+                                update.setUpdateId(updateId);
+                                updates.add(update);
+                            }
+                            return mockResponse(ApiResponse.<List<Update>>builder().ok(true).result(updates).build());
+                    }
+                } catch (Exception e) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        };
+    }
+
     private MockResponse mockResponse(Object responseObject) throws JsonProcessingException {
         return new MockResponse()
                 .addHeader("Content-Type", "application/json; charset=utf-8")
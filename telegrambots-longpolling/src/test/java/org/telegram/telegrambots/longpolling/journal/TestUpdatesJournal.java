@@ -0,0 +1,155 @@
+package org.telegram.telegrambots.longpolling.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.chat.Chat;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestUpdatesJournal {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testWorkersReceiveTheirShardsInOrder() throws Exception {
+        UpdatesJournalOptions options = createOptions();
+        Map<Long, List<Integer>> firstWorkerUpdates = new ConcurrentHashMap<>();
+        Map<Long, List<Integer>> secondWorkerUpdates = new ConcurrentHashMap<>();
+
+        try (UpdatesJournalWriter writer = new UpdatesJournalWriter(objectMapper, options);
+             UpdatesJournalReader firstWorker = createReader(options, List.of(0, 1), firstWorkerUpdates);
+             UpdatesJournalReader secondWorker = createReader(options, List.of(2, 3), secondWorkerUpdates)) {
+            firstWorker.start();
+            secondWorker.start();
+
+            for (int i = 1; i <= 200; i += 10) {
+                List<Update> updates = new ArrayList<>();
+                for (int j = i; j < i + 10; j++) {
+                    updates.add(createUpdate(j, j % 7));
+                }
+                writer.consume(updates);
+            }
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> countUpdates(firstWorkerUpdates) + countUpdates(secondWorkerUpdates) == 200);
+            assertEquals(200, writer.getLastJournaledUpdateId());
+
+            // Once both workers acknowledged everything, segments are deleted when the journal rolls again
+            await().atMost(5, TimeUnit.SECONDS).until(() -> firstWorker.getPosition() == secondWorker.getPosition());
+            List<Update> updates = new ArrayList<>();
+            for (int i = 201; i <= 220; i++) {
+                updates.add(createUpdate(i, i % 7));
+            }
+            writer.consume(updates);
+            assertTrue(JournalSegment.listSegments(directory).get(0) > 0);
+        }
+
+        assertEquals(7, firstWorkerUpdates.size() + secondWorkerUpdates.size());
+        assertChatsAndOrder(firstWorkerUpdates, List.of(0, 1));
+        assertChatsAndOrder(secondWorkerUpdates, List.of(2, 3));
+    }
+
+    @Test
+    public void testWriterAndReaderResumeAfterRestart() throws Exception {
+        UpdatesJournalOptions options = createOptions();
+        Map<Long, List<Integer>> received = new ConcurrentHashMap<>();
+
+        try (UpdatesJournalWriter writer = new UpdatesJournalWriter(objectMapper, options);
+             UpdatesJournalReader reader = createReader(options, List.of(0, 1, 2, 3), received)) {
+            writer.consume(List.of(createUpdate(1, 1), createUpdate(2, 2)));
+            reader.start();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> countUpdates(received) == 2);
+        }
+
+        try (UpdatesJournalWriter writer = new UpdatesJournalWriter(objectMapper, options);
+             UpdatesJournalReader reader = createReader(options, List.of(0, 1, 2, 3), received)) {
+            assertEquals(2, writer.getLastProcessedUpdateId());
+            // Update 2 was already journaled before restarting, only 3 is new
+            writer.consume(List.of(createUpdate(2, 2), createUpdate(3, 3)));
+            reader.start();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> countUpdates(received) == 3);
+            Thread.sleep(100);
+        }
+
+        assertEquals(3, countUpdates(received));
+    }
+
+    @Test
+    public void testFailedBatchIsNotAcknowledged() throws Exception {
+        UpdatesJournalOptions options = createOptions();
+        AtomicInteger attempts = new AtomicInteger();
+        Map<Long, List<Integer>> received = new ConcurrentHashMap<>();
+
+        try (UpdatesJournalWriter writer = new UpdatesJournalWriter(objectMapper, options);
+             UpdatesJournalReader reader = new UpdatesJournalReader(objectMapper, options, List.of(0, 1, 2, 3), updates -> {
+                 attempts.incrementAndGet();
+                 throw new IllegalStateException("Consumer is failing");
+             })) {
+            writer.consume(List.of(createUpdate(1, 1), createUpdate(2, 2)));
+            reader.start();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> attempts.get() >= 2);
+        }
+
+        try (UpdatesJournalReader reader = createReader(options, List.of(0, 1, 2, 3), received)) {
+            reader.start();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> countUpdates(received) == 2);
+        }
+    }
+
+    private UpdatesJournalOptions createOptions() {
+        return UpdatesJournalOptions
+                .builder()
+                .directory(directory)
+                .shards(4)
+                .segmentSize(4096)
+                .readerIdleMillis(1)
+                .build();
+    }
+
+    private UpdatesJournalReader createReader(UpdatesJournalOptions options, List<Integer> shards,
+                                              Map<Long, List<Integer>> received) throws Exception {
+        return new UpdatesJournalReader(objectMapper, options, shards, updates -> {
+            for (Update update : updates) {
+                received.computeIfAbsent(update.getMessage().getChatId(), k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(update.getUpdateId());
+            }
+        });
+    }
+
+    private static int countUpdates(Map<Long, List<Integer>> received) {
+        return received.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static void assertChatsAndOrder(Map<Long, List<Integer>> received, List<Integer> shards) {
+        for (Map.Entry<Long, List<Integer>> chat : received.entrySet()) {
+            assertTrue(shards.contains(Math.floorMod(Long.hashCode(chat.getKey()), 4)));
+            List<Integer> sorted = new ArrayList<>(chat.getValue());
+            Collections.sort(sorted);
+            assertEquals(sorted, chat.getValue());
+        }
+    }
+
+    private static Update createUpdate(int updateId, long chatId) {
+        Message message = new Message();
+        message.setChat(Chat.builder().id(chatId).type("private").build());
+        Update update = new Update();
+        update.setUpdateId(updateId);
+        update.setMessage(message);
+        return update;
+    }
+}
@@ -0,0 +1,71 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestAdaptiveGetUpdatesGenerator {
+    @Test
+    public void testIdleBotUsesLongestTimeout() {
+        AdaptiveGetUpdatesGenerator generator = new AdaptiveGetUpdatesGenerator();
+        for (int i = 0; i < 10; i++) {
+            generator.onGetUpdatesCompleted(0, 0);
+        }
+
+        GetUpdates getUpdates = generator.apply(10);
+        assertEquals(11, getUpdates.getOffset());
+        assertEquals(50, getUpdates.getTimeout());
+        assertEquals(100, getUpdates.getLimit());
+    }
+
+    @Test
+    public void testBusyBotUsesShortTimeoutAndFullBatches() {
+        AdaptiveGetUpdatesGenerator generator = new AdaptiveGetUpdatesGenerator();
+        for (int i = 0; i < 20; i++) {
+            generator.onGetUpdatesCompleted(100, 0);
+        }
+
+        GetUpdates getUpdates = generator.apply(0);
+        assertTrue(getUpdates.getTimeout() <= 2);
+        assertEquals(100, getUpdates.getLimit());
+    }
+
+    @Test
+    public void testConsumerLagReducesLimit() {
+        AdaptiveGetUpdatesGenerator generator = new AdaptiveGetUpdatesGenerator();
+        generator.onGetUpdatesCompleted(100, 60);
+        assertEquals(40, generator.getCurrentLimit());
+
+        generator.onGetUpdatesCompleted(100, 500);
+        assertEquals(10, generator.getCurrentLimit());
+    }
+
+    @Test
+    public void testErrorsUseLongestTimeoutAndMinLimit() {
+        AdaptiveGetUpdatesGenerator generator = new AdaptiveGetUpdatesGenerator();
+        for (int i = 0; i < 5; i++) {
+            generator.onGetUpdatesCompleted(100, 0);
+        }
+        for (int i = 0; i < 5; i++) {
+            generator.onGetUpdatesFailed(new RuntimeException());
+        }
+
+        assertEquals(50, generator.getCurrentTimeout());
+        assertEquals(10, generator.getCurrentLimit());
+        assertEquals(5, generator.getFailedPolls());
+        assertEquals(5, generator.getCompletedPolls());
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveGetUpdatesGenerator(new ArrayList<>(), 0, 100, 1, 50, 0.3));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveGetUpdatesGenerator(new ArrayList<>(), 10, 101, 1, 50, 0.3));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveGetUpdatesGenerator(new ArrayList<>(), 10, 100, 60, 50, 0.3));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveGetUpdatesGenerator(new ArrayList<>(), 10, 100, 1, 50, 0));
+    }
+}
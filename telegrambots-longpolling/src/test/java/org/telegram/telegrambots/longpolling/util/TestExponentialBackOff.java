@@ -109,6 +109,36 @@ public class TestExponentialBackOff {
         assertEquals(3, ExponentialBackOff.getRandomValueFromInterval(0.5, 0.99, 2));
     }
 
+    @Test
+    public void testBackOffWithDecorrelatedJitter() {
+        int testInitialInterval = 500;
+        int testMaxInterval = 5000;
+
+        ExponentialBackOff backOffPolicy =
+                new ExponentialBackOff.Builder()
+                        .setInitialIntervalMillis(testInitialInterval)
+                        .setMaxIntervalMillis(testMaxInterval)
+                        .setDecorrelatedJitter(true)
+                        .build();
+        long previous = testInitialInterval;
+        for (int i = 0; i < 20; i++) {
+            long actualInterval = backOffPolicy.nextBackOffMillis();
+            assertTrue(testInitialInterval <= actualInterval);
+            assertTrue(actualInterval <= Math.min(testMaxInterval, previous * 3));
+            previous = actualInterval;
+        }
+    }
+
+    @Test
+    public void testGetDecorrelatedJitterValue() {
+        assertEquals(500, ExponentialBackOff.getDecorrelatedJitterValue(0, 500, 1000, 5000));
+        assertEquals(3000, ExponentialBackOff.getDecorrelatedJitterValue(0.9999, 500, 1000, 5000));
+        // Capped by the max interval
+        assertEquals(5000, ExponentialBackOff.getDecorrelatedJitterValue(0.9999, 500, 4000, 5000));
+        // No overflow with big intervals
+        assertEquals(Integer.MAX_VALUE, ExponentialBackOff.getDecorrelatedJitterValue(1, 1, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
     @Test
     public void testBackOffOverflow() {
         int testInitialInterval = Integer.MAX_VALUE / 2;
@@ -0,0 +1,54 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TestFileUpdatesOffsetStore {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testEmptyStoreStartsFromZero() {
+        FileUpdatesOffsetStore store = new FileUpdatesOffsetStore(tempDir.resolve("offset"));
+        assertEquals(0, store.getLastProcessedUpdateId());
+    }
+
+    @Test
+    public void testOffsetIsRestoredAfterFlush() {
+        Path file = tempDir.resolve("offset");
+        FileUpdatesOffsetStore store = new FileUpdatesOffsetStore(file, 60_000);
+        store.storeLastProcessedUpdateId(10);
+        store.storeLastProcessedUpdateId(15);
+
+        // First id is written immediately, the rest wait for the commit interval
+        assertEquals(10, new FileUpdatesOffsetStore(file).getLastProcessedUpdateId());
+
+        store.close();
+        assertEquals(15, new FileUpdatesOffsetStore(file).getLastProcessedUpdateId());
+        assertFalse(Files.exists(tempDir.resolve("offset.tmp")));
+    }
+
+    @Test
+    public void testOlderOffsetsAreIgnored() {
+        Path file = tempDir.resolve("offset");
+        FileUpdatesOffsetStore store = new FileUpdatesOffsetStore(file, 0);
+        store.storeLastProcessedUpdateId(20);
+        store.storeLastProcessedUpdateId(5);
+
+        assertEquals(20, store.getLastProcessedUpdateId());
+        assertEquals(20, new FileUpdatesOffsetStore(file).getLastProcessedUpdateId());
+    }
+
+    @Test
+    public void testCorruptedFileStartsFromZero() throws Exception {
+        Path file = tempDir.resolve("offset");
+        Files.writeString(file, "not a number");
+        assertEquals(0, new FileUpdatesOffsetStore(file).getLastProcessedUpdateId());
+    }
+}
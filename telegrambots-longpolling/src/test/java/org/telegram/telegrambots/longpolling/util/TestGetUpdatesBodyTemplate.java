@@ -0,0 +1,73 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestGetUpdatesBodyTemplate {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testBodyIsTheSameAsSerializedRequest() throws Exception {
+        List<GetUpdates> requests = List.of(
+                new DefaultGetUpdatesGenerator().apply(0),
+                new DefaultGetUpdatesGenerator(List.of("message", "callback_query")).apply(41),
+                GetUpdates.builder().offset(-1).build(),
+                GetUpdates.builder().offset(Integer.MAX_VALUE).limit(1).timeout(0).build()
+        );
+        for (GetUpdates getUpdates : requests) {
+            GetUpdatesBodyTemplate template = GetUpdatesBodyTemplate.create(objectMapper, getUpdates);
+            assertNotNull(template);
+            assertTrue(template.matches(getUpdates));
+
+            Buffer buffer = new Buffer();
+            template.writeTo(buffer, getUpdates.getOffset());
+            String expected = objectMapper.writeValueAsString(getUpdates);
+            assertEquals(expected, buffer.readUtf8());
+            assertEquals(expected.length(), template.contentLength(getUpdates.getOffset()));
+        }
+    }
+
+    @Test
+    public void testOnlyMatchesRequestsThatDifferInOffset() throws Exception {
+        DefaultGetUpdatesGenerator generator = new DefaultGetUpdatesGenerator();
+        GetUpdatesBodyTemplate template = GetUpdatesBodyTemplate.create(objectMapper, generator.apply(10));
+        assertNotNull(template);
+
+        assertTrue(template.matches(generator.apply(20)));
+        assertFalse(template.matches(GetUpdates.builder().offset(20).limit(100).timeout(1).build()));
+        assertFalse(template.matches(new DefaultGetUpdatesGenerator(List.of("message")).apply(20)));
+    }
+
+    @Test
+    public void testNoTemplateWhenBodyIsIndented() throws Exception {
+        ObjectMapper indentingMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        assertNull(GetUpdatesBodyTemplate.create(indentingMapper, new DefaultGetUpdatesGenerator().apply(0)));
+    }
+
+    @Test
+    public void testBodyIsWrittenWithTheGivenOffset() throws Exception {
+        GetUpdates getUpdates = new DefaultGetUpdatesGenerator(List.of("message")).apply(10);
+        GetUpdatesBodyTemplate template = GetUpdatesBodyTemplate.create(objectMapper, getUpdates);
+        assertNotNull(template);
+
+        Buffer buffer = new Buffer();
+        for (int offset : new int[] {0, -1, 9, 123_456_789, Integer.MIN_VALUE}) {
+            template.writeTo(buffer, offset);
+            getUpdates.setOffset(offset);
+            String expected = objectMapper.writeValueAsString(getUpdates);
+            assertEquals(expected, buffer.readUtf8());
+            assertEquals(expected.length(), template.contentLength(offset));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.chat.Chat;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestLongPollingMultiThreadUpdateConsumer {
+    @Test
+    public void testUpdatesFromSameChatAreProcessedInOrder() throws Exception {
+        Map<Long, List<Integer>> receivedByChat = new ConcurrentHashMap<>();
+        LongPollingMultiThreadUpdateConsumer consumer = new LongPollingMultiThreadUpdateConsumer(4, 10, false) {
+            @Override
+            public void consume(Update update) {
+                receivedByChat
+                        .computeIfAbsent(update.getMessage().getChatId(), k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(update.getUpdateId());
+            }
+        };
+
+        List<Update> updates = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            updates.add(createUpdate(i, i % 7));
+        }
+        consumer.consume(updates);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> receivedByChat.values().stream().mapToInt(List::size).sum() == 100);
+        consumer.close();
+
+        assertEquals(7, receivedByChat.size());
+        for (List<Integer> updateIds : receivedByChat.values()) {
+            List<Integer> sorted = new ArrayList<>(updateIds);
+            Collections.sort(sorted);
+            assertEquals(sorted, updateIds);
+        }
+    }
+
+    @Test
+    public void testCloseDrainsPendingUpdates() throws Exception {
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        LongPollingMultiThreadUpdateConsumer consumer = new LongPollingMultiThreadUpdateConsumer(1) {
+            @Override
+            public void consume(Update update) {
+                received.add(update.getUpdateId());
+            }
+        };
+
+        consumer.consume(List.of(createUpdate(1, 1L), createUpdate(2, 1L), createUpdate(3, 1L)));
+        consumer.close();
+
+        assertEquals(List.of(1, 2, 3), received);
+        assertEquals(0, consumer.getPendingUpdates());
+    }
+
+    private static Update createUpdate(int updateId, long chatId) {
+        Message message = new Message();
+        message.setChat(Chat.builder().id(chatId).type("private").build());
+        Update update = new Update();
+        update.setUpdateId(updateId);
+        update.setMessage(message);
+        return update;
+    }
+}
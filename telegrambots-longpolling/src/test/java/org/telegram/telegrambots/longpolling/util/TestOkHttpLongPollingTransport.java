@@ -0,0 +1,47 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingTransport;
+import org.telegram.telegrambots.meta.TelegramUrl;
+import org.telegram.telegrambots.meta.api.methods.updates.DeleteWebhook;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestOkHttpLongPollingTransport {
+    private MockWebServer webServer;
+    private TelegramUrl telegramUrl;
+
+    @BeforeEach
+    public void setUp() {
+        webServer = new MockWebServer();
+        HttpUrl mockUrl = webServer.url("");
+        telegramUrl = TelegramUrl.builder().schema(mockUrl.scheme()).host(mockUrl.host()).port(mockUrl.port()).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        webServer.shutdown();
+    }
+
+    @Test
+    public void testSessionsOfSeveralBotsShareTheTransport() throws Exception {
+        OkHttpLongPollingTransport transport = new OkHttpLongPollingTransport(new ObjectMapper());
+        for (int i = 0; i < 4; i++) {
+            webServer.enqueue(new MockResponse().setBody("{\"ok\":true,\"result\":true}"));
+        }
+
+        for (String botToken : new String[]{"TOKEN1", "TOKEN2", "TOKEN1", "TOKEN2"}) {
+            try (LongPollingTransport.Response ignored = transport.execute(telegramUrl, botToken, new DeleteWebhook())) {
+                assertEquals("/bot" + botToken + "/deleteWebhook", webServer.takeRequest().getPath());
+            }
+        }
+    }
+}
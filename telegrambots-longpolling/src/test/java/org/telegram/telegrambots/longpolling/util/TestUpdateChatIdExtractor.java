@@ -0,0 +1,47 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.CallbackQuery;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.api.objects.chat.Chat;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestUpdateChatIdExtractor {
+    @Test
+    public void testCallbackQueryUsesChatOfMessage() {
+        Message message = new Message();
+        message.setChat(Chat.builder().id(-100L).type("supergroup").build());
+        CallbackQuery callbackQuery = new CallbackQuery();
+        callbackQuery.setFrom(User.builder().id(42L).firstName("User").isBot(false).build());
+        callbackQuery.setMessage(message);
+
+        assertEquals(-100L, UpdateChatIdExtractor.getChatId(createUpdate(callbackQuery)));
+    }
+
+    @Test
+    public void testInlineCallbackQueryUsesSender() {
+        CallbackQuery callbackQuery = new CallbackQuery();
+        callbackQuery.setFrom(User.builder().id(42L).firstName("User").isBot(false).build());
+        callbackQuery.setInlineMessageId("inline-message");
+
+        assertEquals(42L, UpdateChatIdExtractor.getChatId(createUpdate(callbackQuery)));
+    }
+
+    @Test
+    public void testUpdateWithoutChatHasNoChatId() {
+        Update update = new Update();
+        update.setUpdateId(1);
+
+        assertEquals(UpdateChatIdExtractor.NO_CHAT_ID, UpdateChatIdExtractor.getChatId(update));
+    }
+
+    private static Update createUpdate(CallbackQuery callbackQuery) {
+        Update update = new Update();
+        update.setUpdateId(1);
+        update.setCallbackQuery(callbackQuery);
+        return update;
+    }
+}
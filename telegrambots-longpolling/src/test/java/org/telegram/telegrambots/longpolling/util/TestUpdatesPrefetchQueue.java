@@ -0,0 +1,89 @@
+package org.telegram.telegrambots.longpolling.util;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestUpdatesPrefetchQueue {
+    @Test
+    public void testPutBlocksWhenUpdatesLimitIsReached() throws Exception {
+        UpdatesPrefetchQueue queue = new UpdatesPrefetchQueue(2, Long.MAX_VALUE);
+        queue.put(List.of(new Update(), new Update()), 10);
+
+        CompletableFuture<Void> blockedPut = CompletableFuture.runAsync(() -> {
+            try {
+                queue.put(List.of(new Update()), 10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(blockedPut.isDone());
+
+        assertEquals(2, queue.take().size());
+        await().atMost(1, TimeUnit.SECONDS).until(blockedPut::isDone);
+        assertEquals(1, queue.getPendingUpdates());
+        assertEquals(10, queue.getPendingBytes());
+    }
+
+    @Test
+    public void testPutBlocksWhenBytesLimitIsReached() throws Exception {
+        UpdatesPrefetchQueue queue = new UpdatesPrefetchQueue(100, 15);
+        queue.put(List.of(new Update()), 10);
+
+        CompletableFuture<Void> blockedPut = CompletableFuture.runAsync(() -> {
+            try {
+                queue.put(List.of(new Update()), 10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(blockedPut.isDone());
+
+        queue.take();
+        await().atMost(1, TimeUnit.SECONDS).until(blockedPut::isDone);
+    }
+
+    @Test
+    public void testOversizedBatchIsAcceptedWhenEmpty() throws Exception {
+        UpdatesPrefetchQueue queue = new UpdatesPrefetchQueue(1, 1);
+        queue.put(List.of(new Update(), new Update()), 100);
+        assertEquals(2, queue.getPendingUpdates());
+    }
+
+    @Test
+    public void testClearUnblocksPut() throws Exception {
+        UpdatesPrefetchQueue queue = new UpdatesPrefetchQueue(2, Long.MAX_VALUE);
+        queue.put(List.of(new Update(), new Update()), 10);
+
+        CompletableFuture<Void> blockedPut = CompletableFuture.runAsync(() -> {
+            try {
+                queue.put(List.of(new Update()), 10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(blockedPut.isDone());
+
+        assertEquals(2, queue.clear());
+        await().atMost(1, TimeUnit.SECONDS).until(blockedPut::isDone);
+        assertEquals(1, queue.getPendingUpdates());
+        assertEquals(10, queue.getPendingBytes());
+    }
+
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new UpdatesPrefetchQueue(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UpdatesPrefetchQueue(1, 0));
+    }
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"add(int, String)","u":"add(int,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"add(int, String)","u":"add(int,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"add(String)","u":"add(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"add(String)","u":"add(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"addAll(List<String>)","u":"addAll(java.util.List)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"addAll(List<String>)","u":"addAll(java.util.List)"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"ADDITIONAL_CHAT_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"AddStickerToSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"MemberStatus","l":"ADMINISTRATOR"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"AffiliateInfo","l":"AffiliateInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"ALLOW_PAID_BROADCAST_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"ALLOW_PAID_BROADCAST_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"ALLOW_PAID_BROADCAST_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"ALLOW_SENDING_WITHOUT_REPLY_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"ALLOW_SENDING_WITHOUT_REPLY_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"ALLOWED_UPDATES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"AllowedUpdates()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"ANIMATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.games","c":"Animation","l":"Animation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerCallbackQuery","l":"AnswerCallbackQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerInlineQuery","l":"AnswerInlineQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerPreCheckoutQuery","l":"AnswerPreCheckoutQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerShippingQuery","l":"AnswerShippingQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.webapp","c":"AnswerWebAppQuery","l":"AnswerWebAppQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ApiResponse","l":"ApiResponse()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"ApiResponseReaders","l":"ApiResponseReaders(ObjectMapper)","u":"%3Cinit%3E(com.fasterxml.jackson.databind.ObjectMapper)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest","l":"ApproveChatJoinRequest()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest.ApproveChatJoinRequestBuilder","l":"ApproveChatJoinRequestBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"AUDIO_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Audio","l":"Audio()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFillFreeformGradient","l":"BackgroundFillFreeformGradient()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFillGradient","l":"BackgroundFillGradient()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFillSolid","l":"BackgroundFillSolid()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypeChatTheme","l":"BackgroundTypeChatTheme()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypeFill","l":"BackgroundTypeFill()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypePattern","l":"BackgroundTypePattern()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypeWallpaper","l":"BackgroundTypeWallpaper()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"BanChatMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember.BanChatMemberBuilder","l":"BanChatMemberBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"BanChatSenderChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat.BanChatSenderChatBuilder","l":"BanChatSenderChatBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Birthdate","l":"Birthdate()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOutcome","l":"BLOCKED"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"BOLD"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethod","l":"BotApiMethod()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodBoolean","l":"BotApiMethodBoolean()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodBoolean.BotApiMethodBooleanBuilder","l":"BotApiMethodBooleanBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethod.BotApiMethodBuilder","l":"BotApiMethodBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodMessage","l":"BotApiMethodMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodMessage.BotApiMethodMessageBuilder","l":"BotApiMethodMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodSerializable","l":"BotApiMethodSerializable()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodSerializable.BotApiMethodSerializableBuilder","l":"BotApiMethodSerializableBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"BOTCOMMAND"},{"p":"org.telegram.telegrambots.meta.api.objects.commands","c":"BotCommand","l":"BotCommand()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeAllChatAdministrators","l":"BotCommandScopeAllChatAdministrators()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeAllGroupChats","l":"BotCommandScopeAllGroupChats()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeAllPrivateChats","l":"BotCommandScopeAllPrivateChats()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChat","l":"BotCommandScopeChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatAdministrators","l":"BotCommandScopeChatAdministrators()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatAdministrators.BotCommandScopeChatAdministratorsBuilder","l":"BotCommandScopeChatAdministratorsBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChat.BotCommandScopeChatBuilder","l":"BotCommandScopeChatBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatMember","l":"BotCommandScopeChatMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatMember.BotCommandScopeChatMemberBuilder","l":"BotCommandScopeChatMemberBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeDefault","l":"BotCommandScopeDefault()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.description","c":"BotDescription","l":"BotDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.name","c":"BotName","l":"BotName()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.description","c":"BotShortDescription","l":"BotShortDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOptions","l":"BroadcastOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastProgress","l":"BroadcastProgress()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"BUSINESS_CONNECTION_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"BUSINESSCONNECTION"},{"p":"org.telegram.telegrambots.meta.api.objects.business","c":"BusinessConnection","l":"BusinessConnection()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.business","c":"BusinessIntro","l":"BusinessIntro()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.business","c":"BusinessLocation","l":"BusinessLocation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"BUSINESSMESSAGE"},{"p":"org.telegram.telegrambots.meta.api.objects.business","c":"BusinessMessagesDeleted","l":"BusinessMessagesDeleted()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.business","c":"BusinessOpeningHours","l":"BusinessOpeningHours()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.business","c":"BusinessOpeningHoursInterval","l":"BusinessOpeningHoursInterval()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.games","c":"CallbackGame","l":"CallbackGame()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"CALLBACKQUERY"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"CallbackQuery","l":"CallbackQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"CAPTION_ENTITIES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"CAPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"CASHTAG"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"CERTIFICATE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOrigin","l":"CHANNEL_TYPE"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"CHANNELPOST"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"CHAT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"CHAT_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"CHAT_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"CHAT_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"CHAT_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.util","c":"Validations","l":"CHAT_ID_VALIDATION"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypeChatTheme","l":"CHAT_THEME_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOrigin","l":"CHAT_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","c":"Chat","l":"Chat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.adminrights","c":"ChatAdministratorRights","l":"ChatAdministratorRights()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background","c":"ChatBackground","l":"ChatBackground()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"CHATBOOST"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoost","l":"ChatBoost()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostAdded","l":"ChatBoostAdded()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostRemoved","l":"ChatBoostRemoved()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostSourceGiftCode","l":"ChatBoostSourceGiftCode()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostSourceGiveaway","l":"ChatBoostSourceGiveaway()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostSourcePremium","l":"ChatBoostSourcePremium()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostUpdated","l":"ChatBoostUpdated()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","c":"ChatFullInfo","l":"ChatFullInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"CHATID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts.GetUserChatBoostsBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage.CopyMessageBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages.CopyMessagesBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic.CloseForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic.CloseGeneralForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic.CreateForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic.DeleteForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic.EditForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic.EditGeneralForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic.HideGeneralForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic.ReopenForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic.ReopenGeneralForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic.UnhideGeneralForumTopicBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages.UnpinAllForumTopicMessagesBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages.UnpinAllGeneralForumTopicMessagesBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage.ForwardMessageBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages.ForwardMessagesBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest.ApproveChatJoinRequestBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember.BanChatMemberBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat.BanChatSenderChatBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink.CreateChatInviteLinkBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink.CreateChatSubscriptionInviteLinkBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest.DeclineChatJoinRequestBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto.DeleteChatPhotoBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet.DeleteChatStickerSetBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink.EditChatInviteLinkBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink.EditChatSubscriptionInviteLinkBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink.ExportChatInviteLinkBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat.GetChatBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators.GetChatAdministratorsBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember.GetChatMemberBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount.GetChatMemberCountBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat.LeaveChatBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember.PromoteChatMemberBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember.RestrictChatMemberBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink.RevokeChatInviteLinkBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle.SetChatAdministratorCustomTitleBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription.SetChatDescriptionBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions.SetChatPermissionsBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto.SetChatPhotoBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet.SetChatStickerSetBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle.SetChatTitleBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember.UnbanChatMemberBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat.UnbanChatSenderChatBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice.SendInvoiceBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton.GetChatMenuButtonBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton.SetChatMenuButtonBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage.PinChatMessageBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages.UnpinAllChatMessagesBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage.UnpinChatMessageBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll.SendPollBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll.StopPollBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction.SetMessageReactionBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation.SendAnimationBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio.SendAudioBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction.SendChatActionBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact.SendContactBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice.SendDiceBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument.SendDocumentBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame.SendGameBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation.SendLocationBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup.SendMediaGroupBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage.SendMessageBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia.SendPaidMediaBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto.SendPhotoBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker.SendStickerBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue.SendVenueBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo.SendVideoBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote.SendVideoNoteBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice.SendVoiceBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage.DeleteMessageBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessages.DeleteMessagesBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification.RemoveChatVerificationBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat.VerifyChatBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChat.BotCommandScopeChatBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatAdministrators.BotCommandScopeChatAdministratorsBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatMember.BotCommandScopeChatMemberBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ReplyParameters.ReplyParametersBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores.GetGameHighScoresBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore.SetGameScoreBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation.StopMessageLiveLocationBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption.EditMessageCaptionBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation.EditMessageLiveLocationBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia.EditMessageMediaBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup.EditMessageReplyMarkupBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText.EditMessageTextBuilder","l":"chatId(Long)","u":"chatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ChatInviteLink","l":"ChatInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"CHATJOINREQUEST"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ChatJoinRequest","l":"ChatJoinRequest()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ChatLocation","l":"ChatLocation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"CHATMEMBER"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberAdministrator","l":"ChatMemberAdministrator()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberBanned","l":"ChatMemberBanned()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberLeft","l":"ChatMemberLeft()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberMember","l":"ChatMemberMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberOwner","l":"ChatMemberOwner()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberRestricted","l":"ChatMemberRestricted()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberUpdated","l":"ChatMemberUpdated()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ChatPermissions","l":"ChatPermissions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ChatPhoto","l":"ChatPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"CHATS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ChatShared","l":"ChatShared()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery","c":"ChosenInlineQuery","l":"ChosenInlineQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"CHOSENINLINERESULT"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource.LineIterator","l":"close()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"close()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescer","l":"close()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiter","l":"close()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryPolicy","l":"close()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"close()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"Close","l":"Close()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic","l":"CloseForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic.CloseForumTopicBuilder","l":"CloseForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic","l":"CloseGeneralForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic.CloseGeneralForumTopicBuilder","l":"CloseGeneralForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"CODE"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"MessageEntity","l":"computeText(String)","u":"computeText(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Contact","l":"Contact()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"contains(String)","u":"contains(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"contains(String)","u":"contains(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"CopyMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage.CopyMessageBuilder","l":"CopyMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"CopyMessages()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages.CopyMessagesBuilder","l":"CopyMessagesBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"CopyTextButton","l":"CopyTextButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"COUNTRY_CODES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink","l":"CreateChatInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink.CreateChatInviteLinkBuilder","l":"CreateChatInviteLinkBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink","l":"CreateChatSubscriptionInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink.CreateChatSubscriptionInviteLinkBuilder","l":"CreateChatSubscriptionInviteLinkBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic","l":"CreateForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic.CreateForumTopicBuilder","l":"CreateForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"CreateInvoiceLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"CreateNewStickerSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"MemberStatus","l":"CREATOR"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"CURRENCY_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetCustomEmojiStickerSetThumbnail","l":"CUSTOM_EMOJI_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionType","l":"CUSTOM_EMOJI_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"DATE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest","l":"DeclineChatJoinRequest()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest.DeclineChatJoinRequestBuilder","l":"DeclineChatJoinRequestBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta","c":"TelegramUrl","l":"DEFAULT_URL"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto","l":"DeleteChatPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto.DeleteChatPhotoBuilder","l":"DeleteChatPhotoBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet","l":"DeleteChatStickerSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet.DeleteChatStickerSetBuilder","l":"DeleteChatStickerSetBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"DELETEDBUSINESSMESSAGES"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic","l":"DeleteForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic.DeleteForumTopicBuilder","l":"DeleteForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage","l":"DeleteMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage.DeleteMessageBuilder","l":"DeleteMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessages","l":"DeleteMessages()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessages.DeleteMessagesBuilder","l":"DeleteMessagesBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"DeleteMyCommands","l":"DeleteMyCommands()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerFromSet","l":"DeleteStickerFromSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerSet","l":"DeleteStickerSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"DeleteWebhook","l":"DeleteWebhook()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"DESCRIPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.serialization","c":"InputMessageContentDeserializer","l":"deserialize(JsonParser, DeserializationContext)","u":"deserialize(com.fasterxml.jackson.core.JsonParser,com.fasterxml.jackson.databind.DeserializationContext)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"deserializeResponse(InputStream)","u":"deserializeResponse(java.io.InputStream)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"deserializeResponse(InputStream, ApiResponseReaders)","u":"deserializeResponse(java.io.InputStream,org.telegram.telegrambots.meta.api.methods.botapimethods.ApiResponseReaders)"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetUpdates","l":"deserializeResponse(InputStream, Consumer<Update>)","u":"deserializeResponse(java.io.InputStream,java.util.function.Consumer)"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"GetMyDefaultAdministratorRights","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodBoolean","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodMessage","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.business","c":"GetBusinessConnection","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"GetMyCommands","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyDescription","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyShortDescription","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"GetForumTopicIconStickers","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetFile","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetMe","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetUserProfilePhotos","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"GetAvailableGifts","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.message","c":"SavePreparedInlineMessage","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"GetMyName","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"GetStarTransactions","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetCustomEmojiStickers","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetStickerSet","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetUpdates","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetWebhookInfo","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.webapp","c":"AnswerWebAppQuery","l":"deserializeResponse(String)","u":"deserializeResponse(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"deserializeResponse(String, Class<T>)","u":"deserializeResponse(java.lang.String,java.lang.Class)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"deserializeResponseArray(String, Class<K>)","u":"deserializeResponseArray(java.lang.String,java.lang.Class)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodSerializable","l":"deserializeResponseFromPossibilities(String, List<Class<? extends Serializable>>)","u":"deserializeResponseFromPossibilities(java.lang.String,java.util.List)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethodSerializable","l":"deserializeResponseMessageOrBoolean(String)","u":"deserializeResponseMessageOrBoolean(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"deserializeResponseSerializable(String, Class<K>)","u":"deserializeResponseSerializable(java.lang.String,java.lang.Class)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Dice","l":"Dice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"DISABLE_NOTIFICATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"DISABLE_NOTIFICATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"DISABLE_NOTIFICATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"DISABLECONTENTTYPEDETECTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"DISABLECONTENTTYPEDETECTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"disableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"disableWebPagePreview()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"disableWebPagePreview()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"DOCUMENT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Document","l":"Document()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"DOMAIN"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFile(File)","u":"downloadFile(org.telegram.telegrambots.meta.api.objects.File)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFile(String)","u":"downloadFile(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCache","l":"downloadFile(String, String)","u":"downloadFile(java.lang.String,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileAsStream(File)","u":"downloadFileAsStream(org.telegram.telegrambots.meta.api.objects.File)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileAsStream(String)","u":"downloadFileAsStream(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileAsStreamAsync(File)","u":"downloadFileAsStreamAsync(org.telegram.telegrambots.meta.api.objects.File)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileAsStreamAsync(String)","u":"downloadFileAsStreamAsync(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileAsync(File)","u":"downloadFileAsync(org.telegram.telegrambots.meta.api.objects.File)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileAsync(String)","u":"downloadFileAsync(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCache","l":"downloadFileAsync(String, String)","u":"downloadFileAsync(java.lang.String,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileTo(File, Path)","u":"downloadFileTo(org.telegram.telegrambots.meta.api.objects.File,java.nio.file.Path)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"downloadFileToAsync(File, Path)","u":"downloadFileToAsync(org.telegram.telegrambots.meta.api.objects.File,java.nio.file.Path)"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"DROP_PENDING_UPDATES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"DURATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"DURATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"DURATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"DURATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"DURATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"DURATION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink","l":"EditChatInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink.EditChatInviteLinkBuilder","l":"EditChatInviteLinkBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink","l":"EditChatSubscriptionInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink.EditChatSubscriptionInviteLinkBuilder","l":"EditChatSubscriptionInviteLinkBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"EDITEDBUSINESSMESSAGE"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"EDITEDCHANNELPOST"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"EDITEDMESSAGE"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic","l":"EditForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic.EditForumTopicBuilder","l":"EditForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic","l":"EditGeneralForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic.EditGeneralForumTopicBuilder","l":"EditGeneralForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption","l":"EditMessageCaption()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption.EditMessageCaptionBuilder","l":"EditMessageCaptionBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation","l":"EditMessageLiveLocation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation.EditMessageLiveLocationBuilder","l":"EditMessageLiveLocationBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"EditMessageMedia()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia.EditMessageMediaBuilder","l":"EditMessageMediaBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup","l":"EditMessageReplyMarkup()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup.EditMessageReplyMarkupBuilder","l":"EditMessageReplyMarkupBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"EditMessageText()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText.EditMessageTextBuilder","l":"EditMessageTextBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"EditUserStarSubscription","l":"EditUserStarSubscription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"EMAIL"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"EMOJI_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerEmojiList","l":"EMOJI_LIST_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionType","l":"EMOJI_TYPE"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"enableHtml(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"enableHtml(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"enableHtml(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"enableMarkdown(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"enableMarkdown(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"enableMarkdown(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"enableMarkdownV2(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"enableMarkdownV2(boolean)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"enableNotification()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"enableWebPagePreview()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"enableWebPagePreview()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","c":"EncryptedCredentials","l":"EncryptedCredentials()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","c":"EncryptedPassportElement","l":"EncryptedPassportElement()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(AddStickerToSet)","u":"execute(org.telegram.telegrambots.meta.api.methods.stickers.AddStickerToSet)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(CreateNewStickerSet)","u":"execute(org.telegram.telegrambots.meta.api.methods.stickers.CreateNewStickerSet)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(EditMessageMedia)","u":"execute(org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageMedia)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(Method)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiter","l":"execute(PartialBotApiMethod<?>, Supplier<CompletableFuture<T>>)","u":"execute(org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod,java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(ReplaceStickerInSet)","u":"execute(org.telegram.telegrambots.meta.api.methods.stickers.ReplaceStickerInSet)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendAnimation)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendAnimation)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendAudio)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendAudio)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendDocument)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendDocument)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendMediaGroup)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendMediaGroup)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendPaidMedia)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendPaidMedia)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendPhoto)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendPhoto)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendSticker)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendSticker)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendVideo)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendVideo)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendVideoNote)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendVideoNote)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SendVoice)","u":"execute(org.telegram.telegrambots.meta.api.methods.send.SendVoice)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SetChatPhoto)","u":"execute(org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SetStickerSetThumbnail)","u":"execute(org.telegram.telegrambots.meta.api.methods.stickers.SetStickerSetThumbnail)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(SetWebhook)","u":"execute(org.telegram.telegrambots.meta.api.methods.updates.SetWebhook)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"execute(String, Supplier<CompletableFuture<T>>)","u":"execute(java.lang.String,java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"execute(Supplier<CompletableFuture<T>>)","u":"execute(java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryPolicy","l":"execute(Supplier<CompletableFuture<T>>)","u":"execute(java.util.function.Supplier)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"execute(UploadStickerFile)","u":"execute(org.telegram.telegrambots.meta.api.methods.stickers.UploadStickerFile)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(AddStickerToSet)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.stickers.AddStickerToSet)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(CreateNewStickerSet)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.stickers.CreateNewStickerSet)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(EditMessageMedia)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageMedia)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescer","l":"executeAsync(EditMessageReplyMarkup)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageReplyMarkup)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescer","l":"executeAsync(EditMessageText)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(Method)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(ReplaceStickerInSet)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.stickers.ReplaceStickerInSet)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendAnimation)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendAnimation)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendAudio)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendAudio)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendDocument)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendDocument)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendMediaGroup)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendMediaGroup)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendPaidMedia)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendPaidMedia)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendPhoto)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendPhoto)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendSticker)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendSticker)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendVideo)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendVideo)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendVideoNote)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendVideoNote)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SendVoice)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.send.SendVoice)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SetChatPhoto)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SetStickerSetThumbnail)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.stickers.SetStickerSetThumbnail)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(SetWebhook)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.updates.SetWebhook)"},{"p":"org.telegram.telegrambots.meta.generics","c":"TelegramClient","l":"executeAsync(UploadStickerFile)","u":"executeAsync(org.telegram.telegrambots.meta.api.methods.stickers.UploadStickerFile)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink","l":"ExportChatInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink.ExportChatInviteLinkBuilder","l":"ExportChatInviteLinkBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"ExternalReplyInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOutcome","l":"FAILED"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"File","l":"File()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypeFill","l":"FILL_TYPE"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"FIND_LOCATION"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"find(String, String, int)","u":"find(java.lang.String,java.lang.String,int)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"flush()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"ApiResponseReaders","l":"forArrayOf(Class<?>)","u":"forArrayOf(java.lang.Class)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"ForceReplyKeyboard","l":"ForceReplyKeyboard()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"FORMAT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"forTimePeriodDuration(Duration)","u":"forTimePeriodDuration(java.time.Duration)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"forTimePeriodDuration(Duration)","u":"forTimePeriodDuration(java.time.Duration)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"forTimePeriodDuration(Duration)","u":"forTimePeriodDuration(java.time.Duration)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"ApiResponseReaders","l":"forType(Class<?>)","u":"forType(java.lang.Class)"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"ApiResponseReaders","l":"forType(JavaType)","u":"forType(com.fasterxml.jackson.databind.JavaType)"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"ForumTopic","l":"ForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"ForumTopicClosed","l":"ForumTopicClosed()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"ForumTopicCreated","l":"ForumTopicCreated()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"ForumTopicEdited","l":"ForumTopicEdited()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"ForumTopicReopened","l":"ForumTopicReopened()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage","l":"ForwardMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage.ForwardMessageBuilder","l":"ForwardMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"ForwardMessages()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages.ForwardMessagesBuilder","l":"ForwardMessagesBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFillFreeformGradient","l":"FREEFORM_GRADIENT_TYPE"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage.CopyMessageBuilder","l":"fromChatId(Long)","u":"fromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages.CopyMessagesBuilder","l":"fromChatId(Long)","u":"fromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage.ForwardMessageBuilder","l":"fromChatId(Long)","u":"fromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages.ForwardMessagesBuilder","l":"fromChatId(Long)","u":"fromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource","l":"fromFile(Path)","u":"fromFile(java.nio.file.Path)"},{"p":"org.telegram.telegrambots.meta.api.objects.games","c":"Game","l":"Game()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.games","c":"GameHighScore","l":"GameHighScore()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"GeneralForumTopicHidden","l":"GeneralForumTopicHidden()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","c":"GeneralForumTopicUnhidden","l":"GeneralForumTopicUnhidden()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"get(String)","u":"get(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"getActionType()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getAllowPaidBroadcast()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getAllowSendingWithoutReply()"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"GetAvailableGifts","l":"GetAvailableGifts()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.business","c":"GetBusinessConnection","l":"GetBusinessConnection()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getBytesReceived()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getBytesSent()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"getCaptionEntities()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"getChat()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat","l":"GetChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators","l":"GetChatAdministrators()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators.GetChatAdministratorsBuilder","l":"GetChatAdministratorsBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat.GetChatBuilder","l":"GetChatBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getChatId()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"getChatId()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"InaccessibleMessage","l":"getChatId()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"getChatId()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"getChatId()"},{"p":"org.telegram.telegrambots.meta.client","c":"MethodChatIdExtractor","l":"getChatId(PartialBotApiMethod<?>)","u":"getChatId(org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember","l":"GetChatMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember.GetChatMemberBuilder","l":"GetChatMemberBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount","l":"GetChatMemberCount()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount.GetChatMemberCountBuilder","l":"GetChatMemberCountBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton","l":"GetChatMenuButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton.GetChatMenuButtonBuilder","l":"GetChatMenuButtonBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getConcurrencyInFlight()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getConcurrencyLimit()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getConcurrencyQueued()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getConnections()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getConnectMeanMillis()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetCustomEmojiStickers","l":"GetCustomEmojiStickers()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"getDate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getDisableNotification()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"getEntities()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getFailures()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"getFile()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetFile","l":"GetFile()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCache","l":"getFileAsync(String, String)","u":"getFileAsync(java.lang.String,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"getFileField()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"getFileId(String)","u":"getFileId(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"File","l":"getFileUrl(String)","u":"getFileUrl(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"File","l":"getFileUrl(String, String)","u":"getFileUrl(java.lang.String,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"GetForumTopicIconStickers","l":"GetForumTopicIconStickers()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores","l":"GetGameHighScores()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores.GetGameHighScoresBuilder","l":"GetGameHighScoresBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"getHedgeDelayMillis(String)","u":"getHedgeDelayMillis(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getInFlight()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"getInFlight()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"getKey(String, InputMedia)","u":"getKey(java.lang.String,org.telegram.telegrambots.meta.api.objects.media.InputMedia)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"getKey(String, String, InputFile)","u":"getKey(java.lang.String,java.lang.String,org.telegram.telegrambots.meta.api.objects.InputFile)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getLatency50thPercentileMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getLatency95thPercentileMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getLatency99thPercentileMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getLatencyMaxMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getLatencyMeanMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"getLimit()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetMe","l":"GetMe()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiRequestException","l":"getMessage()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getMessageEffectId()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"getMessageId()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getMessageThreadId()"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"GetMyDefaultAdministratorRights","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"SetMyDefaultAdministratorRights","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerCallbackQuery","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerInlineQuery","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerPreCheckoutQuery","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerShippingQuery","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.business","c":"GetBusinessConnection","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"DeleteMyCommands","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"GetMyCommands","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"SetMyCommands","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyDescription","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyShortDescription","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"SetMyDescription","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"SetMyShortDescription","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"GetForumTopicIconStickers","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetFile","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetMe","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetUserProfilePhotos","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"GetAvailableGifts","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"SendGift","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.message","c":"SavePreparedInlineMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"GetMyName","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"SetMyName","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments","c":"RefundStarPayment","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"EditUserStarSubscription","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"GetStarTransactions","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetPassportDataErrors","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetUserEmojiStatus","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerFromSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetCustomEmojiStickers","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetStickerSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetCustomEmojiStickerSetThumbnail","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerEmojiList","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerKeywords","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerMaskPosition","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerPositionInSet","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetTitle","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"Close","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"DeleteWebhook","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetUpdates","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetWebhookInfo","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"LogOut","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessages","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveUserVerification","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyUser","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.webapp","c":"AnswerWebAppQuery","l":"getMethod()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"GetMyCommands","l":"GetMyCommands()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"GetMyDefaultAdministratorRights","l":"GetMyDefaultAdministratorRights()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyDescription","l":"GetMyDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"GetMyName","l":"GetMyName()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyShortDescription","l":"GetMyShortDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"getNewChatMembers()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"getOutstanding(TelegramUrl)","u":"getOutstanding(org.telegram.telegrambots.meta.TelegramUrl)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"TelegramBroadcast","l":"getProgress()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getProtectContent()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"getQueuedRequests()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiter","l":"getQueuedRequests()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getQueueWait99thPercentileMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getQueueWaitMeanMillis()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getReplyMarkup()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getReplyParameters()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"getReplyToMessageId()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getRequests()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getResponseCodes()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.ClientMetricsMXBean","l":"getSecureConnectMeanMillis()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"getSentFileId(Message)","u":"getSentFileId(org.telegram.telegrambots.meta.api.objects.message.Message)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCache","l":"getSize()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"GetStarTransactions","l":"GetStarTransactions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMember","l":"getStatus()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetStickerSet","l":"GetStickerSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics.MethodMetricsMXBean","l":"getTooManyRequests()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundType","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFill","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScope","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaPhoto","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaPhoto","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButton","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonCommands","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonDefault","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonWebApp","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionType","l":"getType()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetUpdates","l":"GetUpdates()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMember","l":"getUser()"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts","l":"GetUserChatBoosts()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts.GetUserChatBoostsBuilder","l":"GetUserChatBoostsBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetUserProfilePhotos","l":"GetUserProfilePhotos()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetWebhookInfo","l":"GetWebhookInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostSource","l":"GIFT_CODE_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.gifts","c":"Gift","l":"Gift()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.gifts","c":"Gifts","l":"Gifts()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayCompleted","l":"GIVEAWAY_MESSAGE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"GIVEAWAY_MESSAGE_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostSource","l":"GIVEAWAY_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"Giveaway()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayCompleted","l":"GiveawayCompleted()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayCreated","l":"GiveawayCreated()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"GiveawayWinners()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFillGradient","l":"GRADIENT_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"HAS_PUBLIC_WINNERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"HAS_SPOILER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"HAS_SPOILER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"HAS_SPOILER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasAnimation()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasAnimation()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasAudio()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasAudio()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasBoostAdded()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasBusinessConnection()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasBusinessMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasCallbackQuery()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasCaption()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasChannelPost()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasChatJoinRequest()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasChatMember()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasChatShared()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasChosenInlineQuery()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasContact()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasContact()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasDeletedBusinessMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasDice()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasDice()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasDocument()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasDocument()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasEditedBusinessMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasEditedChannelPost()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasEditedMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.games","c":"Game","l":"hasEntities()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasEntities()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasForumTopicClosed()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasForumTopicCreated()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasForumTopicReopened()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasGame()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"HASHTAG"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasInlineQuery()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasInvoice()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasInvoice()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasLocation()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasLocation()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasMessageAutoDeleteTimerChanged()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasMyChatMember()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource.LineIterator","l":"hasNext()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasPaidMedia()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasPaidMediaPurchased()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasPassportData()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasPhoto()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasPhoto()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasPoll()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasPoll()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasPoll()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasPollAnswer()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasPreCheckoutQuery()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasReplyMarkup()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasReplyToStory()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"hasShippingQuery()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasSticker()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasSticker()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasStory()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasSuccessfulPayment()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasText()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasUserShared()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasViaBot()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasVideo()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVideo()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVideoChatEnded()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVideoChatParticipantsInvited()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVideoChatScheduled()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVideoChatStarted()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasVideoNote()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVideoNote()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"hasVoice()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasVoice()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasWebAppData()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"hasWriteAccessAllowed()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"HEIGHT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"HEIGHT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOrigin","l":"HIDDEN_USER_TYPE"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic","l":"HideGeneralForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic.HideGeneralForumTopicBuilder","l":"HideGeneralForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ParseMode","l":"HTML"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"InaccessibleMessage","l":"InaccessibleMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"indexOf(String)","u":"indexOf(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"indexOf(String)","u":"indexOf(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"INLINE_MESSAGE_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardButton","l":"InlineKeyboardButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"InlineKeyboardMarkup","l":"InlineKeyboardMarkup()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"InlineKeyboardRow()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"InlineKeyboardRow(Collection<? extends InlineKeyboardButton>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"InlineKeyboardRow(InlineKeyboardButton...)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton...)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"InlineKeyboardRow(int)","u":"%3Cinit%3E(int)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"InlineKeyboardRow(String...)","u":"%3Cinit%3E(java.lang.String...)"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"INLINEQUERY"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery","c":"InlineQuery","l":"InlineQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultArticle","l":"InlineQueryResultArticle()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultAudio","l":"InlineQueryResultAudio()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedAudio","l":"InlineQueryResultCachedAudio()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedDocument","l":"InlineQueryResultCachedDocument()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedGif","l":"InlineQueryResultCachedGif()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedMpeg4Gif","l":"InlineQueryResultCachedMpeg4Gif()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedPhoto","l":"InlineQueryResultCachedPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedSticker","l":"InlineQueryResultCachedSticker()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedVideo","l":"InlineQueryResultCachedVideo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedVoice","l":"InlineQueryResultCachedVoice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultContact","l":"InlineQueryResultContact()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultDocument","l":"InlineQueryResultDocument()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultGame","l":"InlineQueryResultGame()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultGif","l":"InlineQueryResultGif()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultLocation","l":"InlineQueryResultLocation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultMpeg4Gif","l":"InlineQueryResultMpeg4Gif()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultPhoto","l":"InlineQueryResultPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultsButton","l":"InlineQueryResultsButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultVenue","l":"InlineQueryResultVenue()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultVideo","l":"InlineQueryResultVideo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultVoice","l":"InlineQueryResultVoice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputContactMessageContent","l":"InputContactMessageContent()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"InputFile(File)","u":"%3Cinit%3E(java.io.File)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"InputFile(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"InputFile(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"InputFile(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFileSerializer","l":"InputFileSerializer()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputInvoiceMessageContent","l":"InputInvoiceMessageContent()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputLocationMessageContent","l":"InputLocationMessageContent()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"InputMedia()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"InputMediaAnimation(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"InputMediaAnimation(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"InputMediaAnimation(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"InputMediaAnimation(String, String, String, List<MessageEntity>, boolean, String, File, InputStream, Integer, Integer, Integer, InputFile, Boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.util.List,boolean,java.lang.String,java.io.File,java.io.InputStream,java.lang.Integer,java.lang.Integer,java.lang.Integer,org.telegram.telegrambots.meta.api.objects.InputFile,java.lang.Boolean)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"InputMediaAudio(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"InputMediaAudio(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"InputMediaAudio(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"InputMediaAudio(String, String, String, List<MessageEntity>, boolean, String, File, InputStream, Integer, String, String, InputFile)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.util.List,boolean,java.lang.String,java.io.File,java.io.InputStream,java.lang.Integer,java.lang.String,java.lang.String,org.telegram.telegrambots.meta.api.objects.InputFile)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia.InputMediaBuilder","l":"InputMediaBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"InputMediaDocument(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"InputMediaDocument(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"InputMediaDocument(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"InputMediaDocument(String, String, String, List<MessageEntity>, boolean, String, File, InputStream, InputFile, Boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.util.List,boolean,java.lang.String,java.io.File,java.io.InputStream,org.telegram.telegrambots.meta.api.objects.InputFile,java.lang.Boolean)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaPhoto","l":"InputMediaPhoto(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaPhoto","l":"InputMediaPhoto(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaPhoto","l":"InputMediaPhoto(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaPhoto","l":"InputMediaPhoto(String, String, String, List<MessageEntity>, boolean, String, File, InputStream, Boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.util.List,boolean,java.lang.String,java.io.File,java.io.InputStream,java.lang.Boolean)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"InputMediaVideo(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"InputMediaVideo(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"InputMediaVideo(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"InputMediaVideo(String, String, String, List<MessageEntity>, boolean, String, File, InputStream, Integer, Integer, Integer, Boolean, InputFile, Boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.util.List,boolean,java.lang.String,java.io.File,java.io.InputStream,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Boolean,org.telegram.telegrambots.meta.api.objects.InputFile,java.lang.Boolean)"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.serialization","c":"InputMessageContentDeserializer","l":"InputMessageContentDeserializer()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"InputPaidMedia()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia.InputPaidMediaBuilder","l":"InputPaidMediaBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaPhoto","l":"InputPaidMediaPhoto(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaPhoto","l":"InputPaidMediaPhoto(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaPhoto","l":"InputPaidMediaPhoto(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaPhoto","l":"InputPaidMediaPhoto(String, boolean, String, File, InputStream)","u":"%3Cinit%3E(java.lang.String,boolean,java.lang.String,java.io.File,java.io.InputStream)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"InputPaidMediaVideo(File, String)","u":"%3Cinit%3E(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"InputPaidMediaVideo(InputStream, String)","u":"%3Cinit%3E(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"InputPaidMediaVideo(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"InputPaidMediaVideo(String, boolean, String, File, InputStream, Integer, Integer, Integer, Boolean, InputFile)","u":"%3Cinit%3E(java.lang.String,boolean,java.lang.String,java.io.File,java.io.InputStream,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Boolean,org.telegram.telegrambots.meta.api.objects.InputFile)"},{"p":"org.telegram.telegrambots.meta.api.objects.polls.input","c":"InputPollOption","l":"InputPollOption()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"InputSticker","l":"InputSticker()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputTextMessageContent","l":"InputTextMessageContent()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputVenueMessageContent","l":"InputVenueMessageContent()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"Invoice","l":"Invoice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"IP_ADDRESS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"IS_FLEXIBLE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayCompleted","l":"IS_STAR_GIVEAWAY_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","c":"Chat","l":"isChannelChat()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"isChannelMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isChannelMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isCommand()"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"StickerSet","l":"isCustomEmoji()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","c":"Chat","l":"isGroupChat()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"isGroupMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"isGroupMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isGroupMessage()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"isHealthy(TelegramUrl)","u":"isHealthy(org.telegram.telegrambots.meta.TelegramUrl)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"isIdempotent(String)","u":"isIdempotent(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"StickerSet","l":"isMask()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"isNew()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"isNewMedia()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"isNewMedia()"},{"p":"org.telegram.telegrambots.meta.client","c":"MethodChatIdExtractor","l":"isPaidBroadcast(PartialBotApiMethod<?>)","u":"isPaidBroadcast(org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod)"},{"p":"org.telegram.telegrambots.meta.client","c":"MethodChatIdExtractor","l":"isPrivateChat(String)","u":"isPrivateChat(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"StickerSet","l":"isRegularSticker()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"isRejectedFileId(Throwable)","u":"isRejectedFileId(java.lang.Throwable)"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isReply()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","c":"Chat","l":"isSuperGroupChat()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"isSuperGroupMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"isSuperGroupMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isSuperGroupMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isTopicMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","c":"Chat","l":"isUserChat()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ExternalReplyInfo","l":"isUserMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"MaybeInaccessibleMessage","l":"isUserMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"isUserMessage()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"ITALIC"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"JmxTelegramClientMetrics(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"JmxTelegramClientMetrics(String, MBeanServer)","u":"%3Cinit%3E(java.lang.String,javax.management.MBeanServer)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButton","l":"KeyboardButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonPollType","l":"KeyboardButtonPollType()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonRequestChat","l":"KeyboardButtonRequestChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonRequestUser","l":"KeyboardButtonRequestUser()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonRequestUsers","l":"KeyboardButtonRequestUsers()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"KeyboardRow()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"KeyboardRow(Collection<? extends KeyboardButton>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"KeyboardRow(int)","u":"%3Cinit%3E(int)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"KeyboardRow(KeyboardButton...)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardButton...)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"KeyboardRow(String...)","u":"%3Cinit%3E(java.lang.String...)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerKeywords","l":"KEYWORDS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"MemberStatus","l":"KICKED"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"LabeledPrice","l":"LabeledPrice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"lastIndexOf(String)","u":"lastIndexOf(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"lastIndexOf(String)","u":"lastIndexOf(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat","l":"LeaveChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat.LeaveChatBuilder","l":"LeaveChatBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"MemberStatus","l":"LEFT"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"LENGTH_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"LinkPreviewOptions","l":"LinkPreviewOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Location","l":"Location()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"LoginUrl","l":"LoginUrl()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"LogOut","l":"LogOut()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ParseMode","l":"MARKDOWN"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ParseMode","l":"MARKDOWNV2"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerMaskPosition","l":"MASK_POSITION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"MaskPosition","l":"MaskPosition()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"MAX_CONNECTIONS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"MAX_TIP_AMOUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia.InputMediaBuilder","l":"media(File, String)","u":"media(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia.InputPaidMediaBuilder","l":"media(File, String)","u":"media(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia.InputMediaBuilder","l":"media(InputStream, String)","u":"media(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia.InputPaidMediaBuilder","l":"media(InputStream, String)","u":"media(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia.InputMediaBuilder","l":"media(String)","u":"media(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia.InputPaidMediaBuilder","l":"media(String)","u":"media(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"MemberStatus","l":"MEMBER"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"MemberStatus","l":"MemberStatus()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"MENTION"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButton","l":"MenuButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonCommands","l":"MenuButtonCommands()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonDefault","l":"MenuButtonDefault()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonWebApp","l":"MenuButtonWebApp()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"MESSAGE"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"MESSAGE_EFFECT_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"MESSAGE_EFFECT_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"MESSAGE_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"MESSAGE_THREAD_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"MESSAGE_THREAD_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"Message","l":"Message()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"MessageAutoDeleteTimerChanged","l":"MessageAutoDeleteTimerChanged()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"MessageEntity","l":"MessageEntity()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"MessageId","l":"MessageId()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOriginChannel","l":"MessageOriginChannel()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOriginChat","l":"MessageOriginChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOriginHiddenUser","l":"MessageOriginHiddenUser()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOriginUser","l":"MessageOriginUser()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"MESSAGEREACTION"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"MESSAGEREACTIONCOUNT"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"MessageReactionCountUpdated","l":"MessageReactionCountUpdated()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"MessageReactionUpdated","l":"MessageReactionUpdated()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"BotApiMethod","l":"METHOD_FIELD"},{"p":"org.telegram.telegrambots.meta.client","c":"MethodChatIdExtractor","l":"MethodChatIdExtractor()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"MYCHATMEMBER"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerSet","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetCustomEmojiStickerSetThumbnail","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetTitle","l":"NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"NEED_EMAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"NEED_NAME_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"NEED_PHONE_NUMBER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"NEED_SHIPPING_ADDRESS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"NEEDS_REPAINTING_FIELD"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource.LineIterator","l":"next()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"OBJECT_MAPPER"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation.StopMessageLiveLocationBuilder","l":"objectMapper(ObjectMapper)","u":"objectMapper(com.fasterxml.jackson.databind.ObjectMapper)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource","l":"of(List<String>)","u":"of(java.util.List)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"OLD_STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"onClientCreated(TelegramClientOptions)","u":"onClientCreated(org.telegram.telegrambots.meta.client.TelegramClientOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramClientMetrics","l":"onClientCreated(TelegramClientOptions)","u":"onClientCreated(org.telegram.telegrambots.meta.client.TelegramClientOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"onConnectionOpened(long, long)","u":"onConnectionOpened(long,long)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramClientMetrics","l":"onConnectionOpened(long, long)","u":"onConnectionOpened(long,long)"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"ONLY_NEW_MEMBERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"ONLY_NEW_MEMBERS_FIELD"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastListener","l":"onProgress(BroadcastProgress)","u":"onProgress(org.telegram.telegrambots.meta.client.broadcast.BroadcastProgress)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"onRequestCancelled(TelegramUrl)","u":"onRequestCancelled(org.telegram.telegrambots.meta.TelegramUrl)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"onRequestCompleted(String, int, long, long, long)","u":"onRequestCompleted(java.lang.String,int,long,long,long)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramClientMetrics","l":"onRequestCompleted(String, int, long, long, long)","u":"onRequestCompleted(java.lang.String,int,long,long,long)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"onRequestEnd(TelegramUrl, String, long, boolean)","u":"onRequestEnd(org.telegram.telegrambots.meta.TelegramUrl,java.lang.String,long,boolean)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"onRequestQueued(String)","u":"onRequestQueued(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramClientMetrics","l":"onRequestQueued(String)","u":"onRequestQueued(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"onRequestStart(TelegramUrl)","u":"onRequestStart(org.telegram.telegrambots.meta.TelegramUrl)"},{"p":"org.telegram.telegrambots.meta.client","c":"JmxTelegramClientMetrics","l":"onRequestStarted(String, long)","u":"onRequestStarted(java.lang.String,long)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramClientMetrics","l":"onRequestStarted(String, long)","u":"onRequestStarted(java.lang.String,long)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastListener","l":"onResult(String, BroadcastOutcome, Throwable)","u":"onResult(java.lang.String,org.telegram.telegrambots.meta.client.broadcast.BroadcastOutcome,java.lang.Throwable)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource","l":"open(long)"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"OrderInfo","l":"OrderInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionType","l":"PAID_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","c":"PaidMediaInfo","l":"PaidMediaInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","c":"PaidMediaPhoto","l":"PaidMediaPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","c":"PaidMediaPreview","l":"PaidMediaPreview()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"PaidMediaPurchased","l":"PaidMediaPurchased()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","c":"PaidMediaVideo","l":"PaidMediaVideo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"PARSE_MODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"PARSEMODE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ParseMode","l":"ParseMode()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod","l":"PartialBotApiMethod()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","c":"PartialBotApiMethod.PartialBotApiMethodBuilder","l":"PartialBotApiMethodBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","c":"PassportData","l":"PassportData()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorDataField","l":"PassportElementErrorDataField()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorFile","l":"PassportElementErrorFile()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorFiles","l":"PassportElementErrorFiles()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorFrontSide","l":"PassportElementErrorFrontSide()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorReverseSide","l":"PassportElementErrorReverseSide()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorSelfie","l":"PassportElementErrorSelfie()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorTranslationFile","l":"PassportElementErrorTranslationFile()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorTranslationFiles","l":"PassportElementErrorTranslationFiles()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorUnspecified","l":"PassportElementErrorUnspecified()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","c":"PassportFile","l":"PassportFile()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"GetMyDefaultAdministratorRights","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"SetMyDefaultAdministratorRights","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerCallbackQuery","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerInlineQuery","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerPreCheckoutQuery","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerShippingQuery","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.business","c":"GetBusinessConnection","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"DeleteMyCommands","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"GetMyCommands","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"SetMyCommands","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyDescription","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"GetMyShortDescription","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"SetMyDescription","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"SetMyShortDescription","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetFile","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetMe","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"GetUserProfilePhotos","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"GetAvailableGifts","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"SendGift","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.message","c":"SavePreparedInlineMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"GetMyName","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"SetMyName","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.payments","c":"RefundStarPayment","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"EditUserStarSubscription","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"GetStarTransactions","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetPassportDataErrors","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetUserEmojiStatus","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerSet","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetCustomEmojiStickerSetThumbnail","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerEmojiList","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerKeywords","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerMaskPosition","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetTitle","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"Close","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"DeleteWebhook","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetUpdates","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"GetWebhookInfo","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"LogOut","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveUserVerification","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyUser","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.methods.webapp","c":"AnswerWebAppQuery","l":"PATH"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypePattern","l":"PATTERN_TYPE"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PAYLOAD_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"PAYLOAD_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"PERFORMER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"PERFORMER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"PHONENUMBER"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"PHOTO_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"PHOTO_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PHOTO_HEIGHT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PHOTO_SIZE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PHOTO_URL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PHOTO_WIDTH_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"PhotoSize","l":"PhotoSize()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage","l":"PinChatMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage.PinChatMessageBuilder","l":"PinChatMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"POLL"},{"p":"org.telegram.telegrambots.meta.api.objects.polls","c":"Poll","l":"Poll()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"POLLANSWER"},{"p":"org.telegram.telegrambots.meta.api.objects.polls","c":"PollAnswer","l":"PollAnswer()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.polls","c":"PollOption","l":"PollOption()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"PRE"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"PRECHECKOUTQUERY"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"PreCheckoutQuery","l":"PreCheckoutQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"PREMIUM_SUBSCRIPTION_MONTH_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"PREMIUM_SUBSCRIPTION_MONTH_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"ChatBoostSource","l":"PREMIUM_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.message","c":"PreparedInlineMessage","l":"PreparedInlineMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PRICES_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"PRIZE_DESCRIPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"PRIZE_DESCRIPTION_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"PRIZE_STAR_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"PRIZE_STAR_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember","l":"PromoteChatMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember.PromoteChatMemberBuilder","l":"PromoteChatMemberBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"PROTECT_CONTENT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"PROTECT_CONTENT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"PROTECT_CONTENT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PROVIDER_DATA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"PROVIDER_TOKEN_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ProximityAlertTriggered","l":"ProximityAlertTriggered()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"put(String, String)","u":"put(java.lang.String,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionCount","l":"ReactionCount()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionTypeCustomEmoji","l":"ReactionTypeCustomEmoji()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionTypeEmoji","l":"ReactionTypeEmoji()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionTypePaid","l":"ReactionTypePaid()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"RECORD_VIDEO"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"RECORD_VIDEO_NOTE"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"RECORD_VOICE"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"RefundedPayment","l":"RefundedPayment()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments","c":"RefundStarPayment","l":"RefundStarPayment()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"remove(String)","u":"remove(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"remove(String)","u":"remove(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"remove(String)","u":"remove(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification","l":"RemoveChatVerification()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification.RemoveChatVerificationBuilder","l":"RemoveChatVerificationBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"REMOVEDCHATBOOST"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveUserVerification","l":"RemoveUserVerification()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic","l":"ReopenForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic.ReopenForumTopicBuilder","l":"ReopenForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic","l":"ReopenGeneralForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic.ReopenGeneralForumTopicBuilder","l":"ReopenGeneralForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"ReplaceStickerInSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"REPLY_MARKUP_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"REPLY_MARKUP_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"REPLY_MARKUP_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"REPLY_MARKUP_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"REPLY_PARAMETERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"REPLY_PARAMETERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"REPLY_PARAMETERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"REPLY_TO_MESSAGE_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"REPLY_TO_MESSAGE_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"ReplyKeyboardMarkup","l":"ReplyKeyboardMarkup()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"ReplyKeyboardRemove","l":"ReplyKeyboardRemove()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ReplyParameters","l":"ReplyParameters()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ReplyParameters.ReplyParametersBuilder","l":"ReplyParametersBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.util","c":"Validations","l":"requiredChatId(String, BotApiObject)","u":"requiredChatId(java.lang.String,org.telegram.telegrambots.meta.api.interfaces.BotApiObject)"},{"p":"org.telegram.telegrambots.meta.util","c":"Validations","l":"requiredChatId(String, PartialBotApiMethod<?>)","u":"requiredChatId(java.lang.String,org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod)"},{"p":"org.telegram.telegrambots.meta.util","c":"Validations","l":"requiredUserId(Long, BotApiObject)","u":"requiredUserId(java.lang.Long,org.telegram.telegrambots.meta.api.interfaces.BotApiObject)"},{"p":"org.telegram.telegrambots.meta.util","c":"Validations","l":"requiredUserId(Long, PartialBotApiMethod<?>)","u":"requiredUserId(java.lang.Long,org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ResponseParameters","l":"ResponseParameters()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"RestrictChatMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember.RestrictChatMemberBuilder","l":"RestrictChatMemberBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","c":"RevenueWithdrawalStateFailed","l":"RevenueWithdrawalStateFailed()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","c":"RevenueWithdrawalStatePending","l":"RevenueWithdrawalStatePending()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","c":"RevenueWithdrawalStateSucceeded","l":"RevenueWithdrawalStateSucceeded()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink","l":"RevokeChatInviteLink()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink.RevokeChatInviteLinkBuilder","l":"RevokeChatInviteLinkBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.message","c":"SavePreparedInlineMessage","l":"SavePreparedInlineMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"SECRET_TOKEN_FIELD"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"select(Collection<TelegramUrl>)","u":"select(java.util.Collection)"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"SEND_EMAIL_TO_PROVIDER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"SEND_PHONE_NUMBER_TO_PROVIDER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"SendAnimation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation.SendAnimationBuilder","l":"SendAnimationBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"SendAudio()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio.SendAudioBuilder","l":"SendAudioBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"SendChatAction()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction.SendChatActionBuilder","l":"SendChatActionBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"SendContact()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact.SendContactBuilder","l":"SendContactBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"SendDice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice.SendDiceBuilder","l":"SendDiceBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"SendDocument()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument.SendDocumentBuilder","l":"SendDocumentBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"SendGame()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame.SendGameBuilder","l":"SendGameBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"SendGift","l":"SendGift()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice","l":"SendInvoice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice.SendInvoiceBuilder","l":"SendInvoiceBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"SendLocation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation.SendLocationBuilder","l":"SendLocationBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod","l":"SendMediaBotMethod()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaBotMethod.SendMediaBotMethodBuilder","l":"SendMediaBotMethodBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"SendMediaGroup()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup.SendMediaGroupBuilder","l":"SendMediaGroupBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"SendMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage.SendMessageBuilder","l":"SendMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"SendPaidMedia()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia.SendPaidMediaBuilder","l":"SendPaidMediaBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"SendPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto.SendPhotoBuilder","l":"SendPhotoBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"SendPoll()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll.SendPollBuilder","l":"SendPollBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"SendSticker()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker.SendStickerBuilder","l":"SendStickerBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"SendVenue()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue.SendVenueBuilder","l":"SendVenueBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"SendVideo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo.SendVideoBuilder","l":"SendVideoBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"SendVideoNote()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote.SendVideoNoteBuilder","l":"SendVideoNoteBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"SendVoice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice.SendVoiceBuilder","l":"SendVoiceBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOutcome","l":"SENT"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","c":"SentWebAppMessage","l":"SentWebAppMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFileSerializer","l":"serialize(InputFile, JsonGenerator, SerializerProvider)","u":"serialize(org.telegram.telegrambots.meta.api.objects.InputFile,com.fasterxml.jackson.core.JsonGenerator,com.fasterxml.jackson.databind.SerializerProvider)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"set(int, String)","u":"set(int,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"set(int, String)","u":"set(int,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"setAction(ActionType)","u":"setAction(org.telegram.telegrambots.meta.api.methods.ActionType)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle","l":"SetChatAdministratorCustomTitle()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle.SetChatAdministratorCustomTitleBuilder","l":"SetChatAdministratorCustomTitleBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription","l":"SetChatDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription.SetChatDescriptionBuilder","l":"SetChatDescriptionBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"GetChatMenuButton","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessages","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChat","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatAdministrators","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatMember","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"setChatId(Long)","u":"setChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton","l":"SetChatMenuButton()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton.SetChatMenuButtonBuilder","l":"SetChatMenuButtonBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions","l":"SetChatPermissions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions.SetChatPermissionsBuilder","l":"SetChatPermissionsBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"SetChatPhoto()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto.SetChatPhotoBuilder","l":"SetChatPhotoBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet","l":"SetChatStickerSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet.SetChatStickerSetBuilder","l":"SetChatStickerSetBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle","l":"SetChatTitle()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle.SetChatTitleBuilder","l":"SetChatTitleBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetCustomEmojiStickerSetThumbnail","l":"SetCustomEmojiStickerSetThumbnail()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"setFromChatId(Long)","u":"setFromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"setFromChatId(Long)","u":"setFromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage","l":"setFromChatId(Long)","u":"setFromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"setFromChatId(Long)","u":"setFromChatId(java.lang.Long)"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore","l":"SetGameScore()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore.SetGameScoreBuilder","l":"SetGameScoreBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"setMedia(File)","u":"setMedia(java.io.File)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"setMedia(File, String)","u":"setMedia(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"setMedia(File, String)","u":"setMedia(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"setMedia(File, String)","u":"setMedia(java.io.File,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"setMedia(InputStream, String)","u":"setMedia(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"setMedia(InputStream, String)","u":"setMedia(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"setMedia(InputStream, String)","u":"setMedia(java.io.InputStream,java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"setMedia(String)","u":"setMedia(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"setMedia(String)","u":"setMedia(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"setMedia(String)","u":"setMedia(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction","l":"SetMessageReaction()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction.SetMessageReactionBuilder","l":"SetMessageReactionBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"SetMyCommands","l":"SetMyCommands()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","c":"SetMyDefaultAdministratorRights","l":"SetMyDefaultAdministratorRights()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"SetMyDescription","l":"SetMyDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.name","c":"SetMyName","l":"SetMyName()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.description","c":"SetMyShortDescription","l":"SetMyShortDescription()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetPassportDataErrors","l":"SetPassportDataErrors()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"setPhoto(InputFile)","u":"setPhoto(org.telegram.telegrambots.meta.api.objects.InputFile)"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerEmojiList","l":"SetStickerEmojiList()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerKeywords","l":"SetStickerKeywords()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerMaskPosition","l":"SetStickerMaskPosition()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerPositionInSet","l":"SetStickerPositionInSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"SetStickerSetThumbnail()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetTitle","l":"SetStickerSetTitle()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"setUntilDateDateTime(ZonedDateTime)","u":"setUntilDateDateTime(java.time.ZonedDateTime)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"setUntilDateDateTime(ZonedDateTime)","u":"setUntilDateDateTime(java.time.ZonedDateTime)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"setUntilDateDateTime(ZonedDateTime)","u":"setUntilDateDateTime(java.time.ZonedDateTime)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"setUntilDateInstant(Instant)","u":"setUntilDateInstant(java.time.Instant)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"setUntilDateInstant(Instant)","u":"setUntilDateInstant(java.time.Instant)"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"setUntilDateInstant(Instant)","u":"setUntilDateInstant(java.time.Instant)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetUserEmojiStatus","l":"SetUserEmojiStatus()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"SetWebhook()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"ShippingAddress","l":"ShippingAddress()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"ShippingOption","l":"ShippingOption()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"AllowedUpdates","l":"SHIPPINGQUERY"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"ShippingQuery","l":"ShippingQuery()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"SHOW_CAPTION_ABOVE_MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"SHOW_CAPTION_ABOVE_MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"SHOW_CAPTION_ABOVE_MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"SHOW_CAPTION_ABOVE_MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"SHOW_CAPTION_ABOVE_MEDIA_FIELD"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastRecipientSource","l":"size()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"size()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","c":"BackgroundFillSolid","l":"SOLID_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"SPOILER"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"STAR_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"TelegramBroadcast","l":"start()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.star","c":"StarTransaction","l":"StarTransaction()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.star","c":"StarTransactions","l":"StarTransactions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberAdministrator","l":"STATUS"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberBanned","l":"STATUS"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberLeft","l":"STATUS"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberMember","l":"STATUS"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberOwner","l":"STATUS"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","c":"ChatMemberRestricted","l":"STATUS"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerEmojiList","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerKeywords","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerMaskPosition","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"STICKER_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"STICKER_FORMAT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"STICKER_TYPE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"Sticker","l":"Sticker()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"STICKERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"StickerSet","l":"StickerSet()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"TelegramBroadcast","l":"stop()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation","l":"StopMessageLiveLocation()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation.StopMessageLiveLocationBuilder","l":"StopMessageLiveLocationBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll","l":"StopPoll()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll.StopPollBuilder","l":"StopPollBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.stories","c":"Story","l":"Story()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"SUBSCRIPTION_PERIOD_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"SuccessfulPayment","l":"SuccessfulPayment()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"SUGGESTED_TIP_AMOUNTS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"SUPPORTS_STREAMING_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"SwitchInlineQueryChosenChat","l":"SwitchInlineQueryChosenChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiException","l":"TelegramApiException()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiException","l":"TelegramApiException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiException","l":"TelegramApiException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiException","l":"TelegramApiException(String, Throwable, boolean, boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable,boolean,boolean)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiException","l":"TelegramApiException(Throwable)","u":"%3Cinit%3E(java.lang.Throwable)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiRequestException","l":"TelegramApiRequestException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiRequestException","l":"TelegramApiRequestException(String, ApiResponse<?>)","u":"%3Cinit%3E(java.lang.String,org.telegram.telegrambots.meta.api.objects.ApiResponse)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiRequestException","l":"TelegramApiRequestException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiValidationException","l":"TelegramApiValidationException(String, BotApiObject)","u":"%3Cinit%3E(java.lang.String,org.telegram.telegrambots.meta.api.interfaces.BotApiObject)"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiValidationException","l":"TelegramApiValidationException(String, PartialBotApiMethod<?>)","u":"%3Cinit%3E(java.lang.String,org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"TelegramBroadcast","l":"TelegramBroadcast(TelegramClient, BroadcastRecipientSource, Function<String, ? extends BotApiMethod<? extends Serializable>>, BroadcastOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.generics.TelegramClient,org.telegram.telegrambots.meta.client.broadcast.BroadcastRecipientSource,java.util.function.Function,org.telegram.telegrambots.meta.client.broadcast.BroadcastOptions)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"TelegramBroadcast","l":"TelegramBroadcast(TelegramClient, BroadcastRecipientSource, Function<String, ? extends BotApiMethod<? extends Serializable>>, BroadcastOptions, BroadcastListener)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.generics.TelegramClient,org.telegram.telegrambots.meta.client.broadcast.BroadcastRecipientSource,java.util.function.Function,org.telegram.telegrambots.meta.client.broadcast.BroadcastOptions,org.telegram.telegrambots.meta.client.broadcast.BroadcastListener)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramClientOptions","l":"TelegramClientOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"TelegramConcurrencyLimiter()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiter","l":"TelegramConcurrencyLimiter(TelegramConcurrencyLimiterOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.client.TelegramConcurrencyLimiterOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiterOptions","l":"TelegramConcurrencyLimiterOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescer","l":"TelegramEditCoalescer(TelegramClient)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.generics.TelegramClient)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescer","l":"TelegramEditCoalescer(TelegramClient, TelegramEditCoalescerOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.generics.TelegramClient,org.telegram.telegrambots.meta.client.TelegramEditCoalescerOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescer","l":"TelegramEditCoalescer(TelegramClient, TelegramEditCoalescerOptions, ScheduledExecutorService)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.generics.TelegramClient,org.telegram.telegrambots.meta.client.TelegramEditCoalescerOptions,java.util.concurrent.ScheduledExecutorService)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescerOptions","l":"TelegramEditCoalescerOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"TelegramEndpointPool(List<TelegramUrl>)","u":"%3Cinit%3E(java.util.List)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPool","l":"TelegramEndpointPool(List<TelegramUrl>, TelegramEndpointPoolOptions)","u":"%3Cinit%3E(java.util.List,org.telegram.telegrambots.meta.client.TelegramEndpointPoolOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPoolOptions","l":"TelegramEndpointPoolOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCache","l":"TelegramFileCache(TelegramClient, TelegramFileCacheOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.generics.TelegramClient,org.telegram.telegrambots.meta.client.TelegramFileCacheOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCacheOptions","l":"TelegramFileCacheOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiter","l":"TelegramRateLimiter()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiter","l":"TelegramRateLimiter(TelegramRateLimiterOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.client.TelegramRateLimiterOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiter","l":"TelegramRateLimiter(TelegramRateLimiterOptions, ScheduledExecutorService)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.client.TelegramRateLimiterOptions,java.util.concurrent.ScheduledExecutorService)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiterOptions","l":"TelegramRateLimiterOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryOptions","l":"TelegramRetryOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryPolicy","l":"TelegramRetryPolicy()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryPolicy","l":"TelegramRetryPolicy(TelegramRetryOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.client.TelegramRetryOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryPolicy","l":"TelegramRetryPolicy(TelegramRetryOptions, ScheduledExecutorService)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.client.TelegramRetryOptions,java.util.concurrent.ScheduledExecutorService)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"TelegramUploadCache()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCache","l":"TelegramUploadCache(TelegramUploadCacheOptions)","u":"%3Cinit%3E(org.telegram.telegrambots.meta.client.TelegramUploadCacheOptions)"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCacheOptions","l":"TelegramUploadCacheOptions()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta","c":"TelegramUrl","l":"TelegramUrl()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonWebApp","l":"TEXT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"TEXTLINK"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"TEXTMENTION"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"TextQuote","l":"TextQuote()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"THUMBNAIL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"TITLE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"TITLE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"TITLE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetTitle","l":"TITLE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"TITLE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"toString()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ApiResponse","l":"toString()"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiRequestException","l":"toString()"},{"p":"org.telegram.telegrambots.meta.exceptions","c":"TelegramApiValidationException","l":"toString()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"TransactionPartnerAffiliateProgram","l":"TransactionPartnerAffiliateProgram()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"TransactionPartnerFragment","l":"TransactionPartnerFragment()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"TransactionPartnerOther","l":"TransactionPartnerOther()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"TransactionPartnerTelegramAds","l":"TransactionPartnerTelegramAds()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"TransactionPartnerTelegramApi","l":"TransactionPartnerTelegramApi()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","c":"TransactionPartnerUser","l":"TransactionPartnerUser()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"TYPE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"TYPE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButton","l":"TYPE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"TYPING"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember","l":"UnbanChatMember()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember.UnbanChatMemberBuilder","l":"UnbanChatMemberBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat","l":"UnbanChatSenderChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat.UnbanChatSenderChatBuilder","l":"UnbanChatSenderChatBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayCompleted","l":"UNCLAIMED_PRIZE_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"UNCLAIMED_PRIZE_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic","l":"UnhideGeneralForumTopic()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic.UnhideGeneralForumTopicBuilder","l":"UnhideGeneralForumTopicBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages","l":"UnpinAllChatMessages()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages.UnpinAllChatMessagesBuilder","l":"UnpinAllChatMessagesBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages","l":"UnpinAllForumTopicMessages()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages.UnpinAllForumTopicMessagesBuilder","l":"UnpinAllForumTopicMessagesBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages","l":"UnpinAllGeneralForumTopicMessages()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages.UnpinAllGeneralForumTopicMessagesBuilder","l":"UnpinAllGeneralForumTopicMessagesBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage","l":"UnpinChatMessage()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage.UnpinChatMessageBuilder","l":"UnpinChatMessageBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Update","l":"Update()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"UPLOAD_DOCUMENT"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"UPLOAD_PHOTO"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"UPLOAD_VIDEO"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"UPLOAD_VIDEO_NOTE"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"UPLOAD_VOICE"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"UploadStickerFile()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"EntityType","l":"URL"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"URL_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"USER_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"USER_ID_FIELD"},{"p":"org.telegram.telegrambots.meta.util","c":"Validations","l":"USER_ID_VALIDATION"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","c":"MessageOrigin","l":"USER_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"User","l":"User()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","c":"UserChatBoosts","l":"UserChatBoosts()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"USERID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"USERID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"USERID_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"UserProfilePhotos","l":"UserProfilePhotos()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"UserShared","l":"UserShared()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"UsersShared","l":"UsersShared()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.interfaces","c":"Validable","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerInlineQuery","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerPreCheckoutQuery","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"AnswerShippingQuery","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","c":"GetUserChatBoosts","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.business","c":"GetBusinessConnection","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"DeleteMyCommands","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"GetMyCommands","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","c":"SetMyCommands","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"CopyMessages","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CloseGeneralForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"CreateForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"DeleteForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"EditGeneralForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"GetForumTopicIconStickers","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"HideGeneralForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"ReopenGeneralForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnhideGeneralForumTopic","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllForumTopicMessages","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","c":"UnpinAllGeneralForumTopicMessages","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ForwardMessages","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"GetGameHighScores","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.games","c":"SetGameScore","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","c":"SendGift","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ApproveChatJoinRequest","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatMember","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"BanChatSenderChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatInviteLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"CreateChatSubscriptionInviteLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeclineChatJoinRequest","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"DeleteChatStickerSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatInviteLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"EditChatSubscriptionInviteLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"ExportChatInviteLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatAdministrators","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMember","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"GetChatMemberCount","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"LeaveChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"PromoteChatMember","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RestrictChatMember","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"RevokeChatInviteLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatAdministratorCustomTitle","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatDescription","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPermissions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatStickerSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"SetChatTitle","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatMember","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","c":"UnbanChatSenderChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"CreateInvoiceLink","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","c":"SendInvoice","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","c":"SetChatMenuButton","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.message","c":"SavePreparedInlineMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments","c":"RefundStarPayment","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"EditUserStarSubscription","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","c":"GetStarTransactions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"PinChatMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinAllChatMessages","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","c":"UnpinChatMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"SendPoll","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","c":"StopPoll","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","c":"SetMessageReaction","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAudio","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendChatAction","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendContact","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDice","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendDocument","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendGame","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendLocation","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMediaGroup","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPaidMedia","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendSticker","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVenue","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetPassportDataErrors","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"SetUserEmojiStatus","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"AddStickerToSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"CreateNewStickerSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerFromSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"DeleteStickerSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetCustomEmojiStickers","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"GetStickerSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"ReplaceStickerInSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetCustomEmojiStickerSetThumbnail","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerEmojiList","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerKeywords","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerMaskPosition","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerPositionInSet","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetThumbnail","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"SetStickerSetTitle","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","c":"UploadStickerFile","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"StopMessageLiveLocation","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","c":"SetWebhook","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessage","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"DeleteMessages","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageCaption","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageLiveLocation","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageMedia","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageReplyMarkup","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","c":"EditMessageText","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveChatVerification","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"RemoveUserVerification","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyUser","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.methods.webapp","c":"AnswerWebAppQuery","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands","c":"BotCommand","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatAdministrators","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","c":"BotCommandScopeChatMember","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputContactMessageContent","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputInvoiceMessageContent","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputLocationMessageContent","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputTextMessageContent","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","c":"InputVenueMessageContent","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedAudio","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedDocument","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedGif","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedMpeg4Gif","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedSticker","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedVideo","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","c":"InlineQueryResultCachedVoice","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultArticle","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultAudio","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultContact","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultDocument","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultGame","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultGif","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultLocation","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultMpeg4Gif","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultsButton","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultVenue","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultVideo","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResultVoice","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"InputFile","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"LoginUrl","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMedia","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAnimation","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaAudio","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaDocument","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media","c":"InputMediaVideo","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMedia","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaPhoto","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","c":"InputPaidMediaVideo","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButton","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonCommands","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonDefault","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonWebApp","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorDataField","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorFile","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorFiles","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorFrontSide","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorReverseSide","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorSelfie","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorTranslationFile","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorTranslationFiles","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","c":"PassportElementErrorUnspecified","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"LabeledPrice","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","c":"ShippingOption","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.polls.input","c":"InputPollOption","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionTypeCustomEmoji","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionTypeEmoji","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","c":"ReactionTypePaid","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"CopyTextButton","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardButton","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"InlineKeyboardRow","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButton","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonPollType","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonRequestChat","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonRequestUser","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardButtonRequestUsers","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","c":"KeyboardRow","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"ForceReplyKeyboard","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"InlineKeyboardMarkup","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","c":"ReplyKeyboardMarkup","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"ReplyParameters","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"InputSticker","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","c":"MaskPosition","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","c":"WebAppInfo","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramConcurrencyLimiterOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEditCoalescerOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramEndpointPoolOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCacheOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRateLimiterOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramRetryOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramUploadCacheOptions","l":"validate()"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","c":"InlineQueryResult","l":"VALIDTHUMBTYPES"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOutcome","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.telegram.telegrambots.meta.api.methods","c":"ActionType","l":"values()"},{"p":"org.telegram.telegrambots.meta.client.broadcast","c":"BroadcastOutcome","l":"values()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Venue","l":"Venue()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat","l":"VerifyChat()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyChat.VerifyChatBuilder","l":"VerifyChatBuilder()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.client","c":"TelegramFileCache","l":"verifyFiles()"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","c":"VerifyUser","l":"VerifyUser()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"VIDEO_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideoNote","l":"VIDEO_NOTE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Video","l":"Video()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","c":"VideoChatEnded","l":"VideoChatEnded()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","c":"VideoChatParticipantsInvited","l":"VideoChatParticipantsInvited()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","c":"VideoChatScheduled","l":"VideoChatScheduled()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","c":"VideoChatStarted","l":"VideoChatStarted()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"VideoNote","l":"VideoNote()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVoice","l":"VOICE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"Voice","l":"Voice()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","c":"BackgroundTypeWallpaper","l":"WALLPAPER_TYPE"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"WAS_REFUNDED_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","c":"MenuButtonWebApp","l":"WEBAPP_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","c":"WebAppData","l":"WebAppData()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","c":"WebAppInfo","l":"WebAppInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"WebhookInfo","l":"WebhookInfo()","u":"%3Cinit%3E()"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendAnimation","l":"WIDTH_FIELD"},{"p":"org.telegram.telegrambots.meta.api.methods.send","c":"SendVideo","l":"WIDTH_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"WINNER_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayCompleted","l":"WINNER_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"WINNER_COUNT_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"WINNERS_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"Giveaway","l":"WINNERS_SELECTION_DATE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","c":"GiveawayWinners","l":"WINNERS_SELECTION_DATE_FIELD"},{"p":"org.telegram.telegrambots.meta.api.objects","c":"WriteAccessAllowed","l":"WriteAccessAllowed()","u":"%3Cinit%3E()"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.telegram.telegrambots.meta"},{"l":"org.telegram.telegrambots.meta.api.interfaces"},{"l":"org.telegram.telegrambots.meta.api.methods"},{"l":"org.telegram.telegrambots.meta.api.methods.adminrights"},{"l":"org.telegram.telegrambots.meta.api.methods.boosts"},{"l":"org.telegram.telegrambots.meta.api.methods.botapimethods"},{"l":"org.telegram.telegrambots.meta.api.methods.business"},{"l":"org.telegram.telegrambots.meta.api.methods.commands"},{"l":"org.telegram.telegrambots.meta.api.methods.description"},{"l":"org.telegram.telegrambots.meta.api.methods.forum"},{"l":"org.telegram.telegrambots.meta.api.methods.games"},{"l":"org.telegram.telegrambots.meta.api.methods.gifts"},{"l":"org.telegram.telegrambots.meta.api.methods.groupadministration"},{"l":"org.telegram.telegrambots.meta.api.methods.invoices"},{"l":"org.telegram.telegrambots.meta.api.methods.menubutton"},{"l":"org.telegram.telegrambots.meta.api.methods.message"},{"l":"org.telegram.telegrambots.meta.api.methods.name"},{"l":"org.telegram.telegrambots.meta.api.methods.payments"},{"l":"org.telegram.telegrambots.meta.api.methods.payments.star"},{"l":"org.telegram.telegrambots.meta.api.methods.pinnedmessages"},{"l":"org.telegram.telegrambots.meta.api.methods.polls"},{"l":"org.telegram.telegrambots.meta.api.methods.reactions"},{"l":"org.telegram.telegrambots.meta.api.methods.send"},{"l":"org.telegram.telegrambots.meta.api.methods.stickers"},{"l":"org.telegram.telegrambots.meta.api.methods.updates"},{"l":"org.telegram.telegrambots.meta.api.methods.updatingmessages"},{"l":"org.telegram.telegrambots.meta.api.methods.verification"},{"l":"org.telegram.telegrambots.meta.api.methods.webapp"},{"l":"org.telegram.telegrambots.meta.api.objects"},{"l":"org.telegram.telegrambots.meta.api.objects.adminrights"},{"l":"org.telegram.telegrambots.meta.api.objects.boost"},{"l":"org.telegram.telegrambots.meta.api.objects.business"},{"l":"org.telegram.telegrambots.meta.api.objects.chat"},{"l":"org.telegram.telegrambots.meta.api.objects.chat.background"},{"l":"org.telegram.telegrambots.meta.api.objects.chat.background.type"},{"l":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill"},{"l":"org.telegram.telegrambots.meta.api.objects.chatmember"},{"l":"org.telegram.telegrambots.meta.api.objects.commands"},{"l":"org.telegram.telegrambots.meta.api.objects.commands.scope"},{"l":"org.telegram.telegrambots.meta.api.objects.description"},{"l":"org.telegram.telegrambots.meta.api.objects.forum"},{"l":"org.telegram.telegrambots.meta.api.objects.games"},{"l":"org.telegram.telegrambots.meta.api.objects.gifts"},{"l":"org.telegram.telegrambots.meta.api.objects.giveaway"},{"l":"org.telegram.telegrambots.meta.api.objects.inlinequery"},{"l":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent"},{"l":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.serialization"},{"l":"org.telegram.telegrambots.meta.api.objects.inlinequery.result"},{"l":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached"},{"l":"org.telegram.telegrambots.meta.api.objects.media"},{"l":"org.telegram.telegrambots.meta.api.objects.media.paid"},{"l":"org.telegram.telegrambots.meta.api.objects.menubutton"},{"l":"org.telegram.telegrambots.meta.api.objects.message"},{"l":"org.telegram.telegrambots.meta.api.objects.messageorigin"},{"l":"org.telegram.telegrambots.meta.api.objects.name"},{"l":"org.telegram.telegrambots.meta.api.objects.passport"},{"l":"org.telegram.telegrambots.meta.api.objects.passport.dataerror"},{"l":"org.telegram.telegrambots.meta.api.objects.payments"},{"l":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia"},{"l":"org.telegram.telegrambots.meta.api.objects.payments.star"},{"l":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner"},{"l":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate"},{"l":"org.telegram.telegrambots.meta.api.objects.polls"},{"l":"org.telegram.telegrambots.meta.api.objects.polls.input"},{"l":"org.telegram.telegrambots.meta.api.objects.reactions"},{"l":"org.telegram.telegrambots.meta.api.objects.replykeyboard"},{"l":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons"},{"l":"org.telegram.telegrambots.meta.api.objects.stickers"},{"l":"org.telegram.telegrambots.meta.api.objects.stories"},{"l":"org.telegram.telegrambots.meta.api.objects.videochat"},{"l":"org.telegram.telegrambots.meta.api.objects.webapp"},{"l":"org.telegram.telegrambots.meta.client"},{"l":"org.telegram.telegrambots.meta.client.broadcast"},{"l":"org.telegram.telegrambots.meta.exceptions"},{"l":"org.telegram.telegrambots.meta.generics"},{"l":"org.telegram.telegrambots.meta.util"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"org.telegram.telegrambots.meta.api.methods","l":"ActionType"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"AddStickerToSet"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"AffiliateInfo"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"AllowedUpdates"},{"p":"org.telegram.telegrambots.meta.api.objects.games","l":"Animation"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"AnswerCallbackQuery"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"AnswerInlineQuery"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"AnswerPreCheckoutQuery"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"AnswerShippingQuery"},{"p":"org.telegram.telegrambots.meta.api.methods.webapp","l":"AnswerWebAppQuery"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ApiResponse"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"ApiResponseReaders"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"ApproveChatJoinRequest"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"ApproveChatJoinRequest.ApproveChatJoinRequestBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Audio"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","l":"BackgroundFill"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","l":"BackgroundFillFreeformGradient"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","l":"BackgroundFillGradient"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type.fill","l":"BackgroundFillSolid"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","l":"BackgroundType"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","l":"BackgroundTypeChatTheme"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","l":"BackgroundTypeFill"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","l":"BackgroundTypePattern"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background.type","l":"BackgroundTypeWallpaper"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"BanChatMember"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"BanChatMember.BanChatMemberBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"BanChatSenderChat"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"BanChatSenderChat.BanChatSenderChatBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Birthdate"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethod"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethodBoolean"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethodBoolean.BotApiMethodBooleanBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethod.BotApiMethodBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethodMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethodMessage.BotApiMethodMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethodSerializable"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"BotApiMethodSerializable.BotApiMethodSerializableBuilder"},{"p":"org.telegram.telegrambots.meta.api.interfaces","l":"BotApiObject"},{"p":"org.telegram.telegrambots.meta.api.objects.commands","l":"BotCommand"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScope"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeAllChatAdministrators"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeAllGroupChats"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeAllPrivateChats"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeChat"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeChatAdministrators"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeChatAdministrators.BotCommandScopeChatAdministratorsBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeChat.BotCommandScopeChatBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeChatMember"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeChatMember.BotCommandScopeChatMemberBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.commands.scope","l":"BotCommandScopeDefault"},{"p":"org.telegram.telegrambots.meta.api.objects.description","l":"BotDescription"},{"p":"org.telegram.telegrambots.meta.api.objects.name","l":"BotName"},{"p":"org.telegram.telegrambots.meta.api.objects.description","l":"BotShortDescription"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"BroadcastListener"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"BroadcastOptions"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"BroadcastOutcome"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"BroadcastProgress"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"BroadcastRecipientSource"},{"p":"org.telegram.telegrambots.meta.api.objects.business","l":"BusinessConnection"},{"p":"org.telegram.telegrambots.meta.api.objects.business","l":"BusinessIntro"},{"p":"org.telegram.telegrambots.meta.api.objects.business","l":"BusinessLocation"},{"p":"org.telegram.telegrambots.meta.api.objects.business","l":"BusinessMessagesDeleted"},{"p":"org.telegram.telegrambots.meta.api.objects.business","l":"BusinessOpeningHours"},{"p":"org.telegram.telegrambots.meta.api.objects.business","l":"BusinessOpeningHoursInterval"},{"p":"org.telegram.telegrambots.meta.api.objects.games","l":"CallbackGame"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"CallbackQuery"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","l":"Chat"},{"p":"org.telegram.telegrambots.meta.api.objects.adminrights","l":"ChatAdministratorRights"},{"p":"org.telegram.telegrambots.meta.api.objects.chat.background","l":"ChatBackground"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoost"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostAdded"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostRemoved"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostSource"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostSourceGiftCode"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostSourceGiveaway"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostSourcePremium"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"ChatBoostUpdated"},{"p":"org.telegram.telegrambots.meta.api.objects.chat","l":"ChatFullInfo"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ChatInviteLink"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ChatJoinRequest"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ChatLocation"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMember"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberAdministrator"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberBanned"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberLeft"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberMember"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberOwner"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberRestricted"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"ChatMemberUpdated"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ChatPermissions"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ChatPhoto"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ChatShared"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery","l":"ChosenInlineQuery"},{"p":"org.telegram.telegrambots.meta.client","l":"JmxTelegramClientMetrics.ClientMetricsMXBean"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"Close"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"CloseForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"CloseForumTopic.CloseForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"CloseGeneralForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"CloseGeneralForumTopic.CloseGeneralForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Contact"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"CopyMessage"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"CopyMessage.CopyMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"CopyMessages"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"CopyMessages.CopyMessagesBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"CopyTextButton"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"CreateChatInviteLink"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"CreateChatInviteLink.CreateChatInviteLinkBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"CreateChatSubscriptionInviteLink"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"CreateChatSubscriptionInviteLink.CreateChatSubscriptionInviteLinkBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"CreateForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"CreateForumTopic.CreateForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","l":"CreateInvoiceLink"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"CreateNewStickerSet"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"DeclineChatJoinRequest"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"DeclineChatJoinRequest.DeclineChatJoinRequestBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"DeleteChatPhoto"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"DeleteChatPhoto.DeleteChatPhotoBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"DeleteChatStickerSet"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"DeleteChatStickerSet.DeleteChatStickerSetBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"DeleteForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"DeleteForumTopic.DeleteForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"DeleteMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"DeleteMessage.DeleteMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"DeleteMessages"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"DeleteMessages.DeleteMessagesBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","l":"DeleteMyCommands"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"DeleteStickerFromSet"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"DeleteStickerSet"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"DeleteWebhook"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Dice"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Document"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"EditChatInviteLink"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"EditChatInviteLink.EditChatInviteLinkBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"EditChatSubscriptionInviteLink"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"EditChatSubscriptionInviteLink.EditChatSubscriptionInviteLinkBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"EditForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"EditForumTopic.EditForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"EditGeneralForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"EditGeneralForumTopic.EditGeneralForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageCaption"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageCaption.EditMessageCaptionBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageLiveLocation"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageLiveLocation.EditMessageLiveLocationBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageMedia"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageMedia.EditMessageMediaBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageReplyMarkup"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageReplyMarkup.EditMessageReplyMarkupBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageText"},{"p":"org.telegram.telegrambots.meta.api.methods.updatingmessages","l":"EditMessageText.EditMessageTextBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","l":"EditUserStarSubscription"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","l":"EncryptedCredentials"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","l":"EncryptedPassportElement"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"EntityType"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"ExportChatInviteLink"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"ExportChatInviteLink.ExportChatInviteLinkBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ExternalReplyInfo"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"File"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","l":"ForceReplyKeyboard"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"ForumTopic"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"ForumTopicClosed"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"ForumTopicCreated"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"ForumTopicEdited"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"ForumTopicReopened"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"ForwardMessage"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"ForwardMessage.ForwardMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"ForwardMessages"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"ForwardMessages.ForwardMessagesBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.games","l":"Game"},{"p":"org.telegram.telegrambots.meta.api.objects.games","l":"GameHighScore"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"GeneralForumTopicHidden"},{"p":"org.telegram.telegrambots.meta.api.objects.forum","l":"GeneralForumTopicUnhidden"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","l":"GetAvailableGifts"},{"p":"org.telegram.telegrambots.meta.api.methods.business","l":"GetBusinessConnection"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChat"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChatAdministrators"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChatAdministrators.GetChatAdministratorsBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChat.GetChatBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChatMember"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChatMember.GetChatMemberBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChatMemberCount"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"GetChatMemberCount.GetChatMemberCountBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","l":"GetChatMenuButton"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","l":"GetChatMenuButton.GetChatMenuButtonBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"GetCustomEmojiStickers"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"GetFile"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"GetForumTopicIconStickers"},{"p":"org.telegram.telegrambots.meta.api.methods.games","l":"GetGameHighScores"},{"p":"org.telegram.telegrambots.meta.api.methods.games","l":"GetGameHighScores.GetGameHighScoresBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"GetMe"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","l":"GetMyCommands"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","l":"GetMyDefaultAdministratorRights"},{"p":"org.telegram.telegrambots.meta.api.methods.description","l":"GetMyDescription"},{"p":"org.telegram.telegrambots.meta.api.methods.name","l":"GetMyName"},{"p":"org.telegram.telegrambots.meta.api.methods.description","l":"GetMyShortDescription"},{"p":"org.telegram.telegrambots.meta.api.methods.payments.star","l":"GetStarTransactions"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"GetStickerSet"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"GetUpdates"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","l":"GetUserChatBoosts"},{"p":"org.telegram.telegrambots.meta.api.methods.boosts","l":"GetUserChatBoosts.GetUserChatBoostsBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"GetUserProfilePhotos"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"GetWebhookInfo"},{"p":"org.telegram.telegrambots.meta.api.objects.gifts","l":"Gift"},{"p":"org.telegram.telegrambots.meta.api.objects.gifts","l":"Gifts"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","l":"Giveaway"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","l":"GiveawayCompleted"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","l":"GiveawayCreated"},{"p":"org.telegram.telegrambots.meta.api.objects.giveaway","l":"GiveawayWinners"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"HideGeneralForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"HideGeneralForumTopic.HideGeneralForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.message","l":"InaccessibleMessage"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"InlineKeyboardButton"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","l":"InlineKeyboardMarkup"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"InlineKeyboardRow"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery","l":"InlineQuery"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResult"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultArticle"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultAudio"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedAudio"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedDocument"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedGif"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedMpeg4Gif"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedPhoto"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedSticker"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedVideo"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached","l":"InlineQueryResultCachedVoice"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultContact"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultDocument"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultGame"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultGif"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultLocation"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultMpeg4Gif"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultPhoto"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultsButton"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultVenue"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultVideo"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.result","l":"InlineQueryResultVoice"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","l":"InputContactMessageContent"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"InputFile"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"InputFileSerializer"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","l":"InputInvoiceMessageContent"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","l":"InputLocationMessageContent"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMedia"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMediaAnimation"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMediaAudio"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMedia.InputMediaBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMediaDocument"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMediaPhoto"},{"p":"org.telegram.telegrambots.meta.api.objects.media","l":"InputMediaVideo"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","l":"InputMessageContent"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.serialization","l":"InputMessageContentDeserializer"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","l":"InputPaidMedia"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","l":"InputPaidMedia.InputPaidMediaBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","l":"InputPaidMediaPhoto"},{"p":"org.telegram.telegrambots.meta.api.objects.media.paid","l":"InputPaidMediaVideo"},{"p":"org.telegram.telegrambots.meta.api.objects.polls.input","l":"InputPollOption"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","l":"InputSticker"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","l":"InputTextMessageContent"},{"p":"org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent","l":"InputVenueMessageContent"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"Invoice"},{"p":"org.telegram.telegrambots.meta.client","l":"JmxTelegramClientMetrics"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"KeyboardButton"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"KeyboardButtonPollType"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"KeyboardButtonRequestChat"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"KeyboardButtonRequestUser"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"KeyboardButtonRequestUsers"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"KeyboardRow"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"LabeledPrice"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"LeaveChat"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"LeaveChat.LeaveChatBuilder"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"BroadcastRecipientSource.LineIterator"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"LinkPreviewOptions"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Location"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"LoginUrl"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"LogOut"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","l":"MaskPosition"},{"p":"org.telegram.telegrambots.meta.api.objects.message","l":"MaybeInaccessibleMessage"},{"p":"org.telegram.telegrambots.meta.api.objects.chatmember","l":"MemberStatus"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","l":"MenuButton"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","l":"MenuButtonCommands"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","l":"MenuButtonDefault"},{"p":"org.telegram.telegrambots.meta.api.objects.menubutton","l":"MenuButtonWebApp"},{"p":"org.telegram.telegrambots.meta.api.objects.message","l":"Message"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"MessageAutoDeleteTimerChanged"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"MessageEntity"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"MessageId"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","l":"MessageOrigin"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","l":"MessageOriginChannel"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","l":"MessageOriginChat"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","l":"MessageOriginHiddenUser"},{"p":"org.telegram.telegrambots.meta.api.objects.messageorigin","l":"MessageOriginUser"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"MessageReactionCountUpdated"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"MessageReactionUpdated"},{"p":"org.telegram.telegrambots.meta.client","l":"MethodChatIdExtractor"},{"p":"org.telegram.telegrambots.meta.client","l":"JmxTelegramClientMetrics.MethodMetricsMXBean"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"OrderInfo"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","l":"PaidMedia"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","l":"PaidMediaInfo"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","l":"PaidMediaPhoto"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","l":"PaidMediaPreview"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"PaidMediaPurchased"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.paidmedia","l":"PaidMediaVideo"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"ParseMode"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"PartialBotApiMethod"},{"p":"org.telegram.telegrambots.meta.api.methods.botapimethods","l":"PartialBotApiMethod.PartialBotApiMethodBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","l":"PassportData"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementError"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorDataField"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorFile"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorFiles"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorFrontSide"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorReverseSide"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorSelfie"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorTranslationFile"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorTranslationFiles"},{"p":"org.telegram.telegrambots.meta.api.objects.passport.dataerror","l":"PassportElementErrorUnspecified"},{"p":"org.telegram.telegrambots.meta.api.objects.passport","l":"PassportFile"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"PhotoSize"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","l":"PinChatMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","l":"PinChatMessage.PinChatMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.polls","l":"Poll"},{"p":"org.telegram.telegrambots.meta.api.objects.polls","l":"PollAnswer"},{"p":"org.telegram.telegrambots.meta.api.objects.polls","l":"PollOption"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"PreCheckoutQuery"},{"p":"org.telegram.telegrambots.meta.api.objects.message","l":"PreparedInlineMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"PromoteChatMember"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"PromoteChatMember.PromoteChatMemberBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ProximityAlertTriggered"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"ReactionCount"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"ReactionType"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"ReactionTypeCustomEmoji"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"ReactionTypeEmoji"},{"p":"org.telegram.telegrambots.meta.api.objects.reactions","l":"ReactionTypePaid"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"RefundedPayment"},{"p":"org.telegram.telegrambots.meta.api.methods.payments","l":"RefundStarPayment"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","l":"RemoveChatVerification"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","l":"RemoveChatVerification.RemoveChatVerificationBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","l":"RemoveUserVerification"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"ReopenForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"ReopenForumTopic.ReopenForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"ReopenGeneralForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"ReopenGeneralForumTopic.ReopenGeneralForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"ReplaceStickerInSet"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","l":"ReplyKeyboard"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","l":"ReplyKeyboardMarkup"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard","l":"ReplyKeyboardRemove"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ReplyParameters"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ReplyParameters.ReplyParametersBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"ResponseParameters"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"RestrictChatMember"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"RestrictChatMember.RestrictChatMemberBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","l":"RevenueWithdrawalState"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","l":"RevenueWithdrawalStateFailed"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","l":"RevenueWithdrawalStatePending"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.withdrawalstate","l":"RevenueWithdrawalStateSucceeded"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"RevokeChatInviteLink"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"RevokeChatInviteLink.RevokeChatInviteLinkBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.message","l":"SavePreparedInlineMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendAnimation"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendAnimation.SendAnimationBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendAudio"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendAudio.SendAudioBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendChatAction"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendChatAction.SendChatActionBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendContact"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendContact.SendContactBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendDice"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendDice.SendDiceBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendDocument"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendDocument.SendDocumentBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendGame"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendGame.SendGameBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.gifts","l":"SendGift"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","l":"SendInvoice"},{"p":"org.telegram.telegrambots.meta.api.methods.invoices","l":"SendInvoice.SendInvoiceBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendLocation"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendLocation.SendLocationBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendMediaBotMethod"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendMediaBotMethod.SendMediaBotMethodBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendMediaGroup"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendMediaGroup.SendMediaGroupBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendMessage.SendMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendPaidMedia"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendPaidMedia.SendPaidMediaBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendPhoto"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendPhoto.SendPhotoBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","l":"SendPoll"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","l":"SendPoll.SendPollBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendSticker"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendSticker.SendStickerBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVenue"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVenue.SendVenueBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVideo"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVideo.SendVideoBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVideoNote"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVideoNote.SendVideoNoteBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVoice"},{"p":"org.telegram.telegrambots.meta.api.methods.send","l":"SendVoice.SendVoiceBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","l":"SentWebAppMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatAdministratorCustomTitle"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatAdministratorCustomTitle.SetChatAdministratorCustomTitleBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatDescription"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatDescription.SetChatDescriptionBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","l":"SetChatMenuButton"},{"p":"org.telegram.telegrambots.meta.api.methods.menubutton","l":"SetChatMenuButton.SetChatMenuButtonBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatPermissions"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatPermissions.SetChatPermissionsBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatPhoto"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatPhoto.SetChatPhotoBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatStickerSet"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatStickerSet.SetChatStickerSetBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatTitle"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"SetChatTitle.SetChatTitleBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetCustomEmojiStickerSetThumbnail"},{"p":"org.telegram.telegrambots.meta.api.methods.games","l":"SetGameScore"},{"p":"org.telegram.telegrambots.meta.api.methods.games","l":"SetGameScore.SetGameScoreBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","l":"SetMessageReaction"},{"p":"org.telegram.telegrambots.meta.api.methods.reactions","l":"SetMessageReaction.SetMessageReactionBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.commands","l":"SetMyCommands"},{"p":"org.telegram.telegrambots.meta.api.methods.adminrights","l":"SetMyDefaultAdministratorRights"},{"p":"org.telegram.telegrambots.meta.api.methods.description","l":"SetMyDescription"},{"p":"org.telegram.telegrambots.meta.api.methods.name","l":"SetMyName"},{"p":"org.telegram.telegrambots.meta.api.methods.description","l":"SetMyShortDescription"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"SetPassportDataErrors"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetStickerEmojiList"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetStickerKeywords"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetStickerMaskPosition"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetStickerPositionInSet"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetStickerSetThumbnail"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"SetStickerSetTitle"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"SetUserEmojiStatus"},{"p":"org.telegram.telegrambots.meta.api.methods.updates","l":"SetWebhook"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"ShippingAddress"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"ShippingOption"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"ShippingQuery"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.star","l":"StarTransaction"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.star","l":"StarTransactions"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","l":"Sticker"},{"p":"org.telegram.telegrambots.meta.api.objects.stickers","l":"StickerSet"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"StopMessageLiveLocation"},{"p":"org.telegram.telegrambots.meta.api.methods","l":"StopMessageLiveLocation.StopMessageLiveLocationBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","l":"StopPoll"},{"p":"org.telegram.telegrambots.meta.api.methods.polls","l":"StopPoll.StopPollBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects.stories","l":"Story"},{"p":"org.telegram.telegrambots.meta.api.objects.payments","l":"SuccessfulPayment"},{"p":"org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons","l":"SwitchInlineQueryChosenChat"},{"p":"org.telegram.telegrambots.meta.exceptions","l":"TelegramApiException"},{"p":"org.telegram.telegrambots.meta.exceptions","l":"TelegramApiRequestException"},{"p":"org.telegram.telegrambots.meta.exceptions","l":"TelegramApiValidationException"},{"p":"org.telegram.telegrambots.meta.client.broadcast","l":"TelegramBroadcast"},{"p":"org.telegram.telegrambots.meta.generics","l":"TelegramClient"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramClientMetrics"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramClientOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramConcurrencyLimiter"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramConcurrencyLimiterOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramEditCoalescer"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramEditCoalescerOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramEndpointPool"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramEndpointPoolOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramFileCache"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramFileCacheOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramRateLimiter"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramRateLimiterOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramRetryOptions"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramRetryPolicy"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramUploadCache"},{"p":"org.telegram.telegrambots.meta.client","l":"TelegramUploadCacheOptions"},{"p":"org.telegram.telegrambots.meta","l":"TelegramUrl"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"TextQuote"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartner"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartnerAffiliateProgram"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartnerFragment"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartnerOther"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartnerTelegramAds"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartnerTelegramApi"},{"p":"org.telegram.telegrambots.meta.api.objects.payments.transactionpartner","l":"TransactionPartnerUser"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"UnbanChatMember"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"UnbanChatMember.UnbanChatMemberBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"UnbanChatSenderChat"},{"p":"org.telegram.telegrambots.meta.api.methods.groupadministration","l":"UnbanChatSenderChat.UnbanChatSenderChatBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"UnhideGeneralForumTopic"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"UnhideGeneralForumTopic.UnhideGeneralForumTopicBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","l":"UnpinAllChatMessages"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","l":"UnpinAllChatMessages.UnpinAllChatMessagesBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"UnpinAllForumTopicMessages"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"UnpinAllForumTopicMessages.UnpinAllForumTopicMessagesBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"UnpinAllGeneralForumTopicMessages"},{"p":"org.telegram.telegrambots.meta.api.methods.forum","l":"UnpinAllGeneralForumTopicMessages.UnpinAllGeneralForumTopicMessagesBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","l":"UnpinChatMessage"},{"p":"org.telegram.telegrambots.meta.api.methods.pinnedmessages","l":"UnpinChatMessage.UnpinChatMessageBuilder"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Update"},{"p":"org.telegram.telegrambots.meta.api.methods.stickers","l":"UploadStickerFile"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"User"},{"p":"org.telegram.telegrambots.meta.api.objects.boost","l":"UserChatBoosts"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"UserProfilePhotos"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"UserShared"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"UsersShared"},{"p":"org.telegram.telegrambots.meta.api.interfaces","l":"Validable"},{"p":"org.telegram.telegrambots.meta.util","l":"Validations"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Venue"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","l":"VerifyChat"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","l":"VerifyChat.VerifyChatBuilder"},{"p":"org.telegram.telegrambots.meta.api.methods.verification","l":"VerifyUser"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Video"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","l":"VideoChatEnded"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","l":"VideoChatParticipantsInvited"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","l":"VideoChatScheduled"},{"p":"org.telegram.telegrambots.meta.api.objects.videochat","l":"VideoChatStarted"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"VideoNote"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"Voice"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","l":"WebAppData"},{"p":"org.telegram.telegrambots.meta.api.objects.webapp","l":"WebAppInfo"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"WebhookInfo"},{"p":"org.telegram.telegrambots.meta.api.objects","l":"WriteAccessAllowed"}];updateSearchResults();
\ No newline at end of file
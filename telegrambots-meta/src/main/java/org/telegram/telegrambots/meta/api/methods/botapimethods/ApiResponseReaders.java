@@ -0,0 +1,47 @@
+package org.telegram.telegrambots.meta.api.methods.botapimethods;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+import lombok.NonNull;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Readers of {@link ApiResponse} for every response type, built once from an {@link ObjectMapper} and shared.
+ * Clients keep one instance for their own object mapper, so responses are parsed with its configuration.
+ */
+public class ApiResponseReaders {
+    @Getter
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> arrayReaders = new ConcurrentHashMap<>();
+
+    public ApiResponseReaders(@NonNull ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return Reader of responses whose result is of the given type
+     */
+    public ObjectReader forType(JavaType type) {
+        return readers.computeIfAbsent(type, key ->
+                objectMapper.readerFor(objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, key)));
+    }
+
+    public ObjectReader forType(Class<?> type) {
+        return forType(objectMapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * @return Reader of responses whose result is an {@link ArrayList} of the given type
+     */
+    public ObjectReader forArrayOf(Class<?> elementType) {
+        return arrayReaders.computeIfAbsent(elementType, key ->
+                forType(objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, key)));
+    }
+}
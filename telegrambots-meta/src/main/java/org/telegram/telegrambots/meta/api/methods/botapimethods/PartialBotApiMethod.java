@@ -6,7 +6,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -15,8 +15,10 @@ import org.telegram.telegrambots.meta.api.objects.ApiResponse;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 /**
  * @author Ruben Bermudez
@@ -30,6 +32,18 @@ import java.util.ArrayList;
 public abstract class PartialBotApiMethod<T extends Serializable> implements Validable {
     @JsonIgnore
     protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    @JsonIgnore
+    private static final ApiResponseReaders DEFAULT_READERS = new ApiResponseReaders(OBJECT_MAPPER);
+    /**
+     * Concrete response type of each method class, empty if it returns a generic {@link Serializable}
+     */
+    @JsonIgnore
+    private static final ClassValue<Optional<JavaType>> RESPONSE_TYPES = new ClassValue<>() {
+        @Override
+        protected Optional<JavaType> computeValue(Class<?> type) {
+            return Optional.ofNullable(resolveResponseType(type));
+        }
+    };
 
     /**
      * Deserialize a json answer to the response type to a method
@@ -38,35 +52,87 @@ public abstract class PartialBotApiMethod<T extends Serializable> implements Val
      */
     public abstract T deserializeResponse(String answer) throws TelegramApiRequestException;
 
+    /**
+     * Deserialize a json answer to the response type to a method reading it directly from a stream,
+     * without building an intermediate String.
+     * Methods returning a concrete type are parsed straight from the stream while the ones returning
+     * a generic {@link Serializable} are buffered and handed to {@link #deserializeResponse(String)}.
+     * @param answer Stream with the json answer received
+     * @return Answer for the method
+     */
+    public T deserializeResponse(InputStream answer) throws TelegramApiRequestException {
+        return deserializeResponse(answer, DEFAULT_READERS);
+    }
+
+    /**
+     * Same as {@link #deserializeResponse(InputStream)}, parsing with the readers of a client's own object mapper
+     * @param answer Stream with the json answer received
+     * @param readers Readers to parse the answer with
+     * @return Answer for the method
+     *
+     * @implNote Methods with custom deserialization and a concrete response type must override this method too.
+     */
+    public T deserializeResponse(InputStream answer, ApiResponseReaders readers) throws TelegramApiRequestException {
+        Optional<JavaType> type = RESPONSE_TYPES.get(getClass());
+        if (type.isEmpty()) {
+            try {
+                return deserializeResponse(new String(answer.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new TelegramApiRequestException("Unable to deserialize response", e);
+            }
+        }
+        return deserializeResponseInternal(answer, readers.forType(type.get()));
+    }
+
     public T deserializeResponse(String answer, Class<T> returnClass) throws TelegramApiRequestException {
-        JavaType type = OBJECT_MAPPER.getTypeFactory().constructType(returnClass);
-        return deserializeResponseInternal(answer, type);
+        return deserializeResponseInternal(answer, DEFAULT_READERS.forType(returnClass));
     }
 
     public <K extends Serializable> T deserializeResponseArray(String answer, Class<K> returnClass) throws TelegramApiRequestException {
-        CollectionType collectionType = OBJECT_MAPPER.getTypeFactory().constructCollectionType(ArrayList.class, returnClass);
-        return deserializeResponseInternal(answer, collectionType);
+        return deserializeResponseInternal(answer, DEFAULT_READERS.forArrayOf(returnClass));
     }
 
     protected <K extends Serializable> T deserializeResponseSerializable(String answer, Class<K> returnClass) throws TelegramApiRequestException {
-        JavaType type = OBJECT_MAPPER.getTypeFactory().constructType(returnClass);
-        return deserializeResponseInternal(answer, type);
+        return deserializeResponseInternal(answer, DEFAULT_READERS.forType(returnClass));
     }
 
-    private T deserializeResponseInternal(String answer, JavaType type) throws TelegramApiRequestException {
+    private T deserializeResponseInternal(String answer, ObjectReader reader) throws TelegramApiRequestException {
         try {
-            JavaType responseType = OBJECT_MAPPER.getTypeFactory().constructParametricType(ApiResponse.class, type);
-            ApiResponse<T> result = OBJECT_MAPPER.readValue(answer, responseType);
-            if (result.getOk()) {
-                return result.getResult();
-            } else {
-                throw new TelegramApiRequestException(String.format("Error executing %s query", this.getClass().getName()), result);
-            }
+            ApiResponse<T> result = reader.readValue(answer);
+            return getResultOrThrow(result);
+        } catch (IOException e) {
+            throw new TelegramApiRequestException("Unable to deserialize response", e);
+        }
+    }
+
+    private T deserializeResponseInternal(InputStream answer, ObjectReader reader) throws TelegramApiRequestException {
+        try {
+            ApiResponse<T> result = reader.readValue(answer);
+            return getResultOrThrow(result);
         } catch (IOException e) {
             throw new TelegramApiRequestException("Unable to deserialize response", e);
         }
     }
 
+    private T getResultOrThrow(ApiResponse<T> result) throws TelegramApiRequestException {
+        if (result.getOk()) {
+            return result.getResult();
+        } else {
+            throw new TelegramApiRequestException(String.format("Error executing %s query", this.getClass().getName()), result);
+        }
+    }
+
+    /**
+     * @return Concrete response type of a method class or null if it returns a generic {@link Serializable}
+     */
+    private static JavaType resolveResponseType(Class<?> methodClass) {
+        JavaType[] typeParameters = OBJECT_MAPPER.getTypeFactory().constructType(methodClass).findTypeParameters(PartialBotApiMethod.class);
+        if (typeParameters.length != 1 || typeParameters[0].hasRawClass(Serializable.class) || typeParameters[0].isJavaLangObject()) {
+            return null;
+        }
+        return typeParameters[0];
+    }
+
     /**
      * Getter for method path (that is the same as method name)
      * @return Method path
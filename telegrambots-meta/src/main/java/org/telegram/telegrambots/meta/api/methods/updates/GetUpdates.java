@@ -1,6 +1,8 @@
 package org.telegram.telegrambots.meta.api.methods.updates;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -10,11 +12,16 @@ import lombok.Setter;
 import lombok.Singular;
 import lombok.ToString;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Ruben Bermudez
@@ -37,6 +44,12 @@ public class GetUpdates extends BotApiMethod<ArrayList<Update>>{
     private static final String TIMEOUT_FIELD = "timeout";
     private static final String ALLOWEDUPDATES_FIELD = "allowed_updates";
 
+    private static final String RESPONSE_OK_FIELD = "ok";
+    private static final String RESPONSE_RESULT_FIELD = "result";
+    private static final String RESPONSE_ERROR_CODE_FIELD = "error_code";
+    private static final String RESPONSE_DESCRIPTION_FIELD = "description";
+    private static final String RESPONSE_PARAMETERS_FIELD = "parameters";
+
     /**
      * Optional. Identifier of the first update to be returned. Must be greater by one than the
      * highest among the identifiers of previously received updates. By default, updates starting
@@ -83,4 +96,57 @@ public class GetUpdates extends BotApiMethod<ArrayList<Update>>{
     public ArrayList<Update> deserializeResponse(String answer) throws TelegramApiRequestException {
         return deserializeResponseArray(answer, Update.class);
     }
+
+    /**
+     * Deserialize the answer from a stream, handing every update to the consumer as soon as it is parsed
+     * instead of building the full list first.
+     * @param answer Stream with the json answer received
+     * @param updateConsumer Consumer receiving the updates in the same order they are in the answer
+     *
+     * @implNote If the answer is malformed, updates parsed before the error have already been consumed
+     */
+    public void deserializeResponse(InputStream answer, Consumer<Update> updateConsumer) throws TelegramApiRequestException {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(answer)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new TelegramApiRequestException("Unable to deserialize response");
+            }
+            Boolean ok = null;
+            ApiResponse.ApiResponseBuilder<ArrayList<Update>> errorResponse = ApiResponse.builder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case RESPONSE_OK_FIELD:
+                        ok = parser.getBooleanValue();
+                        break;
+                    case RESPONSE_RESULT_FIELD:
+                        if (valueToken == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                updateConsumer.accept(parser.readValueAs(Update.class));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    case RESPONSE_ERROR_CODE_FIELD:
+                        errorResponse.errorCode(parser.getIntValue());
+                        break;
+                    case RESPONSE_DESCRIPTION_FIELD:
+                        errorResponse.errorDescription(parser.getValueAsString());
+                        break;
+                    case RESPONSE_PARAMETERS_FIELD:
+                        errorResponse.parameters(parser.readValueAs(ResponseParameters.class));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (!Boolean.TRUE.equals(ok)) {
+                throw new TelegramApiRequestException(String.format("Error executing %s query", this.getClass().getName()),
+                        errorResponse.ok(false).build());
+            }
+        } catch (IOException e) {
+            throw new TelegramApiRequestException("Unable to deserialize response", e);
+        }
+    }
 }
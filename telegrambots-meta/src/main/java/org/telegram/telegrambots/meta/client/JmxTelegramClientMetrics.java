@@ -0,0 +1,297 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics exposed as MXBeans, without any dependency:
+ * <ul>
+ *     <li>{@code org.telegram.telegrambots:type=TelegramClient,name=<name>}: dispatcher queue time,
+ *     connection and TLS handshake times, and the state of the concurrency limiter of the clients</li>
+ *     <li>{@code org.telegram.telegrambots:type=TelegramClientMethod,name=<name>,method=<method>}: requests,
+ *     in flight requests, response codes, 429 responses, bytes sent and received, and latency percentiles
+ *     of every method used</li>
+ * </ul>
+ * Metrics can be shared by several clients, and {@link #close()} unregisters the MXBeans.
+ */
+@Slf4j
+public class JmxTelegramClientMetrics implements TelegramClientMetrics, AutoCloseable {
+    public static final String DOMAIN = "org.telegram.telegrambots";
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String name;
+    private final MBeanServer server;
+    private final ClientMetrics clientMetrics = new ClientMetrics();
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+    private final Map<ObjectName, Object> registered = new ConcurrentHashMap<>();
+
+    public JmxTelegramClientMetrics(String name) {
+        this(name, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * @param name Name of the MXBeans, to tell apart the metrics of different bots
+     */
+    public JmxTelegramClientMetrics(@NonNull String name, @NonNull MBeanServer server) {
+        this.name = name;
+        this.server = server;
+        register("type=TelegramClient,name=" + ObjectName.quote(name), clientMetrics);
+    }
+
+    @Override
+    public void onClientCreated(TelegramClientOptions options) {
+        if (options.getConcurrencyLimiter() != null) {
+            clientMetrics.concurrencyLimiter = options.getConcurrencyLimiter();
+        }
+    }
+
+    @Override
+    public void onRequestQueued(String method) {
+        getMethodMetrics(method).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onRequestStarted(String method, long queueNanos) {
+        clientMetrics.queueWait.record(queueNanos);
+    }
+
+    @Override
+    public void onConnectionOpened(long connectNanos, long secureConnectNanos) {
+        clientMetrics.connect.record(connectNanos);
+        if (secureConnectNanos > 0) {
+            clientMetrics.secureConnect.record(secureConnectNanos);
+        }
+    }
+
+    @Override
+    public void onRequestCompleted(String method, int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+        MethodMetrics metrics = getMethodMetrics(method);
+        metrics.inFlight.decrementAndGet();
+        metrics.latency.record(latencyNanos);
+        metrics.responseCodes.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+        if (statusCode < 0) {
+            metrics.failures.increment();
+        } else if (statusCode == TOO_MANY_REQUESTS) {
+            metrics.tooManyRequests.increment();
+        }
+        metrics.bytesSent.add(bytesSent);
+        metrics.bytesReceived.add(bytesReceived);
+    }
+
+    @Override
+    public void close() {
+        for (ObjectName objectName : registered.keySet()) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                log.warn("Unable to unregister {}", objectName, e);
+            }
+        }
+        registered.clear();
+    }
+
+    private MethodMetrics getMethodMetrics(String method) {
+        MethodMetrics metrics = methods.get(method);
+        if (metrics == null) {
+            MethodMetrics created = new MethodMetrics();
+            metrics = methods.putIfAbsent(method, created);
+            if (metrics == null) {
+                metrics = created;
+                register("type=TelegramClientMethod,name=" + ObjectName.quote(name) + ",method=" + ObjectName.quote(method), created);
+            }
+        }
+        return metrics;
+    }
+
+    private void register(String properties, Object mxBean) {
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":" + properties);
+            server.registerMBean(mxBean, objectName);
+            registered.put(objectName, mxBean);
+        } catch (JMException e) {
+            log.warn("Unable to register telegram client metrics {}", properties, e);
+        }
+    }
+
+    public interface ClientMetricsMXBean {
+        double getQueueWaitMeanMillis();
+
+        double getQueueWait99thPercentileMillis();
+
+        long getConnections();
+
+        double getConnectMeanMillis();
+
+        double getSecureConnectMeanMillis();
+
+        /**
+         * @return Current limit of the concurrency limiter, -1 without one
+         */
+        int getConcurrencyLimit();
+
+        int getConcurrencyInFlight();
+
+        int getConcurrencyQueued();
+    }
+
+    public interface MethodMetricsMXBean {
+        long getRequests();
+
+        int getInFlight();
+
+        /**
+         * @return Requests that failed without response
+         */
+        long getFailures();
+
+        long getTooManyRequests();
+
+        Map<String, Long> getResponseCodes();
+
+        long getBytesSent();
+
+        long getBytesReceived();
+
+        double getLatencyMeanMillis();
+
+        double getLatency50thPercentileMillis();
+
+        double getLatency95thPercentileMillis();
+
+        double getLatency99thPercentileMillis();
+
+        double getLatencyMaxMillis();
+    }
+
+    private static class ClientMetrics implements ClientMetricsMXBean {
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final LatencyHistogram connect = new LatencyHistogram();
+        private final LatencyHistogram secureConnect = new LatencyHistogram();
+        private volatile TelegramConcurrencyLimiter concurrencyLimiter;
+
+        @Override
+        public double getQueueWaitMeanMillis() {
+            return queueWait.getMeanMillis();
+        }
+
+        @Override
+        public double getQueueWait99thPercentileMillis() {
+            return queueWait.getPercentileMillis(0.99);
+        }
+
+        @Override
+        public long getConnections() {
+            return connect.getCount();
+        }
+
+        @Override
+        public double getConnectMeanMillis() {
+            return connect.getMeanMillis();
+        }
+
+        @Override
+        public double getSecureConnectMeanMillis() {
+            return secureConnect.getMeanMillis();
+        }
+
+        @Override
+        public int getConcurrencyLimit() {
+            TelegramConcurrencyLimiter limiter = concurrencyLimiter;
+            return limiter == null ? -1 : limiter.getLimit();
+        }
+
+        @Override
+        public int getConcurrencyInFlight() {
+            TelegramConcurrencyLimiter limiter = concurrencyLimiter;
+            return limiter == null ? -1 : limiter.getInFlight();
+        }
+
+        @Override
+        public int getConcurrencyQueued() {
+            TelegramConcurrencyLimiter limiter = concurrencyLimiter;
+            return limiter == null ? -1 : limiter.getQueuedRequests();
+        }
+    }
+
+    private static class MethodMetrics implements MethodMetricsMXBean {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder tooManyRequests = new LongAdder();
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final Map<Integer, LongAdder> responseCodes = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        @Override
+        public long getRequests() {
+            return latency.getCount();
+        }
+
+        @Override
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        @Override
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        @Override
+        public long getTooManyRequests() {
+            return tooManyRequests.sum();
+        }
+
+        @Override
+        public Map<String, Long> getResponseCodes() {
+            Map<String, Long> codes = new TreeMap<>();
+            responseCodes.forEach((code, count) -> codes.put(String.valueOf(code), count.sum()));
+            return codes;
+        }
+
+        @Override
+        public long getBytesSent() {
+            return bytesSent.sum();
+        }
+
+        @Override
+        public long getBytesReceived() {
+            return bytesReceived.sum();
+        }
+
+        @Override
+        public double getLatencyMeanMillis() {
+            return latency.getMeanMillis();
+        }
+
+        @Override
+        public double getLatency50thPercentileMillis() {
+            return latency.getPercentileMillis(0.5);
+        }
+
+        @Override
+        public double getLatency95thPercentileMillis() {
+            return latency.getPercentileMillis(0.95);
+        }
+
+        @Override
+        public double getLatency99thPercentileMillis() {
+            return latency.getPercentileMillis(0.99);
+        }
+
+        @Override
+        public double getLatencyMaxMillis() {
+            return latency.getMaxMillis();
+        }
+    }
+}
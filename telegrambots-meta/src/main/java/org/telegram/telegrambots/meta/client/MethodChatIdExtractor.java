@@ -0,0 +1,77 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Derives the target chat of a {@link PartialBotApiMethod}, from its {@code chat_id} field.
+ * <p>
+ * Methods are inspected by reflection once per class, methods without a {@code chat_id} field
+ * (or without a value in it, like inline message edits) resolve to null.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MethodChatIdExtractor {
+    private static final ClassValue<Method> CHAT_ID_GETTERS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            return findGetter(type, "getChatId");
+        }
+    };
+    private static final ClassValue<Method> PAID_BROADCAST_GETTERS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            return findGetter(type, "getAllowPaidBroadcast");
+        }
+    };
+
+    /**
+     * @return Chat id of the method as a string or null if it doesn't target a chat
+     */
+    public static String getChatId(PartialBotApiMethod<?> method) {
+        Object chatId = invoke(CHAT_ID_GETTERS.get(method.getClass()), method);
+        return chatId == null ? null : chatId.toString();
+    }
+
+    /**
+     * @return True if the chat id belongs to a private chat: positive numeric ids are users, while groups and
+     * channels have negative ids or are referenced by @username
+     */
+    public static boolean isPrivateChat(String chatId) {
+        try {
+            return Long.parseLong(chatId) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return True if the method is sent with allow_paid_broadcast
+     */
+    public static boolean isPaidBroadcast(PartialBotApiMethod<?> method) {
+        return Boolean.TRUE.equals(invoke(PAID_BROADCAST_GETTERS.get(method.getClass()), method));
+    }
+
+    private static Method findGetter(Class<?> type, String name) {
+        try {
+            Method getter = type.getMethod(name);
+            return getter.getParameterCount() == 0 ? getter : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method getter, PartialBotApiMethod<?> method) {
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return getter.invoke(method);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+}
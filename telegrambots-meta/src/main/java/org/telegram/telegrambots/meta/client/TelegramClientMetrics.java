@@ -0,0 +1,45 @@
+package org.telegram.telegrambots.meta.client;
+
+/**
+ * Receives the events of the http requests sent by telegram clients, to measure them.
+ * <p>
+ * Events are reported by the http client itself, so every attempt of a request retried by a
+ * {@link TelegramRetryPolicy} is measured on its own. Every {@link #onRequestQueued} is followed by exactly
+ * one {@link #onRequestCompleted}, the difference being the requests in flight.
+ * Implementations must be thread safe and fast, they are called from the threads of the http client.
+ *
+ * @see JmxTelegramClientMetrics
+ */
+public interface TelegramClientMetrics {
+    /**
+     * Called once by every client using these metrics, e.g. to expose the state of its policies
+     */
+    default void onClientCreated(TelegramClientOptions options) {
+    }
+
+    /**
+     * @param method Bot API method of the request, or downloadFile for file downloads
+     */
+    default void onRequestQueued(String method) {
+    }
+
+    /**
+     * @param queueNanos Time the request waited for the dispatcher of the http client
+     */
+    default void onRequestStarted(String method, long queueNanos) {
+    }
+
+    /**
+     * A new connection was opened, requests sent over reused connections don't report it
+     * @param secureConnectNanos Duration of the TLS handshake, 0 for plain connections
+     */
+    default void onConnectionOpened(long connectNanos, long secureConnectNanos) {
+    }
+
+    /**
+     * @param statusCode Http status of the response, or -1 if the request failed without one
+     * @param latencyNanos Time from queueing the request to receiving the whole response
+     */
+    default void onRequestCompleted(String method, int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+    }
+}
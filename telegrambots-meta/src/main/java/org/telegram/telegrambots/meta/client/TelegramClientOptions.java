@@ -0,0 +1,37 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Policies applied by a telegram client to its requests, the ones left null are not applied.
+ * Policies can be shared by several clients of the same bot.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramClientOptions {
+    /**
+     * Keeps requests within the rate limits of Telegram
+     */
+    private TelegramRateLimiter rateLimiter;
+    /**
+     * Retries requests rejected with "Too Many Requests"
+     */
+    private TelegramRetryPolicy retryPolicy;
+    /**
+     * Adapts the number of requests in flight to the health of the API
+     */
+    private TelegramConcurrencyLimiter concurrencyLimiter;
+    /**
+     * Sends content uploaded before by its file_id instead of uploading it again
+     */
+    private TelegramUploadCache uploadCache;
+    /**
+     * Measures the http requests of the client
+     */
+    private TelegramClientMetrics metrics;
+}
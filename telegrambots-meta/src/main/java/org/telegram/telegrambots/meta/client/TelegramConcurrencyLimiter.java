@@ -0,0 +1,206 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.Getter;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Adapts the number of requests in flight to the health of the API, following AIMD:
+ * the limit grows by one every time a full limit of requests completes in time, and it is multiplied by the
+ * backoff ratio when a request is throttled (429), fails with a server or network error, or takes longer
+ * than the latency tolerance over the lowest latency seen for its method, as uploads are much slower than
+ * other methods.
+ * <p>
+ * Requests above the limit are queued and started as others complete, without blocking the caller.
+ */
+public class TelegramConcurrencyLimiter {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+    private static final int MIN_LATENCY_WINDOW = 1000;
+    private static final long LATENCY_JITTER_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final String ANY_METHOD = "";
+
+    @Getter
+    private final TelegramConcurrencyLimiterOptions options;
+
+    private final Object lock = new Object();
+    private final Queue<PendingRequest<?>> pending = new ArrayDeque<>();
+    private double limit;
+    private int inFlight = 0;
+    private final Map<String, LatencyBaseline> baselines = new HashMap<>();
+    private long lastDecrease;
+
+    public TelegramConcurrencyLimiter() {
+        this(TelegramConcurrencyLimiterOptions.builder().build());
+    }
+
+    public TelegramConcurrencyLimiter(TelegramConcurrencyLimiterOptions options) {
+        options.validate();
+        this.options = options;
+        this.limit = options.getInitialLimit();
+        this.lastDecrease = System.nanoTime();
+    }
+
+    /**
+     * Executes a request compared to the latency of all the requests executed without method
+     *
+     * @see #execute(String, Supplier)
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        return execute(ANY_METHOD, request);
+    }
+
+    /**
+     * @param method  Method of the request, its latency is only compared to the lowest one of the same method
+     * @param request Sends the request, not called at all if the returned future is completed (e.g. cancelled)
+     *                while waiting for a free slot
+     * @return Future completed with the result of the request, or failed if too many requests are queued
+     */
+    public <T> CompletableFuture<T> execute(String method, Supplier<CompletableFuture<T>> request) {
+        PendingRequest<T> pendingRequest = new PendingRequest<>(method == null ? ANY_METHOD : method, request);
+        synchronized (lock) {
+            if (inFlight >= getLimit()) {
+                if (pending.size() >= options.getMaxQueuedRequests()) {
+                    pendingRequest.completeExceptionally(new TelegramApiException("Too many requests queued by the concurrency limiter"));
+                } else {
+                    pending.add(pendingRequest);
+                }
+                return pendingRequest;
+            }
+            inFlight++;
+        }
+        pendingRequest.send();
+        return pendingRequest;
+    }
+
+    /**
+     * @return Current limit of requests in flight
+     */
+    public int getLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int getQueuedRequests() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return True if the error means the API or the network is overloaded
+     */
+    static boolean isOverloadError(Throwable exception) {
+        while ((exception instanceof CompletionException || exception instanceof ExecutionException) &&
+                exception.getCause() != null) {
+            exception = exception.getCause();
+        }
+        if (exception instanceof TelegramApiRequestException requestException && requestException.getErrorCode() != null) {
+            return requestException.getErrorCode() == TOO_MANY_REQUESTS || requestException.getErrorCode() >= SERVER_ERROR;
+        }
+        return exception instanceof IOException;
+    }
+
+    private void onComplete(String method, long startNanos, Throwable exception) {
+        long now = System.nanoTime();
+        long latency = now - startNanos;
+        List<PendingRequest<?>> next = new ArrayList<>();
+        synchronized (lock) {
+            inFlight--;
+            LatencyBaseline baseline = baselines.computeIfAbsent(method, k -> new LatencyBaseline());
+            boolean overloaded = exception != null && isOverloadError(exception);
+            if (exception == null) {
+                baseline.update(latency);
+                // Ignore jitter of fast requests
+                overloaded = latency > baseline.minLatencyNanos * options.getLatencyTolerance() &&
+                        latency - baseline.minLatencyNanos > LATENCY_JITTER_NANOS;
+            }
+            if (overloaded) {
+                // Requests in flight when the limit is reduced complete with the same signal, reduce once per latency
+                if (now - lastDecrease >= Math.min(baseline.minLatencyNanos, latency)) {
+                    limit = Math.max(options.getMinLimit(), limit * options.getBackoffRatio());
+                    lastDecrease = now;
+                }
+            } else if (inFlight + 1 >= (int) limit / 2) {
+                // Only grow when the limit is actually used
+                limit = Math.min(options.getMaxLimit(), limit + 1 / limit);
+            }
+            while (!pending.isEmpty() && inFlight < (int) limit) {
+                PendingRequest<?> candidate = pending.poll();
+                if (!candidate.isDone()) {
+                    next.add(candidate);
+                    inFlight++;
+                }
+            }
+        }
+        for (PendingRequest<?> request : next) {
+            request.send();
+        }
+    }
+
+    /**
+     * Lowest latency of a method seen over the last window of samples, so it follows lasting changes of the network
+     */
+    private static class LatencyBaseline {
+        private long minLatencyNanos = Long.MAX_VALUE;
+        private long windowMinLatencyNanos = Long.MAX_VALUE;
+        private int windowSamples = 0;
+
+        private void update(long latency) {
+            windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latency);
+            minLatencyNanos = Math.min(minLatencyNanos, latency);
+            if (++windowSamples >= MIN_LATENCY_WINDOW) {
+                minLatencyNanos = windowMinLatencyNanos;
+                windowMinLatencyNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+        }
+    }
+
+    private class PendingRequest<T> extends CompletableFuture<T> {
+        private final String method;
+        private final Supplier<CompletableFuture<T>> request;
+
+        private PendingRequest(String method, Supplier<CompletableFuture<T>> request) {
+            this.method = method;
+            this.request = request;
+        }
+
+        private void send() {
+            long startNanos = System.nanoTime();
+            try {
+                request.get().whenComplete((result, exception) -> {
+                    onComplete(method, startNanos, exception);
+                    if (exception == null) {
+                        complete(result);
+                    } else {
+                        completeExceptionally(exception);
+                    }
+                });
+            } catch (RuntimeException e) {
+                onComplete(method, startNanos, e);
+                completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bounds and tuning of {@link TelegramConcurrencyLimiter}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramConcurrencyLimiterOptions {
+    @Builder.Default
+    private int initialLimit = 20;
+    @Builder.Default
+    private int minLimit = 1;
+    /**
+     * Should not be above the concurrency allowed by the http client, OkHttp dispatcher defaults to 100
+     */
+    @Builder.Default
+    private int maxLimit = 100;
+    /**
+     * Factor applied to the limit when requests are throttled, fail or get slow
+     */
+    @Builder.Default
+    private double backoffRatio = 0.9;
+    /**
+     * How many times slower than the lowest latency seen a request can be before the limit is reduced
+     */
+    @Builder.Default
+    private double latencyTolerance = 2.0;
+    /**
+     * Requests waiting for a free slot before new ones are rejected
+     */
+    @Builder.Default
+    private int maxQueuedRequests = 10_000;
+
+    public void validate() {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must be positive and min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("Latency tolerance must be greater than 1");
+        }
+        if (maxQueuedRequests <= 0) {
+            throw new IllegalArgumentException("Max queued requests must be positive");
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package org.telegram.telegrambots.meta.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageReplyMarkup;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces edits of live updating messages (progress, scores...) sent through a {@link TelegramClient}.
+ * <p>
+ * The first edit of a message is sent right away, edits of the same message received within the following
+ * window only keep the latest one, which is sent when the window ends. Every caller of a coalesced edit gets the
+ * result of the edit that was finally sent. Edits identical to the last one sent are not sent at all, as Telegram
+ * rejects them with "message is not modified", and their callers get the result of the previous edit.
+ * <p>
+ * Messages are identified by chat and message id, or inline message id. Text and reply markup edits are
+ * coalesced separately.
+ */
+@Slf4j
+public class TelegramEditCoalescer implements AutoCloseable {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final TelegramClient telegramClient;
+    @Getter
+    private final TelegramEditCoalescerOptions options;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+
+    private final Object lock = new Object();
+    private final Map<String, MessageEdits> messages;
+    private boolean closed = false;
+
+    public TelegramEditCoalescer(TelegramClient telegramClient) {
+        this(telegramClient, TelegramEditCoalescerOptions.builder().build());
+    }
+
+    public TelegramEditCoalescer(TelegramClient telegramClient, TelegramEditCoalescerOptions options) {
+        this(telegramClient, options, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "telegram-edit-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param scheduler Scheduler used to send coalesced edits, it is not shut down when closing the coalescer
+     */
+    public TelegramEditCoalescer(TelegramClient telegramClient, TelegramEditCoalescerOptions options, ScheduledExecutorService scheduler) {
+        this(telegramClient, options, scheduler, false);
+    }
+
+    private TelegramEditCoalescer(TelegramClient telegramClient, TelegramEditCoalescerOptions options,
+                                  ScheduledExecutorService scheduler, boolean ownScheduler) {
+        options.validate();
+        this.telegramClient = telegramClient;
+        this.options = options;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+        this.messages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MessageEdits> eldest) {
+                // Messages being edited are never forgotten, the map may grow above the max meanwhile
+                return size() > options.getMaxTrackedMessages() && !eldest.getValue().windowOpen;
+            }
+        };
+    }
+
+    /**
+     * @return Future completed with the result of the edit finally sent for the message
+     */
+    public CompletableFuture<Serializable> executeAsync(EditMessageText editMessageText) {
+        return edit(getKey(editMessageText.getMethod(), editMessageText.getChatId(),
+                editMessageText.getMessageId(), editMessageText.getInlineMessageId()), editMessageText);
+    }
+
+    /**
+     * @return Future completed with the result of the edit finally sent for the message
+     */
+    public CompletableFuture<Serializable> executeAsync(EditMessageReplyMarkup editMessageReplyMarkup) {
+        return edit(getKey(editMessageReplyMarkup.getMethod(), editMessageReplyMarkup.getChatId(),
+                editMessageReplyMarkup.getMessageId(), editMessageReplyMarkup.getInlineMessageId()), editMessageReplyMarkup);
+    }
+
+    /**
+     * Sends the pending edits right away and stops coalescing, later edits are sent directly
+     */
+    @Override
+    public void close() {
+        List<Runnable> flushes = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            for (MessageEdits edits : messages.values()) {
+                if (edits.pending != null) {
+                    flushes.add(takePending(edits));
+                }
+                edits.windowOpen = false;
+            }
+        }
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+        flushes.forEach(Runnable::run);
+    }
+
+    private CompletableFuture<Serializable> edit(String key, BotApiMethod<Serializable> method) {
+        CompletableFuture<Serializable> result = new CompletableFuture<>();
+        Runnable send;
+        synchronized (lock) {
+            MessageEdits edits = messages.computeIfAbsent(key, k -> new MessageEdits());
+            if (edits.windowOpen) {
+                edits.pending = method;
+                edits.waiters.add(result);
+                return result;
+            }
+            edits.pending = method;
+            edits.waiters.add(result);
+            send = takePending(edits);
+            if (!closed) {
+                edits.windowOpen = true;
+                scheduler.schedule(() -> closeWindow(edits), options.getWindowMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        send.run();
+        return result;
+    }
+
+    private void closeWindow(MessageEdits edits) {
+        Runnable send;
+        synchronized (lock) {
+            if (closed || edits.pending == null) {
+                edits.windowOpen = false;
+                return;
+            }
+            // Keep the window open after sending, so the next edits are spaced too
+            send = takePending(edits);
+            scheduler.schedule(() -> closeWindow(edits), options.getWindowMillis(), TimeUnit.MILLISECONDS);
+        }
+        send.run();
+    }
+
+    /**
+     * Takes the pending edit of a message, returning the action sending it, to run outside the lock
+     */
+    private Runnable takePending(MessageEdits edits) {
+        BotApiMethod<Serializable> method = edits.pending;
+        List<CompletableFuture<Serializable>> waiters = new ArrayList<>(edits.waiters);
+        edits.pending = null;
+        edits.waiters.clear();
+
+        String content = serialize(method);
+        boolean identical = content != null && content.equals(edits.lastSentContent);
+        CompletableFuture<Serializable> result;
+        if (identical) {
+            result = edits.lastResult;
+        } else {
+            result = new CompletableFuture<>();
+            edits.lastSentContent = content;
+            edits.lastResult = result;
+        }
+        return () -> {
+            if (!identical) {
+                execute(method, result, edits, content);
+            }
+            result.whenComplete((value, exception) -> {
+                for (CompletableFuture<Serializable> waiter : waiters) {
+                    if (exception == null) {
+                        waiter.complete(value);
+                    } else {
+                        waiter.completeExceptionally(exception);
+                    }
+                }
+            });
+        };
+    }
+
+    private void execute(BotApiMethod<Serializable> method, CompletableFuture<Serializable> result,
+                         MessageEdits edits, String content) {
+        CompletableFuture<Serializable> response;
+        try {
+            response = telegramClient.executeAsync(method);
+        } catch (TelegramApiException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((value, exception) -> {
+            if (exception != null) {
+                synchronized (lock) {
+                    // Failed edits are not skipped if they are sent again
+                    if (content != null && content.equals(edits.lastSentContent)) {
+                        edits.lastSentContent = null;
+                    }
+                }
+                result.completeExceptionally(exception);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private static String getKey(String method, String chatId, Integer messageId, String inlineMessageId) {
+        return inlineMessageId != null ? method + ":" + inlineMessageId : method + ":" + chatId + ":" + messageId;
+    }
+
+    private static String serialize(BotApiMethod<Serializable> method) {
+        try {
+            // Snapshot of the content, the method itself may be modified and sent again by the caller
+            return OBJECT_MAPPER.writeValueAsString(method);
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to serialize {}, it won't be checked for identical edits", method.getMethod(), e);
+            return null;
+        }
+    }
+
+    private static class MessageEdits {
+        private final List<CompletableFuture<Serializable>> waiters = new ArrayList<>();
+        private BotApiMethod<Serializable> pending;
+        private boolean windowOpen = false;
+        private String lastSentContent;
+        private CompletableFuture<Serializable> lastResult;
+    }
+}
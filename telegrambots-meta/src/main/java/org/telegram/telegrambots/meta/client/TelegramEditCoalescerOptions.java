@@ -0,0 +1,35 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings of {@link TelegramEditCoalescer}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramEditCoalescerOptions {
+    /**
+     * Minimum time between two edits of the same message, edits received meanwhile are coalesced
+     */
+    @Builder.Default
+    private long windowMillis = 1000;
+    /**
+     * Messages whose last edit is remembered to skip identical edits
+     */
+    @Builder.Default
+    private int maxTrackedMessages = 10_000;
+
+    public void validate() {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        if (maxTrackedMessages <= 0) {
+            throw new IllegalArgumentException("Max tracked messages must be positive");
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.TelegramUrl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Redundant Bot API servers (e.g. several local servers) that requests are spread over.
+ * <p>
+ * Each request goes to the healthy endpoint with the least requests in flight, the first one in the list winning
+ * ties. An endpoint failing {@link TelegramEndpointPoolOptions#getFailureThreshold()} times in a row is skipped
+ * for {@link TelegramEndpointPoolOptions#getUnhealthyMillis()}, then it receives requests again, and a single
+ * success makes it healthy. When every endpoint is unhealthy, the one closest to be tried again is used anyway.
+ * <p>
+ * The pool only keeps track of the endpoints, http clients use it to route their requests.
+ * Endpoints must serve the same bots, and be all test servers or none.
+ * Method names are case insensitive, like in the Bot API.
+ */
+@Slf4j
+public class TelegramEndpointPool {
+    @Getter
+    private final TelegramEndpointPoolOptions options;
+    @Getter
+    private final List<TelegramUrl> endpoints;
+
+    private final Set<String> idempotentMethods;
+    private final Set<String> hedgedMethods;
+    private final Endpoint[] states;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public TelegramEndpointPool(@NonNull List<TelegramUrl> endpoints) {
+        this(endpoints, TelegramEndpointPoolOptions.builder().build());
+    }
+
+    public TelegramEndpointPool(@NonNull List<TelegramUrl> endpoints, @NonNull TelegramEndpointPoolOptions options) {
+        options.validate();
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is needed");
+        }
+        this.options = options;
+        this.endpoints = List.copyOf(endpoints);
+        this.idempotentMethods = toLowerCase(options.getIdempotentMethods());
+        this.hedgedMethods = toLowerCase(options.getHedgedMethods());
+        this.states = new Endpoint[endpoints.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = new Endpoint(this.endpoints.get(i));
+        }
+    }
+
+    /**
+     * @return Endpoint with the given address, or null if it is not in the pool
+     */
+    public TelegramUrl find(String schema, String host, int port) {
+        for (TelegramUrl endpoint : endpoints) {
+            if (endpoint.getSchema().equalsIgnoreCase(schema) && endpoint.getHost().equalsIgnoreCase(host) && endpoint.getPort() == port) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param excluded Endpoints already tried by the request
+     * @return Endpoint to send the request to, or null if all of them are excluded
+     */
+    public TelegramUrl select(Collection<TelegramUrl> excluded) {
+        long now = System.nanoTime();
+        Endpoint selected = null;
+        Endpoint fallback = null;
+        for (Endpoint endpoint : states) {
+            if (excluded.contains(endpoint.url)) {
+                continue;
+            }
+            if (endpoint.isHealthy(now)) {
+                if (selected == null || endpoint.outstanding.get() < selected.outstanding.get()) {
+                    selected = endpoint;
+                }
+            } else if (fallback == null || endpoint.unhealthyUntil - fallback.unhealthyUntil < 0) {
+                fallback = endpoint;
+            }
+        }
+        if (selected == null) {
+            selected = fallback;
+        }
+        return selected == null ? null : selected.url;
+    }
+
+    public boolean isHealthy(TelegramUrl endpoint) {
+        return getState(endpoint).isHealthy(System.nanoTime());
+    }
+
+    /**
+     * @return Requests in flight to the endpoint
+     */
+    public int getOutstanding(TelegramUrl endpoint) {
+        return getState(endpoint).outstanding.get();
+    }
+
+    public boolean isIdempotent(String method) {
+        return idempotentMethods.contains(method.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return Time after which a second request should be sent to another endpoint, or -1 if the method must not
+     * be hedged or its latency is not known yet
+     */
+    public long getHedgeDelayMillis(String method) {
+        String key = method.toLowerCase(Locale.ROOT);
+        if (!options.isHedging() || endpoints.size() < 2 || !hedgedMethods.contains(key)) {
+            return -1;
+        }
+        LatencyWindow window = latencies.get(key);
+        long percentileNanos = window == null ? -1 : window.getPercentile(options.getHedgePercentile(), options.getMinLatencySamples());
+        if (percentileNanos < 0) {
+            return -1;
+        }
+        return Math.max(options.getMinHedgeDelayMillis(), TimeUnit.NANOSECONDS.toMillis(percentileNanos));
+    }
+
+    /**
+     * Must be called when a request is sent to an endpoint, and followed by {@link #onRequestEnd}
+     */
+    public void onRequestStart(TelegramUrl endpoint) {
+        getState(endpoint).outstanding.incrementAndGet();
+    }
+
+    /**
+     * @param success False if the endpoint could not be reached, timed out or returned a server error
+     */
+    public void onRequestEnd(TelegramUrl endpoint, String method, long latencyNanos, boolean success) {
+        Endpoint state = getState(endpoint);
+        state.outstanding.decrementAndGet();
+        if (success) {
+            state.onSuccess();
+            String key = method.toLowerCase(Locale.ROOT);
+            if (options.isHedging() && hedgedMethods.contains(key)) {
+                latencies.computeIfAbsent(key, k -> new LatencyWindow(options.getLatencySamples())).add(latencyNanos);
+            }
+        } else {
+            state.onFailure(options.getFailureThreshold(), TimeUnit.MILLISECONDS.toNanos(options.getUnhealthyMillis()));
+        }
+    }
+
+    /**
+     * Request ended without telling anything about the endpoint, e.g. cancelled
+     */
+    public void onRequestCancelled(TelegramUrl endpoint) {
+        getState(endpoint).outstanding.decrementAndGet();
+    }
+
+    private static Set<String> toLowerCase(Set<String> methods) {
+        return methods.stream().map(method -> method.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private Endpoint getState(TelegramUrl endpoint) {
+        for (Endpoint state : states) {
+            if (state.url.equals(endpoint)) {
+                return state;
+            }
+        }
+        throw new IllegalArgumentException("Endpoint " + endpoint + " is not in the pool");
+    }
+
+    private static class Endpoint {
+        private final TelegramUrl url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile boolean unhealthy = false;
+        private volatile long unhealthyUntil;
+
+        private Endpoint(TelegramUrl url) {
+            this.url = url;
+        }
+
+        private boolean isHealthy(long now) {
+            return !unhealthy || now - unhealthyUntil >= 0;
+        }
+
+        private void onSuccess() {
+            consecutiveFailures.set(0);
+            if (unhealthy) {
+                unhealthy = false;
+                log.info("Telegram endpoint {}:{} is healthy again", url.getHost(), url.getPort());
+            }
+        }
+
+        private void onFailure(int failureThreshold, long unhealthyNanos) {
+            // Once the threshold is reached, a single failure while trying the endpoint again is enough
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                unhealthyUntil = System.nanoTime() + unhealthyNanos;
+                if (!unhealthy) {
+                    unhealthy = true;
+                    log.warn("Telegram endpoint {}:{} is unhealthy, skipping it", url.getHost(), url.getPort());
+                }
+            }
+        }
+    }
+
+    /**
+     * Latest latencies of a method
+     */
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int count = 0;
+        private int next = 0;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        private synchronized void add(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        private synchronized long getPercentile(double percentile, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Health checking and hedging of {@link TelegramEndpointPool}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramEndpointPoolOptions {
+    /**
+     * Consecutive failures after which an endpoint stops receiving requests
+     */
+    @Builder.Default
+    private int failureThreshold = 3;
+    /**
+     * Time an unhealthy endpoint is skipped before trying it again
+     */
+    @Builder.Default
+    private long unhealthyMillis = 10_000;
+    /**
+     * Methods that can be sent again to another endpoint after a timeout or a server error,
+     * others only fail over when the endpoint can't be connected.
+     * getUpdates is left out, a second long poll would conflict with the first one still running
+     */
+    @Builder.Default
+    private Set<String> idempotentMethods = Set.of(
+            "getMe", "getFile", "getChat", "getChatMember", "getChatAdministrators", "getChatMemberCount",
+            "getUserProfilePhotos", "getStickerSet", "getCustomEmojiStickers", "getForumTopicIconStickers",
+            "getMyCommands", "getMyName", "getMyDescription", "getMyShortDescription", "getChatMenuButton",
+            "getMyDefaultAdministratorRights", "getWebhookInfo", "getUserChatBoosts", "getBusinessConnection",
+            "getStarTransactions", "getGameHighScores");
+    /**
+     * Send a second request to another endpoint when an idempotent one takes longer than usual
+     */
+    @Builder.Default
+    private boolean hedging = false;
+    /**
+     * Methods that are hedged, they should be idempotent too
+     */
+    @Builder.Default
+    private Set<String> hedgedMethods = Set.of(
+            "getMe", "getFile", "getChat", "getChatMember", "getChatAdministrators", "getChatMemberCount",
+            "getUserProfilePhotos", "getStickerSet", "getCustomEmojiStickers", "getForumTopicIconStickers",
+            "getMyCommands", "getUserChatBoosts", "getBusinessConnection", "getGameHighScores");
+    /**
+     * Percentile of the latency of a method after which it is hedged
+     */
+    @Builder.Default
+    private double hedgePercentile = 0.95;
+    @Builder.Default
+    private long minHedgeDelayMillis = 10;
+    /**
+     * Latencies kept per method to compute the percentile
+     */
+    @Builder.Default
+    private int latencySamples = 256;
+    /**
+     * Latencies needed before a method is hedged
+     */
+    @Builder.Default
+    private int minLatencySamples = 20;
+
+    public void validate() {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive");
+        }
+        if (unhealthyMillis < 0) {
+            throw new IllegalArgumentException("Unhealthy time can't be negative");
+        }
+        if (idempotentMethods == null || hedgedMethods == null) {
+            throw new IllegalArgumentException("Methods can't be null");
+        }
+        if (hedgePercentile <= 0 || hedgePercentile >= 1) {
+            throw new IllegalArgumentException("Hedge percentile must be between 0 and 1");
+        }
+        if (minHedgeDelayMillis < 0) {
+            throw new IllegalArgumentException("Min hedge delay can't be negative");
+        }
+        if (latencySamples <= 0 || minLatencySamples <= 0 || minLatencySamples > latencySamples) {
+            throw new IllegalArgumentException("Latency samples must be positive and min <= samples");
+        }
+    }
+}
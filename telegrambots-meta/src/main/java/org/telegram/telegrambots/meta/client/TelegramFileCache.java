@@ -0,0 +1,402 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.methods.GetFile;
+import org.telegram.telegrambots.meta.api.objects.File;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Caches the files read through a {@link TelegramClient}, identified by their file_unique_id.
+ * <p>
+ * GetFile results are reused while their file path is valid, and downloaded files are kept in a directory bounded
+ * in size, deleting the least recently used ones first. Cached files are named after their file_unique_id and the
+ * SHA-256 of their content. Before returning a cached file, only its size and modification time are checked,
+ * so a file truncated or modified is downloaded again, while {@link #verifyFiles()} checks the content of all
+ * the files against their checksum. Concurrent requests of the same file share a single GetFile and download.
+ * <p>
+ * Returned paths belong to the cache: they must not be modified, and they may be deleted by later downloads
+ * once they are the least recently used, so they should be read right away or copied.
+ */
+@Slf4j
+public class TelegramFileCache {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_SUFFIX = ".download";
+    private static final Pattern FILE_UNIQUE_ID = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final Pattern CACHED_FILE_NAME = Pattern.compile("([A-Za-z0-9_-]+)\\.([0-9a-f]{64})");
+
+    private final TelegramClient telegramClient;
+    @Getter
+    private final TelegramFileCacheOptions options;
+
+    private final Map<String, FilePath> filePaths;
+    private final Map<String, CompletableFuture<File>> pendingFilePaths = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Path>> pendingDownloads = new ConcurrentHashMap<>();
+    /**
+     * Files in the directory by file_unique_id, from the least to the most recently used
+     */
+    private final LinkedHashMap<String, CachedFile> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+
+    /**
+     * @throws IOException If the directory can't be created or read
+     */
+    public TelegramFileCache(@NonNull TelegramClient telegramClient, @NonNull TelegramFileCacheOptions options) throws IOException {
+        options.validate();
+        this.telegramClient = telegramClient;
+        this.options = options;
+        this.filePaths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FilePath> eldest) {
+                return size() > options.getMaxCachedFilePaths();
+            }
+        };
+        Files.createDirectories(options.getDirectory());
+        loadFiles();
+    }
+
+    /**
+     * GetFile reusing the result of a previous call for the same file while its path is valid
+     * @param fileUniqueId Unique id of the file if known, so results are shared by every file_id of the file
+     */
+    public CompletableFuture<File> getFileAsync(@NonNull String fileId, String fileUniqueId) {
+        String key = fileUniqueId == null ? fileId : fileUniqueId;
+        synchronized (filePaths) {
+            FilePath filePath = filePaths.get(key);
+            if (filePath != null && filePath.expiresAt - System.nanoTime() > 0) {
+                return CompletableFuture.completedFuture(filePath.file);
+            }
+        }
+        CompletableFuture<File> result = new CompletableFuture<>();
+        CompletableFuture<File> pending = pendingFilePaths.putIfAbsent(key, result);
+        if (pending != null) {
+            return pending;
+        }
+        executeGetFile(fileId).whenComplete((file, exception) -> {
+            pendingFilePaths.remove(key, result);
+            if (exception != null) {
+                result.completeExceptionally(exception);
+                return;
+            }
+            long expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.getFilePathTtlMillis());
+            synchronized (filePaths) {
+                filePaths.put(key, new FilePath(file, expiresAt));
+            }
+            result.complete(file);
+        });
+        return result;
+    }
+
+    /**
+     * Downloads a file, or returns it from the cache directory if it was downloaded before
+     * @param fileUniqueId Unique id of the file, requested with GetFile if null
+     * @return Path of the file in the cache directory
+     */
+    public CompletableFuture<Path> downloadFileAsync(@NonNull String fileId, String fileUniqueId) {
+        if (fileUniqueId == null) {
+            return getFileAsync(fileId, null).thenCompose(file -> {
+                if (file.getFileUniqueId() == null) {
+                    return CompletableFuture.failedFuture(new TelegramApiException("Telegram returned a file without unique id"));
+                }
+                return downloadFileAsync(fileId, file.getFileUniqueId());
+            });
+        }
+        if (!FILE_UNIQUE_ID.matcher(fileUniqueId).matches()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid file unique id " + fileUniqueId));
+        }
+        Path cachedFile = getCachedFile(fileUniqueId);
+        if (cachedFile != null) {
+            return CompletableFuture.completedFuture(cachedFile);
+        }
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        CompletableFuture<Path> pending = pendingDownloads.putIfAbsent(fileUniqueId, result);
+        if (pending != null) {
+            return pending;
+        }
+        // Another download of the file may have finished since the first check
+        cachedFile = getCachedFile(fileUniqueId);
+        if (cachedFile != null) {
+            pendingDownloads.remove(fileUniqueId, result);
+            result.complete(cachedFile);
+            return result;
+        }
+        getFileAsync(fileId, fileUniqueId)
+                .thenCompose(file -> telegramClient.downloadFileAsStreamAsync(file))
+                .thenApply(stream -> store(fileUniqueId, stream))
+                .whenComplete((path, exception) -> {
+                    pendingDownloads.remove(fileUniqueId, result);
+                    if (exception == null) {
+                        result.complete(path);
+                    } else {
+                        result.completeExceptionally(exception);
+                    }
+                });
+        return result;
+    }
+
+    public Path downloadFile(String fileId, String fileUniqueId) throws TelegramApiException {
+        try {
+            return downloadFileAsync(fileId, fileUniqueId).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TelegramApiException) {
+                throw (TelegramApiException) e.getCause();
+            }
+            throw new TelegramApiException("Unable to download file", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TelegramApiException("Interrupted while downloading file", e);
+        }
+    }
+
+    /**
+     * Reads every cached file to check its content against its checksum, removing the corrupted ones.
+     * Meant to be called from time to time, or after a crash, as hits only check the size and modification time.
+     *
+     * @return Number of corrupted files removed
+     */
+    public int verifyFiles() {
+        List<Map.Entry<String, CachedFile>> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(files.entrySet());
+        }
+        int removed = 0;
+        for (Map.Entry<String, CachedFile> entry : entries) {
+            CachedFile cachedFile = entry.getValue();
+            try {
+                if (cachedFile.checksum.equals(getChecksum(cachedFile.path))) {
+                    continue;
+                }
+                log.warn("Cached file {} is corrupted, removing it", cachedFile.path);
+            } catch (IOException e) {
+                log.warn("Unable to read cached file {}, removing it", cachedFile.path, e);
+            }
+            if (remove(entry.getKey(), cachedFile)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return Total size of the files in the cache directory
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private CompletableFuture<File> executeGetFile(String fileId) {
+        try {
+            return telegramClient.executeAsync(GetFile.builder().fileId(fileId).build());
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @return Path of the cached file or null if it is not cached or it changed since it was cached
+     */
+    private Path getCachedFile(String fileUniqueId) {
+        CachedFile cachedFile;
+        synchronized (this) {
+            cachedFile = files.get(fileUniqueId);
+        }
+        if (cachedFile == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(cachedFile.path, BasicFileAttributes.class);
+            if (attributes.size() == cachedFile.size && attributes.lastModifiedTime().toMillis() == cachedFile.lastModifiedMillis) {
+                // Keeps the order of use across restarts, the time is read back as the file system may round it
+                Files.setLastModifiedTime(cachedFile.path, FileTime.fromMillis(System.currentTimeMillis()));
+                cachedFile.lastModifiedMillis = Files.getLastModifiedTime(cachedFile.path).toMillis();
+                return cachedFile.path;
+            }
+            log.warn("Cached file {} changed, downloading it again", cachedFile.path);
+        } catch (IOException e) {
+            log.warn("Unable to read cached file {}, downloading it again", cachedFile.path, e);
+        }
+        remove(fileUniqueId, cachedFile);
+        return null;
+    }
+
+    /**
+     * @return False if the file was replaced or removed in the meantime
+     */
+    private synchronized boolean remove(String fileUniqueId, CachedFile cachedFile) {
+        if (files.get(fileUniqueId) != cachedFile) {
+            return false;
+        }
+        files.remove(fileUniqueId);
+        size -= cachedFile.size;
+        delete(cachedFile.path);
+        return true;
+    }
+
+    /**
+     * Writes a downloaded file to the cache directory, computing its checksum on the way
+     */
+    private Path store(String fileUniqueId, InputStream stream) {
+        Path temporaryFile = options.getDirectory().resolve(fileUniqueId + TEMPORARY_SUFFIX);
+        try {
+            MessageDigest digest = createDigest();
+            long fileSize = 0;
+            try (InputStream input = stream; OutputStream output = Files.newOutputStream(temporaryFile)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    output.write(buffer, 0, read);
+                    fileSize += read;
+                }
+            }
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            Path path = options.getDirectory().resolve(fileUniqueId + "." + checksum);
+            Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            add(fileUniqueId, new CachedFile(path, fileSize, checksum, Files.getLastModifiedTime(path).toMillis()));
+            return path;
+        } catch (IOException e) {
+            delete(temporaryFile);
+            throw new CompletionException(new TelegramApiException("Unable to write file to the cache", e));
+        }
+    }
+
+    private synchronized void add(String fileUniqueId, CachedFile cachedFile) {
+        CachedFile previous = files.put(fileUniqueId, cachedFile);
+        if (previous != null) {
+            size -= previous.size;
+            if (!previous.path.equals(cachedFile.path)) {
+                delete(previous.path);
+            }
+        }
+        size += cachedFile.size;
+        // The file just added is kept even if it is larger than the max size on its own
+        Iterator<Map.Entry<String, CachedFile>> iterator = files.entrySet().iterator();
+        while (size > options.getMaxSizeBytes() && iterator.hasNext()) {
+            Map.Entry<String, CachedFile> eldest = iterator.next();
+            if (eldest.getValue() == cachedFile) {
+                break;
+            }
+            iterator.remove();
+            size -= eldest.getValue().size;
+            delete(eldest.getValue().path);
+        }
+    }
+
+    /**
+     * Indexes the files left by a previous run, from the least to the most recently used
+     */
+    private synchronized void loadFiles() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> directoryFiles = Files.list(options.getDirectory())) {
+            directoryFiles.forEach(paths::add);
+        }
+        List<CachedFileCandidate> candidates = new ArrayList<>();
+        for (Path path : paths) {
+            String fileName = path.getFileName().toString();
+            Matcher matcher = CACHED_FILE_NAME.matcher(fileName);
+            if (fileName.endsWith(TEMPORARY_SUFFIX)) {
+                delete(path);
+            } else if (matcher.matches()) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                candidates.add(new CachedFileCandidate(matcher.group(1), new CachedFile(path, attributes.size(),
+                        matcher.group(2), attributes.lastModifiedTime().toMillis()), attributes.lastModifiedTime()));
+            }
+        }
+        candidates.sort(Comparator.comparing(candidate -> candidate.lastModified));
+        for (CachedFileCandidate candidate : candidates) {
+            add(candidate.fileUniqueId, candidate.cachedFile);
+        }
+    }
+
+    private static String getChecksum(Path path) throws IOException {
+        MessageDigest digest = createDigest();
+        try (InputStream input = Files.newInputStream(path)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete cached file {}", path, e);
+        }
+    }
+
+    private static class FilePath {
+        private final File file;
+        private final long expiresAt;
+
+        private FilePath(File file, long expiresAt) {
+            this.file = file;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class CachedFile {
+        private final Path path;
+        private final long size;
+        private final String checksum;
+        private volatile long lastModifiedMillis;
+
+        private CachedFile(Path path, long size, String checksum, long lastModifiedMillis) {
+            this.path = path;
+            this.size = size;
+            this.checksum = checksum;
+            this.lastModifiedMillis = lastModifiedMillis;
+        }
+    }
+
+    private static class CachedFileCandidate {
+        private final String fileUniqueId;
+        private final CachedFile cachedFile;
+        private final FileTime lastModified;
+
+        private CachedFileCandidate(String fileUniqueId, CachedFile cachedFile, FileTime lastModified) {
+            this.fileUniqueId = fileUniqueId;
+            this.cachedFile = cachedFile;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * Limits of the caches kept by {@link TelegramFileCache}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramFileCacheOptions {
+    /**
+     * Directory where downloaded files are kept, it must not be used for anything else
+     */
+    private Path directory;
+    /**
+     * Total size of the downloaded files kept, the least recently used ones are deleted first
+     */
+    @Builder.Default
+    private long maxSizeBytes = 1024L * 1024 * 1024;
+    /**
+     * Time a GetFile result is reused, Telegram guarantees file paths to be valid for at least an hour
+     */
+    @Builder.Default
+    private long filePathTtlMillis = 55 * 60 * 1000L;
+    /**
+     * GetFile results kept, the least recently used ones are forgotten first
+     */
+    @Builder.Default
+    private int maxCachedFilePaths = 10_000;
+
+    public void validate() {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory can't be null");
+        }
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        if (filePathTtlMillis < 0) {
+            throw new IllegalArgumentException("File path TTL can't be negative");
+        }
+        if (maxCachedFilePaths <= 0) {
+            throw new IllegalArgumentException("Max cached file paths must be positive");
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Schedules requests to Telegram so they stay within its rate limits: a global limit, one for each private chat,
+ * one for each group or channel, and a separate global limit for requests sent with allow_paid_broadcast.
+ * <p>
+ * Requests sending messages are keyed by the chat id of their method, requests to the same chat are sent in order.
+ * Other requests targeting a chat only count for the global limit, and are sent in order between them.
+ * A request is sent right away from the calling thread when its limits allow it, otherwise it is queued and sent
+ * later from the scheduler, so callers are never blocked. Methods without a chat are not limited.
+ */
+@Slf4j
+public class TelegramRateLimiter implements AutoCloseable {
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long SWEEP_PERIOD_SECONDS = 60;
+    /**
+     * Key of the queue of requests only limited globally, chat ids are never empty
+     */
+    private static final String GLOBAL_QUEUE = "";
+
+    @Getter
+    private final TelegramRateLimiterOptions options;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final ScheduledFuture<?> sweep;
+
+    private final Object lock = new Object();
+    private final TokenBucket globalBucket;
+    private final TokenBucket paidBroadcastBucket;
+    private final Set<String> chatLimitedMethods;
+    private final Map<String, ChatQueue> chats = new HashMap<>();
+    private int queuedRequests = 0;
+    private boolean closed = false;
+
+    public TelegramRateLimiter() {
+        this(TelegramRateLimiterOptions.builder().build());
+    }
+
+    public TelegramRateLimiter(TelegramRateLimiterOptions options) {
+        this(options, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "telegram-rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param scheduler Scheduler used to send queued requests, it is not shut down when closing the limiter
+     */
+    public TelegramRateLimiter(TelegramRateLimiterOptions options, ScheduledExecutorService scheduler) {
+        this(options, scheduler, false);
+    }
+
+    private TelegramRateLimiter(TelegramRateLimiterOptions options, ScheduledExecutorService scheduler, boolean ownScheduler) {
+        options.validate();
+        this.options = options;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+        long now = System.nanoTime();
+        this.globalBucket = new TokenBucket(options.getGlobalRequestsPerSecond(), SECOND_NANOS, now);
+        this.paidBroadcastBucket = new TokenBucket(options.getPaidBroadcastRequestsPerSecond(), SECOND_NANOS, now);
+        this.chatLimitedMethods = options.getChatLimitedMethods().stream()
+                .map(method -> method.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.sweep = scheduler.scheduleWithFixedDelay(this::removeIdleChats,
+                SWEEP_PERIOD_SECONDS, SWEEP_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sends a request once the limits of its method allow it
+     *
+     * @param method Method being sent, used to find its chat
+     * @param request Sends the request, called at most once, and not at all if the returned future is completed
+     *                (e.g. cancelled) before the request could be sent
+     * @return Future completed with the result of the request, or failed if too many requests are queued
+     */
+    public <T> CompletableFuture<T> execute(PartialBotApiMethod<?> method, Supplier<CompletableFuture<T>> request) {
+        String chatId = MethodChatIdExtractor.getChatId(method);
+        if (chatId == null) {
+            return request.get();
+        }
+        PendingRequest<T> pending = new PendingRequest<>(request, MethodChatIdExtractor.isPaidBroadcast(method));
+        List<PendingRequest<?>> ready = new ArrayList<>();
+        synchronized (lock) {
+            if (closed) {
+                pending.completeExceptionally(new TelegramApiException("Rate limiter is closed"));
+                return pending;
+            }
+            if (queuedRequests >= options.getMaxQueuedRequests()) {
+                pending.completeExceptionally(new TelegramApiException("Too many requests queued by the rate limiter"));
+                return pending;
+            }
+            long now = System.nanoTime();
+            ChatQueue chat = isChatLimited(method)
+                    ? chats.computeIfAbsent(chatId, id -> new ChatQueue(createChatBucket(id, now)))
+                    : chats.computeIfAbsent(GLOBAL_QUEUE, id -> new ChatQueue(null));
+            chat.pending.add(pending);
+            queuedRequests++;
+            drain(chat, now, ready);
+        }
+        send(ready);
+        return pending;
+    }
+
+    /**
+     * @return Requests waiting for their limits
+     */
+    public int getQueuedRequests() {
+        synchronized (lock) {
+            return queuedRequests;
+        }
+    }
+
+    /**
+     * Stops the limiter, failing the requests still queued
+     */
+    @Override
+    public void close() {
+        List<PendingRequest<?>> dropped = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            for (ChatQueue chat : chats.values()) {
+                dropped.addAll(chat.pending);
+            }
+            chats.clear();
+            queuedRequests = 0;
+        }
+        sweep.cancel(false);
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+        for (PendingRequest<?> pending : dropped) {
+            pending.completeExceptionally(new TelegramApiException("Rate limiter is closed"));
+        }
+    }
+
+    private boolean isChatLimited(PartialBotApiMethod<?> method) {
+        return chatLimitedMethods.contains(method.getMethod().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Messages to a private chat are spaced, while groups can burst up to their limit per minute
+     */
+    private TokenBucket createChatBucket(String chatId, long now) {
+        if (MethodChatIdExtractor.isPrivateChat(chatId)) {
+            return new TokenBucket(options.getPrivateChatRequestsPerSecond(), SECOND_NANOS, 1, now);
+        } else {
+            return new TokenBucket(options.getGroupRequestsPerMinute(), MINUTE_NANOS, now);
+        }
+    }
+
+    /**
+     * Takes the requests of a chat allowed by the limits, scheduling the chat again if some have to wait
+     */
+    private void drain(ChatQueue chat, long now, List<PendingRequest<?>> ready) {
+        while (!chat.pending.isEmpty()) {
+            PendingRequest<?> next = chat.pending.peek();
+            if (next.isDone()) {
+                chat.pending.poll();
+                queuedRequests--;
+                continue;
+            }
+            TokenBucket sharedBucket = next.paidBroadcast ? paidBroadcastBucket : globalBucket;
+            long delay = chat.bucket == null
+                    ? sharedBucket.getDelayNanos(now)
+                    : Math.max(chat.bucket.getDelayNanos(now), sharedBucket.getDelayNanos(now));
+            if (delay > 0) {
+                if (!chat.scheduled) {
+                    chat.scheduled = true;
+                    scheduler.schedule(() -> release(chat), delay, TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+            if (chat.bucket != null) {
+                chat.bucket.consume();
+            }
+            sharedBucket.consume();
+            chat.pending.poll();
+            queuedRequests--;
+            ready.add(next);
+        }
+    }
+
+    private void release(ChatQueue chat) {
+        List<PendingRequest<?>> ready = new ArrayList<>();
+        synchronized (lock) {
+            chat.scheduled = false;
+            if (closed) {
+                return;
+            }
+            drain(chat, System.nanoTime(), ready);
+        }
+        send(ready);
+    }
+
+    private void send(List<PendingRequest<?>> ready) {
+        for (PendingRequest<?> pending : ready) {
+            pending.send();
+        }
+    }
+
+    private void removeIdleChats() {
+        synchronized (lock) {
+            long now = System.nanoTime();
+            Iterator<ChatQueue> iterator = chats.values().iterator();
+            while (iterator.hasNext()) {
+                ChatQueue chat = iterator.next();
+                if (chat.pending.isEmpty() && !chat.scheduled && (chat.bucket == null || chat.bucket.isFull(now))) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private static class ChatQueue {
+        /**
+         * Null for the queue of requests only limited globally
+         */
+        private final TokenBucket bucket;
+        private final Queue<PendingRequest<?>> pending = new ArrayDeque<>();
+        private boolean scheduled = false;
+
+        private ChatQueue(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+    private static class PendingRequest<T> extends CompletableFuture<T> {
+        private final Supplier<CompletableFuture<T>> request;
+        private final boolean paidBroadcast;
+
+        private PendingRequest(Supplier<CompletableFuture<T>> request, boolean paidBroadcast) {
+            this.request = request;
+            this.paidBroadcast = paidBroadcast;
+        }
+
+        private void send() {
+            try {
+                request.get().whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        complete(result);
+                    } else {
+                        completeExceptionally(exception);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.error("Unable to send rate limited request", e);
+                completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Limits applied by {@link TelegramRateLimiter}, defaults follow the ones documented by Telegram
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramRateLimiterOptions {
+    /**
+     * Requests per second to all chats together
+     */
+    @Builder.Default
+    private int globalRequestsPerSecond = 30;
+    /**
+     * Requests per second to all chats together when sent with allow_paid_broadcast,
+     * they don't count for the global limit
+     */
+    @Builder.Default
+    private int paidBroadcastRequestsPerSecond = 1000;
+    /**
+     * Requests per second to the same private chat
+     */
+    @Builder.Default
+    private int privateChatRequestsPerSecond = 1;
+    /**
+     * Requests per minute to the same group or channel
+     */
+    @Builder.Default
+    private int groupRequestsPerMinute = 20;
+    /**
+     * Methods sending messages, the only ones limited per chat. Other methods targeting a chat, like getChat or
+     * sendChatAction, only count for the global limit
+     */
+    @Builder.Default
+    private Set<String> chatLimitedMethods = Set.of(
+            "sendMessage", "forwardMessage", "forwardMessages", "copyMessage", "copyMessages", "sendPhoto",
+            "sendAudio", "sendDocument", "sendVideo", "sendAnimation", "sendVoice", "sendVideoNote", "sendPaidMedia",
+            "sendMediaGroup", "sendLocation", "sendVenue", "sendContact", "sendPoll", "sendDice", "sendSticker",
+            "sendInvoice", "sendGame");
+    /**
+     * Requests waiting to be sent before new ones are rejected
+     */
+    @Builder.Default
+    private int maxQueuedRequests = 10_000;
+
+    public void validate() {
+        if (globalRequestsPerSecond <= 0 || paidBroadcastRequestsPerSecond <= 0 ||
+                privateChatRequestsPerSecond <= 0 || groupRequestsPerMinute <= 0) {
+            throw new IllegalArgumentException("Rate limits must be positive");
+        }
+        if (chatLimitedMethods == null) {
+            throw new IllegalArgumentException("Chat limited methods are required");
+        }
+        if (maxQueuedRequests <= 0) {
+            throw new IllegalArgumentException("Max queued requests must be positive");
+        }
+    }
+}
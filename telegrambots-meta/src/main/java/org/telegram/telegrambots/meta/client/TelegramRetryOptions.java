@@ -0,0 +1,35 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Limits of the retries done by {@link TelegramRetryPolicy}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramRetryOptions {
+    /**
+     * Attempts of a request, including the first one
+     */
+    @Builder.Default
+    private int maxAttempts = 3;
+    /**
+     * Time since the first attempt after which a request is not retried anymore
+     */
+    @Builder.Default
+    private long deadlineMillis = 60_000;
+
+    public void validate() {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("Deadline must be positive");
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries requests rejected by Telegram with "Too Many Requests", once the retry_after it returned has passed.
+ * <p>
+ * Retries are scheduled on a timer, so no thread waits for them, and the future returned to the caller completes
+ * only once, with the result of the last attempt. A request is not retried once it reached the max attempts,
+ * or if waiting retry_after would go past its deadline.
+ */
+@Slf4j
+public class TelegramRetryPolicy implements AutoCloseable {
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @Getter
+    private final TelegramRetryOptions options;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final Set<RetryingRequest<?>> waitingRequests = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
+
+    public TelegramRetryPolicy() {
+        this(TelegramRetryOptions.builder().build());
+    }
+
+    public TelegramRetryPolicy(TelegramRetryOptions options) {
+        this(options, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "telegram-retry-policy");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param scheduler Scheduler used to retry requests, it is not shut down when closing the policy
+     */
+    public TelegramRetryPolicy(TelegramRetryOptions options, ScheduledExecutorService scheduler) {
+        this(options, scheduler, false);
+    }
+
+    private TelegramRetryPolicy(TelegramRetryOptions options, ScheduledExecutorService scheduler, boolean ownScheduler) {
+        options.validate();
+        this.options = options;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    /**
+     * @param request Sends the request, called again for every retry
+     * @return Future completed with the result of the last attempt
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        RetryingRequest<T> retryingRequest = new RetryingRequest<>(request,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.getDeadlineMillis()));
+        retryingRequest.attempt();
+        return retryingRequest;
+    }
+
+    /**
+     * Pending retries are not executed anymore, their futures fail with the last error
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+        for (RetryingRequest<?> waitingRequest : waitingRequests) {
+            waitingRequest.fail();
+        }
+        waitingRequests.clear();
+    }
+
+    /**
+     * @return Seconds to wait before retrying, or -1 if the error can't be retried
+     */
+    static int getRetryAfter(Throwable exception) {
+        while ((exception instanceof CompletionException || exception instanceof ExecutionException) &&
+                exception.getCause() != null) {
+            exception = exception.getCause();
+        }
+        if (exception instanceof TelegramApiRequestException requestException &&
+                requestException.getErrorCode() != null && requestException.getErrorCode() == TOO_MANY_REQUESTS) {
+            ResponseParameters parameters = requestException.getParameters();
+            if (parameters != null && parameters.getRetryAfter() != null) {
+                return Math.max(0, parameters.getRetryAfter());
+            }
+        }
+        return -1;
+    }
+
+    private class RetryingRequest<T> extends CompletableFuture<T> {
+        private final Supplier<CompletableFuture<T>> request;
+        private final long deadline;
+        private int attempts = 0;
+        private volatile Throwable lastException;
+
+        private RetryingRequest(Supplier<CompletableFuture<T>> request, long deadline) {
+            this.request = request;
+            this.deadline = deadline;
+        }
+
+        private void attempt() {
+            waitingRequests.remove(this);
+            if (isDone()) {
+                return;
+            }
+            attempts++;
+            try {
+                request.get().whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        complete(result);
+                    } else {
+                        retry(exception);
+                    }
+                });
+            } catch (RuntimeException e) {
+                completeExceptionally(e);
+            }
+        }
+
+        private void retry(Throwable exception) {
+            int retryAfter = getRetryAfter(exception);
+            long delay = TimeUnit.SECONDS.toNanos(retryAfter);
+            if (retryAfter < 0 || attempts >= options.getMaxAttempts() || System.nanoTime() + delay > deadline) {
+                completeExceptionally(exception);
+                return;
+            }
+            log.debug("Too many requests, retrying in {} seconds (attempt {})", retryAfter, attempts + 1);
+            lastException = exception;
+            waitingRequests.add(this);
+            try {
+                scheduler.schedule(this::attempt, delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                fail();
+            }
+            if (closed) {
+                fail();
+            }
+        }
+
+        private void fail() {
+            waitingRequests.remove(this);
+            completeExceptionally(lastException);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.PhotoSize;
+import org.telegram.telegrambots.meta.api.objects.media.InputMedia;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the file_id Telegram returns for uploaded content, so later sends of the same content reference it
+ * instead of uploading it again. Content is identified by its SHA-256, together with the bot (file_ids only work
+ * for the bot that uploaded them) and the kind of media (a document can't be sent as a photo).
+ * <p>
+ * Files are always hashed, streams only if they support mark and are short enough to be read and reset.
+ * The cache is bounded, forgetting the least recently used file_ids, and can be persisted to a file, rewritten
+ * in the background when file_ids were added or removed, and when the cache is closed.
+ */
+@Slf4j
+public class TelegramUploadCache implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FILE_DIGESTS = 1000;
+    private static final int BAD_REQUEST = 400;
+
+    private final TelegramUploadCacheOptions options;
+    private final Map<String, String> fileIds;
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler;
+    /**
+     * File_ids changed since they were last written to the file
+     */
+    private boolean dirty = false;
+    /**
+     * Digests of the files hashed recently, to not read them again until they are modified
+     */
+    private final Map<Path, FileDigest> fileDigests = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, FileDigest> eldest) {
+            return size() > MAX_FILE_DIGESTS;
+        }
+    };
+
+    public TelegramUploadCache() {
+        this(TelegramUploadCacheOptions.builder().build());
+    }
+
+    public TelegramUploadCache(@NonNull TelegramUploadCacheOptions options) {
+        options.validate();
+        this.options = options;
+        this.fileIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > options.getMaxEntries();
+            }
+        };
+        load();
+        if (options.getFile() == null) {
+            scheduler = null;
+        } else {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "telegram-upload-cache");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flush,
+                    options.getFlushIntervalMillis(), options.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @param mediaType Kind of media the file is sent as, e.g. the file field of the method
+     * @return Key of the content of a new file or null if it can't be cached
+     */
+    public String getKey(String botToken, String mediaType, InputFile file) {
+        if (file == null || !file.isNew()) {
+            return null;
+        }
+        return getKey(botToken, mediaType, file.getNewMediaFile(), file.getNewMediaStream());
+    }
+
+    /**
+     * @return Key of the content of a new media or null if it can't be cached
+     */
+    public String getKey(String botToken, InputMedia media) {
+        if (media == null || !media.isNewMedia()) {
+            return null;
+        }
+        return getKey(botToken, media.getType(), media.getNewMediaFile(), media.getNewMediaStream());
+    }
+
+    /**
+     * @return File_id of the content or null if it was not uploaded before
+     */
+    public synchronized String getFileId(String key) {
+        return fileIds.get(key);
+    }
+
+    public synchronized void put(@NonNull String key, @NonNull String fileId) {
+        if (!fileId.equals(fileIds.put(key, fileId))) {
+            dirty = true;
+        }
+    }
+
+    public synchronized void remove(String key) {
+        if (fileIds.remove(key) != null) {
+            dirty = true;
+        }
+    }
+
+    public synchronized int size() {
+        return fileIds.size();
+    }
+
+    /**
+     * Writes the file_ids to the file if they changed since the last write
+     */
+    public void flush() {
+        Path file = options.getFile();
+        if (file == null) {
+            return;
+        }
+        synchronized (flushLock) {
+            Map<String, String> snapshot;
+            synchronized (this) {
+                if (!dirty) {
+                    return;
+                }
+                // Keeps the order from the least to the most recently used
+                snapshot = new LinkedHashMap<>(fileIds);
+                dirty = false;
+            }
+            try {
+                save(file, snapshot);
+            } catch (IOException e) {
+                log.warn("Unable to persist upload cache to {}", file, e);
+                synchronized (this) {
+                    dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops writing in the background, writing the last changes
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * @return File_id of the media of a sent message, the largest size for photos, or null if it has no media
+     */
+    public static String getSentFileId(Message message) {
+        if (message == null) {
+            return null;
+        } else if (message.getPhoto() != null && !message.getPhoto().isEmpty()) {
+            List<PhotoSize> sizes = message.getPhoto();
+            return sizes.get(sizes.size() - 1).getFileId();
+        } else if (message.getAnimation() != null) {
+            return message.getAnimation().getFileId();
+        } else if (message.getDocument() != null) {
+            return message.getDocument().getFileId();
+        } else if (message.getVideo() != null) {
+            return message.getVideo().getFileId();
+        } else if (message.getAudio() != null) {
+            return message.getAudio().getFileId();
+        } else if (message.getVoice() != null) {
+            return message.getVoice().getFileId();
+        } else if (message.getVideoNote() != null) {
+            return message.getVideoNote().getFileId();
+        } else if (message.getSticker() != null) {
+            return message.getSticker().getFileId();
+        }
+        return null;
+    }
+
+    /**
+     * @return Whether a request failed because Telegram rejected a file_id, e.g. "wrong file identifier", and not
+     * for another reason about the file, like "file is too big"
+     */
+    public static boolean isRejectedFileId(Throwable exception) {
+        while ((exception instanceof CompletionException || exception instanceof ExecutionException) &&
+                exception.getCause() != null) {
+            exception = exception.getCause();
+        }
+        if (exception instanceof TelegramApiRequestException requestException &&
+                requestException.getErrorCode() != null && requestException.getErrorCode() == BAD_REQUEST) {
+            String description = requestException.getApiResponse();
+            if (description == null) {
+                return false;
+            }
+            description = description.toLowerCase(Locale.ROOT);
+            return description.contains("file identifier") || description.contains("file_id");
+        }
+        return false;
+    }
+
+    private String getKey(String botToken, String mediaType, java.io.File mediaFile, InputStream mediaStream) {
+        try {
+            String contentDigest = null;
+            if (mediaFile != null) {
+                contentDigest = getDigest(mediaFile.toPath());
+            } else if (mediaStream != null) {
+                contentDigest = getDigest(mediaStream);
+            }
+            if (contentDigest == null) {
+                return null;
+            }
+            // Tokens are not kept in the cache, only a digest of them
+            String botDigest = digest(botToken.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+            return botDigest + ":" + mediaType + ":" + contentDigest;
+        } catch (IOException e) {
+            log.debug("Unable to hash upload, it won't be cached", e);
+            return null;
+        }
+    }
+
+    private String getDigest(Path file) throws IOException {
+        Path path = file.toAbsolutePath();
+        long size = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        synchronized (fileDigests) {
+            FileDigest fileDigest = fileDigests.get(path);
+            if (fileDigest != null && fileDigest.size == size && fileDigest.lastModified == lastModified) {
+                return fileDigest.digest;
+            }
+        }
+        MessageDigest digest = createDigest();
+        try (InputStream input = Files.newInputStream(path)) {
+            update(digest, input, Long.MAX_VALUE);
+        }
+        String hex = HexFormat.of().formatHex(digest.digest());
+        synchronized (fileDigests) {
+            fileDigests.put(path, new FileDigest(size, lastModified, hex));
+        }
+        return hex;
+    }
+
+    /**
+     * Hashes a stream leaving it as it was, null if it doesn't support mark or it is too long
+     */
+    private String getDigest(InputStream stream) throws IOException {
+        if (stream instanceof FileInputStream fileStream) {
+            return getDigest(fileStream.getChannel());
+        }
+        if (!stream.markSupported()) {
+            return null;
+        }
+        int limit = options.getMaxHashedStreamSize();
+        MessageDigest digest = createDigest();
+        stream.mark(limit + 1);
+        long read;
+        try {
+            read = update(digest, stream, limit + 1L);
+        } finally {
+            stream.reset();
+        }
+        return read > limit ? null : HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hashes the rest of a file with positional reads, so the position of the stream is not changed
+     */
+    private static String getDigest(FileChannel channel) throws IOException {
+        MessageDigest digest = createDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = channel.position();
+        int read;
+        while ((read = channel.read(buffer, position)) != -1) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+            position += read;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return Bytes read, at most the given limit
+     */
+    private static long update(MessageDigest digest, InputStream input, long limit) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while (total < limit && (read = input.read(buffer, 0, (int) Math.min(buffer.length, limit - total))) != -1) {
+            digest.update(buffer, 0, read);
+            total += read;
+        }
+        return total;
+    }
+
+    private static String digest(byte[] content) {
+        return HexFormat.of().formatHex(createDigest().digest(content));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads the persisted file_ids, from the least to the most recently used
+     */
+    private void load() {
+        Path file = options.getFile();
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    fileIds.put(line.substring(0, separator), line.substring(separator + 1));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read upload cache from {}, starting empty", file, e);
+            fileIds.clear();
+        }
+    }
+
+    /**
+     * Writes the entries, from the least to the most recently used, replacing the file at once
+     */
+    private static void save(Path file, Map<String, String> entries) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writer.write(entry.getKey());
+                writer.write('=');
+                writer.write(entry.getValue());
+                writer.write('\n');
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static class FileDigest {
+        private final long size;
+        private final long lastModified;
+        private final String digest;
+
+        private FileDigest(long size, long lastModified, String digest) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.digest = digest;
+        }
+    }
+}
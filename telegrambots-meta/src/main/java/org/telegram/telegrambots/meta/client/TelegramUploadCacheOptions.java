@@ -0,0 +1,51 @@
+package org.telegram.telegrambots.meta.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * Storage of the file_ids remembered by {@link TelegramUploadCache}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelegramUploadCacheOptions {
+    /**
+     * File where the cache is persisted, null to keep it in memory only
+     */
+    private Path file;
+    /**
+     * Time between writes of the changed file_ids to the file, they are written when closing the cache too
+     */
+    @Builder.Default
+    private long flushIntervalMillis = 1000;
+    /**
+     * File_ids remembered, the least recently used ones are forgotten first
+     */
+    @Builder.Default
+    private int maxEntries = 10_000;
+    /**
+     * Streams are hashed before being uploaded only if they support mark and are not longer than this,
+     * longer streams are always uploaded. Marked streams keep on the heap what is read for hashing, so this should
+     * stay small. File input streams are hashed from their channel, without this limit.
+     */
+    @Builder.Default
+    private int maxHashedStreamSize = 1024 * 1024;
+
+    public void validate() {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        if (maxHashedStreamSize < 0) {
+            throw new IllegalArgumentException("Max hashed stream size can't be negative");
+        }
+    }
+}
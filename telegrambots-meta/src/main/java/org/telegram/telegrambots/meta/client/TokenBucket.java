@@ -0,0 +1,50 @@
+package org.telegram.telegrambots.meta.client;
+
+/**
+ * Token bucket refilled continuously at the permits of one period, allowing bursts up to its capacity.
+ * Not thread safe, access is guarded by the owning {@link TelegramRateLimiter}.
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(int permits, long periodNanos, long now) {
+        this(permits, periodNanos, permits, now);
+    }
+
+    /**
+     * @param capacity Requests that can be sent at once, 1 to space all of them
+     */
+    TokenBucket(int permits, long periodNanos, int capacity, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = permits / (double) periodNanos;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * @return Nanoseconds until a token is available, 0 if there is one already
+     */
+    long getDelayNanos(long now) {
+        refill(now);
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    void consume() {
+        tokens -= 1;
+    }
+
+    boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
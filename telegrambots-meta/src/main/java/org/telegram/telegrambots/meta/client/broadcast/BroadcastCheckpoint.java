@@ -0,0 +1,62 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Progress of a broadcast saved to disk: recipients processed in the order of the source, and counts by outcome
+ */
+@Getter
+@AllArgsConstructor
+class BroadcastCheckpoint {
+    private static final String POSITION = "position";
+    private static final String SENT = "sent";
+    private static final String BLOCKED = "blocked";
+    private static final String FAILED = "failed";
+
+    private final long position;
+    private final long sent;
+    private final long blocked;
+    private final long failed;
+
+    static BroadcastCheckpoint load(Path file) throws IOException {
+        if (file == null || !Files.exists(file)) {
+            return new BroadcastCheckpoint(0, 0, 0, 0);
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return new BroadcastCheckpoint(getLong(properties, POSITION), getLong(properties, SENT),
+                getLong(properties, BLOCKED), getLong(properties, FAILED));
+    }
+
+    /**
+     * Replaces the file atomically, so a crash never leaves a partial checkpoint
+     */
+    void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(POSITION, Long.toString(position));
+        properties.setProperty(SENT, Long.toString(sent));
+        properties.setProperty(BLOCKED, Long.toString(blocked));
+        properties.setProperty(FAILED, Long.toString(failed));
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Telegram broadcast progress");
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long getLong(Properties properties, String key) {
+        return Long.parseLong(properties.getProperty(key, "0"));
+    }
+}
@@ -0,0 +1,15 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+/**
+ * Receives the results and progress of a {@link TelegramBroadcast}, called from the threads completing the requests
+ */
+public interface BroadcastListener {
+    /**
+     * @param exception Error returned for the recipient, null if it was sent
+     */
+    default void onResult(String chatId, BroadcastOutcome outcome, Throwable exception) {
+    }
+
+    default void onProgress(BroadcastProgress progress) {
+    }
+}
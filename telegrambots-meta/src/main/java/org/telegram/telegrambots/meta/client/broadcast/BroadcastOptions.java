@@ -0,0 +1,50 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of a {@link TelegramBroadcast}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BroadcastOptions {
+    /**
+     * File where progress is saved, so a restarted broadcast resumes where it stopped. Null to not save progress.
+     */
+    private Path checkpointFile;
+    /**
+     * Limiter pacing the sends, a default one is used if null
+     */
+    private TelegramRateLimiter rateLimiter;
+    /**
+     * Policy retrying throttled sends, a default one is used if null
+     */
+    private TelegramRetryPolicy retryPolicy;
+    /**
+     * Recipients being sent at the same time, including the ones waiting for the rate limiter
+     */
+    @Builder.Default
+    private int maxInFlight = 100;
+    @Builder.Default
+    private long checkpointIntervalMillis = 1000;
+    @Builder.Default
+    private long progressIntervalMillis = 5000;
+
+    public void validate() {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in flight must be positive");
+        }
+        if (checkpointIntervalMillis <= 0 || progressIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Intervals must be positive");
+        }
+    }
+}
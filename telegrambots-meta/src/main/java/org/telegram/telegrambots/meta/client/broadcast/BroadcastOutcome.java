@@ -0,0 +1,14 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+/**
+ * Result of sending a broadcast to one recipient
+ */
+public enum BroadcastOutcome {
+    SENT,
+    /**
+     * The recipient can't receive messages from the bot anymore (blocked it, deactivated, chat not found...),
+     * it should be removed from the recipients
+     */
+    BLOCKED,
+    FAILED
+}
@@ -0,0 +1,39 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the progress of a {@link TelegramBroadcast}, counts include the runs before a restart
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BroadcastProgress {
+    /**
+     * Recipients processed, in the order of the source
+     */
+    private final long processed;
+    /**
+     * Total of recipients, -1 if the source doesn't know it
+     */
+    private final long total;
+    private final long sent;
+    private final long blocked;
+    private final long failed;
+    /**
+     * Recipients processed per second since the broadcast was started
+     */
+    private final double throughput;
+    /**
+     * Estimated time until all the recipients are processed, null if unknown
+     */
+    private final Duration eta;
+    /**
+     * True once the broadcast ended, because all the recipients were processed or it was stopped
+     */
+    private final boolean finished;
+}
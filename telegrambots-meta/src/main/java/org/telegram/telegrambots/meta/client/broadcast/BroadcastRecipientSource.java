@@ -0,0 +1,100 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Chat ids receiving a broadcast. They must always be returned in the same order, so a broadcast can be resumed
+ * by skipping the recipients already processed.
+ */
+public interface BroadcastRecipientSource {
+    /**
+     * @param skip Recipients to skip from the start
+     * @return Iterator over the remaining recipients, closed when the broadcast ends if it is {@link Closeable}
+     */
+    Iterator<String> open(long skip) throws IOException;
+
+    /**
+     * @return Total of recipients, -1 if unknown
+     */
+    default long size() {
+        return -1;
+    }
+
+    static BroadcastRecipientSource of(List<String> chatIds) {
+        return new BroadcastRecipientSource() {
+            @Override
+            public Iterator<String> open(long skip) {
+                return chatIds.subList((int) Math.min(skip, chatIds.size()), chatIds.size()).iterator();
+            }
+
+            @Override
+            public long size() {
+                return chatIds.size();
+            }
+        };
+    }
+
+    /**
+     * Reads the recipients lazily from a text file with one chat id per line, blank lines are ignored
+     */
+    static BroadcastRecipientSource fromFile(Path path) {
+        return skip -> new LineIterator(Files.newBufferedReader(path, StandardCharsets.UTF_8), skip);
+    }
+
+    class LineIterator implements Iterator<String>, Closeable {
+        private final BufferedReader reader;
+        private String next;
+
+        LineIterator(BufferedReader reader, long skip) throws IOException {
+            this.reader = reader;
+            this.next = readNext();
+            for (long i = 0; i < skip && next != null; i++) {
+                next = readNext();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String current = next;
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return current;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private String readNext() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRetryPolicy;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sends a method, built from a template for every recipient, to all the recipients of a source.
+ * <pre>{@code
+ * TelegramBroadcast broadcast = new TelegramBroadcast(telegramClient, BroadcastRecipientSource.fromFile(subscribers),
+ *         chatId -> SendMessage.builder().chatId(chatId).text("Hello").build(),
+ *         BroadcastOptions.builder().checkpointFile(progressFile).build(), listener);
+ * broadcast.start().thenAccept(progress -> log.info("Broadcast finished: {}", progress));
+ * }</pre>
+ * Sends are paced by a {@link TelegramRateLimiter} and throttled sends are retried by a {@link TelegramRetryPolicy}.
+ * Every recipient ends up {@link BroadcastOutcome#SENT sent}, {@link BroadcastOutcome#BLOCKED blocked}
+ * (the bot can't reach it anymore) or {@link BroadcastOutcome#FAILED failed}.
+ * <p>
+ * Progress is saved to the checkpoint file as the position in the source up to which every recipient was processed,
+ * a broadcast started again with the same source and file continues from there.
+ *
+ * @implNote Recipients processed after the saved position, while previous ones were still in flight,
+ * are sent again after a restart, so at most {@link BroadcastOptions#getMaxInFlight()} recipients may receive
+ * the method twice.
+ */
+@Slf4j
+public class TelegramBroadcast {
+    private static final int FORBIDDEN = 403;
+    private static final int BAD_REQUEST = 400;
+    private static final List<String> UNREACHABLE_CHAT_ERRORS = List.of(
+            "chat not found", "user is deactivated", "peer_id_invalid", "bot was kicked", "bot was blocked");
+
+    private final TelegramClient telegramClient;
+    private final BroadcastRecipientSource recipients;
+    private final Function<String, ? extends BotApiMethod<? extends Serializable>> methodFactory;
+    private final BroadcastOptions options;
+    private final BroadcastListener listener;
+
+    private final Object lock = new Object();
+    private final Object checkpointLock = new Object();
+    private final CompletableFuture<BroadcastProgress> completion = new CompletableFuture<>();
+    /**
+     * Outcomes of recipients processed ahead of the position, while previous ones are in flight
+     */
+    private final Map<Long, BroadcastOutcome> processedAhead = new HashMap<>();
+
+    private TelegramRateLimiter rateLimiter;
+    private TelegramRetryPolicy retryPolicy;
+    private ScheduledExecutorService scheduler;
+    private Iterator<String> iterator;
+    private boolean started = false;
+    private boolean stopping = false;
+    private boolean finished = false;
+    private boolean dirty = false;
+    /**
+     * A thread is sending recipients, others ask it to fill again instead of doing it themselves,
+     * so sends completing synchronously don't recurse
+     */
+    private boolean filling = false;
+    private boolean refill = false;
+    private long startNanos;
+    private long nextIndex;
+    private int inFlight = 0;
+    /**
+     * Counts up to the position, they are the ones saved in the checkpoint
+     */
+    private BroadcastCheckpoint checkpoint;
+    private long processedInRun = 0;
+    private long sent;
+    private long blocked;
+    private long failed;
+
+    public TelegramBroadcast(TelegramClient telegramClient,
+                             BroadcastRecipientSource recipients,
+                             Function<String, ? extends BotApiMethod<? extends Serializable>> methodFactory,
+                             BroadcastOptions options) {
+        this(telegramClient, recipients, methodFactory, options, new BroadcastListener() {});
+    }
+
+    /**
+     * @param methodFactory Builds the method sent to a chat id
+     */
+    public TelegramBroadcast(TelegramClient telegramClient,
+                             BroadcastRecipientSource recipients,
+                             Function<String, ? extends BotApiMethod<? extends Serializable>> methodFactory,
+                             BroadcastOptions options,
+                             BroadcastListener listener) {
+        options.validate();
+        this.telegramClient = telegramClient;
+        this.recipients = recipients;
+        this.methodFactory = methodFactory;
+        this.options = options;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts sending, from the saved position if there is a checkpoint. If the checkpoint or the recipients can't
+     * be read, the broadcast is not started and can be started again.
+     *
+     * @return Future completed with the final progress once all the recipients are processed or the broadcast is stopped
+     */
+    public CompletableFuture<BroadcastProgress> start() throws IOException {
+        synchronized (lock) {
+            if (started) {
+                return completion;
+            }
+            // Only started once both succeed, so a failed start can be tried again
+            BroadcastCheckpoint loadedCheckpoint = BroadcastCheckpoint.load(options.getCheckpointFile());
+            iterator = recipients.open(loadedCheckpoint.getPosition());
+            started = true;
+            checkpoint = loadedCheckpoint;
+            sent = checkpoint.getSent();
+            blocked = checkpoint.getBlocked();
+            failed = checkpoint.getFailed();
+            nextIndex = checkpoint.getPosition();
+            startNanos = System.nanoTime();
+
+            rateLimiter = options.getRateLimiter() != null ? options.getRateLimiter() : new TelegramRateLimiter();
+            retryPolicy = options.getRetryPolicy() != null ? options.getRetryPolicy() : new TelegramRetryPolicy();
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "telegram-broadcast");
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (options.getCheckpointFile() != null) {
+                scheduler.scheduleWithFixedDelay(this::saveCheckpoint,
+                        options.getCheckpointIntervalMillis(), options.getCheckpointIntervalMillis(), TimeUnit.MILLISECONDS);
+            }
+            scheduler.scheduleWithFixedDelay(() -> listener.onProgress(getProgress()),
+                    options.getProgressIntervalMillis(), options.getProgressIntervalMillis(), TimeUnit.MILLISECONDS);
+            log.info("Starting broadcast at position {}", checkpoint.getPosition());
+        }
+        fill();
+        return completion;
+    }
+
+    /**
+     * Stops taking new recipients, the returned future completes once the ones in flight are processed.
+     * Starting a new broadcast with the same checkpoint file continues from there.
+     */
+    public CompletableFuture<BroadcastProgress> stop() {
+        synchronized (lock) {
+            stopping = true;
+        }
+        fill();
+        return completion;
+    }
+
+    public BroadcastProgress getProgress() {
+        synchronized (lock) {
+            long processed = sent + blocked + failed;
+            long total = recipients.size();
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            double throughput = elapsedSeconds > 0 ? processedInRun / elapsedSeconds : 0;
+            Duration eta = null;
+            if (total >= 0 && throughput > 0) {
+                eta = Duration.ofMillis((long) (Math.max(0, total - processed) / throughput * 1000));
+            }
+            return new BroadcastProgress(processed, total, sent, blocked, failed, throughput, eta, finished);
+        }
+    }
+
+    /**
+     * @return How a response to a broadcast must be considered
+     */
+    static BroadcastOutcome classify(Throwable exception) {
+        if (exception == null) {
+            return BroadcastOutcome.SENT;
+        }
+        while (exception instanceof CompletionException && exception.getCause() != null) {
+            exception = exception.getCause();
+        }
+        if (exception instanceof TelegramApiRequestException requestException && requestException.getErrorCode() != null) {
+            if (requestException.getErrorCode() == FORBIDDEN) {
+                return BroadcastOutcome.BLOCKED;
+            }
+            String description = requestException.getApiResponse() == null ? "" : requestException.getApiResponse().toLowerCase(Locale.ROOT);
+            if (requestException.getErrorCode() == BAD_REQUEST && UNREACHABLE_CHAT_ERRORS.stream().anyMatch(description::contains)) {
+                return BroadcastOutcome.BLOCKED;
+            }
+        }
+        return BroadcastOutcome.FAILED;
+    }
+
+    /**
+     * Sends recipients until the max in flight, or finishes the broadcast if there are no more
+     */
+    private void fill() {
+        synchronized (lock) {
+            if (filling) {
+                refill = true;
+                return;
+            }
+            filling = true;
+        }
+        while (true) {
+            List<Recipient> toSend = new ArrayList<>();
+            boolean finishing = false;
+            synchronized (lock) {
+                refill = false;
+                if (!started || finished) {
+                    filling = false;
+                    return;
+                }
+                try {
+                    while (!stopping && inFlight < options.getMaxInFlight() && iterator.hasNext()) {
+                        toSend.add(new Recipient(nextIndex++, iterator.next()));
+                        inFlight++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Unable to read broadcast recipients, stopping", e);
+                    stopping = true;
+                }
+                if (inFlight == 0 && (stopping || !iterator.hasNext())) {
+                    finished = true;
+                    finishing = true;
+                }
+            }
+            if (finishing) {
+                finish();
+            }
+            for (Recipient recipient : toSend) {
+                send(recipient);
+            }
+            synchronized (lock) {
+                if (!refill) {
+                    filling = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    private void send(Recipient recipient) {
+        BotApiMethod<? extends Serializable> method;
+        try {
+            method = methodFactory.apply(recipient.chatId);
+        } catch (RuntimeException e) {
+            onResult(recipient, e);
+            return;
+        }
+        sendPaced(method).whenComplete((result, exception) -> onResult(recipient, exception));
+    }
+
+    private <T extends Serializable> CompletableFuture<T> sendPaced(BotApiMethod<T> method) {
+        return retryPolicy.execute(() -> rateLimiter.execute(method, () -> execute(method)));
+    }
+
+    private <T extends Serializable> CompletableFuture<T> execute(BotApiMethod<T> method) {
+        try {
+            return telegramClient.executeAsync(method);
+        } catch (TelegramApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void onResult(Recipient recipient, Throwable exception) {
+        BroadcastOutcome outcome = classify(exception);
+        synchronized (lock) {
+            inFlight--;
+            processedInRun++;
+            count(outcome, 1);
+            processedAhead.put(recipient.index, outcome);
+            advancePosition();
+        }
+        try {
+            listener.onResult(recipient.chatId, outcome, exception);
+        } catch (RuntimeException e) {
+            log.error("Error in broadcast listener", e);
+        }
+        fill();
+    }
+
+    private void count(BroadcastOutcome outcome, long delta) {
+        switch (outcome) {
+            case SENT:
+                sent += delta;
+                break;
+            case BLOCKED:
+                blocked += delta;
+                break;
+            default:
+                failed += delta;
+                break;
+        }
+    }
+
+    /**
+     * Moves the checkpoint over the recipients processed without gaps
+     */
+    private void advancePosition() {
+        long position = checkpoint.getPosition();
+        long checkpointSent = checkpoint.getSent();
+        long checkpointBlocked = checkpoint.getBlocked();
+        long checkpointFailed = checkpoint.getFailed();
+        BroadcastOutcome outcome;
+        while ((outcome = processedAhead.remove(position)) != null) {
+            position++;
+            switch (outcome) {
+                case SENT:
+                    checkpointSent++;
+                    break;
+                case BLOCKED:
+                    checkpointBlocked++;
+                    break;
+                default:
+                    checkpointFailed++;
+                    break;
+            }
+        }
+        if (position != checkpoint.getPosition()) {
+            checkpoint = new BroadcastCheckpoint(position, checkpointSent, checkpointBlocked, checkpointFailed);
+            dirty = true;
+        }
+    }
+
+    private void saveCheckpoint() {
+        synchronized (checkpointLock) {
+            BroadcastCheckpoint snapshot;
+            synchronized (lock) {
+                if (!dirty) {
+                    return;
+                }
+                snapshot = checkpoint;
+                dirty = false;
+            }
+            try {
+                snapshot.store(options.getCheckpointFile());
+            } catch (IOException e) {
+                log.error("Unable to save broadcast checkpoint", e);
+                synchronized (lock) {
+                    dirty = true;
+                }
+            }
+        }
+    }
+
+    private void finish() {
+        scheduler.shutdownNow();
+        if (options.getCheckpointFile() != null) {
+            saveCheckpoint();
+        }
+        if (iterator instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.warn("Unable to close broadcast recipients", e);
+            }
+        }
+        if (options.getRateLimiter() == null) {
+            rateLimiter.close();
+        }
+        if (options.getRetryPolicy() == null) {
+            retryPolicy.close();
+        }
+        BroadcastProgress progress = getProgress();
+        log.info("Broadcast {}: {}", stopping ? "stopped" : "finished", progress);
+        try {
+            listener.onProgress(progress);
+        } finally {
+            completion.complete(progress);
+        }
+    }
+
+    private static class Recipient {
+        private final long index;
+        private final String chatId;
+
+        private Recipient(long index, String chatId) {
+            this.index = index;
+            this.chatId = chatId;
+        }
+    }
+}
@@ -23,10 +23,16 @@ import org.telegram.telegrambots.meta.api.objects.File;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public interface TelegramClient {
 
@@ -158,6 +164,22 @@ public interface TelegramClient {
         return downloadFileAsStream(new File(null, null, null, filePath));
     }
 
+    /**
+     * Download a file straight to disk, without holding its content in memory
+     * @param file File to download
+     * @param destination Path to write the file to, replaced only once the download is complete
+     * @return The destination path
+     * @throws TelegramApiException If there is any error downloading or writing the file
+     */
+    default Path downloadFileTo(File file, Path destination) throws TelegramApiException {
+        try (InputStream stream = downloadFileAsStream(file)) {
+            writeToFile(stream, destination);
+            return destination;
+        } catch (IOException e) {
+            throw new TelegramApiException("Unable to write file to disk", e);
+        }
+    }
+
     /**
      * Send animation
      * @param sendAnimation Information of the animation
@@ -282,4 +304,46 @@ public interface TelegramClient {
     default CompletableFuture<InputStream> downloadFileAsStreamAsync(String filePath) {
         return downloadFileAsStreamAsync(new File(null, null, null, filePath));
     }
+
+    /**
+     * Download a file straight to disk, without holding its content in memory
+     * @param file File to download
+     * @param destination Path to write the file to, replaced only once the download is complete
+     * @return The destination path
+     */
+    default CompletableFuture<Path> downloadFileToAsync(File file, Path destination) {
+        return downloadFileAsStreamAsync(file).thenApply(stream -> {
+            try (stream) {
+                writeToFile(stream, destination);
+                return destination;
+            } catch (IOException e) {
+                throw new CompletionException(new TelegramApiException("Unable to write file to disk", e));
+            }
+        });
+    }
+
+    /**
+     * Writes to a temporary file next to the destination, moved over it once complete, so a failed download
+     * never leaves a truncated file nor replaces an existing one
+     */
+    private static void writeToFile(InputStream stream, Path destination) throws IOException {
+        Path absoluteDestination = destination.toAbsolutePath();
+        Path temporaryFile = Files.createTempFile(absoluteDestination.getParent(),
+                absoluteDestination.getFileName().toString(), ".part");
+        try {
+            Files.copy(stream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(temporaryFile, absoluteDestination, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absoluteDestination, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
 }
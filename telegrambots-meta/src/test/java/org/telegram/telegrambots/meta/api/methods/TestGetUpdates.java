@@ -9,7 +9,11 @@ import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 import org.telegram.telegrambots.meta.test.TelegramBotsHelper;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,6 +71,29 @@ class TestGetUpdates {
         }
     }
 
+    @Test
+    void testGetUpdatesMustDeserializeCorrectResponseFromStream() throws Exception {
+        ArrayList<Update> result = getUpdates.deserializeResponse(toStream(TelegramBotsHelper.GetResponseWithoutError()));
+        assertNotNull(result);
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testGetUpdatesMustStreamUpdatesToConsumer() throws Exception {
+        List<Update> received = new ArrayList<>();
+        getUpdates.deserializeResponse(toStream(TelegramBotsHelper.GetResponseWithoutError()), received::add);
+        assertEquals(getUpdates.deserializeResponse(TelegramBotsHelper.GetResponseWithoutError()), received);
+    }
+
+    @Test
+    void testGetUpdatesMustThrowAnExceptionForInCorrectStreamedResponse() {
+        TelegramApiRequestException e = assertThrows(TelegramApiRequestException.class,
+                () -> getUpdates.deserializeResponse(toStream(TelegramBotsHelper.GetResponseWithError()), update -> fail("No update expected")));
+        assertNotNull(e.getParameters());
+        assertEquals(Integer.valueOf(400), e.getErrorCode());
+        assertEquals("Error descriptions", e.getApiResponse());
+    }
+
     @Test
     void testGetUpdatesWithValidParameters() throws Exception {
         getUpdates.setOffset(0);
@@ -95,4 +122,8 @@ class TestGetUpdates {
         getUpdates.setTimeout(0);
         assertEquals(0, getUpdates.getTimeout());
     }
+
+    private static InputStream toStream(String answer) {
+        return new ByteArrayInputStream(answer.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -1,17 +1,28 @@
 package org.telegram.telegrambots.meta.api.methods;
 
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.ApiResponseReaders;
 import org.telegram.telegrambots.meta.api.methods.botapimethods.PartialBotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Roman Bondar
@@ -40,4 +51,30 @@ public class TestPartialBotApiMethod {
                 "deserializeResponse should not throw if write access allowed passed into it ");
 
     }
+
+    @Test
+    public void readersAreBuiltOncePerType() {
+        ApiResponseReaders readers = new ApiResponseReaders(new ObjectMapper());
+
+        assertSame(readers.forType(Boolean.class), readers.forType(Boolean.class));
+        assertSame(readers.forArrayOf(Update.class), readers.forArrayOf(Update.class));
+    }
+
+    @Test
+    public void deserializeResponseUsesTheGivenReaders() throws TelegramApiRequestException {
+        // A single update instead of an array is only accepted by a mapper configured for it
+        String answer = "{\"ok\":true,\"result\":{\"update_id\":10}}";
+        ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        GetUpdates getUpdates = GetUpdates.builder().build();
+
+        List<Update> updates = getUpdates.deserializeResponse(toStream(answer), new ApiResponseReaders(objectMapper));
+
+        assertEquals(1, updates.size());
+        assertEquals(10, updates.get(0).getUpdateId());
+        assertThrows(TelegramApiRequestException.class, () -> getUpdates.deserializeResponse(toStream(answer)));
+    }
+
+    private static InputStream toStream(String answer) {
+        return new ByteArrayInputStream(answer.getBytes(StandardCharsets.UTF_8));
+    }
 }
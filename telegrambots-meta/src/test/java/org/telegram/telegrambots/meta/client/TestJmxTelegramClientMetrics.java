@@ -0,0 +1,61 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestJmxTelegramClientMetrics {
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+    @Test
+    public void testMethodMetricsAreExposed() throws Exception {
+        ObjectName getMe = new ObjectName("org.telegram.telegrambots:type=TelegramClientMethod,name=\"bot\",method=\"getMe\"");
+        try (JmxTelegramClientMetrics metrics = new JmxTelegramClientMetrics("bot", server)) {
+            metrics.onRequestQueued("getMe");
+            assertEquals(1, server.getAttribute(getMe, "InFlight"));
+            metrics.onRequestCompleted("getMe", 200, TimeUnit.MILLISECONDS.toNanos(10), 100, 200);
+            for (int i = 0; i < 9; i++) {
+                metrics.onRequestQueued("getMe");
+                metrics.onRequestCompleted("getMe", 429, TimeUnit.MILLISECONDS.toNanos(100), 100, 50);
+            }
+
+            assertEquals(0, server.getAttribute(getMe, "InFlight"));
+            assertEquals(10L, server.getAttribute(getMe, "Requests"));
+            assertEquals(9L, server.getAttribute(getMe, "TooManyRequests"));
+            assertEquals(1000L, server.getAttribute(getMe, "BytesSent"));
+            assertEquals(650L, server.getAttribute(getMe, "BytesReceived"));
+            assertEquals(100.0, (double) server.getAttribute(getMe, "LatencyMaxMillis"), 0.001);
+            double median = (double) server.getAttribute(getMe, "Latency50thPercentileMillis");
+            assertTrue(median >= 100 && median <= 112.5, "Median was " + median);
+        }
+        assertFalse(server.isRegistered(getMe));
+    }
+
+    @Test
+    public void testConcurrencyLimiterIsExposed() throws Exception {
+        ObjectName client = new ObjectName("org.telegram.telegrambots:type=TelegramClient,name=\"bot\"");
+        try (JmxTelegramClientMetrics metrics = new JmxTelegramClientMetrics("bot", server)) {
+            assertEquals(-1, server.getAttribute(client, "ConcurrencyLimit"));
+            metrics.onClientCreated(TelegramClientOptions.builder().concurrencyLimiter(new TelegramConcurrencyLimiter()).build());
+            metrics.onConnectionOpened(TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(3));
+
+            assertEquals(20, server.getAttribute(client, "ConcurrencyLimit"));
+            assertEquals(1L, server.getAttribute(client, "Connections"));
+        }
+    }
+
+    @Test
+    public void testHistogramBucketsBoundValues() {
+        for (long micros : new long[]{0, 7, 8, 15, 16, 17, 1000, 123_456_789}) {
+            long upperBound = LatencyHistogram.getUpperBound(LatencyHistogram.getBucket(micros));
+            assertTrue(upperBound > micros && upperBound <= Math.max(micros + 1, micros * 1.125 + 1), micros + " -> " + upperBound);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestTelegramConcurrencyLimiter {
+    @Test
+    public void testRequestsAboveLimitWaitForFreeSlot() {
+        TelegramConcurrencyLimiter limiter = new TelegramConcurrencyLimiter(TelegramConcurrencyLimiterOptions.builder()
+                .initialLimit(2).minLimit(1).maxLimit(2).build());
+        List<CompletableFuture<Integer>> responses = new ArrayList<>();
+        AtomicInteger sent = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(limiter.execute(() -> {
+                sent.incrementAndGet();
+                CompletableFuture<Integer> response = new CompletableFuture<>();
+                responses.add(response);
+                return response;
+            }));
+        }
+        assertEquals(2, sent.get());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getQueuedRequests());
+
+        responses.get(0).complete(1);
+        assertEquals(3, sent.get());
+        assertEquals(0, limiter.getQueuedRequests());
+        assertEquals(1, results.get(0).join());
+    }
+
+    @Test
+    public void testLimitShrinksOnErrorsAndGrowsWhenHealthy() {
+        TelegramConcurrencyLimiter limiter = new TelegramConcurrencyLimiter(TelegramConcurrencyLimiterOptions.builder()
+                .initialLimit(10).minLimit(1).maxLimit(20).backoffRatio(0.5).build());
+
+        limiter.execute(() -> CompletableFuture.failedFuture(new IOException("Connection reset")));
+        assertEquals(5, limiter.getLimit());
+
+        for (int i = 0; i < 200; i++) {
+            // Keep the limit in use, so it is allowed to grow
+            List<CompletableFuture<Integer>> responses = new ArrayList<>();
+            for (int j = 0; j < limiter.getLimit(); j++) {
+                limiter.execute(() -> {
+                    CompletableFuture<Integer> response = new CompletableFuture<>();
+                    responses.add(response);
+                    return response;
+                });
+            }
+            responses.forEach(response -> response.complete(1));
+        }
+        assertTrue(limiter.getLimit() > 5);
+        assertTrue(limiter.getLimit() <= 20);
+    }
+
+    @Test
+    public void testLatencyIsComparedToTheSameMethod() throws Exception {
+        TelegramConcurrencyLimiter limiter = new TelegramConcurrencyLimiter(TelegramConcurrencyLimiterOptions.builder()
+                .initialLimit(10).minLimit(1).maxLimit(20).backoffRatio(0.5).build());
+        limiter.execute("getMe", () -> CompletableFuture.completedFuture(1));
+
+        // Uploads are slower than other methods without the API being overloaded
+        CompletableFuture<Integer> upload = new CompletableFuture<>();
+        limiter.execute("sendDocument", () -> upload);
+        Thread.sleep(50);
+        upload.complete(1);
+        assertEquals(10, limiter.getLimit());
+
+        CompletableFuture<Integer> slowGetMe = new CompletableFuture<>();
+        limiter.execute("getMe", () -> slowGetMe);
+        Thread.sleep(50);
+        slowGetMe.complete(1);
+        assertEquals(5, limiter.getLimit());
+    }
+}
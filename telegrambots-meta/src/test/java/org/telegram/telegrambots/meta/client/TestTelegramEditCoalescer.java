@@ -0,0 +1,67 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestTelegramEditCoalescer {
+    private TelegramClient telegramClient;
+    private TelegramEditCoalescer coalescer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        telegramClient = mock(TelegramClient.class);
+        when(telegramClient.executeAsync(any(EditMessageText.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture((Serializable) invocation.<EditMessageText>getArgument(0).getText()));
+        coalescer = new TelegramEditCoalescer(telegramClient, TelegramEditCoalescerOptions.builder().windowMillis(100).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    public void testEditsWithinWindowAreCoalesced() throws Exception {
+        CompletableFuture<Serializable> first = coalescer.executeAsync(editMessageText(1, "10%"));
+        CompletableFuture<Serializable> second = coalescer.executeAsync(editMessageText(1, "20%"));
+        CompletableFuture<Serializable> third = coalescer.executeAsync(editMessageText(1, "30%"));
+        CompletableFuture<Serializable> otherMessage = coalescer.executeAsync(editMessageText(2, "50%"));
+
+        assertEquals("10%", first.get(1, TimeUnit.SECONDS));
+        assertEquals("50%", otherMessage.get(1, TimeUnit.SECONDS));
+        assertEquals("30%", second.get(1, TimeUnit.SECONDS));
+        assertEquals("30%", third.get(1, TimeUnit.SECONDS));
+
+        ArgumentCaptor<EditMessageText> sent = ArgumentCaptor.forClass(EditMessageText.class);
+        verify(telegramClient, times(3)).executeAsync(sent.capture());
+        assertEquals("30%", sent.getAllValues().get(2).getText());
+    }
+
+    @Test
+    public void testIdenticalEditsAreSkipped() throws Exception {
+        assertEquals("10%", coalescer.executeAsync(editMessageText(1, "10%")).get(1, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertEquals("10%", coalescer.executeAsync(editMessageText(1, "10%")).get(1, TimeUnit.SECONDS));
+
+        verify(telegramClient, times(1)).executeAsync(any(EditMessageText.class));
+    }
+
+    private static EditMessageText editMessageText(int messageId, String text) {
+        return EditMessageText.builder().chatId(12345L).messageId(messageId).text(text).build();
+    }
+}
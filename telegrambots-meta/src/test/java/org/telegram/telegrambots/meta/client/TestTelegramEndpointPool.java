@@ -0,0 +1,81 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.TelegramUrl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestTelegramEndpointPool {
+    private final TelegramUrl first = new TelegramUrl("http", "first", 8081, false);
+    private final TelegramUrl second = new TelegramUrl("http", "second", 8081, false);
+
+    @Test
+    public void testLeastOutstandingEndpointIsSelected() {
+        TelegramEndpointPool pool = new TelegramEndpointPool(List.of(first, second));
+
+        assertEquals(first, pool.select(Set.of()));
+        pool.onRequestStart(first);
+        assertEquals(second, pool.select(Set.of()));
+        pool.onRequestStart(second);
+        assertEquals(first, pool.select(Set.of()));
+        assertEquals(second, pool.select(Set.of(first)));
+        assertNull(pool.select(Set.of(first, second)));
+
+        pool.onRequestCancelled(first);
+        assertEquals(0, pool.getOutstanding(first));
+        assertEquals(first, pool.select(Set.of()));
+    }
+
+    @Test
+    public void testFailingEndpointIsSkippedUntilItRecovers() throws Exception {
+        TelegramEndpointPool pool = new TelegramEndpointPool(List.of(first, second),
+                TelegramEndpointPoolOptions.builder().failureThreshold(2).unhealthyMillis(100).build());
+
+        fail(pool, first);
+        assertTrue(pool.isHealthy(first));
+        fail(pool, first);
+        assertFalse(pool.isHealthy(first));
+        assertEquals(second, pool.select(Set.of()));
+        // Unhealthy endpoints are still used when nothing else is left
+        assertEquals(first, pool.select(Set.of(second)));
+
+        Thread.sleep(150);
+        assertEquals(first, pool.select(Set.of()));
+        pool.onRequestStart(first);
+        pool.onRequestEnd(first, "getMe", 1000, true);
+        fail(pool, first);
+        assertTrue(pool.isHealthy(first));
+    }
+
+    @Test
+    public void testHedgeDelayFollowsLatencyPercentile() {
+        TelegramEndpointPool pool = new TelegramEndpointPool(List.of(first, second), TelegramEndpointPoolOptions
+                .builder()
+                .hedging(true)
+                .hedgePercentile(0.9)
+                .minHedgeDelayMillis(1)
+                .minLatencySamples(10)
+                .build());
+
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(-1, pool.getHedgeDelayMillis("getChat"));
+            pool.onRequestStart(first);
+            pool.onRequestEnd(first, "getChat", TimeUnit.MILLISECONDS.toNanos(i * 10), true);
+        }
+
+        assertEquals(90, pool.getHedgeDelayMillis("getChat"));
+        assertEquals(-1, pool.getHedgeDelayMillis("sendMessage"));
+    }
+
+    private static void fail(TelegramEndpointPool pool, TelegramUrl endpoint) {
+        pool.onRequestStart(endpoint);
+        pool.onRequestEnd(endpoint, "getMe", 1000, false);
+    }
+}
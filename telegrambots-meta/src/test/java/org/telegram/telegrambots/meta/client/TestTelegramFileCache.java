@@ -0,0 +1,138 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.meta.api.methods.GetFile;
+import org.telegram.telegrambots.meta.api.objects.File;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestTelegramFileCache {
+    @TempDir
+    private Path directory;
+
+    private TelegramClient telegramClient;
+    private CompletableFuture<InputStream> download;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        telegramClient = mock(TelegramClient.class);
+        when(telegramClient.executeAsync(any(GetFile.class))).thenAnswer(invocation -> {
+            String fileId = invocation.<GetFile>getArgument(0).getFileId();
+            return CompletableFuture.completedFuture(new File(fileId, "unique" + fileId, 4L, "documents/" + fileId));
+        });
+        when(telegramClient.downloadFileAsStreamAsync(any(File.class))).thenAnswer(invocation -> {
+            if (download != null) {
+                return download;
+            }
+            String filePath = invocation.<File>getArgument(0).getFilePath();
+            return CompletableFuture.completedFuture(new ByteArrayInputStream(filePath.getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    @Test
+    public void testGetFileIsReused() throws Exception {
+        TelegramFileCache cache = createCache(1024);
+
+        File first = cache.getFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+        File second = cache.getFileAsync("other-file-id", "unique1").get(1, TimeUnit.SECONDS);
+
+        assertSame(first, second);
+        verify(telegramClient, times(1)).executeAsync(any(GetFile.class));
+    }
+
+    @Test
+    public void testConcurrentDownloadsAreCollapsedAndCached() throws Exception {
+        TelegramFileCache cache = createCache(1024);
+        download = new CompletableFuture<>();
+
+        CompletableFuture<Path> first = cache.downloadFileAsync("1", "unique1");
+        CompletableFuture<Path> second = cache.downloadFileAsync("1", "unique1");
+        download.complete(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+
+        Path path = first.get(1, TimeUnit.SECONDS);
+        assertEquals(path, second.get(1, TimeUnit.SECONDS));
+        assertEquals("content", Files.readString(path));
+        assertEquals(path, cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS));
+        verify(telegramClient, times(1)).downloadFileAsStreamAsync(any(File.class));
+
+        // Files are found again after a restart
+        TelegramFileCache restarted = createCache(1024);
+        assertEquals(path, restarted.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS));
+        assertEquals(7, restarted.getSize());
+        verify(telegramClient, times(1)).downloadFileAsStreamAsync(any(File.class));
+    }
+
+    @Test
+    public void testCorruptedFileIsDownloadedAgain() throws Exception {
+        TelegramFileCache cache = createCache(1024);
+        Path path = cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+        Files.writeString(path, "corrupted");
+
+        Path downloadedAgain = cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+
+        assertEquals("documents/1", Files.readString(downloadedAgain));
+        verify(telegramClient, times(2)).downloadFileAsStreamAsync(any(File.class));
+    }
+
+    @Test
+    public void testContentIsOnlyVerifiedWhenScanning() throws Exception {
+        TelegramFileCache cache = createCache(1024);
+        Path path = cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        // Same size and modification time, only the content differs
+        Files.writeString(path, "documents/X");
+        Files.setLastModifiedTime(path, lastModified);
+
+        assertEquals(path, cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS));
+        assertEquals(1, cache.verifyFiles());
+        assertEquals(0, cache.getSize());
+
+        Path downloadedAgain = cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+        assertEquals("documents/1", Files.readString(downloadedAgain));
+        assertEquals(0, cache.verifyFiles());
+        verify(telegramClient, times(2)).downloadFileAsStreamAsync(any(File.class));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFilesAreEvicted() throws Exception {
+        // Each file is 11 bytes long, so only two of them fit
+        TelegramFileCache cache = createCache(25);
+        Path first = cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+        Path second = cache.downloadFileAsync("2", "unique2").get(1, TimeUnit.SECONDS);
+        cache.downloadFileAsync("1", "unique1").get(1, TimeUnit.SECONDS);
+        Path third = cache.downloadFileAsync("3", "unique3").get(1, TimeUnit.SECONDS);
+
+        assertTrue(Files.exists(first));
+        assertFalse(Files.exists(second));
+        assertTrue(Files.exists(third));
+        assertEquals(22, cache.getSize());
+    }
+
+    private TelegramFileCache createCache(long maxSizeBytes) throws Exception {
+        return new TelegramFileCache(telegramClient, TelegramFileCacheOptions
+                .builder()
+                .directory(directory)
+                .maxSizeBytes(maxSizeBytes)
+                .build());
+    }
+}
@@ -0,0 +1,127 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.GetMe;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChat;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestTelegramRateLimiter {
+    private TelegramRateLimiter rateLimiter;
+
+    @AfterEach
+    public void tearDown() {
+        if (rateLimiter != null) {
+            rateLimiter.close();
+        }
+    }
+
+    @Test
+    public void testPrivateChatRequestsAreSpacedInOrder() throws Exception {
+        rateLimiter = new TelegramRateLimiter(TelegramRateLimiterOptions.builder().privateChatRequestsPerSecond(10).build());
+        List<Integer> sent = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            int request = i;
+            futures.add(rateLimiter.execute(sendMessage("12345"), () -> {
+                synchronized (sent) {
+                    sent.add(request);
+                }
+                return CompletableFuture.completedFuture(request);
+            }));
+        }
+        // First one is sent right away from the calling thread, the rest are queued
+        assertTrue(futures.get(0).isDone());
+        assertFalse(futures.get(1).isDone());
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(250));
+        assertEquals(List.of(0, 1, 2, 3), sent);
+        assertEquals(0, rateLimiter.getQueuedRequests());
+    }
+
+    @Test
+    public void testChatsAreLimitedIndependently() {
+        rateLimiter = new TelegramRateLimiter();
+
+        assertTrue(rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(1)).isDone());
+        assertTrue(rateLimiter.execute(sendMessage("2"), () -> CompletableFuture.completedFuture(2)).isDone());
+        assertFalse(rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(3)).isDone());
+        // Groups allow bursts up to their limit per minute
+        for (int i = 0; i < 20; i++) {
+            assertTrue(rateLimiter.execute(sendMessage("-100123"), () -> CompletableFuture.completedFuture(4)).isDone());
+        }
+        assertFalse(rateLimiter.execute(sendMessage("-100123"), () -> CompletableFuture.completedFuture(5)).isDone());
+    }
+
+    @Test
+    public void testPaidBroadcastsDontCountForGlobalLimit() {
+        rateLimiter = new TelegramRateLimiter(TelegramRateLimiterOptions.builder().globalRequestsPerSecond(1).build());
+
+        assertTrue(rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(1)).isDone());
+        assertFalse(rateLimiter.execute(sendMessage("2"), () -> CompletableFuture.completedFuture(2)).isDone());
+
+        SendMessage paidBroadcast = sendMessage("3");
+        paidBroadcast.setAllowPaidBroadcast(true);
+        assertTrue(rateLimiter.execute(paidBroadcast, () -> CompletableFuture.completedFuture(3)).isDone());
+    }
+
+    @Test
+    public void testMethodsWithoutChatAreNotLimited() {
+        rateLimiter = new TelegramRateLimiter(TelegramRateLimiterOptions.builder().globalRequestsPerSecond(1).build());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimiter.execute(new GetMe(), () -> CompletableFuture.completedFuture(true)).isDone());
+        }
+    }
+
+    @Test
+    public void testOnlyMessagesAreLimitedPerChat() {
+        rateLimiter = new TelegramRateLimiter(TelegramRateLimiterOptions.builder().globalRequestsPerSecond(5).build());
+
+        assertTrue(rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(1)).isDone());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(rateLimiter.execute(new GetChat("1"), () -> CompletableFuture.completedFuture(2)).isDone());
+        }
+        // Other methods still count for the global limit
+        assertFalse(rateLimiter.execute(new GetChat("2"), () -> CompletableFuture.completedFuture(3)).isDone());
+    }
+
+    @Test
+    public void testQueuedRequestsAreBoundedAndCancellable() {
+        rateLimiter = new TelegramRateLimiter(TelegramRateLimiterOptions.builder().maxQueuedRequests(2).build());
+        AtomicInteger sent = new AtomicInteger();
+
+        rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(sent.incrementAndGet()));
+        CompletableFuture<Integer> queued = rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(sent.incrementAndGet()));
+        rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(sent.incrementAndGet()));
+        CompletableFuture<Integer> rejected = rateLimiter.execute(sendMessage("1"), () -> CompletableFuture.completedFuture(sent.incrementAndGet()));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(TelegramApiException.class, exception.getCause());
+
+        queued.cancel(false);
+        rateLimiter.close();
+        assertEquals(1, sent.get());
+    }
+
+    private static SendMessage sendMessage(String chatId) {
+        return SendMessage.builder().chatId(chatId).text("Hello").build();
+    }
+}
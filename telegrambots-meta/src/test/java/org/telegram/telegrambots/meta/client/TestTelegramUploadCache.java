@@ -0,0 +1,136 @@
+package org.telegram.telegrambots.meta.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.PhotoSize;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestTelegramUploadCache {
+    private static final byte[] LOGO = "Content of the logo of the bot".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testKeysDependOnContentBotAndMediaType() throws IOException {
+        TelegramUploadCache cache = new TelegramUploadCache();
+        Path logo = Files.write(directory.resolve("logo.png"), LOGO);
+        Path copy = Files.write(directory.resolve("copy.png"), LOGO);
+
+        String key = cache.getKey("token", "photo", new InputFile(logo.toFile()));
+
+        assertNotNull(key);
+        assertEquals(key, cache.getKey("token", "photo", new InputFile(copy.toFile())));
+        assertEquals(key, cache.getKey("token", "photo", new InputFile(new ByteArrayInputStream(LOGO), "logo.png")));
+        assertNotEquals(key, cache.getKey("token", "document", new InputFile(logo.toFile())));
+        assertNotEquals(key, cache.getKey("otherToken", "photo", new InputFile(logo.toFile())));
+        assertFalse(key.contains("token"));
+        assertNull(cache.getKey("token", "photo", new InputFile("existingFileId")));
+    }
+
+    @Test
+    public void testStreamsAreLeftUnread() throws IOException {
+        TelegramUploadCache cache = new TelegramUploadCache(TelegramUploadCacheOptions.builder().maxHashedStreamSize(LOGO.length).build());
+        InputStream stream = new BufferedInputStream(new ByteArrayInputStream(LOGO));
+
+        assertNotNull(cache.getKey("token", "photo", new InputFile(stream, "logo.png")));
+        assertArrayEquals(LOGO, stream.readAllBytes());
+
+        // Too long to be hashed, it is uploaded without caching
+        InputStream longStream = new BufferedInputStream(new ByteArrayInputStream(new byte[LOGO.length + 1]));
+        assertNull(cache.getKey("token", "photo", new InputFile(longStream, "long.png")));
+        assertEquals(LOGO.length + 1, longStream.readAllBytes().length);
+
+        InputStream unmarkableStream = new InputStream() {
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+        assertNull(cache.getKey("token", "photo", new InputFile(unmarkableStream, "stream.png")));
+    }
+
+    @Test
+    public void testFileStreamsAreHashedFromTheirChannel() throws IOException {
+        TelegramUploadCache cache = new TelegramUploadCache(TelegramUploadCacheOptions.builder().maxHashedStreamSize(1).build());
+        Path logo = Files.write(directory.resolve("logo.png"), LOGO);
+
+        try (InputStream stream = new FileInputStream(logo.toFile())) {
+            assertEquals(cache.getKey("token", "photo", new InputFile(logo.toFile())),
+                    cache.getKey("token", "photo", new InputFile(stream, "logo.png")));
+            assertArrayEquals(LOGO, stream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testCacheIsPersistedAndBounded() {
+        TelegramUploadCacheOptions options = TelegramUploadCacheOptions.builder()
+                .file(directory.resolve("uploads.cache"))
+                .maxEntries(2)
+                .flushIntervalMillis(60_000)
+                .build();
+        TelegramUploadCache cache = new TelegramUploadCache(options);
+        cache.put("first", "fileId1");
+        cache.put("second", "fileId2");
+        // Used recently, so the second one is forgotten first
+        cache.getFileId("first");
+        cache.put("third", "fileId3");
+        // Changes are written in the background, or when closing
+        assertFalse(Files.exists(options.getFile()));
+        cache.close();
+
+        TelegramUploadCache reloaded = new TelegramUploadCache(options);
+
+        assertEquals(2, reloaded.size());
+        assertEquals("fileId1", reloaded.getFileId("first"));
+        assertNull(reloaded.getFileId("second"));
+        assertEquals("fileId3", reloaded.getFileId("third"));
+    }
+
+    @Test
+    public void testSentFileIdIsTheLargestPhoto() {
+        Message message = new Message();
+        message.setPhoto(List.of(
+                PhotoSize.builder().fileId("small").fileUniqueId("s").width(90).height(90).build(),
+                PhotoSize.builder().fileId("large").fileUniqueId("l").width(800).height(800).build()));
+
+        assertEquals("large", TelegramUploadCache.getSentFileId(message));
+        assertNull(TelegramUploadCache.getSentFileId(new Message()));
+    }
+
+    @Test
+    public void testRejectedFileIdsAreDetected() {
+        TelegramApiRequestException wrongFileId = new TelegramApiRequestException("Error sending photo", ApiResponse.builder()
+                .ok(false).errorCode(400).errorDescription("Bad Request: wrong file identifier/HTTP URL specified").build());
+        TelegramApiRequestException chatNotFound = new TelegramApiRequestException("Error sending photo", ApiResponse.builder()
+                .ok(false).errorCode(400).errorDescription("Bad Request: chat not found").build());
+        TelegramApiRequestException fileTooBig = new TelegramApiRequestException("Error sending photo", ApiResponse.builder()
+                .ok(false).errorCode(400).errorDescription("Bad Request: file is too big").build());
+
+        assertTrue(TelegramUploadCache.isRejectedFileId(new CompletionException(wrongFileId)));
+        assertFalse(TelegramUploadCache.isRejectedFileId(chatNotFound));
+        assertFalse(TelegramUploadCache.isRejectedFileId(fileTooBig));
+    }
+}
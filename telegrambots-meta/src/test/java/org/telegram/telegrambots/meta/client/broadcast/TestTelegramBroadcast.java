@@ -0,0 +1,157 @@
+package org.telegram.telegrambots.meta.client.broadcast;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiter;
+import org.telegram.telegrambots.meta.client.TelegramRateLimiterOptions;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestTelegramBroadcast {
+    private static final List<String> RECIPIENTS = List.of("1", "2", "3", "4", "5");
+
+    @TempDir
+    private Path directory;
+
+    private TelegramClient telegramClient;
+    private TelegramRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        telegramClient = mock(TelegramClient.class);
+        when(telegramClient.executeAsync(any(SendMessage.class))).thenAnswer(invocation -> {
+            SendMessage sendMessage = invocation.getArgument(0);
+            if ("2".equals(sendMessage.getChatId())) {
+                return CompletableFuture.failedFuture(new TelegramApiRequestException("Error sending message",
+                        ApiResponse.builder().ok(false).errorCode(403).errorDescription("Forbidden: bot was blocked by the user").build()));
+            }
+            return CompletableFuture.completedFuture(new Message());
+        });
+        rateLimiter = new TelegramRateLimiter(TelegramRateLimiterOptions.builder().globalRequestsPerSecond(1000).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        rateLimiter.close();
+    }
+
+    @Test
+    public void testBroadcastClassifiesResultsAndSavesProgress() throws Exception {
+        Path checkpointFile = directory.resolve("broadcast.properties");
+        Map<String, BroadcastOutcome> outcomes = new ConcurrentHashMap<>();
+
+        BroadcastProgress progress = createBroadcast(checkpointFile, (chatId, outcome, exception) -> outcomes.put(chatId, outcome))
+                .start().get(5, TimeUnit.SECONDS);
+
+        assertTrue(progress.isFinished());
+        assertEquals(5, progress.getProcessed());
+        assertEquals(4, progress.getSent());
+        assertEquals(1, progress.getBlocked());
+        assertEquals(BroadcastOutcome.BLOCKED, outcomes.get("2"));
+        BroadcastCheckpoint checkpoint = BroadcastCheckpoint.load(checkpointFile);
+        assertEquals(5, checkpoint.getPosition());
+        assertEquals(4, checkpoint.getSent());
+    }
+
+    @Test
+    public void testBroadcastResumesFromCheckpoint() throws Exception {
+        Path checkpointFile = directory.resolve("broadcast.properties");
+        new BroadcastCheckpoint(3, 2, 1, 0).store(checkpointFile);
+
+        BroadcastProgress progress = createBroadcast(checkpointFile, (chatId, outcome, exception) -> {})
+                .start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(5, progress.getProcessed());
+        assertEquals(4, progress.getSent());
+        verify(telegramClient, times(2)).executeAsync(any(SendMessage.class));
+        assertEquals(5, BroadcastCheckpoint.load(checkpointFile).getPosition());
+    }
+
+    @Test
+    public void testSynchronousResultsDoNotRecurse() throws Exception {
+        List<String> recipients = IntStream.range(0, 100_000).mapToObj(String::valueOf).toList();
+        BroadcastOptions options = BroadcastOptions.builder()
+                .rateLimiter(rateLimiter)
+                .maxInFlight(1)
+                .build();
+
+        BroadcastProgress progress = new TelegramBroadcast(telegramClient, BroadcastRecipientSource.of(recipients), chatId -> {
+            throw new IllegalArgumentException("Invalid chat " + chatId);
+        }, options).start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(100_000, progress.getFailed());
+    }
+
+    @Test
+    public void testFailedStartCanBeRetried() throws Exception {
+        AtomicBoolean failOpen = new AtomicBoolean(true);
+        BroadcastRecipientSource source = BroadcastRecipientSource.of(RECIPIENTS);
+        BroadcastRecipientSource failingSource = new BroadcastRecipientSource() {
+            @Override
+            public Iterator<String> open(long skip) throws IOException {
+                if (failOpen.getAndSet(false)) {
+                    throw new IOException("Recipients not available");
+                }
+                return source.open(skip);
+            }
+
+            @Override
+            public long size() {
+                return source.size();
+            }
+        };
+        TelegramBroadcast broadcast = new TelegramBroadcast(telegramClient, failingSource,
+                chatId -> SendMessage.builder().chatId(chatId).text("Hello").build(),
+                BroadcastOptions.builder().rateLimiter(rateLimiter).build());
+
+        assertThrows(IOException.class, broadcast::start);
+        BroadcastProgress progress = broadcast.start().get(5, TimeUnit.SECONDS);
+
+        assertTrue(progress.isFinished());
+        assertEquals(5, progress.getProcessed());
+    }
+
+    private TelegramBroadcast createBroadcast(Path checkpointFile, ResultListener resultListener) {
+        BroadcastOptions options = BroadcastOptions.builder()
+                .checkpointFile(checkpointFile)
+                .rateLimiter(rateLimiter)
+                .maxInFlight(2)
+                .build();
+        return new TelegramBroadcast(telegramClient, BroadcastRecipientSource.of(RECIPIENTS),
+                chatId -> SendMessage.builder().chatId(chatId).text("Hello").build(), options, new BroadcastListener() {
+            @Override
+            public void onResult(String chatId, BroadcastOutcome outcome, Throwable exception) {
+                resultListener.onResult(chatId, outcome, exception);
+            }
+        });
+    }
+
+    private interface ResultListener {
+        void onResult(String chatId, BroadcastOutcome outcome, Throwable exception);
+    }
+}